@@ -0,0 +1,62 @@
+package org.ilyes.spring.validation.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.ilyes.spring.validation.BatchValidationResult;
+import org.ilyes.spring.validation.BatchValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validates a 50 000 row batch with one row in ten invalid, on pools of increasing size to
+ * check how {@link BatchValidator} scales with cores.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchValidationBenchmark {
+
+	@Param({"1", "2", "4", "8"})
+	public int parallelism;
+
+	private final List<BenchmarkForm> rows = new ArrayList<BenchmarkForm>();
+	private ForkJoinPool pool;
+	private BatchValidator<BenchmarkForm> validator;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		for (int i = 0; i < 50000; i++) {
+			rows.add((i % 10 == 0) ? BenchmarkForm.invalid() : BenchmarkForm.valid());
+		}
+		pool = new ForkJoinPool(parallelism);
+		validator = new BatchValidator<BenchmarkForm>(FieldValidatorBenchmark.PLAN);
+		validator.setExecutor(pool);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public BatchValidationResult validateBatch() {
+		return validator.validate(rows);
+	}
+}
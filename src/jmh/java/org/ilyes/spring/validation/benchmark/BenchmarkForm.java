@@ -0,0 +1,90 @@
+package org.ilyes.spring.validation.benchmark;
+
+import java.math.BigDecimal;
+
+import org.ilyes.spring.validation.annotation.EqualsValue;
+import org.ilyes.spring.validation.annotation.Length;
+import org.ilyes.spring.validation.annotation.Pattern;
+import org.ilyes.spring.validation.annotation.Range;
+
+/**
+ * Form bean used by the benchmarks. {@link #valid()} passes every benchmarked rule,
+ * {@link #invalid()} fails every one of them. The constraint annotations mirror
+ * {@code FieldValidatorBenchmark.PLAN}.
+ */
+public class BenchmarkForm {
+
+	private String name;
+	@Range(min = "1", max = "999", errorCode = FieldValidatorBenchmark.CODE)
+	private Integer quantity;
+	@Length(max = 3, errorCode = FieldValidatorBenchmark.CODE)
+	private String quantityText;
+	@Range(min = "0", errorCode = FieldValidatorBenchmark.CODE)
+	private BigDecimal balance;
+	@Length(min = 3, max = 3, errorCode = FieldValidatorBenchmark.CODE)
+	@Pattern(value = "[A-Z]{3}", errorCode = FieldValidatorBenchmark.CODE)
+	@EqualsValue(value = "ABC", errorCode = FieldValidatorBenchmark.CODE)
+	private String code;
+	private String date;
+	private Object reference;
+
+	public static BenchmarkForm valid() {
+		BenchmarkForm form = new BenchmarkForm();
+		form.name = "Jane Doe";
+		form.quantity = 5;
+		form.quantityText = "42";
+		form.balance = new BigDecimal("10.00");
+		form.code = "ABC";
+		form.date = "15.06.2016";
+		form.reference = "REF-1";
+		return form;
+	}
+
+	public static BenchmarkForm invalid() {
+		BenchmarkForm form = new BenchmarkForm();
+		form.name = "  ";
+		form.quantity = 5000;
+		form.quantityText = "4x2";
+		form.balance = new BigDecimal("-1.00");
+		form.code = "zz";
+		form.date = "31.13.2016";
+		form.reference = null;
+		return form;
+	}
+
+	public static BenchmarkForm of(String input) {
+		return "valid".equals(input) ? valid() : invalid();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public Integer getQuantity() {
+		return quantity;
+	}
+
+	public String getQuantityText() {
+		return quantityText;
+	}
+
+	public BigDecimal getBalance() {
+		return balance;
+	}
+
+	public String getCode() {
+		return code;
+	}
+
+	public String getDate() {
+		return date;
+	}
+
+	public Object getReference() {
+		return reference;
+	}
+}
@@ -0,0 +1,97 @@
+package org.ilyes.spring.validation.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.ilyes.spring.validation.CompactErrors;
+import org.ilyes.spring.validation.column.ColumnBatch;
+import org.ilyes.spring.validation.column.ColumnValidationResult;
+import org.ilyes.spring.validation.column.ColumnValidator;
+import org.ilyes.spring.validation.column.RowBitmap;
+import org.ilyes.spring.validation.column.StringColumn;
+import org.ilyes.spring.validation.validator.FieldValidator;
+import org.ilyes.spring.validation.validator.LengthValidator;
+import org.ilyes.spring.validation.validator.Rules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Validates 100 000 rows of an {@code int}, a {@code double} and a fixed-width text column, with
+ * one row in a hundred invalid, once boxing every value through the row validators and once
+ * with a {@link ColumnValidator}, reporting only the failing rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColumnValidationBenchmark {
+
+	private static final int ROWS = 100000;
+
+	private final int[] quantities = new int[ROWS];
+	private final double[] rates = new double[ROWS];
+	private final String[] codes = new String[ROWS];
+	private final FieldValidator quantityRange = Rules.range(1, 999);
+	private final FieldValidator rateRange = Rules.range(0.0, 1.0);
+	private final FieldValidator codeLength = new LengthValidator(3, 3);
+	private final ColumnValidator columnValidator = new ColumnValidator()
+			.range("quantity", 1, 999, null)
+			.range("rate", 0.0, 1.0, null)
+			.length("code", 3, 3, null);
+	private ColumnBatch batch;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		char[] chars = new char[ROWS * 3];
+		for (int i = 0; i < ROWS; i++) {
+			boolean invalid = random.nextInt(100) == 0;
+			quantities[i] = invalid ? 0 : 1 + random.nextInt(999);
+			rates[i] = random.nextDouble();
+			for (int c = 0; c < 3; c++) {
+				chars[i * 3 + c] = (char) ('A' + random.nextInt(26));
+			}
+			codes[i] = new String(chars, i * 3, 3);
+		}
+		batch = new ColumnBatch(ROWS).add("quantity", quantities).add("rate", rates)
+				.add("code", StringColumn.fixedWidth(chars, 3, ROWS));
+	}
+
+	@Benchmark
+	public int rowValidators() {
+		CompactErrors errors = new CompactErrors(null, "row");
+		int failed = 0;
+		for (int i = 0; i < ROWS; i++) {
+			errors.reset(null);
+			quantityRange.validateValue(errors, "quantity", quantities[i], null);
+			rateRange.validateValue(errors, "rate", rates[i], null);
+			codeLength.validateValue(errors, "code", codes[i], null);
+			failed += errors.hasErrors() ? 1 : 0;
+		}
+		return failed;
+	}
+
+	@Benchmark
+	public int columnValidator() {
+		ColumnValidationResult result = columnValidator.validate(batch);
+		CompactErrors errors = new CompactErrors(null, "row");
+		RowBitmap failedRows = result.getFailedRows();
+		int failed = 0;
+		for (int row = failedRows.nextSetBit(0); row >= 0; row = failedRows.nextSetBit(row + 1)) {
+			errors.reset(null);
+			result.rejectRow(row, errors);
+			failed++;
+		}
+		return failed;
+	}
+}
@@ -0,0 +1,71 @@
+package org.ilyes.spring.validation.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.ilyes.spring.validation.ValidationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.Errors;
+
+/**
+ * Multi-threaded counterparts of the single-threaded benchmarks, exercising the shared
+ * validator and pattern caches under contention. Override the thread count with {@code -t}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class ConcurrentValidationBenchmark {
+
+	private static final String CODE = FieldValidatorBenchmark.CODE;
+
+	@Benchmark
+	public Errors rejectIfLengthNotEqual(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfLengthNotEqual(3, errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfPatternNotValid(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfPatternNotValid("[A-Z]{3}", errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfNotInRange(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfNotInRange(1, 999, errors, "quantity", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfNotValidDate(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfNotValidDate(errors, "dd.MM.yyyy", "date", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors complexPatternValidator(ValidationState state) {
+		Errors errors = state.newErrors();
+		FieldValidatorBenchmark.COMPLEX_PATTERN.validate(errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors planThroughAccessors(ValidationState state) {
+		Errors errors = state.newErrors();
+		FieldValidatorBenchmark.PLAN.validate(state.form, errors);
+		return errors;
+	}
+}
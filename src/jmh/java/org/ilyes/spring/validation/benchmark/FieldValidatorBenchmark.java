@@ -0,0 +1,173 @@
+package org.ilyes.spring.validation.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.ilyes.spring.validation.ValidationPlan;
+import org.ilyes.spring.validation.ValidationUtils;
+import org.ilyes.spring.validation.annotation.AnnotationValidator;
+import org.ilyes.spring.validation.validator.BigDecimalRangeValidator;
+import org.ilyes.spring.validation.validator.EqualsValidator;
+import org.ilyes.spring.validation.validator.FieldValidator;
+import org.ilyes.spring.validation.validator.IntRangeValidator;
+import org.ilyes.spring.validation.validator.LengthValidator;
+import org.ilyes.spring.validation.validator.PatternValidator;
+import org.ilyes.spring.validation.validator.RangeValidator;
+import org.ilyes.spring.validation.validator.Rules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.Errors;
+
+/**
+ * Benchmarks each {@link FieldValidator} implementation and the {@link ValidationPlan}
+ * entry points with shared, pre-configured validator instances, and compares the annotation-driven
+ * validator with the equivalent hand-written {@link ValidationUtils} calls.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldValidatorBenchmark {
+
+	static final String CODE = "error.invalid";
+
+	static final FieldValidator LENGTH = new LengthValidator(3, 3);
+	static final FieldValidator INTEGER_RANGE = new RangeValidator<Integer>(1, 999);
+	static final FieldValidator DECIMAL_RANGE = new RangeValidator<BigDecimal>(BigDecimal.ZERO, new BigDecimal("1000"));
+	static final FieldValidator PATTERN = new PatternValidator("[A-Z]{3}");
+	static final FieldValidator COMPLEX_PATTERN = new PatternValidator("[A-Z](?:[A-Z]|\\d){2}");
+	static final FieldValidator MEMOIZED_COMPLEX_PATTERN = Rules.memoize(new PatternValidator("[A-Z](?:[A-Z]|\\d){2}"), 1024);
+	static final FieldValidator EQUALS = new EqualsValidator<String>("ABC");
+	static final FieldValidator INT_RANGE = new IntRangeValidator(1, 999);
+	static final FieldValidator BIG_DECIMAL_RANGE = new BigDecimalRangeValidator(BigDecimal.ZERO, new BigDecimal("1000"));
+	static final FieldValidator CONVERTING_RANGE = new RangeValidator<Integer>(1, 999);
+
+	static final ValidationPlan<BenchmarkForm> PLAN = ValidationPlan.forType(BenchmarkForm.class)
+			.field("quantity").range(1, 999, CODE)
+			.field("balance").min(BigDecimal.ZERO, CODE)
+			.field("code").length(3, 3, CODE).pattern("[A-Z]{3}", CODE).equalTo("ABC", CODE)
+			.field("quantityText").maxLength(3, CODE)
+			.build();
+
+	static final AnnotationValidator ANNOTATED = new AnnotationValidator(BenchmarkForm.class);
+
+	@Benchmark
+	public Errors lengthValidator(ValidationState state) {
+		Errors errors = state.newErrors();
+		LENGTH.validate(errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors integerRangeValidator(ValidationState state) {
+		Errors errors = state.newErrors();
+		INTEGER_RANGE.validate(errors, "quantity", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors decimalRangeValidator(ValidationState state) {
+		Errors errors = state.newErrors();
+		DECIMAL_RANGE.validate(errors, "balance", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors intRangeValidator(ValidationState state) {
+		Errors errors = state.newErrors();
+		INT_RANGE.validate(errors, "quantity", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors bigDecimalRangeValidator(ValidationState state) {
+		Errors errors = state.newErrors();
+		BIG_DECIMAL_RANGE.validate(errors, "balance", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors intRangeValidatorOnText(ValidationState state) {
+		Errors errors = state.newErrors();
+		INT_RANGE.validate(errors, "quantityText", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors convertingRangeValidator(ValidationState state) {
+		Errors errors = state.newErrors();
+		try {
+			CONVERTING_RANGE.validate(errors, "quantityText", CODE);
+		} catch (RuntimeException ex) {
+			errors.rejectValue("quantityText", CODE);
+		}
+		return errors;
+	}
+
+	@Benchmark
+	public Errors patternValidator(ValidationState state) {
+		Errors errors = state.newErrors();
+		PATTERN.validate(errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors complexPatternValidator(ValidationState state) {
+		Errors errors = state.newErrors();
+		COMPLEX_PATTERN.validate(errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors memoizedComplexPatternValidator(ValidationState state) {
+		Errors errors = state.newErrors();
+		MEMOIZED_COMPLEX_PATTERN.validate(errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors equalsValidator(ValidationState state) {
+		Errors errors = state.newErrors();
+		EQUALS.validate(errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors planThroughErrors(ValidationState state) {
+		Errors errors = state.newErrors();
+		PLAN.validate(errors);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors planThroughAccessors(ValidationState state) {
+		Errors errors = state.newErrors();
+		PLAN.validate(state.form, errors);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors handWrittenValidator(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfNotInRange(1, 999, errors, "quantity", CODE);
+		ValidationUtils.rejectIfLessThan(BigDecimal.ZERO, errors, "balance", CODE);
+		ValidationUtils.rejectIfLengthNotEqual(3, errors, "code", CODE);
+		ValidationUtils.rejectIfPatternNotValid("[A-Z]{3}", errors, "code", CODE);
+		ValidationUtils.rejectIfNotEqualsValue("ABC", errors, "code", CODE);
+		ValidationUtils.rejectIfLengthGreaterThan(3, errors, "quantityText", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors annotationValidator(ValidationState state) {
+		Errors errors = state.newErrors();
+		ANNOTATED.validate(state.form, errors);
+		return errors;
+	}
+}
@@ -0,0 +1,71 @@
+package org.ilyes.spring.validation.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.ilyes.spring.validation.IncrementalValidator;
+import org.ilyes.spring.validation.ValidationPlan;
+import org.ilyes.spring.validation.validator.DateRangeValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.Errors;
+
+/**
+ * Autosave traffic: one field of the form changes between two validations. Compares a full
+ * {@link ValidationPlan} run with an {@link IncrementalValidator} kept across requests.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IncrementalValidationBenchmark {
+
+	static final String CODE = FieldValidatorBenchmark.CODE;
+
+	static final ValidationPlan<BenchmarkForm> PLAN = ValidationPlan.forType(BenchmarkForm.class)
+			.field("name").length(1, 40, CODE).pattern("[A-Za-z ]+", CODE)
+			.field("quantity").range(1, 999, CODE)
+			.field("quantityText").range(1, 999, CODE)
+			.field("balance").min(BigDecimal.ZERO, CODE)
+			.field("code").length(3, 3, CODE).pattern("[A-Z]{3}", CODE).equalTo("ABC", CODE)
+			.field("date").rule(new DateRangeValidator("dd.MM.yyyy", LocalDate.of(2016, 1, 1), LocalDate.of(2016, 12, 31)), CODE)
+			.build();
+
+	private final String[] names = {"Jane Doe", "Jane Does"};
+	private BenchmarkForm form;
+	private IncrementalValidator<BenchmarkForm> incremental;
+	private int edit;
+
+	@Setup
+	public void setUp() {
+		form = BenchmarkForm.valid();
+		incremental = new IncrementalValidator<BenchmarkForm>(PLAN);
+	}
+
+	@Benchmark
+	public Errors fullValidation(ValidationState state) {
+		form.setName(names[edit++ & 1]);
+		Errors errors = state.newErrors();
+		PLAN.validate(form, errors);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors incrementalValidation(ValidationState state) {
+		form.setName(names[edit++ & 1]);
+		Errors errors = state.newErrors();
+		incremental.validate(form, errors);
+		return errors;
+	}
+}
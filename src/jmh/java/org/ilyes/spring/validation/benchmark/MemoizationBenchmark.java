@@ -0,0 +1,73 @@
+package org.ilyes.spring.validation.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.ilyes.spring.validation.CompactErrors;
+import org.ilyes.spring.validation.validator.FieldValidator;
+import org.ilyes.spring.validation.validator.MemoizingFieldValidator;
+import org.ilyes.spring.validation.validator.PatternValidator;
+import org.ilyes.spring.validation.validator.Rules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Miss-heavy workload for {@link MemoizingFieldValidator}: every value is distinct within a
+ * window far larger than the cache, as with free text or SKUs, so each call misses and evicts.
+ * Compared with the wrapped validator alone, this measures the cost of a full cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MemoizationBenchmark {
+
+	private static final int VALUES = 1 << 18;
+
+	@Param({"100", "10000", "100000"})
+	public int maxSize;
+
+	private final String[] values = new String[VALUES];
+	private final CompactErrors errors = new CompactErrors(null, "form", CompactErrors.Mode.BOOLEAN);
+	private FieldValidator validator;
+	private MemoizingFieldValidator memoized;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		for (int i = 0; i < VALUES; i++) {
+			values[i] = "SKU-" + Integer.toString(i, 36).toUpperCase();
+		}
+		validator = new PatternValidator("SKU-[A-Z0-9]{1,4}");
+		memoized = Rules.memoize(new PatternValidator("SKU-[A-Z0-9]{1,4}"), maxSize);
+	}
+
+	@Benchmark
+	public boolean plainValidator() {
+		errors.reset(null);
+		validator.validateValue(errors, "sku", nextValue(), null);
+		return errors.hasErrors();
+	}
+
+	@Benchmark
+	public boolean memoizedMisses() {
+		errors.reset(null);
+		memoized.validateValue(errors, "sku", nextValue(), null);
+		return errors.hasErrors();
+	}
+
+	private String nextValue() {
+		next = (next + 1) & (VALUES - 1);
+		return values[next];
+	}
+}
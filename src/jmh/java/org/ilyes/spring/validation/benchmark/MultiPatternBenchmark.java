@@ -0,0 +1,68 @@
+package org.ilyes.spring.validation.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.ilyes.spring.validation.support.PatternAutomaton.Mode;
+import org.ilyes.spring.validation.validator.MultiPatternValidator;
+import org.ilyes.spring.validation.validator.PatternValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Checks one value against a blocklist of expressions, once with a {@link PatternValidator} per
+ * expression and once with a single {@link MultiPatternValidator}. The {@code hostile} input
+ * makes the backtracking engine explore the nested quantifier of the last expression.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(org.openjdk.jmh.annotations.Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiPatternBenchmark {
+
+	private static final String[] BLOCKLIST = { ".*<script.*", ".*javascript:.*", ".*\\son\\w+=.*", ".*(?:--|;)\\s*drop\\s.*",
+			".*union\\s+select.*", ".*\\.\\./.*", ".*%00.*", ".*\\$\\{.*", ".*<iframe.*", ".*data:text/html.*",
+			".*(?:admin|root)@.*", "(?:[a-z]+\\s?)+!" };
+
+	@Param({"plain", "hostile"})
+	public String inputType;
+
+	private PatternValidator[] patternValidators;
+	private MultiPatternValidator multiPatternValidator;
+	private String input;
+
+	@Setup
+	public void setUp() {
+		patternValidators = new PatternValidator[BLOCKLIST.length];
+		multiPatternValidator = new MultiPatternValidator(Mode.MATCH);
+		for (int i = 0; i < BLOCKLIST.length; i++) {
+			patternValidators[i] = new PatternValidator(BLOCKLIST[i]);
+			patternValidators[i].setReuseMatcher(true);
+			multiPatternValidator.forbid(BLOCKLIST[i], "error.blocked");
+		}
+		multiPatternValidator.compile();
+		input = "hostile".equals(inputType) ? "aaaaaaaaaaaaaaaaaaaa?" : "please deliver to the back door after 6 pm";
+	}
+
+	@Benchmark
+	public void patternValidators(Blackhole blackhole) {
+		for (PatternValidator validator : patternValidators) {
+			blackhole.consume(validator.matches(input));
+		}
+	}
+
+	@Benchmark
+	public Object multiPatternValidator() {
+		return multiPatternValidator.matchedPatterns(input);
+	}
+}
@@ -0,0 +1,79 @@
+package org.ilyes.spring.validation.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.ilyes.spring.validation.validator.PatternValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the previous {@code pattern.matcher(value.toString())} path with the
+ * fast-path and reused-matcher modes of {@link PatternValidator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatternValidatorBenchmark {
+
+	@Param({"\\d+", "[A-Za-z0-9]{8}", "INV-.*", "[A-Z]{2}\\d{2}[A-Z0-9]{4,30}"})
+	public String regExp;
+
+	@Param({"string", "builder"})
+	public String inputType;
+
+	private Pattern pattern;
+	private PatternValidator defaultValidator;
+	private PatternValidator reusingValidator;
+	private CharSequence input;
+
+	@Setup
+	public void setUp() {
+		pattern = Pattern.compile(regExp);
+		defaultValidator = new PatternValidator(regExp);
+		reusingValidator = new PatternValidator(regExp);
+		reusingValidator.setReuseMatcher(true);
+		String value = sampleFor(regExp);
+		input = "builder".equals(inputType) ? new StringBuilder(value) : value;
+	}
+
+	@Benchmark
+	public boolean legacyMatcher() {
+		return pattern.matcher(input.toString()).matches();
+	}
+
+	@Benchmark
+	public boolean validatorMatch() {
+		return defaultValidator.matches(input);
+	}
+
+	@Benchmark
+	public boolean reusedMatcher() {
+		return reusingValidator.matches(input);
+	}
+
+	private static String sampleFor(String regExp) {
+		if (regExp.startsWith("\\d")) {
+			return "12345678901234";
+		}
+		if (regExp.startsWith("INV")) {
+			return "INV-2016-000123";
+		}
+		if (regExp.startsWith("[A-Za-z")) {
+			return "aB3dE6gH";
+		}
+		return "DE44500105175407324931";
+	}
+}
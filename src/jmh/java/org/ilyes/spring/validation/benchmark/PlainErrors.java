@@ -0,0 +1,58 @@
+package org.ilyes.spring.validation.benchmark;
+
+import java.util.List;
+
+import org.springframework.validation.AbstractErrors;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+/**
+ * {@link Errors} that is not a {@link org.springframework.validation.BindingResult}, so the
+ * validators take their {@code getFieldValue} code paths instead of {@code getRawFieldValue}.
+ */
+@SuppressWarnings("serial")
+public class PlainErrors extends AbstractErrors {
+
+	private final BeanPropertyBindingResult delegate;
+
+	public PlainErrors(Object target, String objectName) {
+		this.delegate = new BeanPropertyBindingResult(target, objectName);
+	}
+
+	@Override
+	public String getObjectName() {
+		return delegate.getObjectName();
+	}
+
+	@Override
+	public void reject(String errorCode, Object[] errorArgs, String defaultMessage) {
+		delegate.reject(errorCode, errorArgs, defaultMessage);
+	}
+
+	@Override
+	public void rejectValue(String field, String errorCode, Object[] errorArgs, String defaultMessage) {
+		delegate.rejectValue(field, errorCode, errorArgs, defaultMessage);
+	}
+
+	@Override
+	public void addAllErrors(Errors errors) {
+		delegate.addAllErrors(errors);
+	}
+
+	@Override
+	public List<ObjectError> getGlobalErrors() {
+		return delegate.getGlobalErrors();
+	}
+
+	@Override
+	public List<FieldError> getFieldErrors() {
+		return delegate.getFieldErrors();
+	}
+
+	@Override
+	public Object getFieldValue(String field) {
+		return delegate.getFieldValue(field);
+	}
+}
@@ -0,0 +1,89 @@
+package org.ilyes.spring.validation.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.ilyes.spring.validation.stream.CsvRecordReader;
+import org.ilyes.spring.validation.stream.ErrorSink;
+import org.ilyes.spring.validation.stream.MappedFileReader;
+import org.ilyes.spring.validation.stream.RecordReader;
+import org.ilyes.spring.validation.stream.RecordValidationResult;
+import org.ilyes.spring.validation.stream.RecordValidator;
+import org.ilyes.spring.validation.validator.EqualsValidator;
+import org.ilyes.spring.validation.validator.LengthValidator;
+import org.ilyes.spring.validation.validator.PatternValidator;
+import org.ilyes.spring.validation.validator.RangeValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.Errors;
+
+/**
+ * Streams a memory-mapped CSV file of 500 000 records, one in a hundred invalid, through a
+ * {@link RecordValidator}; divide the record count by the reported time for records per second.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordValidationBenchmark {
+
+	private static final int RECORDS = 500000;
+
+	private static final ErrorSink DISCARD = new ErrorSink() {
+
+		@Override
+		public void accept(long recordNumber, Errors errors) {
+		}
+	};
+
+	private final RecordValidator validator = RecordValidator.builder()
+			.column("code").rule(new PatternValidator("[A-Z]{3}"), "error.code")
+			.column("quantity").rule(new RangeValidator<Integer>(1, 999), "error.quantity")
+			.column("name").rule(new LengthValidator(1, 20), "error.name")
+			.column("status").rule(new EqualsValidator<String>("OPEN"), "error.status")
+			.build();
+	private Path file;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		file = Files.createTempFile("orders", ".csv");
+		try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+			writer.write("code,quantity,name,status\n");
+			for (int i = 0; i < RECORDS; i++) {
+				writer.write((i % 100 == 0) ? "abc," : "ABC,");
+				writer.write(Integer.toString(i % 999 + 1));
+				writer.write(",\"Customer ");
+				writer.write(Integer.toString(i));
+				writer.write("\",OPEN\n");
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	@Benchmark
+	public RecordValidationResult mappedCsv() throws IOException {
+		try (RecordReader reader = new CsvRecordReader(new MappedFileReader(file, StandardCharsets.UTF_8, 1 << 20))) {
+			return validator.validate(reader, DISCARD);
+		}
+	}
+}
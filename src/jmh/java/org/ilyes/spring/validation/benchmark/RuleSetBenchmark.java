@@ -0,0 +1,107 @@
+package org.ilyes.spring.validation.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.ilyes.spring.validation.CompactErrors;
+import org.ilyes.spring.validation.ValidationPlan;
+import org.ilyes.spring.validation.config.ReloadingValidationPlan;
+import org.ilyes.spring.validation.config.RuleSets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the compilation of a properties rule set, and validation throughput while another
+ * thread keeps compiling and publishing new rule sets, against validation of a plan that never
+ * changes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class RuleSetBenchmark {
+
+	private static final Map<String, String> RULES = new LinkedHashMap<String, String>();
+
+	static {
+		RULES.put("name.length", "1..40");
+		RULES.put("quantity.range", "1..999");
+		RULES.put("quantity.range.code", FieldValidatorBenchmark.CODE);
+		RULES.put("balance.min", "0");
+		RULES.put("code.pattern", "[A-Z]{3}");
+		RULES.put("code.noneOf", "XXX, XTS");
+	}
+
+	private final BenchmarkForm form = BenchmarkForm.valid();
+	private Path file;
+	private ReloadingValidationPlan<BenchmarkForm> reloading;
+	private ValidationPlan<BenchmarkForm> fixed;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		StringBuilder properties = new StringBuilder();
+		for (Map.Entry<String, String> entry : RULES.entrySet()) {
+			properties.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+		}
+		file = Files.createTempFile("rules", ".properties");
+		Files.write(file, properties.toString().getBytes(StandardCharsets.ISO_8859_1));
+		reloading = new ReloadingValidationPlan<BenchmarkForm>(BenchmarkForm.class, file);
+		fixed = reloading.getPlan();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		reloading.close();
+		Files.deleteIfExists(file);
+	}
+
+	@Benchmark
+	@Group("compile")
+	public ValidationPlan<BenchmarkForm> compile() {
+		return RuleSets.compile(BenchmarkForm.class, RULES);
+	}
+
+	@Benchmark
+	@Group("steady")
+	@GroupThreads(3)
+	public CompactErrors validateFixedPlan() {
+		CompactErrors errors = new CompactErrors(form, "form");
+		fixed.validate(form, errors);
+		return errors;
+	}
+
+	@Benchmark
+	@Group("swapping")
+	@GroupThreads(3)
+	public CompactErrors validateWhileSwapping() {
+		CompactErrors errors = new CompactErrors(form, "form");
+		reloading.validate(form, errors);
+		return errors;
+	}
+
+	@Benchmark
+	@Group("swapping")
+	@GroupThreads(1)
+	public void compileAndPublish() {
+		reloading.publish(RuleSets.compile(BenchmarkForm.class, RULES));
+	}
+}
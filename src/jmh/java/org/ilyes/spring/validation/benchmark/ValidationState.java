@@ -0,0 +1,37 @@
+package org.ilyes.spring.validation.benchmark;
+
+import org.ilyes.spring.validation.CompactErrors;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+/**
+ * Shared benchmark parameters: valid or invalid input, validated through a
+ * {@code BindingResult}, through {@link PlainErrors} or through {@link CompactErrors}.
+ */
+@State(Scope.Thread)
+public class ValidationState {
+
+	@Param({"valid", "invalid"})
+	public String input;
+
+	@Param({"bindingResult", "plainErrors", "compactErrors"})
+	public String errorsType;
+
+	public BenchmarkForm form;
+
+	@Setup
+	public void setUp() {
+		form = BenchmarkForm.of(input);
+	}
+
+	public Errors newErrors() {
+		if ("bindingResult".equals(errorsType)) {
+			return new BeanPropertyBindingResult(form, "form");
+		}
+		return "plainErrors".equals(errorsType) ? new PlainErrors(form, "form") : new CompactErrors(form, "form");
+	}
+}
@@ -0,0 +1,275 @@
+package org.ilyes.spring.validation.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.concurrent.TimeUnit;
+
+import org.ilyes.spring.validation.ValidationUtils;
+import org.ilyes.spring.validation.support.FieldIndex;
+import org.ilyes.spring.validation.support.FieldMask;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.Errors;
+
+/**
+ * One benchmark per {@code ValidationUtils.rejectIf*} entry point. Every method creates its own
+ * {@link Errors}, so {@link #newErrors} is the baseline to subtract.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationUtilsBenchmark {
+
+	private static final String CODE = "error.invalid";
+	private static final Integer MIN_QUANTITY = 1;
+	private static final Integer MAX_QUANTITY = 999;
+	private static final Collection<String> ALLOWED_CODES = Arrays.asList("ABC", "DEF", "GHI", "JKL");
+	private static final Collection<String> FORBIDDEN_CODES = Arrays.asList("xx", "yy", "zz");
+	private static final Date LOWER_DATE = new GregorianCalendar(2016, Calendar.JANUARY, 1).getTime();
+	private static final Date UPPER_DATE = new GregorianCalendar(2017, Calendar.JANUARY, 1).getTime();
+	private static final String[] SKIPPED_FIELDS = {"name", "quantity", "balance", "date"};
+	private static final FieldMask SKIPPED_FIELD_MASK = FieldMask.of(new FieldIndex(), SKIPPED_FIELDS);
+
+	@Benchmark
+	public Errors newErrors(ValidationState state) {
+		return state.newErrors();
+	}
+
+	@Benchmark
+	public Errors rejectIfGreaterThan(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfGreaterThan(MAX_QUANTITY, errors, "quantity", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfLessThan(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfLessThan(BigDecimal.ZERO, errors, "balance", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfNotInRange(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfNotInRange(MIN_QUANTITY, MAX_QUANTITY, errors, "quantity", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfFieldNotConvertableToInteger(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfFieldNotConvertableToInteger(errors, "quantityText", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfNullOrNotInValues(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfNullOrNotInValues(ALLOWED_CODES, errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfNotInValues(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfNotInValues(ALLOWED_CODES, errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfNotEqualsValue(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfNotEqualsValue("ABC", errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfEqualsIgnoreCase(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfEqualsIgnoreCase("ZZ", errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfNotEqualsIgnoreCase(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfNotEqualsIgnoreCase("abc", errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfEqualsValue(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfEqualsValue("zz", errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfNullOrEqualsValue(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfNullOrEqualsValue("zz", errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfNullOrNotEqualsValue(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfNullOrNotEqualsValue("ABC", errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfNullOrInValues(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfNullOrInValues(FORBIDDEN_CODES, errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfInValues(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfInValues(FORBIDDEN_CODES, errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfLengthGreaterThan(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfLengthGreaterThan(3, errors, "quantityText", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfLengthLessThan(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfLengthLessThan(3, errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfLengthNotInRange(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfLengthNotInRange(3, 3, errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfLengthNotEqual(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfLengthNotEqual(3, errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfEmpty(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfEmpty(errors, "reference", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfNull(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfNull(errors, "reference", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfEmptyOrWhitespace(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfEmptyOrWhitespace(errors, "name", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfEmptyOrWhitespaceOrPlsSel(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfEmptyOrWhitespaceOrPlsSel(errors, "name", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfPatternValid(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfPatternValid("[a-z]+", errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfPatternNotValid(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfPatternNotValid("[A-Z]{3}", errors, "code", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfFalse(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfFalse(state.form.getQuantity() < MAX_QUANTITY, errors, "quantity", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfTrue(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfTrue(state.form.getQuantity() > MAX_QUANTITY, errors, "quantity", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfNotValidInteger(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfNotValidInteger(errors, "quantityText", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfNotValidDate(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfNotValidDate(errors, "dd.MM.yyyy", "date", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfDateBefore(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfDateBefore(LOWER_DATE, "dd.MM.yyyy", errors, "date", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfDateNotBefore(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfDateNotBefore(UPPER_DATE, "dd.MM.yyyy", errors, "date", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors rejectIfDateAfter(ValidationState state) {
+		Errors errors = state.newErrors();
+		ValidationUtils.rejectIfDateAfter(UPPER_DATE, "dd.MM.yyyy", errors, "date", CODE);
+		return errors;
+	}
+
+	@Benchmark
+	public boolean skipFieldValidation() {
+		return ValidationUtils.skipFieldValidation("code", SKIPPED_FIELDS);
+	}
+
+	@Benchmark
+	public boolean skipFieldValidationMask() {
+		return ValidationUtils.skipFieldValidation("code", SKIPPED_FIELD_MASK);
+	}
+}
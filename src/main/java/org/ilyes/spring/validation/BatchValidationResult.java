@@ -0,0 +1,59 @@
+package org.ilyes.spring.validation;
+
+import java.util.Arrays;
+
+import org.springframework.validation.Errors;
+
+/**
+ * Outcome of a {@link BatchValidator} run: the {@link Errors} of every failing row, reported in
+ * input order. When the batch stopped early, only the failing rows before the first row that was
+ * not validated (or before the error limit was reached) are reported and {@link #isComplete()}
+ * returns {@code false}.
+ */
+public final class BatchValidationResult {
+
+    private final Errors[] errors;
+    private final int[] failedRows;
+    private final int errorCount;
+    private final boolean complete;
+
+    BatchValidationResult(Errors[] errors, int[] failedRows, int errorCount, boolean complete) {
+        this.errors = errors;
+        this.failedRows = failedRows;
+        this.errorCount = errorCount;
+        this.complete = complete;
+    }
+
+    public int getRowCount() {
+        return errors.length;
+    }
+
+    public boolean hasErrors() {
+        return failedRows.length > 0;
+    }
+
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @return the indexes of the reported failing rows, ascending
+     */
+    public int[] getFailedRows() {
+        return failedRows.clone();
+    }
+
+    /**
+     * @return the errors of the given row, or {@code null} if it has none or is not reported
+     */
+    public Errors getErrors(int row) {
+        if (row < 0 || row >= errors.length) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of " + errors.length);
+        }
+        return (Arrays.binarySearch(failedRows, row) >= 0) ? errors[row] : null;
+    }
+}
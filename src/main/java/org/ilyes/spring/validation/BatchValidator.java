@@ -0,0 +1,264 @@
+package org.ilyes.spring.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.util.Assert;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+/**
+ * Validates many targets against one {@link ValidationPlan}, splitting the rows into chunks
+ * validated by workers on a {@link ForkJoinPool} (the common pool by default) or any other
+ * {@link Executor}, such as a virtual-thread-per-task executor on newer runtimes.
+ * Every row gets its own {@link Errors} instance written only by the thread validating it, so
+ * rows are collected without locking. With {@link #setMaxErrors(int)} the batch stops once that
+ * many errors have been found; the {@link BatchValidationResult} always reports failing rows in
+ * input order.
+ */
+public class BatchValidator<T> {
+
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private final ValidationPlan<T> plan;
+    private Executor executor = ForkJoinPool.commonPool();
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private int parallelism;
+    private int maxErrors = Integer.MAX_VALUE;
+    private String objectName = "target";
+
+    public BatchValidator(ValidationPlan<T> plan) {
+        Assert.notNull(plan, "plan must not be null");
+        this.plan = plan;
+    }
+
+    public ValidationPlan<T> getPlan() {
+        return plan;
+    }
+
+    public void setExecutor(Executor executor) {
+        Assert.notNull(executor, "executor must not be null");
+        this.executor = executor;
+    }
+
+    /**
+     * Number of concurrent workers; defaults to the pool parallelism or the number of processors.
+     */
+    public void setParallelism(int parallelism) {
+        Assert.isTrue(parallelism > 0, "parallelism must be positive");
+        this.parallelism = parallelism;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        Assert.isTrue(chunkSize > 0, "chunkSize must be positive");
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Stop validating once this many errors have been found.
+     */
+    public void setMaxErrors(int maxErrors) {
+        Assert.isTrue(maxErrors > 0, "maxErrors must be positive");
+        this.maxErrors = maxErrors;
+    }
+
+    public void setObjectName(String objectName) {
+        Assert.hasLength(objectName, "objectName must not be empty");
+        this.objectName = objectName;
+    }
+
+    public BatchValidationResult validate(Stream<? extends T> targets) {
+        Assert.notNull(targets, "targets must not be null");
+        return validate(targets.collect(Collectors.<T>toList()));
+    }
+
+    public BatchValidationResult validate(List<? extends T> targets) {
+        Assert.notNull(targets, "targets must not be null");
+        List<? extends T> rows = (targets instanceof RandomAccess) ? targets : new ArrayList<T>(targets);
+        Batch batch = new Batch(rows);
+        int workers = Math.min(parallelism(), batch.chunkCount);
+        if (workers <= 1) {
+            batch.run();
+        } else if (executor instanceof ForkJoinPool) {
+            ((ForkJoinPool) executor).invoke(new BatchAction(batch, workers));
+        } else {
+            runWorkers(batch, workers);
+        }
+        return batch.result();
+    }
+
+    /**
+     * Create the {@link Errors} for one row; the default binds the target under
+     * {@code objectName[index]}.
+     */
+    protected Errors createErrors(T target, int index) {
+        return new BeanPropertyBindingResult(target, objectName + "[" + index + "]");
+    }
+
+    private int parallelism() {
+        if (parallelism > 0) {
+            return parallelism;
+        }
+        return (executor instanceof ForkJoinPool) ? ((ForkJoinPool) executor).getParallelism() : Runtime.getRuntime().availableProcessors();
+    }
+
+    private void runWorkers(final Batch batch, int workers) {
+        final CountDownLatch done = new CountDownLatch(workers);
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        for (int i = 0; i < workers; i++) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        batch.run();
+                    } catch (Throwable ex) {
+                        failure.compareAndSet(null, ex);
+                        batch.stop();
+                    } finally {
+                        done.countDown();
+                    }
+                }
+            });
+        }
+        try {
+            done.await();
+        } catch (InterruptedException ex) {
+            batch.stop();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for batch validation", ex);
+        }
+        Throwable ex = failure.get();
+        if (ex instanceof RuntimeException) {
+            throw (RuntimeException) ex;
+        }
+        if (ex instanceof Error) {
+            throw (Error) ex;
+        }
+    }
+
+    /**
+     * Rows are split into fixed chunks claimed in input order by the workers. Once the chunks
+     * completed without gaps from the start hold {@code maxErrors} errors, no further chunk is
+     * started, so the reported prefix is the same as for a sequential run.
+     */
+    private final class Batch {
+
+        private final List<? extends T> rows;
+        private final Errors[] errors;
+        private final int chunkCount;
+        private final AtomicInteger nextChunk = new AtomicInteger();
+        private final int[] chunkErrors;
+        private final boolean[] chunkDone;
+        private int completedChunks;
+        private int completedErrors;
+        private volatile int chunkLimit;
+
+        Batch(List<? extends T> rows) {
+            this.rows = rows;
+            this.errors = new Errors[rows.size()];
+            this.chunkCount = (rows.size() + chunkSize - 1) / chunkSize;
+            this.chunkErrors = new int[chunkCount];
+            this.chunkDone = new boolean[chunkCount];
+            this.chunkLimit = chunkCount;
+        }
+
+        void run() {
+            int chunk;
+            while ((chunk = nextChunk.getAndIncrement()) < chunkLimit) {
+                int from = chunk * chunkSize;
+                int to = Math.min(rows.size(), from + chunkSize);
+                int found = 0;
+                for (int i = from; i < to; i++) {
+                    T target = rows.get(i);
+                    Errors rowErrors = createErrors(target, i);
+                    plan.validate(target, rowErrors);
+                    if (rowErrors.hasErrors()) {
+                        errors[i] = rowErrors;
+                        found += rowErrors.getErrorCount();
+                    }
+                }
+                complete(chunk, found);
+            }
+        }
+
+        private synchronized void complete(int chunk, int found) {
+            chunkErrors[chunk] = found;
+            chunkDone[chunk] = true;
+            while (completedChunks < chunkCount && chunkDone[completedChunks] && completedErrors < maxErrors) {
+                completedErrors += chunkErrors[completedChunks++];
+            }
+            if (completedErrors >= maxErrors) {
+                chunkLimit = Math.min(chunkLimit, completedChunks);
+            }
+        }
+
+        void stop() {
+            chunkLimit = 0;
+        }
+
+        synchronized BatchValidationResult result() {
+            int[] failedRows = new int[16];
+            int failed = 0;
+            int reportedErrors = 0;
+            int validatedRows = Math.min(rows.size(), completedChunks * chunkSize);
+            boolean complete = validatedRows == rows.size();
+            for (int i = 0; i < validatedRows; i++) {
+                if (reportedErrors >= maxErrors) {
+                    complete = false;
+                    break;
+                }
+                if (errors[i] != null) {
+                    if (failed == failedRows.length) {
+                        failedRows = Arrays.copyOf(failedRows, failed * 2);
+                    }
+                    failedRows[failed++] = i;
+                    reportedErrors += errors[i].getErrorCount();
+                }
+            }
+            return new BatchValidationResult(errors, Arrays.copyOf(failedRows, failed), reportedErrors, complete);
+        }
+    }
+
+    private final class BatchAction extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Batch batch;
+        private final int workers;
+
+        BatchAction(Batch batch, int workers) {
+            this.batch = batch;
+            this.workers = workers;
+        }
+
+        @Override
+        protected void compute() {
+            List<ForkJoinTask<?>> tasks = new ArrayList<ForkJoinTask<?>>(workers);
+            for (int i = 0; i < workers; i++) {
+                tasks.add(ForkJoinTask.adapt(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            batch.run();
+                        } catch (RuntimeException | Error ex) {
+                            batch.stop();
+                            throw ex;
+                        }
+                    }
+                }));
+            }
+            invokeAll(tasks);
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package org.ilyes.spring.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.ilyes.spring.validation.support.FieldAccessors;
+import org.springframework.util.Assert;
+import org.springframework.validation.AbstractErrors;
+import org.springframework.validation.DefaultMessageCodesResolver;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MessageCodesResolver;
+import org.springframework.validation.ObjectError;
+
+/**
+ * Allocation-lean {@link Errors} for high-volume validation. Rejections are stored as compact
+ * (field, code, arguments, rejected value) tuples; {@link FieldError} and {@link ObjectError}
+ * instances and their message codes are only built when {@link #getFieldErrors()} or
+ * {@link #getGlobalErrors()} is called. Field values are read from the target through
+ * {@link FieldAccessors}. In {@link Mode#FIRST_ERROR} and {@link Mode#BOOLEAN} mode the instance
+ * is {@link #isSaturated() saturated} by its first error, which {@link ValidationPlan} uses to
+ * skip the remaining rules. The fields rejected are tracked in every mode, including rejections
+ * ignored once saturated, so that {@link #hasFieldErrors(String)} answers the checks helpers do
+ * before reading a field. Instances are not thread-safe; {@link #reset(Object)} prepares one
+ * for the next target, and {@link CompactErrorsPool} keeps them for reuse.
+ */
+@SuppressWarnings("serial")
+public class CompactErrors extends AbstractErrors {
+
+    public enum Mode {
+        /** Keep every error. */
+        FULL,
+        /** Keep the first error and ignore the following ones. */
+        FIRST_ERROR,
+        /** Only record whether an error was rejected. */
+        BOOLEAN
+    }
+
+    private static final MessageCodesResolver DEFAULT_MESSAGE_CODES_RESOLVER = new DefaultMessageCodesResolver();
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final String objectName;
+    private final Mode mode;
+    private MessageCodesResolver messageCodesResolver = DEFAULT_MESSAGE_CODES_RESOLVER;
+    private transient Object target;
+
+    private String[] fields;
+    private String[] codes;
+    private Object[][] args;
+    private Object[] rejectedValues;
+    private String[] defaultMessages;
+    private int size;
+    private int errorCount;
+    private String[] rejectedFields;
+    private int[] rejectionCounts;
+    private int rejectedFieldCount;
+    private int fieldRejectionCount;
+    private transient List<ObjectError> globalErrors;
+    private transient List<FieldError> fieldErrors;
+
+    public CompactErrors(Object target, String objectName) {
+        this(target, objectName, Mode.FULL);
+    }
+
+    public CompactErrors(Object target, String objectName, Mode mode) {
+        Assert.hasLength(objectName, "objectName must not be empty");
+        Assert.notNull(mode, "mode must not be null");
+        this.target = target;
+        this.objectName = objectName;
+        this.mode = mode;
+    }
+
+    public void setMessageCodesResolver(MessageCodesResolver messageCodesResolver) {
+        Assert.notNull(messageCodesResolver, "messageCodesResolver must not be null");
+        this.messageCodesResolver = messageCodesResolver;
+        invalidate();
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public Object getTarget() {
+        return target;
+    }
+
+    /**
+     * Whether further rejections would be ignored, so remaining checks can be skipped.
+     */
+    public boolean isSaturated() {
+        return mode != Mode.FULL && errorCount > 0;
+    }
+
+    /**
+     * Clear all errors and the nested path and bind the instance to a new target.
+     */
+    public void reset(Object target) {
+        this.target = target;
+        if (size > 0) {
+            Arrays.fill(fields, 0, size, null);
+            Arrays.fill(codes, 0, size, null);
+            Arrays.fill(args, 0, size, null);
+            Arrays.fill(rejectedValues, 0, size, null);
+            Arrays.fill(defaultMessages, 0, size, null);
+        }
+        if (rejectedFieldCount > 0) {
+            Arrays.fill(rejectedFields, 0, rejectedFieldCount, null);
+        }
+        size = 0;
+        errorCount = 0;
+        rejectedFieldCount = 0;
+        fieldRejectionCount = 0;
+        setNestedPath(null);
+        invalidate();
+    }
+
+    int getRecordedCount() {
+        return size;
+    }
+
+    String getRecordedField(int index) {
+        return fields[index];
+    }
+
+    String getRecordedCode(int index) {
+        return codes[index];
+    }
+
+    Object[] getRecordedArgs(int index) {
+        return args[index];
+    }
+
+    String getRecordedDefaultMessage(int index) {
+        return defaultMessages[index];
+    }
+
+    @Override
+    public String getObjectName() {
+        return objectName;
+    }
+
+    @Override
+    public void reject(String errorCode, Object[] errorArgs, String defaultMessage) {
+        add(null, errorCode, errorArgs, null, defaultMessage);
+    }
+
+    @Override
+    public void rejectValue(String field, String errorCode, Object[] errorArgs, String defaultMessage) {
+        if (field == null || field.isEmpty()) {
+            reject(errorCode, errorArgs, defaultMessage);
+            return;
+        }
+        String fixedField = fixedField(field);
+        add(fixedField, errorCode, errorArgs, (mode == Mode.BOOLEAN || isSaturated()) ? null : readField(fixedField), defaultMessage);
+    }
+
+    @Override
+    public void addAllErrors(Errors errors) {
+        Assert.isTrue(objectName.equals(errors.getObjectName()), "Errors object needs to have same object name");
+        for (ObjectError error : errors.getGlobalErrors()) {
+            add(null, error.getCode(), error.getArguments(), null, error.getDefaultMessage());
+        }
+        for (FieldError error : errors.getFieldErrors()) {
+            add(error.getField(), error.getCode(), error.getArguments(), error.getRejectedValue(), error.getDefaultMessage());
+        }
+    }
+
+    @Override
+    public boolean hasErrors() {
+        return errorCount > 0;
+    }
+
+    @Override
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Whether any field was rejected, even if the error itself was not kept.
+     */
+    @Override
+    public boolean hasFieldErrors() {
+        return fieldRejectionCount > 0;
+    }
+
+    /**
+     * @return the rejections of all fields, including those not kept once saturated
+     */
+    @Override
+    public int getFieldErrorCount() {
+        return fieldRejectionCount;
+    }
+
+    /**
+     * Whether the field was rejected, even if the error itself was not kept.
+     */
+    @Override
+    public boolean hasFieldErrors(String field) {
+        return getFieldErrorCount(field) > 0;
+    }
+
+    /**
+     * @return the rejections of the field, including those not kept once saturated
+     */
+    @Override
+    public int getFieldErrorCount(String field) {
+        String fixedField = fixedField(field);
+        boolean prefix = fixedField.endsWith("*");
+        String match = prefix ? fixedField.substring(0, fixedField.length() - 1) : fixedField;
+        int count = 0;
+        for (int i = 0; i < rejectedFieldCount; i++) {
+            if (prefix ? rejectedFields[i].startsWith(match) : rejectedFields[i].equals(match)) {
+                count += rejectionCounts[i];
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public List<ObjectError> getGlobalErrors() {
+        if (globalErrors == null) {
+            List<ObjectError> result = new ArrayList<ObjectError>();
+            for (int i = 0; i < size; i++) {
+                if (fields[i] == null) {
+                    String[] messageCodes = (codes[i] != null) ? messageCodesResolver.resolveMessageCodes(codes[i], objectName) : null;
+                    result.add(new ObjectError(objectName, messageCodes, args[i], defaultMessages[i]));
+                }
+            }
+            globalErrors = Collections.unmodifiableList(result);
+        }
+        return globalErrors;
+    }
+
+    @Override
+    public List<FieldError> getFieldErrors() {
+        if (fieldErrors == null) {
+            List<FieldError> result = new ArrayList<FieldError>();
+            for (int i = 0; i < size; i++) {
+                if (fields[i] != null) {
+                    String[] messageCodes = (codes[i] != null)
+                            ? messageCodesResolver.resolveMessageCodes(codes[i], objectName, fields[i], fieldType(fields[i], rejectedValues[i]))
+                            : null;
+                    result.add(new FieldError(objectName, fields[i], rejectedValues[i], false, messageCodes, args[i], defaultMessages[i]));
+                }
+            }
+            fieldErrors = Collections.unmodifiableList(result);
+        }
+        return fieldErrors;
+    }
+
+    @Override
+    public Object getFieldValue(String field) {
+        return readField(fixedField(field));
+    }
+
+    @Override
+    public Class<?> getFieldType(String field) {
+        return fieldType(fixedField(field), null);
+    }
+
+    private void add(String field, String code, Object[] errorArgs, Object rejectedValue, String defaultMessage) {
+        if (field != null) {
+            markRejected(field);
+        }
+        if (isSaturated()) {
+            return;
+        }
+        errorCount++;
+        if (mode == Mode.BOOLEAN) {
+            return;
+        }
+        if (fields == null || size == fields.length) {
+            grow();
+        }
+        fields[size] = field;
+        codes[size] = code;
+        args[size] = errorArgs;
+        rejectedValues[size] = rejectedValue;
+        defaultMessages[size] = defaultMessage;
+        size++;
+        invalidate();
+    }
+
+    private void markRejected(String field) {
+        fieldRejectionCount++;
+        for (int i = 0; i < rejectedFieldCount; i++) {
+            if (rejectedFields[i].equals(field)) {
+                rejectionCounts[i]++;
+                return;
+            }
+        }
+        if (rejectedFields == null || rejectedFieldCount == rejectedFields.length) {
+            int capacity = (rejectedFields == null) ? INITIAL_CAPACITY : rejectedFields.length * 2;
+            rejectedFields = (rejectedFields == null) ? new String[capacity] : Arrays.copyOf(rejectedFields, capacity);
+            rejectionCounts = (rejectionCounts == null) ? new int[capacity] : Arrays.copyOf(rejectionCounts, capacity);
+        }
+        rejectedFields[rejectedFieldCount] = field;
+        rejectionCounts[rejectedFieldCount] = 1;
+        rejectedFieldCount++;
+    }
+
+    private void grow() {
+        int capacity = (fields == null) ? INITIAL_CAPACITY : fields.length * 2;
+        fields = (fields == null) ? new String[capacity] : Arrays.copyOf(fields, capacity);
+        codes = (codes == null) ? new String[capacity] : Arrays.copyOf(codes, capacity);
+        args = (args == null) ? new Object[capacity][] : Arrays.copyOf(args, capacity);
+        rejectedValues = (rejectedValues == null) ? new Object[capacity] : Arrays.copyOf(rejectedValues, capacity);
+        defaultMessages = (defaultMessages == null) ? new String[capacity] : Arrays.copyOf(defaultMessages, capacity);
+    }
+
+    private void invalidate() {
+        globalErrors = null;
+        fieldErrors = null;
+    }
+
+    private Object readField(String field) {
+        return (target != null) ? FieldAccessors.forProperty(target.getClass(), field).getValue(target) : null;
+    }
+
+    private Class<?> fieldType(String field, Object value) {
+        if (target != null) {
+            return FieldAccessors.forProperty(target.getClass(), field).getPropertyType();
+        }
+        return (value != null) ? value.getClass() : null;
+    }
+}
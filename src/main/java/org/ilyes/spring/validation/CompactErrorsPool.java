@@ -0,0 +1,42 @@
+package org.ilyes.spring.validation;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.springframework.util.Assert;
+
+/**
+ * Bounded pool of {@link CompactErrors} sharing one object name and mode, so their storage
+ * arrays are reused across requests. Released instances beyond the capacity are dropped.
+ */
+public class CompactErrorsPool {
+
+    private final String objectName;
+    private final CompactErrors.Mode mode;
+    private final BlockingQueue<CompactErrors> pool;
+
+    public CompactErrorsPool(String objectName, CompactErrors.Mode mode, int capacity) {
+        Assert.hasLength(objectName, "objectName must not be empty");
+        Assert.notNull(mode, "mode must not be null");
+        Assert.isTrue(capacity > 0, "capacity must be positive");
+        this.objectName = objectName;
+        this.mode = mode;
+        this.pool = new ArrayBlockingQueue<CompactErrors>(capacity);
+    }
+
+    public CompactErrors acquire(Object target) {
+        CompactErrors errors = pool.poll();
+        if (errors == null) {
+            return new CompactErrors(target, objectName, mode);
+        }
+        errors.reset(target);
+        return errors;
+    }
+
+    public void release(CompactErrors errors) {
+        Assert.notNull(errors, "errors must not be null");
+        Assert.isTrue(objectName.equals(errors.getObjectName()) && mode == errors.getMode(), "errors do not belong to this pool");
+        errors.reset(null);
+        pool.offer(errors);
+    }
+}
@@ -0,0 +1,220 @@
+package org.ilyes.spring.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.ilyes.spring.validation.support.FieldAccessor;
+import org.ilyes.spring.validation.support.FieldAccessors;
+import org.springframework.util.Assert;
+import org.springframework.validation.Errors;
+
+/**
+ * Runs a {@link ValidationPlan} against a form that is validated again and again while it is
+ * edited, for instance by autosave requests. The errors of every field are cached together with
+ * the values they were computed from; a field is re-validated only when its value, or the value
+ * of one of its inputs, changed since the previous call. Inputs are the other fields of its
+ * {@link org.ilyes.spring.validation.validator.CrossFieldValidator cross-field rules} and those
+ * declared with {@link #dependsOn(String, String...)}. Cached errors are replayed into the given
+ * {@link Errors}, so the result is the same as a full {@link ValidationPlan#validate(Object, Errors)}.
+ * <p>Values are compared by identity, then with {@code equals}. A mutable value changed in place
+ * (a {@code Date}, a collection) is therefore not detected; call {@link #invalidate(String)}
+ * after such a change. Instances hold per-form state and are not thread-safe.
+ */
+public class IncrementalValidator<T> {
+
+    private final ValidationPlan<T> plan;
+    private final Map<String, List<String>> dependencies = new LinkedHashMap<String, List<String>>();
+    private FieldState[] states;
+    private CompactErrors scratch;
+    private int revalidatedFieldCount;
+
+    public IncrementalValidator(ValidationPlan<T> plan) {
+        Assert.notNull(plan, "plan must not be null");
+        this.plan = plan;
+    }
+
+    /**
+     * Declare that the rules of a field also read the given fields, so they must run again when
+     * any of those fields changes.
+     */
+    public IncrementalValidator<T> dependsOn(String fieldName, String... inputFields) {
+        Assert.hasLength(fieldName, "fieldName must not be empty");
+        Assert.notEmpty(inputFields, "inputFields must not be empty");
+        List<String> inputs = dependencies.get(fieldName);
+        if (inputs == null) {
+            inputs = new ArrayList<String>();
+            dependencies.put(fieldName, inputs);
+        }
+        inputs.addAll(Arrays.asList(inputFields));
+        states = null;
+        return this;
+    }
+
+    public void validate(T target, Errors errors) {
+        Assert.notNull(target, "target must not be null");
+        Assert.notNull(errors, "Errors object must not be null");
+        if (states == null) {
+            states = createStates();
+        }
+        if (scratch == null || !scratch.getObjectName().equals(errors.getObjectName())) {
+            scratch = new CompactErrors(target, errors.getObjectName());
+        }
+        revalidatedFieldCount = 0;
+        long[] failedFields = new long[(states.length + 63) >>> 6];
+        for (int i = 0; i < states.length; i++) {
+            if (errors instanceof CompactErrors && ((CompactErrors) errors).isSaturated()) {
+                return;
+            }
+            if (plan.isBlocked(i, failedFields)) {
+                continue;
+            }
+            FieldState state = states[i];
+            if (state.update(target)) {
+                scratch.reset(target);
+                plan.validateField(i, target, state.values[0], scratch);
+                state.record(scratch);
+                revalidatedFieldCount++;
+            }
+            if (state.replay(errors)) {
+                ValidationPlan.markFailed(failedFields, i);
+            }
+        }
+    }
+
+    /**
+     * Drop the cached errors of all fields.
+     */
+    public void invalidate() {
+        if (states != null) {
+            for (FieldState state : states) {
+                state.valid = false;
+            }
+        }
+    }
+
+    /**
+     * Drop the cached errors of the given field and of every field depending on it.
+     */
+    public void invalidate(String fieldName) {
+        if (states != null) {
+            for (FieldState state : states) {
+                if (state.reads(fieldName)) {
+                    state.valid = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of fields whose rules actually ran during the last call
+     */
+    public int getRevalidatedFieldCount() {
+        return revalidatedFieldCount;
+    }
+
+    private FieldState[] createStates() {
+        for (String fieldName : dependencies.keySet()) {
+            Assert.isTrue(indexOf(fieldName) >= 0, "Field '" + fieldName + "' has no rules in the plan");
+        }
+        FieldState[] created = new FieldState[plan.getFieldCount()];
+        for (int i = 0; i < created.length; i++) {
+            String fieldName = plan.getFieldName(i);
+            List<String> inputs = new ArrayList<String>(plan.getInputFields(i));
+            if (dependencies.containsKey(fieldName)) {
+                inputs.addAll(dependencies.get(fieldName));
+            }
+            FieldAccessor[] accessors = new FieldAccessor[inputs.size() + 1];
+            accessors[0] = plan.getAccessor(i);
+            for (int j = 1; j < accessors.length; j++) {
+                accessors[j] = FieldAccessors.forProperty(plan.getType(), inputs.get(j - 1));
+            }
+            created[i] = new FieldState(fieldName, accessors);
+        }
+        return created;
+    }
+
+    private int indexOf(String fieldName) {
+        for (int i = 0; i < plan.getFieldCount(); i++) {
+            if (plan.getFieldName(i).equals(fieldName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static final class FieldState {
+
+        private static final String[] NO_CODES = new String[0];
+        private static final Object[][] NO_ARGS = new Object[0][];
+
+        final String fieldName;
+        final FieldAccessor[] accessors;
+        final Object[] values;
+        boolean valid;
+        String[] codes = NO_CODES;
+        Object[][] args = NO_ARGS;
+        String[] defaultMessages = NO_CODES;
+
+        FieldState(String fieldName, FieldAccessor[] accessors) {
+            this.fieldName = fieldName;
+            this.accessors = accessors;
+            this.values = new Object[accessors.length];
+        }
+
+        /**
+         * Read the current input values.
+         * @return whether the cached errors are stale
+         */
+        boolean update(Object target) {
+            boolean changed = !valid;
+            for (int i = 0; i < accessors.length; i++) {
+                Object value = accessors[i].getValue(target);
+                Object previous = values[i];
+                if (value != previous && (value == null || !value.equals(previous))) {
+                    values[i] = value;
+                    changed = true;
+                }
+            }
+            if (changed) {
+                valid = false;
+            }
+            return changed;
+        }
+
+        void record(CompactErrors errors) {
+            int count = errors.getRecordedCount();
+            codes = (count == 0) ? NO_CODES : new String[count];
+            args = (count == 0) ? NO_ARGS : new Object[count][];
+            defaultMessages = (count == 0) ? NO_CODES : new String[count];
+            for (int i = 0; i < count; i++) {
+                Assert.state(fieldName.equals(errors.getRecordedField(i)), "Rules of field '" + fieldName + "' rejected '" + errors.getRecordedField(i) + "'");
+                codes[i] = errors.getRecordedCode(i);
+                args[i] = errors.getRecordedArgs(i);
+                defaultMessages[i] = errors.getRecordedDefaultMessage(i);
+            }
+            valid = true;
+        }
+
+        /**
+         * @return whether the field failed
+         */
+        boolean replay(Errors errors) {
+            for (int i = 0; i < codes.length; i++) {
+                errors.rejectValue(fieldName, codes[i], args[i], defaultMessages[i]);
+            }
+            return codes.length > 0;
+        }
+
+        boolean reads(String name) {
+            for (FieldAccessor accessor : accessors) {
+                if (accessor.getPropertyPath().equals(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.ilyes.spring.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.ilyes.spring.validation.support.FieldIndex;
+import org.ilyes.spring.validation.support.FieldMask;
+import org.springframework.util.Assert;
+
+/**
+ * Named selections of fields, such as {@code "draft"}, {@code "submit"} or {@code "admin-edit"},
+ * registered once and resolved into {@link FieldMask}s over a shared {@link FieldIndex}. A
+ * {@link ValidationPlan} built with {@link ValidationPlan.Builder#groups(ValidationGroups)}
+ * validates the fields of the group selected per call with one bit test per field, and
+ * {@link #getSkipMask(String)} replaces the {@code String[]} scanned by
+ * {@link ValidationUtils#skipFieldValidation(String, String[])}. Immutable and thread-safe.
+ */
+public final class ValidationGroups {
+
+    private final FieldIndex fieldIndex;
+    private final Map<String, FieldMask> masks;
+    private final Map<String, FieldMask> skipMasks;
+
+    private ValidationGroups(FieldIndex fieldIndex, Map<String, FieldMask> masks) {
+        this.fieldIndex = fieldIndex;
+        this.masks = Collections.unmodifiableMap(masks);
+        Map<String, FieldMask> skipped = new LinkedHashMap<String, FieldMask>();
+        for (Map.Entry<String, FieldMask> entry : masks.entrySet()) {
+            skipped.put(entry.getKey(), entry.getValue().not());
+        }
+        this.skipMasks = Collections.unmodifiableMap(skipped);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public FieldIndex getFieldIndex() {
+        return fieldIndex;
+    }
+
+    public Set<String> getGroupNames() {
+        return masks.keySet();
+    }
+
+    /**
+     * @return the fields validated by the group
+     * @throws IllegalArgumentException if the group is not registered
+     */
+    public FieldMask getMask(String group) {
+        return lookup(masks, group);
+    }
+
+    /**
+     * @return the fields skipped by the group, that is every field not selected by it
+     * @throws IllegalArgumentException if the group is not registered
+     */
+    public FieldMask getSkipMask(String group) {
+        return lookup(skipMasks, group);
+    }
+
+    private static FieldMask lookup(Map<String, FieldMask> masks, String group) {
+        FieldMask mask = masks.get(group);
+        if (mask == null) {
+            throw new IllegalArgumentException("Unknown validation group '" + group + "'");
+        }
+        return mask;
+    }
+
+    public static final class Builder {
+
+        private final Map<String, Set<String>> fields = new LinkedHashMap<String, Set<String>>();
+        private final Map<String, List<String>> parents = new LinkedHashMap<String, List<String>>();
+
+        private Builder() {
+        }
+
+        /**
+         * Add fields to a group, creating the group if needed.
+         */
+        public Builder group(String name, String... fieldNames) {
+            Assert.hasLength(name, "group name must not be empty");
+            Assert.notNull(fieldNames, "fieldNames must not be null");
+            Set<String> groupFields = fields.get(name);
+            if (groupFields == null) {
+                groupFields = new LinkedHashSet<String>();
+                fields.put(name, groupFields);
+                parents.put(name, new ArrayList<String>());
+            }
+            for (String fieldName : fieldNames) {
+                Assert.hasLength(fieldName, "fieldName must not be empty");
+                groupFields.add(fieldName);
+            }
+            return this;
+        }
+
+        /**
+         * Include in a group every field of the given groups, which must be declared before it.
+         */
+        public Builder extend(String name, String... parentGroups) {
+            Assert.notEmpty(parentGroups, "parentGroups must not be empty");
+            group(name);
+            for (String parent : parentGroups) {
+                Assert.isTrue(!parent.equals(name) && fields.containsKey(parent)
+                        && indexOf(parent) < indexOf(name), "Group '" + parent + "' must be declared before '" + name + "'");
+            }
+            parents.get(name).addAll(Arrays.asList(parentGroups));
+            return this;
+        }
+
+        public ValidationGroups build() {
+            FieldIndex fieldIndex = new FieldIndex();
+            for (Set<String> groupFields : fields.values()) {
+                for (String fieldName : groupFields) {
+                    fieldIndex.intern(fieldName);
+                }
+            }
+            Map<String, FieldMask> masks = new LinkedHashMap<String, FieldMask>();
+            for (Map.Entry<String, Set<String>> entry : fields.entrySet()) {
+                FieldMask mask = FieldMask.of(fieldIndex, entry.getValue());
+                for (String parent : parents.get(entry.getKey())) {
+                    mask = mask.or(masks.get(parent));
+                }
+                masks.put(entry.getKey(), mask);
+            }
+            return new ValidationGroups(fieldIndex, masks);
+        }
+
+        private int indexOf(String name) {
+            return new ArrayList<String>(fields.keySet()).indexOf(name);
+        }
+    }
+}
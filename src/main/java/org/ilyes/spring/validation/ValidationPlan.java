@@ -0,0 +1,594 @@
+package org.ilyes.spring.validation;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.ilyes.spring.validation.support.FieldAccessor;
+import org.ilyes.spring.validation.support.FieldAccessors;
+import org.ilyes.spring.validation.support.FieldMask;
+import org.ilyes.spring.validation.support.FieldValues;
+import org.ilyes.spring.validation.support.TextInspection.LengthMode;
+import org.ilyes.spring.validation.validator.AbstractFieldValidator;
+import org.ilyes.spring.validation.validator.CrossFieldValidator;
+import org.ilyes.spring.validation.validator.EqualsValidator;
+import org.ilyes.spring.validation.validator.FieldComparisonValidator.Comparison;
+import org.ilyes.spring.validation.validator.FieldValidator;
+import org.ilyes.spring.validation.validator.LengthValidator;
+import org.ilyes.spring.validation.validator.MembershipValidator;
+import org.ilyes.spring.validation.validator.PatternValidator;
+import org.ilyes.spring.validation.validator.Rules;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+
+/**
+ * Immutable set of field rules built once and executed against many {@link Errors} instances.
+ * All validators, error codes and argument arrays are created by the {@link Builder}, so
+ * {@link #validate(Errors)} performs no setup work per call and can be shared between threads.
+ * {@link #validate(Object, Errors)} additionally reads every field once through a generated
+ * accessor and hands the raw value to all validators of that field, bypassing the
+ * {@code BeanWrapper} lookups done by {@link Errors#getFieldValue(String)}. Validation stops
+ * early on a {@link CompactErrors} that is already saturated. With {@link Builder#shortCircuit()}
+ * rules run in cost order up to the first failure of each field, and failed fields are tracked in
+ * a bitset so that dependent fields ({@link Builder#requireValid(String...)}) can be skipped
+ * without querying the {@link Errors}. Plans with cross-field rules share one
+ * {@link FieldValues} per pass, so values read or converted for one rule are reused by the others,
+ * including the dates and range values of single-field rules that override
+ * {@link AbstractFieldValidator#validateValues}.
+ * Plans built with {@link Builder#groups(ValidationGroups)} can validate one group of fields per
+ * call; fields outside the group's {@link FieldMask} are skipped with a single bit test.
+ */
+public final class ValidationPlan<T> {
+
+    private static final Object[] NO_ARGS = new Object[0];
+    private static final int[] NO_FIELDS = new int[0];
+    private static final Comparator<Rule> BY_COST = new Comparator<Rule>() {
+        @Override
+        public int compare(Rule r1, Rule r2) {
+            return Integer.compare(r1.validator.getCost(), r2.validator.getCost());
+        }
+    };
+
+    private final Class<T> type;
+    private final FieldRules[] fields;
+    private final boolean tracksFailures;
+    private final boolean hasCrossFieldRules;
+    private final ValidationGroups groups;
+
+    private ValidationPlan(Class<T> type, FieldRules[] fields, boolean tracksFailures, ValidationGroups groups) {
+        this.type = type;
+        this.fields = fields;
+        this.tracksFailures = tracksFailures;
+        this.groups = groups;
+        boolean crossField = false;
+        for (FieldRules field : fields) {
+            crossField |= field.hasCrossFieldRules;
+        }
+        this.hasCrossFieldRules = crossField;
+    }
+
+    public static <T> Builder<T> forType(Class<T> type) {
+        Assert.notNull(type, "type must not be null");
+        return new Builder<T>(type);
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public ValidationGroups getGroups() {
+        return groups;
+    }
+
+    public void validate(Errors errors) {
+        validate(errors, (FieldMask) null);
+    }
+
+    /**
+     * Validate only the fields of the given group.
+     * @throws IllegalStateException if the plan was built without groups
+     */
+    public void validate(Errors errors, String group) {
+        validate(errors, groupMask(group));
+    }
+
+    /**
+     * Validate only the fields held by the mask, which must belong to the
+     * {@link ValidationGroups#getFieldIndex() field index} of the plan's groups; {@code null}
+     * validates all fields.
+     */
+    public void validate(Errors errors, FieldMask selection) {
+        Assert.notNull(errors, "Errors object must not be null");
+        checkSelection(selection);
+        if (errors instanceof BindingResult) {
+            Object target = ((BindingResult) errors).getTarget();
+            Assert.isTrue(target == null || type.isInstance(target), "Target must be an instance of " + type.getName());
+        }
+        long[] failedFields = newFailureSet();
+        FieldValues values = hasCrossFieldRules ? new FieldValues(null, errors) : null;
+        for (FieldRules field : fields) {
+            if (field.isBlocked(failedFields) || !field.isSelected(selection)) {
+                continue;
+            }
+            if (!field.validate(errors, values, failedFields != null)) {
+                markFailed(failedFields, field.index);
+            }
+        }
+    }
+
+    public void validate(T target, Errors errors) {
+        validate(target, errors, (FieldMask) null);
+    }
+
+    /**
+     * Validate only the fields of the given group.
+     * @throws IllegalStateException if the plan was built without groups
+     */
+    public void validate(T target, Errors errors, String group) {
+        validate(target, errors, groupMask(group));
+    }
+
+    public void validate(T target, Errors errors, FieldMask selection) {
+        Assert.notNull(target, "target must not be null");
+        Assert.notNull(errors, "Errors object must not be null");
+        checkSelection(selection);
+        long[] failedFields = newFailureSet();
+        FieldValues values = hasCrossFieldRules ? new FieldValues(target, errors) : null;
+        for (FieldRules field : fields) {
+            if (isSaturated(errors)) {
+                return;
+            }
+            if (field.isBlocked(failedFields) || !field.isSelected(selection)) {
+                continue;
+            }
+            // a field already read by an earlier cross-field rule is not read again
+            Object fieldValue = (values != null) ? values.get(field.fieldName) : field.accessor.getValue(target);
+            if (!field.validate(errors, fieldValue, values, failedFields != null)) {
+                markFailed(failedFields, field.index);
+            }
+        }
+    }
+
+    int getFieldCount() {
+        return fields.length;
+    }
+
+    String getFieldName(int index) {
+        return fields[index].fieldName;
+    }
+
+    FieldAccessor getAccessor(int index) {
+        return fields[index].accessor;
+    }
+
+    boolean isBlocked(int index, long[] failedFields) {
+        return fields[index].isBlocked(failedFields);
+    }
+
+    /**
+     * @return the other fields read by the cross-field rules of a field
+     */
+    List<String> getInputFields(int index) {
+        List<String> inputs = new ArrayList<String>();
+        for (Rule rule : fields[index].rules) {
+            if (rule.crossField != null) {
+                inputs.add(rule.crossField.getOtherField());
+            }
+        }
+        return inputs;
+    }
+
+    void validateField(int index, T target, Object fieldValue, Errors errors) {
+        FieldRules field = fields[index];
+        FieldValues values = null;
+        if (field.hasCrossFieldRules) {
+            values = new FieldValues(target, errors);
+            values.put(field.fieldName, fieldValue);
+        }
+        field.validate(errors, fieldValue, values, tracksFailures);
+    }
+
+    private FieldMask groupMask(String group) {
+        Assert.state(groups != null, "Plan was built without validation groups");
+        return groups.getMask(group);
+    }
+
+    private void checkSelection(FieldMask selection) {
+        if (selection != null) {
+            Assert.state(groups != null, "Plan was built without validation groups");
+            Assert.isTrue(selection.getIndex() == groups.getFieldIndex(), "Mask must belong to the field index of the plan's groups");
+        }
+    }
+
+    private long[] newFailureSet() {
+        return tracksFailures ? new long[(fields.length + 63) >>> 6] : null;
+    }
+
+    static void markFailed(long[] failedFields, int index) {
+        if (failedFields != null) {
+            failedFields[index >>> 6] |= 1L << index;
+        }
+    }
+
+    private static boolean isSaturated(Errors errors) {
+        return errors instanceof CompactErrors && ((CompactErrors) errors).isSaturated();
+    }
+
+    static final class Rule {
+
+        final FieldValidator validator;
+        final CrossFieldValidator crossField;
+        final AbstractFieldValidator valuesValidator;
+        final String errorCode;
+        final Object[] errorArgs;
+
+        Rule(FieldValidator validator, String errorCode, Object[] errorArgs) {
+            this.validator = validator;
+            this.crossField = (validator instanceof CrossFieldValidator) ? (CrossFieldValidator) validator : null;
+            this.valuesValidator = usesFieldValues(validator) ? (AbstractFieldValidator) validator : null;
+            this.errorCode = errorCode;
+            this.errorArgs = (errorArgs != null) ? errorArgs.clone() : NO_ARGS;
+        }
+
+        /**
+         * Only validators overriding {@code validateValues} gain from the values of the pass; the
+         * others keep receiving the value read for the field.
+         */
+        private static boolean usesFieldValues(FieldValidator validator) {
+            if (!(validator instanceof AbstractFieldValidator)) {
+                return false;
+            }
+            Method method = ReflectionUtils.findMethod(validator.getClass(), "validateValues",
+                    Errors.class, String.class, FieldValues.class, String.class, Object[].class);
+            return method != null && method.getDeclaringClass() != AbstractFieldValidator.class;
+        }
+    }
+
+    static final class FieldRules {
+
+        final String fieldName;
+        final int index;
+        final int fieldId;
+        final FieldAccessor accessor;
+        final Rule[] rules;
+        final boolean shortCircuit;
+        final int[] requiredFields;
+        final boolean hasCrossFieldRules;
+
+        FieldRules(String fieldName, int index, int fieldId, FieldAccessor accessor, Rule[] rules, boolean shortCircuit, int[] requiredFields) {
+            this.fieldName = fieldName;
+            this.index = index;
+            this.fieldId = fieldId;
+            this.accessor = accessor;
+            this.rules = rules;
+            this.shortCircuit = shortCircuit;
+            this.requiredFields = requiredFields;
+            boolean crossField = false;
+            for (Rule rule : rules) {
+                crossField |= rule.crossField != null;
+            }
+            this.hasCrossFieldRules = crossField;
+        }
+
+        boolean isSelected(FieldMask selection) {
+            return selection == null || selection.contains(fieldId);
+        }
+
+        boolean isBlocked(long[] failedFields) {
+            for (int required : requiredFields) {
+                if ((failedFields[required >>> 6] & (1L << required)) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * @return whether the field passed; always {@code true} when failures are not tracked
+         */
+        boolean validate(Errors errors, FieldValues values, boolean trackFailures) {
+            boolean passed = true;
+            for (Rule rule : rules) {
+                if (isSaturated(errors)) {
+                    break;
+                }
+                if (values != null && rule.valuesValidator != null) {
+                    if (!validateWithValues(rule, errors, values, trackFailures)) {
+                        passed = false;
+                        if (shortCircuit) {
+                            break;
+                        }
+                    }
+                } else if (!trackFailures) {
+                    rule.validator.validate(errors, fieldName, rule.errorCode, rule.errorArgs);
+                } else if (!Rules.check(rule.validator, errors, fieldName, rule.errorCode, rule.errorArgs)) {
+                    passed = false;
+                    if (shortCircuit) {
+                        break;
+                    }
+                }
+            }
+            return passed;
+        }
+
+        boolean validate(Errors errors, Object fieldValue, FieldValues values, boolean trackFailures) {
+            boolean passed = true;
+            for (Rule rule : rules) {
+                if (isSaturated(errors)) {
+                    break;
+                }
+                if (values != null && rule.valuesValidator != null) {
+                    if (!validateWithValues(rule, errors, values, trackFailures)) {
+                        passed = false;
+                        if (shortCircuit) {
+                            break;
+                        }
+                    }
+                } else if (!trackFailures) {
+                    rule.validator.validateValue(errors, fieldName, fieldValue, rule.errorCode, rule.errorArgs);
+                } else if (!Rules.checkValue(rule.validator, errors, fieldName, fieldValue, rule.errorCode, rule.errorArgs)) {
+                    passed = false;
+                    if (shortCircuit) {
+                        break;
+                    }
+                }
+            }
+            return passed;
+        }
+
+        private boolean validateWithValues(Rule rule, Errors errors, FieldValues values, boolean trackFailures) {
+            if (trackFailures) {
+                return Rules.checkValues(rule.valuesValidator, errors, fieldName, values, rule.errorCode, rule.errorArgs);
+            }
+            rule.valuesValidator.validateValues(errors, fieldName, values, rule.errorCode, rule.errorArgs);
+            return true;
+        }
+    }
+
+    public static final class Builder<T> {
+
+        private final Class<T> type;
+        private final Map<String, List<Rule>> rules = new LinkedHashMap<String, List<Rule>>();
+        private final Map<String, List<String>> requiredFields = new LinkedHashMap<String, List<String>>();
+        private String fieldName;
+        private boolean shortCircuit;
+        private ValidationGroups groups;
+
+        private Builder(Class<T> type) {
+            this.type = type;
+        }
+
+        public Builder<T> field(String fieldName) {
+            Assert.hasLength(fieldName, "fieldName must not be empty");
+            this.fieldName = fieldName;
+            return this;
+        }
+
+        /**
+         * Run the rules of every field from the cheapest to the most expensive according to
+         * {@link FieldValidator#getCost()} and stop at the first failing rule of a field.
+         */
+        public Builder<T> shortCircuit() {
+            this.shortCircuit = true;
+            return this;
+        }
+
+        /**
+         * Allow validating one of the given groups of fields per call. Fields of the plan missing
+         * from every group are only validated by full validations.
+         */
+        public Builder<T> groups(ValidationGroups groups) {
+            Assert.notNull(groups, "groups must not be null");
+            this.groups = groups;
+            return this;
+        }
+
+        /**
+         * Skip the rules of the current field if any of the given fields, declared before it,
+         * failed validation.
+         */
+        public Builder<T> requireValid(String... fieldNames) {
+            Assert.state(fieldName != null, "field(String) must be called before requireValid");
+            Assert.notEmpty(fieldNames, "fieldNames must not be empty");
+            List<String> required = requiredFields.get(fieldName);
+            if (required == null) {
+                required = new ArrayList<String>();
+                requiredFields.put(fieldName, required);
+            }
+            required.addAll(Arrays.asList(fieldNames));
+            if (!rules.containsKey(fieldName)) {
+                rules.put(fieldName, new ArrayList<Rule>());
+            }
+            return this;
+        }
+
+        public Builder<T> rule(FieldValidator validator) {
+            return rule(validator, null);
+        }
+
+        public Builder<T> rule(FieldValidator validator, String errorCode, Object... errorArgs) {
+            Assert.notNull(validator, "validator must not be null");
+            Assert.state(fieldName != null, "field(String) must be called before adding rules");
+            List<Rule> fieldRules = rules.get(fieldName);
+            if (fieldRules == null) {
+                fieldRules = new ArrayList<Rule>();
+                rules.put(fieldName, fieldRules);
+            }
+            fieldRules.add(new Rule(validator, errorCode, errorArgs));
+            return this;
+        }
+
+        public <V extends Comparable<V>> Builder<T> range(V minValue, V maxValue) {
+            return range(minValue, maxValue, null);
+        }
+
+        public <V extends Comparable<V>> Builder<T> range(V minValue, V maxValue, String errorCode, Object... errorArgs) {
+            return rule(Rules.range(minValue, maxValue), errorCode, errorArgs);
+        }
+
+        public <V extends Comparable<V>> Builder<T> min(V minValue) {
+            return min(minValue, null);
+        }
+
+        public <V extends Comparable<V>> Builder<T> min(V minValue, String errorCode, Object... errorArgs) {
+            Assert.notNull(minValue, "minValue must not be null");
+            return rule(Rules.range(minValue, null), errorCode, errorArgs);
+        }
+
+        public <V extends Comparable<V>> Builder<T> max(V maxValue) {
+            return max(maxValue, null);
+        }
+
+        public <V extends Comparable<V>> Builder<T> max(V maxValue, String errorCode, Object... errorArgs) {
+            Assert.notNull(maxValue, "maxValue must not be null");
+            return rule(Rules.range(null, maxValue), errorCode, errorArgs);
+        }
+
+        public Builder<T> length(int minLength, int maxLength) {
+            return length(minLength, maxLength, null);
+        }
+
+        public Builder<T> length(int minLength, int maxLength, String errorCode, Object... errorArgs) {
+            return rule(new LengthValidator(minLength, maxLength), errorCode, errorArgs);
+        }
+
+        public Builder<T> length(int minLength, int maxLength, LengthMode lengthMode, String errorCode, Object... errorArgs) {
+            return rule(new LengthValidator(minLength, maxLength, lengthMode), errorCode, errorArgs);
+        }
+
+        public Builder<T> maxLength(int maxLength) {
+            return maxLength(maxLength, null);
+        }
+
+        public Builder<T> maxLength(int maxLength, String errorCode, Object... errorArgs) {
+            return length(0, maxLength, errorCode, errorArgs);
+        }
+
+        public Builder<T> pattern(String regExp) {
+            return pattern(regExp, null);
+        }
+
+        public Builder<T> pattern(String regExp, String errorCode, Object... errorArgs) {
+            return rule(patternValidator(regExp, false), errorCode, errorArgs);
+        }
+
+        public Builder<T> notPattern(String regExp) {
+            return notPattern(regExp, null);
+        }
+
+        public Builder<T> notPattern(String regExp, String errorCode, Object... errorArgs) {
+            return rule(patternValidator(regExp, true), errorCode, errorArgs);
+        }
+
+        public <V> Builder<T> equalTo(V value) {
+            return equalTo(value, null);
+        }
+
+        public <V> Builder<T> equalTo(V value, String errorCode, Object... errorArgs) {
+            return rule(new EqualsValidator<V>(value), errorCode, errorArgs);
+        }
+
+        public <V> Builder<T> notEqualTo(V value) {
+            return notEqualTo(value, null);
+        }
+
+        public <V> Builder<T> notEqualTo(V value, String errorCode, Object... errorArgs) {
+            EqualsValidator<V> validator = new EqualsValidator<V>(value);
+            validator.setNegate(true);
+            return rule(validator, errorCode, errorArgs);
+        }
+
+        public Builder<T> oneOf(Collection<?> values) {
+            return oneOf(values, null);
+        }
+
+        public Builder<T> oneOf(Collection<?> values, String errorCode, Object... errorArgs) {
+            return rule(new MembershipValidator(values), errorCode, errorArgs);
+        }
+
+        public Builder<T> noneOf(Collection<?> values) {
+            return noneOf(values, null);
+        }
+
+        public Builder<T> noneOf(Collection<?> values, String errorCode, Object... errorArgs) {
+            MembershipValidator validator = new MembershipValidator(values);
+            validator.setNegate(true);
+            return rule(validator, errorCode, errorArgs);
+        }
+
+        /**
+         * Reject the current field unless it equals the other field.
+         */
+        public Builder<T> sameAs(String otherField, String errorCode, Object... errorArgs) {
+            return rule(Rules.sameAs(otherField), errorCode, errorArgs);
+        }
+
+        /**
+         * Compare the current field with another field after converting both to the given type.
+         */
+        public Builder<T> compareTo(Comparison comparison, String otherField, Class<? extends Comparable<?>> valueType, String errorCode, Object... errorArgs) {
+            return rule(Rules.compareTo(comparison, otherField, valueType), errorCode, errorArgs);
+        }
+
+        /**
+         * Compare the current date field with another date field, parsing text with the pattern.
+         */
+        public Builder<T> compareDateTo(Comparison comparison, String otherField, String datePattern, String errorCode, Object... errorArgs) {
+            return rule(Rules.compareDateTo(comparison, otherField, datePattern), errorCode, errorArgs);
+        }
+
+        /**
+         * Require the current field when the other field has one of the given values, or any
+         * value if the collection is empty.
+         */
+        public Builder<T> requiredIf(String otherField, Collection<?> values, String errorCode, Object... errorArgs) {
+            return rule(Rules.requiredIf(otherField, values.toArray()), errorCode, errorArgs);
+        }
+
+        public ValidationPlan<T> build() {
+            List<String> fieldNames = new ArrayList<String>(rules.keySet());
+            FieldRules[] fields = new FieldRules[fieldNames.size()];
+            for (int i = 0; i < fields.length; i++) {
+                String name = fieldNames.get(i);
+                List<Rule> fieldRules = rules.get(name);
+                Rule[] ordered = fieldRules.toArray(new Rule[fieldRules.size()]);
+                if (shortCircuit) {
+                    Arrays.sort(ordered, BY_COST);
+                }
+                FieldAccessor accessor = FieldAccessors.forProperty(type, name);
+                int fieldId = (groups != null) ? groups.getFieldIndex().intern(name) : -1;
+                fields[i] = new FieldRules(name, i, fieldId, accessor, ordered, shortCircuit, requiredIndexes(name, fieldNames));
+            }
+            return new ValidationPlan<T>(type, fields, shortCircuit || !requiredFields.isEmpty(), groups);
+        }
+
+        private int[] requiredIndexes(String name, List<String> fieldNames) {
+            List<String> required = requiredFields.get(name);
+            if (required == null) {
+                return NO_FIELDS;
+            }
+            int[] indexes = new int[required.size()];
+            int position = fieldNames.indexOf(name);
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = fieldNames.indexOf(required.get(i));
+                Assert.isTrue(indexes[i] >= 0 && indexes[i] < position, "Field '" + required.get(i) + "' must have rules declared before '" + name + "'");
+            }
+            return indexes;
+        }
+
+        private static PatternValidator patternValidator(String regExp, boolean negate) {
+            Assert.notNull(regExp, "pattern must not be null");
+            PatternValidator validator = new PatternValidator(regExp);
+            validator.setNegate(negate);
+            validator.compile();
+            return validator;
+        }
+    }
+}
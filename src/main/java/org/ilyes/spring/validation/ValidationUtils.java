@@ -1,17 +1,30 @@
 package org.ilyes.spring.validation;
 
-import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.time.DateUtils;
+import org.ilyes.spring.validation.metrics.Instrumentation;
+import org.ilyes.spring.validation.support.Conversions;
+import org.ilyes.spring.validation.support.DateParsing;
+import org.ilyes.spring.validation.support.FieldAccessors;
+import org.ilyes.spring.validation.support.FieldMask;
+import org.ilyes.spring.validation.support.TextInspection;
 import org.ilyes.spring.validation.validator.EqualsValidator;
+import org.ilyes.spring.validation.validator.FieldComparisonValidator.Comparison;
+import org.ilyes.spring.validation.validator.FieldValidator;
+import org.ilyes.spring.validation.validator.IntRangeValidator;
 import org.ilyes.spring.validation.validator.LengthValidator;
 import org.ilyes.spring.validation.validator.PatternValidator;
 import org.ilyes.spring.validation.validator.RangeValidator;
+import org.ilyes.spring.validation.validator.Rules;
 import org.springframework.util.Assert;
-import org.springframework.validation.BindingResult;
 import org.springframework.validation.Errors;
 
 
@@ -23,167 +36,296 @@ public abstract class ValidationUtils {
     public static final String DOT                       = ".";
     public static final String DEFAULT_PREFIX            = "label";
     public static final String TYPE_MISMATCH             = "typeMismatch";
-    private static final String DEFAULT_DATE_FORMAT		 = "dd.MM.YYYY";
+    private static final String DEFAULT_DATE_FORMAT		 = "dd.MM.yyyy";
+    private static final int MAX_CACHED_VALIDATORS        = 256;
+    private static final FieldValidator INTEGER_RANGE = new IntRangeValidator();
+    private static final Set<String> PLEASE_SELECT_VALUES = Collections.singleton("PLEASE_SELECT");
+
+    private static final ConcurrentMap<Long, FieldValidator> LENGTH_VALIDATORS = new ConcurrentHashMap<Long, FieldValidator>();
+    private static final ConcurrentMap<String, FieldValidator> PATTERN_VALIDATORS = new ConcurrentHashMap<String, FieldValidator>();
+    private static final ConcurrentMap<String, FieldValidator> NEGATED_PATTERN_VALIDATORS = new ConcurrentHashMap<String, FieldValidator>();
 
 
     public static <T extends Comparable<T>> void  rejectIfGreaterThan(T maxValue, Errors errors, String fieldName, String errorCode, Object... errorArgs) {  
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "Errors object must not be null");
-        RangeValidator<T> fieldValidator = new RangeValidator<T>();
-        fieldValidator.setMaxValue(maxValue);
-        fieldValidator.validate(errors, fieldName, errorCode, errorArgs);
+        rangeValidator(null, maxValue).validate(errors, fieldName, errorCode, errorArgs);
+        Instrumentation.record("rejectIfGreaterThan", fieldName, errorCode, errors, mark, start);
     }
 
     public static <T extends Comparable<T>> void  rejectIfLessThan(T minValue, Errors errors,  String fieldName, String errorCode, Object... errorArgs) {  
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "Errors object must not be null");
-        RangeValidator<T> fieldValidator = new RangeValidator<T>();
-        fieldValidator.setMinValue(minValue);
-        fieldValidator.validate(errors, fieldName, errorCode, errorArgs);
+        rangeValidator(minValue, null).validate(errors, fieldName, errorCode, errorArgs);
+        Instrumentation.record("rejectIfLessThan", fieldName, errorCode, errors, mark, start);
     }
 
     public static <T extends Comparable<T>> void  rejectIfNotInRange(T minValue, T maxValue, Errors errors,  String fieldName, String errorCode, Object... errorArgs) { 
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "Errors object must not be null");
-        RangeValidator<T> fieldValidator = new RangeValidator<T>(minValue, maxValue);
-        fieldValidator.validate(errors, fieldName, errorCode, errorArgs);
+        Rules.range(minValue, maxValue).validate(errors, fieldName, errorCode, errorArgs);
+        Instrumentation.record("rejectIfNotInRange", fieldName, errorCode, errors, mark, start);
     }
 
     public static void rejectIfFieldNotConvertableToInteger(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Object fieldValue = errors.getFieldValue(fieldName);
-        Integer integer = Integer.valueOf(fieldValue.toString());
-        if (integer == null) {
+        Object integer = Conversions.convert(fieldValue, Integer.class);
+        if (integer == null || integer == Conversions.FAILED) {
             errors.rejectValue(fieldName, errorCode, errorArgs, "");
         }
+        Instrumentation.record("rejectIfFieldNotConvertableToInteger", fieldName, errorCode, errors, mark, start);
     }
 
     public static <T> void rejectIfNullOrNotInValues(Collection<T> values, Errors errors, String fieldName, String errorCode, Object... errorArgs){
-        rejectIfNull(errors, fieldName, errorCode, errorArgs);
-        if (!errors.hasFieldErrors(fieldName)){
-            rejectIfNotInValues(values, errors, fieldName, errorCode, errorArgs);
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
+        Assert.notNull(errors, "Errors object must not be null");
+        Assert.notNull(values, "values must not be null");
+        Object fieldValue = FieldAccessors.getRawFieldValue(errors, fieldName);
+        if (fieldValue == null) {
+            errors.rejectValue(fieldName, errorCode, errorArgs, "");
+        } else if (!errors.hasFieldErrors(fieldName) && !values.contains(fieldValue)) {
+            errors.rejectValue(fieldName, errorCode, errorArgs, "");
         }
+        Instrumentation.record("rejectIfNullOrNotInValues", fieldName, errorCode, errors, mark, start);
     }
 
-    @SuppressWarnings("unchecked")
     public static <T> void rejectIfNotInValues(Collection<T> values, Errors errors, String fieldName, String errorCode, Object... errorArgs){
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "Errors object must not be null");
         Assert.notNull(values, "values must not be null");
-        T fieldValue = BindingResult.class.isInstance(errors)? (T)((BindingResult)errors).getRawFieldValue(fieldName) : (T)errors.getFieldValue(fieldName);
+        Object fieldValue = FieldAccessors.getRawFieldValue(errors, fieldName);
         if (!values.contains(fieldValue)) {
             errors.rejectValue(fieldName, errorCode, errorArgs, "");
         }
+        Instrumentation.record("rejectIfNotInValues", fieldName, errorCode, errors, mark, start);
     }
 
     public static <T> void rejectIfNotEqualsValue(T value, Errors errors, String fieldName, String errorCode, Object... errorArgs){
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "Errors object must not be null");
         EqualsValidator<T> fieldValidator = new EqualsValidator<T>(value);
         fieldValidator.validate(errors, fieldName, errorCode, errorArgs);
+        Instrumentation.record("rejectIfNotEqualsValue", fieldName, errorCode, errors, mark, start);
     }
 
     public static void rejectIfEqualsIgnoreCase(String value, Errors errors, String fieldName, String errorCode, Object... errorArgs){
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "Errors object must not be null");
         EqualsValidator<String> fieldValidator = new EqualsValidator<String>(value);
         fieldValidator.setIgnoreCase(true);
         fieldValidator.setNegate(true);
         fieldValidator.validate(errors, fieldName, errorCode, errorArgs);
+        Instrumentation.record("rejectIfEqualsIgnoreCase", fieldName, errorCode, errors, mark, start);
     }
 
     public static void rejectIfNotEqualsIgnoreCase(String value, Errors errors, String fieldName, String errorCode, Object... errorArgs){
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "Errors object must not be null");
         EqualsValidator<String> fieldValidator = new EqualsValidator<String>(value);
         fieldValidator.setIgnoreCase(true);
         fieldValidator.validate(errors, fieldName, errorCode, errorArgs);
+        Instrumentation.record("rejectIfNotEqualsIgnoreCase", fieldName, errorCode, errors, mark, start);
     }
 
     public static <T> void rejectIfEqualsValue(T value, Errors errors, String fieldName, String errorCode, Object... errorArgs){
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "Errors object must not be null");
         EqualsValidator<T> fieldValidator = new EqualsValidator<T>(value);
         fieldValidator.setNegate(true);
         fieldValidator.validate(errors, fieldName, errorCode, errorArgs);
+        Instrumentation.record("rejectIfEqualsValue", fieldName, errorCode, errors, mark, start);
     }
 
     public static <T> void rejectIfNullOrEqualsValue(T value, Errors errors, String fieldName, String errorCode, Object... errorArgs){
-        rejectIfNull(errors, fieldName, errorCode, errorArgs);
-        if (!errors.hasFieldErrors(fieldName)) {
-            rejectIfEqualsValue(value, errors, fieldName, errorCode, errorArgs);
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
+        Assert.notNull(errors, "Errors object must not be null");
+        Object fieldValue = FieldAccessors.getRawFieldValue(errors, fieldName);
+        if (fieldValue == null) {
+            errors.rejectValue(fieldName, errorCode, errorArgs, "");
+        } else if (!errors.hasFieldErrors(fieldName)) {
+            EqualsValidator<T> fieldValidator = new EqualsValidator<T>(value);
+            fieldValidator.setNegate(true);
+            fieldValidator.validateValue(errors, fieldName, fieldValue, errorCode, errorArgs);
         }
+        Instrumentation.record("rejectIfNullOrEqualsValue", fieldName, errorCode, errors, mark, start);
     }
 
     public static <T> void rejectIfNullOrNotEqualsValue(T value, Errors errors, String fieldName, String errorCode, Object... errorArgs){
-        rejectIfNull(errors, fieldName, errorCode, errorArgs);
-        if (!errors.hasFieldErrors(fieldName)) {
-            rejectIfNotEqualsValue(value, errors, fieldName, errorCode, errorArgs);
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
+        Assert.notNull(errors, "Errors object must not be null");
+        Object fieldValue = FieldAccessors.getRawFieldValue(errors, fieldName);
+        if (fieldValue == null) {
+            errors.rejectValue(fieldName, errorCode, errorArgs, "");
+        } else if (!errors.hasFieldErrors(fieldName)) {
+            EqualsValidator<T> fieldValidator = new EqualsValidator<T>(value);
+            fieldValidator.validateValue(errors, fieldName, fieldValue, errorCode, errorArgs);
         }
+        Instrumentation.record("rejectIfNullOrNotEqualsValue", fieldName, errorCode, errors, mark, start);
     }
 
     public static <T> void rejectIfNullOrInValues(Collection<T> values, Errors errors, String fieldName, String errorCode, Object... errorArgs){
-        rejectIfNull(errors, fieldName, errorCode, errorArgs);
-        if (!errors.hasFieldErrors(fieldName)) {
-            rejectIfInValues(values, errors, fieldName, errorCode, errorArgs);
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
+        Assert.notNull(errors, "Errors object must not be null");
+        Object fieldValue = FieldAccessors.getRawFieldValue(errors, fieldName);
+        if (fieldValue == null) {
+            errors.rejectValue(fieldName, errorCode, errorArgs, "");
+        } else if (!errors.hasFieldErrors(fieldName)) {
+            rejectIfInValues(values, fieldValue, errors, fieldName, errorCode, errorArgs);
         }
+        Instrumentation.record("rejectIfNullOrInValues", fieldName, errorCode, errors, mark, start);
     }
 
     public static <T> void rejectIfInValues(Collection<T> values, Errors errors, String fieldName, String errorCode, Object... errorArgs){
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "Errors object must not be null");
-        for (T value : values) {
-            rejectIfEqualsValue(value, errors, fieldName, errorCode, errorArgs);
-            if (errors.hasFieldErrors(fieldName)){
-                return;
+        rejectIfInValues(values, FieldAccessors.getRawFieldValue(errors, fieldName), errors, fieldName, errorCode, errorArgs);
+        Instrumentation.record("rejectIfInValues", fieldName, errorCode, errors, mark, start);
+    }
+
+    private static void rejectIfInValues(Collection<?> values, Object fieldValue, Errors errors, String fieldName, String errorCode, Object... errorArgs){
+        if (containsConverted(values, fieldValue)) {
+            errors.rejectValue(fieldName, errorCode, errorArgs, "");
+        }
+    }
+
+    private static boolean containsConverted(Collection<?> values, Object fieldValue) {
+        Class<?> type = null;
+        Object converted = null;
+        for (Object value : values) {
+            if (value == null) {
+                if (fieldValue == null) {
+                    return true;
+                }
+                continue;
+            }
+            if (value.getClass() != type) {
+                type = value.getClass();
+                converted = Conversions.convert(fieldValue, type);
+            }
+            if (value.equals(converted)) {
+                return true;
             }
         }
+        return false;
     }
 
     public static void rejectIfLengthGreaterThan(int maxLength, Errors errors, String fieldName , String errorCode, Object... errorArgs) {
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "Errors object must not be null");
-        LengthValidator lengthValidator = new LengthValidator();
-        lengthValidator.setMax(maxLength);
-        lengthValidator.validate(errors, fieldName, errorCode, errorArgs);
+        lengthValidator(0, maxLength).validate(errors, fieldName, errorCode, errorArgs);
+        Instrumentation.record("rejectIfLengthGreaterThan", fieldName, errorCode, errors, mark, start);
     }
 
     public static void rejectIfLengthLessThan(int minLength, Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "Errors object must not be null");
-        LengthValidator lengthValidator = new LengthValidator();
-        lengthValidator.setMin(minLength);
-        lengthValidator.validate(errors, fieldName, errorCode, errorArgs);
+        lengthValidator(minLength, Integer.MAX_VALUE).validate(errors, fieldName, errorCode, errorArgs);
+        Instrumentation.record("rejectIfLengthLessThan", fieldName, errorCode, errors, mark, start);
     }
 
     public static void rejectIfLengthNotInRange(int minLength, int maxLength, Errors errors, String fieldName , String errorCode, Object... errorArgs) {
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "Errors object must not be null");
-        LengthValidator lengthValidator = new LengthValidator(minLength, maxLength);
-        lengthValidator.validate(errors, fieldName, errorCode, errorArgs);
+        lengthValidator(minLength, maxLength).validate(errors, fieldName, errorCode, errorArgs);
+        Instrumentation.record("rejectIfLengthNotInRange", fieldName, errorCode, errors, mark, start);
     }
 
     public static void rejectIfLengthNotEqual(int length, Errors errors, String fieldName , String errorCode, Object... errorArgs) {
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "Errors object must not be null");
-        LengthValidator lengthValidator = new LengthValidator(length, length);
-        lengthValidator.validate(errors, fieldName, errorCode, errorArgs);
+        lengthValidator(length, length).validate(errors, fieldName, errorCode, errorArgs);
+        Instrumentation.record("rejectIfLengthNotEqual", fieldName, errorCode, errors, mark, start);
     }
 
     public static void rejectIfEmpty(Errors errors, String field, String errorCode, Object... errorArgs) {
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "Errors object must not be null");
         Object value = errors.getFieldValue(field);
-        if (value == null || value.toString().length() == 0) {
+        if (value == null || TextInspection.asText(value).length() == 0) {
             errors.rejectValue(field, errorCode, errorArgs, "");
         }
+        Instrumentation.record("rejectIfEmpty", field, errorCode, errors, mark, start);
     }
 
     public static void rejectIfNull(Errors errors, String field, String errorCode, Object... errorArgs) {
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "Errors object must not be null");
-        Object value = BindingResult.class.isInstance(errors)? ((BindingResult)errors).getRawFieldValue(field) : errors.getFieldValue(field);
+        Object value = FieldAccessors.getRawFieldValue(errors, field);
         if (value == null) {
             errors.rejectValue(field, errorCode, errorArgs, "");
         }
+        Instrumentation.record("rejectIfNull", field, errorCode, errors, mark, start);
     }
     public static void rejectIfEmptyOrWhitespace(Errors errors, String field, String errorCode, Object... errorArgs) {
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
+        Assert.notNull(errors, "errors object must not be null");
+        emptyOrWhitespace(errors, field, errorCode, errorArgs);
+        Instrumentation.record("rejectIfEmptyOrWhitespace", field, errorCode, errors, mark, start);
+    }
+
+    private static void emptyOrWhitespace(Errors errors, String field, String errorCode, Object... errorArgs) {
+        Object value = errors.getFieldValue(field);
+        if (value == null || TextInspection.isBlank(TextInspection.asText(value))) {
+            errors.rejectValue(field, errorCode, errorArgs, "");
+        }
+    }
+
+    /**
+     * Like {@link #rejectIfEmptyOrWhitespace(Errors, String, String, Object...)}, also treating
+     * Unicode white space such as the no-break space as empty.
+     */
+    public static void rejectIfEmptyOrUnicodeWhitespace(Errors errors, String field, String errorCode, Object... errorArgs) {
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "errors object must not be null");
         Object value = errors.getFieldValue(field);
-        if (value == null || value.toString().trim().length() == 0) {
+        if (value == null || TextInspection.isUnicodeBlank(TextInspection.asText(value))) {
             errors.rejectValue(field, errorCode, errorArgs, "");
         }
+        Instrumentation.record("rejectIfEmptyOrUnicodeWhitespace", field, errorCode, errors, mark, start);
     }
+
     public static void rejectIfEmptyOrWhitespaceOrPlsSel(Errors errors, String field, String errorCode, Object... errorArgs) {
+        rejectIfEmptyOrWhitespaceOrPlsSel(PLEASE_SELECT_VALUES, errors, field, errorCode, errorArgs);
+    }
+
+    /**
+     * Reject a field that is empty, blank or equal to one of the given placeholder values of a
+     * select box.
+     */
+    public static void rejectIfEmptyOrWhitespaceOrPlsSel(Collection<String> pleaseSelectValues, Errors errors, String field, String errorCode, Object... errorArgs) {
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "errors object must not be null");
+        Assert.notNull(pleaseSelectValues, "pleaseSelectValues must not be null");
         Object value = errors.getFieldValue(field);
-        if (value == null || value.toString().trim().length() == 0 || value.toString().equals("PLEASE_SELECT")) {
+        CharSequence text = (value != null) ? TextInspection.asText(value) : null;
+        if (text == null || TextInspection.isBlank(text) || TextInspection.equalsAny(text, pleaseSelectValues)) {
             errors.rejectValue(field, errorCode, errorArgs, "");
         }
+        Instrumentation.record("rejectIfEmptyOrWhitespaceOrPlsSel", field, errorCode, errors, mark, start);
     }
     
     public static void rejectIfPatternValid(String pattern, Errors errors, String fieldName, String errorCode, Object... errorArgs) {
@@ -195,36 +337,70 @@ public abstract class ValidationUtils {
     }
 
     protected static void rejectIfPattern(boolean negate, String pattern, Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         Assert.notNull(errors, "errors must not be null");
         Assert.notNull(pattern, "pattern must not be null");
-        PatternValidator patternValidator = new PatternValidator(pattern);
-        patternValidator.setNegate(negate);
-        patternValidator.validate(errors, fieldName, errorCode, errorArgs);
+        patternValidator(negate, pattern).validate(errors, fieldName, errorCode, errorArgs);
+        Instrumentation.record(negate ? "rejectIfPatternValid" : "rejectIfPatternNotValid", fieldName, errorCode, errors, mark, start);
+    }
+
+    private static <T extends Comparable<T>> FieldValidator rangeValidator(T minValue, T maxValue) {
+        return (minValue != null || maxValue != null) ? Rules.range(minValue, maxValue) : new RangeValidator<T>();
+    }
+
+    private static FieldValidator lengthValidator(int minLength, int maxLength) {
+        Long key = ((long) minLength << 32) | (maxLength & 0xFFFFFFFFL);
+        FieldValidator validator = LENGTH_VALIDATORS.get(key);
+        if (validator == null) {
+            validator = new LengthValidator(minLength, maxLength);
+            if (LENGTH_VALIDATORS.size() < MAX_CACHED_VALIDATORS) {
+                LENGTH_VALIDATORS.putIfAbsent(key, validator);
+            }
+        }
+        return validator;
+    }
+
+    private static FieldValidator patternValidator(boolean negate, String pattern) {
+        ConcurrentMap<String, FieldValidator> cache = negate ? NEGATED_PATTERN_VALIDATORS : PATTERN_VALIDATORS;
+        FieldValidator validator = cache.get(pattern);
+        if (validator == null) {
+            PatternValidator patternValidator = new PatternValidator(pattern);
+            patternValidator.setNegate(negate);
+            validator = patternValidator;
+            if (cache.size() < MAX_CACHED_VALIDATORS) {
+                cache.putIfAbsent(pattern, validator);
+            }
+        }
+        return validator;
     }
 
     public static void rejectIfFalse(boolean expression, Errors errors, String fieldName, String errorCode, Object... errorArgs) {
-        rejectIfTrue(! expression, errors, fieldName, errorCode, errorArgs);
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
+        if(!expression) {
+            errors.rejectValue(fieldName, errorCode, errorArgs, "");
+        }
+        Instrumentation.record("rejectIfFalse", fieldName, errorCode, errors, mark, start);
     }
 
     public static void rejectIfTrue(boolean expression, Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
         if(expression) {
             errors.rejectValue(fieldName, errorCode, errorArgs, "");
         }
+        Instrumentation.record("rejectIfTrue", fieldName, errorCode, errors, mark, start);
     }
 
     public static void rejectIfNotValidInteger(Errors errors, String field, String errorCode, Object... errorArgs) {
-        rejectIfEmptyOrWhitespace(errors, field, errorCode, errorArgs); 
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
+        emptyOrWhitespace(errors, field, errorCode, errorArgs);
         if (!errors.hasFieldErrors(field)) {
-            try {
-                RangeValidator<Integer> fieldValidator = new RangeValidator<Integer>();
-                fieldValidator.setMinValue(Integer.MIN_VALUE);
-                fieldValidator.setMaxValue(Integer.MAX_VALUE);
-                fieldValidator.validate(errors, field, errorCode, errorArgs);
-            }
-            catch (Exception e) {
-                errors.rejectValue(field, errorCode, errorArgs, "");
-            }
+            INTEGER_RANGE.validate(errors, field, errorCode, errorArgs);
         }
+        Instrumentation.record("rejectIfNotValidInteger", field, errorCode, errors, mark, start);
     }
     
     public static void rejectIfNotValidDate(Errors errors, String field, String errorCode, Object... errorArgs) {
@@ -232,14 +408,17 @@ public abstract class ValidationUtils {
     }
     
     public static void rejectIfNotValidDate(Errors errors, String datePattern, String field, String errorCode, Object... errorArgs) {
-        rejectIfEmptyOrWhitespace(errors, field, errorCode, errorArgs);
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
+        emptyOrWhitespace(errors, field, errorCode, errorArgs);
         if (!errors.hasFieldErrors(field)) {
             Object fieldValue = errors.getFieldValue(field);
-            Date parsedDate = parseDate(fieldValue, datePattern);
+            LocalDateTime parsedDate = parseDate(fieldValue, datePattern);
             if (parsedDate == null) {
                 errors.rejectValue(field, errorCode, errorArgs, "");
             }
         }
+        Instrumentation.record("rejectIfNotValidDate", field, errorCode, errors, mark, start);
     }
 
     public static void rejectIfDateBefore(Date date, Errors errors, String field, String errorCode, Object... errorArgs) {
@@ -247,18 +426,21 @@ public abstract class ValidationUtils {
     }
     
     public static void rejectIfDateBefore(Date date, String datePattern, Errors errors, String field, String errorCode, Object... errorArgs) {
-        rejectIfEmptyOrWhitespace(errors, field, errorCode, errorArgs);
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
+        emptyOrWhitespace(errors, field, errorCode, errorArgs);
         if (date == null) {
             errors.rejectValue(field, errorCode, errorArgs, "compare date is null");
         }
         if (!errors.hasFieldErrors(field)) {
             Object fieldValue = errors.getFieldValue(field);
             
-            Date parsedDate = parseDate(fieldValue, datePattern);
-            if (parsedDate == null || parsedDate.before(date)) {
+            LocalDateTime parsedDate = parseDate(fieldValue, datePattern);
+            if (parsedDate == null || parsedDate.isBefore(toLocalDateTime(date))) {
                 errors.rejectValue(field, errorCode, errorArgs, "");
             }
         }
+        Instrumentation.record("rejectIfDateBefore", field, errorCode, errors, mark, start);
     }
     
     public static void rejectIfDateNotBefore(Date date, Errors errors, String field, String errorCode, Object... errorArgs) {
@@ -266,27 +448,32 @@ public abstract class ValidationUtils {
     }
     
     public static void rejectIfDateNotBefore(Date date, String datePattern, Errors errors, String field, String errorCode, Object... errorArgs) {
-        rejectIfEmptyOrWhitespace(errors, field, errorCode, errorArgs);
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
+        emptyOrWhitespace(errors, field, errorCode, errorArgs);
         if (date == null) {
             errors.rejectValue(field, errorCode, errorArgs, "compare date is null");
         }
         if (!errors.hasFieldErrors(field)) {
             Object fieldValue = errors.getFieldValue(field);
-            Date parsedDate = parseDate(fieldValue, datePattern);
-            if (parsedDate == null || !parsedDate.before(date)) {
+            LocalDateTime parsedDate = parseDate(fieldValue, datePattern);
+            if (parsedDate == null || !parsedDate.isBefore(toLocalDateTime(date))) {
                 errors.rejectValue(field, errorCode, errorArgs, "");
             }
         }
+        Instrumentation.record("rejectIfDateNotBefore", field, errorCode, errors, mark, start);
     }
 
-	private static Date parseDate(Object fieldValue, String datePattern)  {
-		Date parsedDate;
-		try {
-			parsedDate = DateUtils.parseDate(fieldValue.toString(), datePattern);
-		} catch (ParseException e) {
+	private static LocalDateTime parseDate(Object fieldValue, String datePattern)  {
+		if (fieldValue == null) {
 			return null;
 		}
-		return parsedDate;
+		CharSequence text = (fieldValue instanceof CharSequence) ? (CharSequence) fieldValue : fieldValue.toString();
+		return DateParsing.parse(text, datePattern);
+	}
+
+	private static LocalDateTime toLocalDateTime(Date date)  {
+		return DateParsing.toLocalDateTime(date, ZoneId.systemDefault());
 	}
 
 	public static void rejectIfDateAfter(Date date, Errors errors, String field, String errorCode, Object... errorArgs) {
@@ -294,17 +481,60 @@ public abstract class ValidationUtils {
 	}
 	
     public static void rejectIfDateAfter(Date date, String datePattern, Errors errors, String field, String errorCode, Object... errorArgs) {
-        rejectIfEmptyOrWhitespace(errors, field, errorCode, errorArgs);
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
+        emptyOrWhitespace(errors, field, errorCode, errorArgs);
         if (date == null) {
             errors.rejectValue(field, errorCode, errorArgs, "compare date is null");
         }
         if (!errors.hasFieldErrors(field)) {
             Object fieldValue = errors.getFieldValue(field);
-            Date parsedDate = parseDate(fieldValue, datePattern);
-            if (parsedDate == null || parsedDate.after(date)) {
+            LocalDateTime parsedDate = parseDate(fieldValue, datePattern);
+            if (parsedDate == null || parsedDate.isAfter(toLocalDateTime(date))) {
                 errors.rejectValue(field, errorCode, errorArgs, "");
             }
         }
+        Instrumentation.record("rejectIfDateAfter", field, errorCode, errors, mark, start);
+    }
+
+    /**
+     * Reject the date field if it is before the date in another field. Nothing is compared while
+     * either field is empty; an unparseable field is rejected.
+     */
+    public static void rejectIfDateBeforeField(String otherField, String datePattern, Errors errors, String field, String errorCode, Object... errorArgs) {
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
+        Assert.notNull(errors, "Errors object must not be null");
+        Rules.compareDateTo(Comparison.GREATER_OR_EQUAL, otherField, datePattern).validate(errors, field, errorCode, errorArgs);
+        Instrumentation.record("rejectIfDateBeforeField", field, errorCode, errors, mark, start);
+    }
+
+    public static void rejectIfDateAfterField(String otherField, String datePattern, Errors errors, String field, String errorCode, Object... errorArgs) {
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
+        Assert.notNull(errors, "Errors object must not be null");
+        Rules.compareDateTo(Comparison.LESS_OR_EQUAL, otherField, datePattern).validate(errors, field, errorCode, errorArgs);
+        Instrumentation.record("rejectIfDateAfterField", field, errorCode, errors, mark, start);
+    }
+
+    public static void rejectIfNotEqualsField(String otherField, Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
+        Assert.notNull(errors, "Errors object must not be null");
+        Rules.sameAs(otherField).validate(errors, fieldName, errorCode, errorArgs);
+        Instrumentation.record("rejectIfNotEqualsField", fieldName, errorCode, errors, mark, start);
+    }
+
+    /**
+     * Reject the field if it is empty or blank while another field has one of the given values.
+     */
+    public static void rejectIfEmptyAndFieldInValues(String otherField, Collection<?> values, Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+        int mark = Instrumentation.mark(errors);
+        long start = Instrumentation.start(mark);
+        Assert.notNull(errors, "Errors object must not be null");
+        Assert.notEmpty(values, "values must not be empty");
+        Rules.requiredIf(otherField, values.toArray()).validate(errors, fieldName, errorCode, errorArgs);
+        Instrumentation.record("rejectIfEmptyAndFieldInValues", fieldName, errorCode, errors, mark, start);
     }
 
     public static boolean skipFieldValidation(String checkField, String[] skipFieldValidation) {
@@ -319,4 +549,13 @@ public abstract class ValidationUtils {
 
         return false;
     }
+
+    /**
+     * Same as {@link #skipFieldValidation(String, String[])} with the skipped fields resolved once
+     * into a mask, for instance {@link ValidationGroups#getSkipMask(String)}, so that each check
+     * is a hash lookup and a bit test instead of a scan.
+     */
+    public static boolean skipFieldValidation(String checkField, FieldMask skipFieldValidation) {
+        return StringUtils.isNotEmpty(checkField) && skipFieldValidation != null && skipFieldValidation.contains(checkField);
+    }
 }
\ No newline at end of file
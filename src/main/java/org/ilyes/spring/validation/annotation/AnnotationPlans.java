@@ -0,0 +1,142 @@
+package org.ilyes.spring.validation.annotation;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ilyes.spring.validation.ValidationPlan;
+import org.ilyes.spring.validation.support.Conversions;
+import org.ilyes.spring.validation.validator.DateRangeValidator;
+import org.ilyes.spring.validation.validator.EqualsValidator;
+import org.ilyes.spring.validation.validator.FieldValidator;
+import org.ilyes.spring.validation.validator.LengthValidator;
+import org.ilyes.spring.validation.validator.MembershipValidator;
+import org.ilyes.spring.validation.validator.PatternValidator;
+import org.ilyes.spring.validation.validator.Rules;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Builds a {@link ValidationPlan} from the constraint annotations declared on the fields of a
+ * bean type. Annotations are read once per type; validators, converted bounds and generated
+ * field accessors are created at that point, so validating an instance performs no reflection.
+ * Fields are validated superclass first, in declaration order; the constraints of one field run
+ * in the order {@link Length}, {@link Range}, {@link Pattern}, {@link EqualsValue},
+ * {@link InValues}, {@link ValidDate}.
+ */
+public abstract class AnnotationPlans {
+
+	private static final ClassValue<ValidationPlan<?>> PLANS = new ClassValue<ValidationPlan<?>>() {
+		@Override
+		protected ValidationPlan<?> computeValue(Class<?> type) {
+			return createPlan(type);
+		}
+	};
+
+	@SuppressWarnings("unchecked")
+	public static <T> ValidationPlan<T> forType(Class<T> type) {
+		Assert.notNull(type, "type must not be null");
+		return (ValidationPlan<T>) PLANS.get(type);
+	}
+
+	public static boolean isAnnotated(Class<?> type) {
+		return !constrainedFields(type).isEmpty();
+	}
+
+	private static <T> ValidationPlan<T> createPlan(Class<T> type) {
+		ValidationPlan.Builder<T> builder = ValidationPlan.forType(type);
+		for (Field field : constrainedFields(type)) {
+			builder.field(field.getName());
+			addRules(builder, field);
+		}
+		return builder.build();
+	}
+
+	private static List<Field> constrainedFields(Class<?> type) {
+		List<Field> fields = new ArrayList<Field>();
+		if (type.getSuperclass() != null && type.getSuperclass() != Object.class) {
+			fields.addAll(constrainedFields(type.getSuperclass()));
+		}
+		for (Field field : type.getDeclaredFields()) {
+			if (!Modifier.isStatic(field.getModifiers()) && isConstrained(field)) {
+				fields.add(field);
+			}
+		}
+		return fields;
+	}
+
+	private static boolean isConstrained(Field field) {
+		return field.isAnnotationPresent(Length.class) || field.isAnnotationPresent(Range.class)
+				|| field.isAnnotationPresent(Pattern.class) || field.isAnnotationPresent(EqualsValue.class)
+				|| field.isAnnotationPresent(InValues.class) || field.isAnnotationPresent(ValidDate.class);
+	}
+
+	private static void addRules(ValidationPlan.Builder<?> builder, Field field) {
+		Length length = field.getAnnotation(Length.class);
+		if (length != null) {
+			builder.rule(new LengthValidator(length.min(), length.max(), length.mode()), errorCode(length.errorCode()));
+		}
+		Range range = field.getAnnotation(Range.class);
+		if (range != null) {
+			builder.rule(rangeValidator(field, range), errorCode(range.errorCode()));
+		}
+		Pattern pattern = field.getAnnotation(Pattern.class);
+		if (pattern != null) {
+			PatternValidator validator = new PatternValidator(pattern.value());
+			validator.setNegate(pattern.negate());
+			validator.compile();
+			builder.rule(validator, errorCode(pattern.errorCode()));
+		}
+		EqualsValue equalsValue = field.getAnnotation(EqualsValue.class);
+		if (equalsValue != null) {
+			EqualsValidator<Object> validator = new EqualsValidator<Object>(toFieldType(field, equalsValue.value()));
+			validator.setIgnoreCase(equalsValue.ignoreCase());
+			validator.setNegate(equalsValue.negate());
+			builder.rule(validator, errorCode(equalsValue.errorCode()));
+		}
+		InValues inValues = field.getAnnotation(InValues.class);
+		if (inValues != null) {
+			List<Object> values = new ArrayList<Object>(inValues.value().length);
+			for (String value : inValues.value()) {
+				values.add(toFieldType(field, value));
+			}
+			MembershipValidator validator = new MembershipValidator(values, inValues.ignoreCase());
+			validator.setNegate(inValues.negate());
+			builder.rule(validator, errorCode(inValues.errorCode()));
+		}
+		ValidDate validDate = field.getAnnotation(ValidDate.class);
+		if (validDate != null) {
+			FieldValidator validator = new DateRangeValidator(validDate.pattern());
+			builder.rule(validator, errorCode(validDate.errorCode()));
+		}
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static FieldValidator rangeValidator(Field field, Range range) {
+		Class<?> boundType = (range.type() != Comparable.class) ? range.type() : ClassUtils.resolvePrimitiveIfNecessary(field.getType());
+		if (!Comparable.class.isAssignableFrom(boundType)) {
+			throw new IllegalStateException("@Range on " + field + " requires a Comparable type");
+		}
+		Comparable min = (range.min().length() > 0) ? (Comparable) convert(field, range.min(), boundType) : null;
+		Comparable max = (range.max().length() > 0) ? (Comparable) convert(field, range.max(), boundType) : null;
+		return Rules.range(min, max);
+	}
+
+	private static Object toFieldType(Field field, String value) {
+		Class<?> fieldType = ClassUtils.resolvePrimitiveIfNecessary(field.getType());
+		return (fieldType == Object.class || CharSequence.class.isAssignableFrom(fieldType)) ? value : convert(field, value, fieldType);
+	}
+
+	private static Object convert(Field field, String value, Class<?> type) {
+		Object converted = Conversions.convert(value, type);
+		if (Conversions.isFailed(converted)) {
+			throw new IllegalStateException("Cannot convert '" + value + "' to " + type.getName() + " for " + field);
+		}
+		return converted;
+	}
+
+	private static String errorCode(String errorCode) {
+		return (errorCode.length() > 0) ? errorCode : null;
+	}
+}
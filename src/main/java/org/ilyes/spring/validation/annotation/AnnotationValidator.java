@@ -0,0 +1,53 @@
+package org.ilyes.spring.validation.annotation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.ilyes.spring.validation.ValidationPlan;
+import org.springframework.util.Assert;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * Spring {@link Validator} running the annotation-driven {@link ValidationPlan} of each
+ * registered type. Plans are built in the constructor, so invalid constraints fail at startup
+ * rather than on the first request.
+ */
+public class AnnotationValidator implements Validator {
+
+	private final Map<Class<?>, ValidationPlan<?>> plans = new LinkedHashMap<Class<?>, ValidationPlan<?>>();
+
+	public AnnotationValidator(Class<?>... types) {
+		Assert.notEmpty(types, "types must not be empty");
+		for (Class<?> type : types) {
+			Assert.isTrue(AnnotationPlans.isAnnotated(type), "No constraint annotations found on " + type.getName());
+			plans.put(type, AnnotationPlans.forType(type));
+		}
+	}
+
+	@Override
+	public boolean supports(Class<?> clazz) {
+		return plan(clazz) != null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void validate(Object target, Errors errors) {
+		Assert.notNull(target, "target must not be null");
+		ValidationPlan<Object> plan = (ValidationPlan<Object>) plan(target.getClass());
+		Assert.notNull(plan, "Unsupported type " + target.getClass().getName());
+		plan.validate(target, errors);
+	}
+
+	private ValidationPlan<?> plan(Class<?> clazz) {
+		ValidationPlan<?> plan = plans.get(clazz);
+		if (plan == null) {
+			for (Map.Entry<Class<?>, ValidationPlan<?>> entry : plans.entrySet()) {
+				if (entry.getKey().isAssignableFrom(clazz)) {
+					return entry.getValue();
+				}
+			}
+		}
+		return plan;
+	}
+}
@@ -0,0 +1,25 @@
+package org.ilyes.spring.validation.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Field constraint backed by {@link org.ilyes.spring.validation.validator.EqualsValidator}. The value is
+ * converted to the field type once, when the plan is built.
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface EqualsValue {
+
+	String value();
+
+	boolean ignoreCase() default false;
+
+	boolean negate() default false;
+
+	String errorCode() default "";
+}
@@ -0,0 +1,26 @@
+package org.ilyes.spring.validation.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.ilyes.spring.validation.support.TextInspection.LengthMode;
+
+/**
+ * Field constraint backed by {@link org.ilyes.spring.validation.validator.LengthValidator}.
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Length {
+
+	int min() default 0;
+
+	int max() default Integer.MAX_VALUE;
+
+	LengthMode mode() default LengthMode.CHARS;
+
+	String errorCode() default "";
+}
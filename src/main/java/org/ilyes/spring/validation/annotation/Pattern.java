@@ -0,0 +1,22 @@
+package org.ilyes.spring.validation.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Field constraint backed by {@link org.ilyes.spring.validation.validator.PatternValidator}.
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Pattern {
+
+	String value();
+
+	boolean negate() default false;
+
+	String errorCode() default "";
+}
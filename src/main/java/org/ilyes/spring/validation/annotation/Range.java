@@ -0,0 +1,27 @@
+package org.ilyes.spring.validation.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Field constraint backed by {@link org.ilyes.spring.validation.validator.Rules#range}. The bounds are
+ * converted to the field type once, when the plan is built; an empty bound is open. Text fields need an explicit
+ * {@link #type()} to be compared numerically.
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Range {
+
+	String min() default "";
+
+	String max() default "";
+
+	@SuppressWarnings("rawtypes")
+	Class<? extends Comparable> type() default Comparable.class;
+
+	String errorCode() default "";
+}
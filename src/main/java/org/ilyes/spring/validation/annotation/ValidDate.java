@@ -0,0 +1,21 @@
+package org.ilyes.spring.validation.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Field constraint backed by {@link org.ilyes.spring.validation.validator.DateRangeValidator}: the text must
+ * parse with the given pattern.
+ */
+@Documented
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidDate {
+
+	String pattern() default "dd.MM.yyyy";
+
+	String errorCode() default "";
+}
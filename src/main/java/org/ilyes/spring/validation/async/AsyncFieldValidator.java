@@ -0,0 +1,20 @@
+package org.ilyes.spring.validation.async;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Field check whose result is not available immediately. Implementations must be thread-safe:
+ * the same instance serves concurrent requests.
+ */
+public interface AsyncFieldValidator {
+
+	/**
+	 * @return a future completing with whether the value is valid
+	 */
+	CompletableFuture<Boolean> isValid(Object fieldValue);
+
+	/**
+	 * Error code used when the rule does not specify one.
+	 */
+	String getDefaultErrorCode();
+}
@@ -0,0 +1,26 @@
+package org.ilyes.spring.validation.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+import org.springframework.util.Assert;
+
+/**
+ * Non-blocking lookup of a value in an external source, such as a database table of valid codes.
+ */
+@FunctionalInterface
+public interface AsyncLookup {
+
+	CompletableFuture<Boolean> contains(Object value);
+
+	/**
+	 * Adapt a blocking lookup by running every call on the given executor, for instance a
+	 * virtual-thread-per-task executor on newer runtimes.
+	 */
+	static AsyncLookup blocking(Predicate<Object> lookup, Executor executor) {
+		Assert.notNull(lookup, "lookup must not be null");
+		Assert.notNull(executor, "executor must not be null");
+		return value -> CompletableFuture.supplyAsync(() -> lookup.test(value), executor);
+	}
+}
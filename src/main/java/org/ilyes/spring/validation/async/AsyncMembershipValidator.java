@@ -0,0 +1,85 @@
+package org.ilyes.spring.validation.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+import org.ilyes.spring.validation.validator.MembershipValidator;
+import org.springframework.util.Assert;
+
+/**
+ * Checks a field against an {@link AsyncLookup}, the asynchronous counterpart of
+ * {@link MembershipValidator}. Concurrent checks of the same value share one lookup: the first
+ * caller starts it and later callers attach to it until it completes. Results are not cached
+ * beyond that; text values are looked up by their {@code String} form and {@code null} is never
+ * a member.
+ */
+public class AsyncMembershipValidator implements AsyncFieldValidator {
+
+	private final AsyncLookup lookup;
+	private final ConcurrentMap<Object, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<Object, CompletableFuture<Boolean>>();
+	private boolean negate;
+
+	public AsyncMembershipValidator(AsyncLookup lookup) {
+		Assert.notNull(lookup, "lookup must not be null");
+		this.lookup = lookup;
+	}
+
+	public AsyncMembershipValidator(Predicate<Object> lookup, Executor executor) {
+		this(AsyncLookup.blocking(lookup, executor));
+	}
+
+	public void setNegate(boolean negate) {
+		this.negate = negate;
+	}
+
+	@Override
+	public CompletableFuture<Boolean> isValid(Object fieldValue) {
+		CompletableFuture<Boolean> member = (fieldValue != null) ? contains(fieldValue) : CompletableFuture.completedFuture(Boolean.FALSE);
+		return member.thenApply(found -> found != negate);
+	}
+
+	@Override
+	public String getDefaultErrorCode() {
+		return negate ? MembershipValidator.ERROR_VALUE_FORBIDDEN : MembershipValidator.ERROR_VALUE_NOT_ALLOWED;
+	}
+
+	/**
+	 * @return the number of distinct lookups currently running
+	 */
+	public int getInFlightCount() {
+		return inFlight.size();
+	}
+
+	private CompletableFuture<Boolean> contains(Object fieldValue) {
+		Object key = (fieldValue instanceof CharSequence) ? fieldValue.toString() : fieldValue;
+		CompletableFuture<Boolean> pending = inFlight.get(key);
+		if (pending != null) {
+			return pending;
+		}
+		CompletableFuture<Boolean> shared = new CompletableFuture<Boolean>();
+		pending = inFlight.putIfAbsent(key, shared);
+		if (pending != null) {
+			return pending;
+		}
+		CompletableFuture<Boolean> result;
+		try {
+			result = lookup.contains(key);
+		} catch (RuntimeException ex) {
+			inFlight.remove(key, shared);
+			shared.completeExceptionally(ex);
+			return shared;
+		}
+		result.whenComplete((found, ex) -> {
+			inFlight.remove(key, shared);
+			if (ex != null) {
+				shared.completeExceptionally(ex);
+			} else {
+				shared.complete(Boolean.TRUE.equals(found));
+			}
+		});
+		return shared;
+	}
+}
@@ -0,0 +1,149 @@
+package org.ilyes.spring.validation.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.ilyes.spring.validation.ValidationPlan;
+import org.ilyes.spring.validation.support.FieldAccessor;
+import org.ilyes.spring.validation.support.FieldAccessors;
+import org.springframework.util.Assert;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+/**
+ * Validates a target with a {@link ValidationPlan} and a set of {@link AsyncFieldValidator}s
+ * without blocking the caller. The plan runs inline first; asynchronous rules then start for the
+ * fields it accepted, all at once, and their results are written to the {@link Errors} in
+ * declaration order when the last one completed. The {@link Errors} must not be used before the
+ * returned future completed. With {@link #setTimeout(long, TimeUnit)} a rule still running when
+ * the time is up rejects its field with {@link #ERROR_TIMEOUT}; a lookup failure fails the whole
+ * future.
+ * <p>Reactive callers adapt the result with their library, e.g. {@code Mono.fromFuture(...)}.
+ */
+public class AsyncValidator<T> {
+
+	public static final String ERROR_TIMEOUT = "error.validation.timeout";
+
+	private final ValidationPlan<T> plan;
+	private final List<AsyncRule> rules = new ArrayList<AsyncRule>();
+	private long timeoutNanos;
+	private String objectName = "target";
+
+	public AsyncValidator(ValidationPlan<T> plan) {
+		Assert.notNull(plan, "plan must not be null");
+		this.plan = plan;
+	}
+
+	public AsyncValidator<T> rule(String fieldName, AsyncFieldValidator validator) {
+		return rule(fieldName, validator, null);
+	}
+
+	public AsyncValidator<T> rule(String fieldName, AsyncFieldValidator validator, String errorCode, Object... errorArgs) {
+		Assert.hasLength(fieldName, "fieldName must not be empty");
+		Assert.notNull(validator, "validator must not be null");
+		String errCode = (errorCode != null && errorCode.length() > 0) ? errorCode : validator.getDefaultErrorCode();
+		rules.add(new AsyncRule(FieldAccessors.forProperty(plan.getType(), fieldName), validator, errCode, errorArgs));
+		return this;
+	}
+
+	/**
+	 * Maximum time the asynchronous rules of one call may take; no limit by default.
+	 */
+	public void setTimeout(long timeout, TimeUnit unit) {
+		Assert.isTrue(timeout > 0, "timeout must be positive");
+		Assert.notNull(unit, "unit must not be null");
+		this.timeoutNanos = unit.toNanos(timeout);
+	}
+
+	public void setObjectName(String objectName) {
+		Assert.hasLength(objectName, "objectName must not be empty");
+		this.objectName = objectName;
+	}
+
+	public CompletableFuture<Errors> validate(T target) {
+		Assert.notNull(target, "target must not be null");
+		return validate(target, new BeanPropertyBindingResult(target, objectName));
+	}
+
+	public CompletableFuture<Errors> validate(T target, Errors errors) {
+		plan.validate(target, errors);
+		List<AsyncRule> started = new ArrayList<AsyncRule>(rules.size());
+		List<CompletableFuture<Boolean>> results = new ArrayList<CompletableFuture<Boolean>>(rules.size());
+		for (AsyncRule rule : rules) {
+			String fieldName = rule.accessor.getPropertyPath();
+			if (errors.hasFieldErrors(fieldName)) {
+				continue;
+			}
+			CompletableFuture<Boolean> result = rule.validator.isValid(rule.accessor.getValue(target));
+			started.add(rule);
+			results.add((timeoutNanos > 0) ? withTimeout(result) : result);
+		}
+		if (results.isEmpty()) {
+			return CompletableFuture.completedFuture(errors);
+		}
+		return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[results.size()])).thenApply(done -> {
+			for (int i = 0; i < results.size(); i++) {
+				AsyncRule rule = started.get(i);
+				Boolean valid = results.get(i).join();
+				if (valid == null) {
+					errors.rejectValue(rule.accessor.getPropertyPath(), ERROR_TIMEOUT, rule.errorArgs, "");
+				} else if (!valid) {
+					errors.rejectValue(rule.accessor.getPropertyPath(), rule.errorCode, rule.errorArgs, "");
+				}
+			}
+			return errors;
+		});
+	}
+
+	/**
+	 * @return a future completing like the given one, or with {@code null} once the timeout elapsed
+	 */
+	private CompletableFuture<Boolean> withTimeout(CompletableFuture<Boolean> result) {
+		if (result.isDone()) {
+			return result;
+		}
+		CompletableFuture<Boolean> limited = new CompletableFuture<Boolean>();
+		ScheduledFuture<?> timeout = Timeouts.SCHEDULER.schedule(() -> limited.complete(null), timeoutNanos, TimeUnit.NANOSECONDS);
+		result.whenComplete((valid, ex) -> {
+			timeout.cancel(false);
+			if (ex != null) {
+				limited.completeExceptionally(ex);
+			} else {
+				limited.complete(valid);
+			}
+		});
+		return limited;
+	}
+
+	private static final class AsyncRule {
+
+		final FieldAccessor accessor;
+		final AsyncFieldValidator validator;
+		final String errorCode;
+		final Object[] errorArgs;
+
+		AsyncRule(FieldAccessor accessor, AsyncFieldValidator validator, String errorCode, Object[] errorArgs) {
+			this.accessor = accessor;
+			this.validator = validator;
+			this.errorCode = errorCode;
+			this.errorArgs = errorArgs;
+		}
+	}
+
+	private static final class Timeouts {
+
+		static final ScheduledThreadPoolExecutor SCHEDULER = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "validation-timeouts");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		static {
+			SCHEDULER.setRemoveOnCancelPolicy(true);
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package org.ilyes.spring.validation.column;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * Named columns of one batch of rows: {@code int[]}, {@code long[]}, {@code double[]} or
+ * {@link StringColumn}. Arrays may be longer than the row count, so that buffers can be reused
+ * across batches.
+ */
+public final class ColumnBatch {
+
+	private final int rowCount;
+	private final Map<String, Object> columns = new LinkedHashMap<String, Object>();
+
+	public ColumnBatch(int rowCount) {
+		Assert.isTrue(rowCount >= 0, "rowCount must not be negative");
+		this.rowCount = rowCount;
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public ColumnBatch add(String name, int[] values) {
+		Assert.notNull(values, "values must not be null");
+		return put(name, values, values.length);
+	}
+
+	public ColumnBatch add(String name, long[] values) {
+		Assert.notNull(values, "values must not be null");
+		return put(name, values, values.length);
+	}
+
+	public ColumnBatch add(String name, double[] values) {
+		Assert.notNull(values, "values must not be null");
+		return put(name, values, values.length);
+	}
+
+	public ColumnBatch add(String name, StringColumn values) {
+		Assert.notNull(values, "values must not be null");
+		return put(name, values, values.size());
+	}
+
+	Object getColumn(String name) {
+		Object column = columns.get(name);
+		if (column == null) {
+			throw new IllegalArgumentException("Unknown column '" + name + "'");
+		}
+		return column;
+	}
+
+	private ColumnBatch put(String name, Object column, int size) {
+		Assert.hasLength(name, "name must not be empty");
+		Assert.isTrue(size >= rowCount, "Column '" + name + "' has fewer than " + rowCount + " rows");
+		columns.put(name, column);
+		return this;
+	}
+}
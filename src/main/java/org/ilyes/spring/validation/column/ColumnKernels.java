@@ -0,0 +1,109 @@
+package org.ilyes.spring.validation.column;
+
+/**
+ * Scalar loops setting the bit of every failing row in a bitmap. Each block of 64 rows is
+ * checked by a counted loop without branches or calls, comparing bounds with a single unsigned
+ * comparison, and its bits are stored with one write.
+ */
+final class ColumnKernels {
+
+	private ColumnKernels() {
+	}
+
+	static void all(int rows, long[] failures) {
+		for (int base = 0; base < rows; base += 64) {
+			int tail = Math.min(64, rows - base);
+			failures[base >>> 6] = (tail == 64) ? -1L : (1L << tail) - 1;
+		}
+	}
+
+	/**
+	 * Rows outside {@code [min, max]}: {@code value - min} compared unsigned with
+	 * {@code max - min} covers both bounds at once.
+	 */
+	static void intRange(int[] values, int rows, int min, int max, long[] failures) {
+		int span = (max - min) ^ Integer.MIN_VALUE;
+		for (int base = 0; base < rows; base += 64) {
+			int end = Math.min(base + 64, rows);
+			long word = 0;
+			for (int i = base; i < end; i++) {
+				word |= (((values[i] - min) ^ Integer.MIN_VALUE) > span ? 1L : 0L) << i;
+			}
+			failures[base >>> 6] |= word;
+		}
+	}
+
+	static void longRange(long[] values, int rows, long min, long max, long[] failures) {
+		long span = (max - min) ^ Long.MIN_VALUE;
+		for (int base = 0; base < rows; base += 64) {
+			int end = Math.min(base + 64, rows);
+			long word = 0;
+			for (int i = base; i < end; i++) {
+				word |= (((values[i] - min) ^ Long.MIN_VALUE) > span ? 1L : 0L) << i;
+			}
+			failures[base >>> 6] |= word;
+		}
+	}
+
+	/**
+	 * {@code NaN} fails, as it does with {@code DoubleRangeValidator}.
+	 */
+	static void doubleRange(double[] values, int rows, double min, double max, long[] failures) {
+		for (int base = 0; base < rows; base += 64) {
+			int end = Math.min(base + 64, rows);
+			long word = 0;
+			for (int i = base; i < end; i++) {
+				double value = values[i];
+				word |= ((value >= min & value <= max) ? 0L : 1L) << i;
+			}
+			failures[base >>> 6] |= word;
+		}
+	}
+
+	static void intNotEqual(int[] values, int rows, int expected, long[] failures) {
+		for (int base = 0; base < rows; base += 64) {
+			int end = Math.min(base + 64, rows);
+			long word = 0;
+			for (int i = base; i < end; i++) {
+				word |= (values[i] != expected ? 1L : 0L) << i;
+			}
+			failures[base >>> 6] |= word;
+		}
+	}
+
+	static void longNotEqual(long[] values, int rows, long expected, long[] failures) {
+		for (int base = 0; base < rows; base += 64) {
+			int end = Math.min(base + 64, rows);
+			long word = 0;
+			for (int i = base; i < end; i++) {
+				word |= (values[i] != expected ? 1L : 0L) << i;
+			}
+			failures[base >>> 6] |= word;
+		}
+	}
+
+	/**
+	 * Only rows whose length matches are compared char by char.
+	 */
+	static void textNotEqual(StringColumn column, int rows, char[] expected, long[] failures) {
+		int[] lengths = column.lengths();
+		int length = expected.length;
+		for (int base = 0; base < rows; base += 64) {
+			int end = Math.min(base + 64, rows);
+			long candidates = 0;
+			for (int i = base; i < end; i++) {
+				candidates |= (lengths[i] == length ? 1L : 0L) << i;
+			}
+			long word = ~candidates;
+			while (candidates != 0) {
+				int row = base + Long.numberOfTrailingZeros(candidates);
+				candidates &= candidates - 1;
+				if (!column.contentEquals(row, expected)) {
+					word |= 1L << row;
+				}
+			}
+			int tail = end - base;
+			failures[base >>> 6] |= (tail == 64) ? word : word & ((1L << tail) - 1);
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package org.ilyes.spring.validation.column;
+
+import org.ilyes.spring.validation.column.ColumnValidator.ColumnRule;
+import org.springframework.util.Assert;
+import org.springframework.validation.Errors;
+
+/**
+ * Outcome of a {@link ColumnValidator} run: one bitmap of failing rows per rule and their union.
+ * Rows are materialized into {@link Errors} only when asked for, one failing row at a time.
+ */
+public final class ColumnValidationResult {
+
+	private final ColumnBatch batch;
+	private final ColumnRule[] rules;
+	private final RowBitmap[] ruleFailures;
+	private final RowBitmap failedRows;
+
+	ColumnValidationResult(ColumnBatch batch, ColumnRule[] rules, RowBitmap[] ruleFailures, RowBitmap failedRows) {
+		this.batch = batch;
+		this.rules = rules;
+		this.ruleFailures = ruleFailures;
+		this.failedRows = failedRows;
+	}
+
+	public int getRowCount() {
+		return batch.getRowCount();
+	}
+
+	public boolean hasFailures() {
+		return !failedRows.isEmpty();
+	}
+
+	/**
+	 * @return the rows failing at least one rule; iterate with {@link RowBitmap#nextSetBit(int)}
+	 */
+	public RowBitmap getFailedRows() {
+		return failedRows;
+	}
+
+	/**
+	 * @return the rows failing the rule at the given position, in declaration order
+	 */
+	public RowBitmap getRuleFailures(int ruleIndex) {
+		return ruleFailures[ruleIndex];
+	}
+
+	public boolean isValid(int row) {
+		return !failedRows.get(row);
+	}
+
+	/**
+	 * Reject in the given {@link Errors} every rule failed by the row, in declaration order.
+	 */
+	public void rejectRow(int row, Errors errors) {
+		Assert.notNull(errors, "Errors object must not be null");
+		if (!failedRows.get(row)) {
+			return;
+		}
+		for (int i = 0; i < rules.length; i++) {
+			if (ruleFailures[i].get(row)) {
+				rules[i].reject(batch.getColumn(rules[i].column), row, errors);
+			}
+		}
+	}
+}
@@ -0,0 +1,241 @@
+package org.ilyes.spring.validation.column;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ilyes.spring.validation.validator.LengthValidator;
+import org.ilyes.spring.validation.validator.RangeValidator;
+import org.springframework.util.Assert;
+import org.springframework.validation.Errors;
+
+/**
+ * Validates whole columns of a {@link ColumnBatch} at once instead of one boxed value at a time.
+ * Every rule scans its column with a branch-free loop over the primitive array, see
+ * {@link ColumnKernels}, and sets the bits of the failing rows; nothing is allocated per row.
+ * The {@link ColumnValidationResult} then reports failing rows into {@link Errors} on demand,
+ * with the error codes {@code RangeValidator}, {@code LengthValidator} and
+ * {@code EqualsValidator} would use. Rules are added before the first validation; afterwards
+ * the validator can be shared between threads.
+ */
+public class ColumnValidator {
+
+	private static final Object[] NO_ARGS = new Object[0];
+
+	private final List<ColumnRule> rules = new ArrayList<ColumnRule>();
+
+	/**
+	 * Reject values outside {@code [min, max]} in an {@code int[]} or {@code long[]} column.
+	 */
+	public ColumnValidator range(String column, long min, long max, String errorCode, Object... errorArgs) {
+		Assert.isTrue(min <= max, "min must not be greater than max");
+		return add(new IntegralRangeRule(column, min, max, errorCode, errorArgs));
+	}
+
+	/**
+	 * Reject values outside {@code [min, max]}, and {@code NaN}, in a {@code double[]} column.
+	 */
+	public ColumnValidator range(String column, double min, double max, String errorCode, Object... errorArgs) {
+		Assert.isTrue(min <= max, "min must not be greater than max");
+		return add(new DoubleRangeRule(column, min, max, errorCode, errorArgs));
+	}
+
+	/**
+	 * Reject values of a {@link StringColumn} shorter than {@code min} or longer than
+	 * {@code max} chars; {@code null} values are too short.
+	 */
+	public ColumnValidator length(String column, int min, int max, String errorCode, Object... errorArgs) {
+		Assert.isTrue(min >= 0 && min <= max, "Lengths must satisfy 0 <= min <= max");
+		return add(new LengthRule(column, min, max, errorCode, errorArgs));
+	}
+
+	/**
+	 * Reject values different from {@code value} in an {@code int[]} or {@code long[]} column.
+	 */
+	public ColumnValidator equalTo(String column, long value, String errorCode, Object... errorArgs) {
+		return add(new IntegralEqualsRule(column, value, errorCode, errorArgs));
+	}
+
+	/**
+	 * Reject values of a {@link StringColumn} different from {@code value}.
+	 */
+	public ColumnValidator equalTo(String column, String value, String errorCode, Object... errorArgs) {
+		Assert.notNull(value, "value must not be null");
+		return add(new TextEqualsRule(column, value, errorCode, errorArgs));
+	}
+
+	public ColumnValidationResult validate(ColumnBatch batch) {
+		Assert.notNull(batch, "batch must not be null");
+		int rows = batch.getRowCount();
+		RowBitmap failedRows = new RowBitmap(rows);
+		RowBitmap[] ruleFailures = new RowBitmap[rules.size()];
+		for (int i = 0; i < ruleFailures.length; i++) {
+			ColumnRule rule = rules.get(i);
+			ruleFailures[i] = new RowBitmap(rows);
+			rule.check(batch.getColumn(rule.column), rows, ruleFailures[i].words());
+			failedRows.or(ruleFailures[i]);
+		}
+		return new ColumnValidationResult(batch, rules.toArray(new ColumnRule[ruleFailures.length]), ruleFailures, failedRows);
+	}
+
+	private ColumnValidator add(ColumnRule rule) {
+		rules.add(rule);
+		return this;
+	}
+
+	private static IllegalArgumentException unsupported(String column, Object values) {
+		return new IllegalArgumentException("Column '" + column + "' of type " + values.getClass().getSimpleName() + " is not supported by this rule");
+	}
+
+	abstract static class ColumnRule {
+
+		final String column;
+		final String errorCode;
+		final Object[] errorArgs;
+
+		ColumnRule(String column, String errorCode, Object[] errorArgs) {
+			Assert.hasLength(column, "column must not be empty");
+			this.column = column;
+			this.errorCode = errorCode;
+			this.errorArgs = (errorArgs != null) ? errorArgs.clone() : NO_ARGS;
+		}
+
+		abstract void check(Object values, int rows, long[] failures);
+
+		/**
+		 * Report a row already known to fail; only called for failing rows.
+		 */
+		void reject(Object values, int row, Errors errors) {
+			errors.rejectValue(column, errorCode, errorArgs, "");
+		}
+
+		String errorCode(String defaultErrorCode) {
+			return (errorCode != null && errorCode.length() > 0) ? errorCode : defaultErrorCode;
+		}
+	}
+
+	private static final class IntegralRangeRule extends ColumnRule {
+
+		private final long min;
+		private final long max;
+
+		IntegralRangeRule(String column, long min, long max, String errorCode, Object[] errorArgs) {
+			super(column, errorCode, errorArgs);
+			this.min = min;
+			this.max = max;
+		}
+
+		@Override
+		void check(Object values, int rows, long[] failures) {
+			if (values instanceof long[]) {
+				ColumnKernels.longRange((long[]) values, rows, min, max, failures);
+			} else if (!(values instanceof int[])) {
+				throw unsupported(column, values);
+			} else if (min > Integer.MAX_VALUE || max < Integer.MIN_VALUE) {
+				ColumnKernels.all(rows, failures);
+			} else {
+				int intMin = (int) Math.max(min, Integer.MIN_VALUE);
+				int intMax = (int) Math.min(max, Integer.MAX_VALUE);
+				ColumnKernels.intRange((int[]) values, rows, intMin, intMax, failures);
+			}
+		}
+
+		@Override
+		void reject(Object values, int row, Errors errors) {
+			errors.rejectValue(column, errorCode(RangeValidator.ERROR_RANGE), errorArgs, "");
+		}
+	}
+
+	private static final class DoubleRangeRule extends ColumnRule {
+
+		private final double min;
+		private final double max;
+
+		DoubleRangeRule(String column, double min, double max, String errorCode, Object[] errorArgs) {
+			super(column, errorCode, errorArgs);
+			this.min = min;
+			this.max = max;
+		}
+
+		@Override
+		void check(Object values, int rows, long[] failures) {
+			if (!(values instanceof double[])) {
+				throw unsupported(column, values);
+			}
+			ColumnKernels.doubleRange((double[]) values, rows, min, max, failures);
+		}
+
+		@Override
+		void reject(Object values, int row, Errors errors) {
+			errors.rejectValue(column, errorCode(RangeValidator.ERROR_RANGE), errorArgs, "");
+		}
+	}
+
+	private static final class LengthRule extends ColumnRule {
+
+		private final int min;
+		private final int max;
+
+		LengthRule(String column, int min, int max, String errorCode, Object[] errorArgs) {
+			super(column, errorCode, errorArgs);
+			this.min = min;
+			this.max = max;
+		}
+
+		@Override
+		void check(Object values, int rows, long[] failures) {
+			if (!(values instanceof StringColumn)) {
+				throw unsupported(column, values);
+			}
+			// null rows have a negative length, out of any range with min >= 0
+			ColumnKernels.intRange(((StringColumn) values).lengths(), rows, min, max, failures);
+		}
+
+		@Override
+		void reject(Object values, int row, Errors errors) {
+			boolean tooLong = ((StringColumn) values).length(row) > max;
+			String errCode = errorCode(tooLong ? LengthValidator.ERROR_LENGTH_OVER_MAX : LengthValidator.ERROR_LENGTH_UNDER_MIN);
+			errors.rejectValue(column, errCode, errorArgs, "");
+		}
+	}
+
+	private static final class IntegralEqualsRule extends ColumnRule {
+
+		private final long value;
+
+		IntegralEqualsRule(String column, long value, String errorCode, Object[] errorArgs) {
+			super(column, errorCode, errorArgs);
+			this.value = value;
+		}
+
+		@Override
+		void check(Object values, int rows, long[] failures) {
+			if (values instanceof long[]) {
+				ColumnKernels.longNotEqual((long[]) values, rows, value, failures);
+			} else if (!(values instanceof int[])) {
+				throw unsupported(column, values);
+			} else if (value != (int) value) {
+				ColumnKernels.all(rows, failures);
+			} else {
+				ColumnKernels.intNotEqual((int[]) values, rows, (int) value, failures);
+			}
+		}
+	}
+
+	private static final class TextEqualsRule extends ColumnRule {
+
+		private final char[] value;
+
+		TextEqualsRule(String column, String value, String errorCode, Object[] errorArgs) {
+			super(column, errorCode, errorArgs);
+			this.value = value.toCharArray();
+		}
+
+		@Override
+		void check(Object values, int rows, long[] failures) {
+			if (!(values instanceof StringColumn)) {
+				throw unsupported(column, values);
+			}
+			ColumnKernels.textNotEqual((StringColumn) values, rows, value, failures);
+		}
+	}
+}
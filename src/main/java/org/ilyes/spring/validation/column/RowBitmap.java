@@ -0,0 +1,101 @@
+package org.ilyes.spring.validation.column;
+
+import java.util.Arrays;
+
+import org.springframework.util.Assert;
+
+/**
+ * Fixed-size bitmap of row indexes, one bit per row packed into {@code long} words. Not
+ * thread-safe.
+ */
+public final class RowBitmap {
+
+	private final long[] words;
+	private final int rowCount;
+
+	public RowBitmap(int rowCount) {
+		Assert.isTrue(rowCount >= 0, "rowCount must not be negative");
+		this.words = new long[(rowCount + 63) >>> 6];
+		this.rowCount = rowCount;
+	}
+
+	long[] words() {
+		return words;
+	}
+
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	public boolean get(int row) {
+		checkRow(row);
+		return (words[row >>> 6] & (1L << row)) != 0;
+	}
+
+	public void set(int row) {
+		checkRow(row);
+		words[row >>> 6] |= 1L << row;
+	}
+
+	public void or(RowBitmap other) {
+		Assert.isTrue(other.rowCount == rowCount, "Bitmaps must have the same row count");
+		for (int i = 0; i < words.length; i++) {
+			words[i] |= other.words[i];
+		}
+	}
+
+	public int cardinality() {
+		int count = 0;
+		for (long word : words) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	public boolean isEmpty() {
+		for (long word : words) {
+			if (word != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return the first set row at or after {@code fromRow}, or {@code -1}
+	 */
+	public int nextSetBit(int fromRow) {
+		if (fromRow < 0 || fromRow >= rowCount) {
+			return -1;
+		}
+		int index = fromRow >>> 6;
+		long word = words[index] & (-1L << fromRow);
+		while (word == 0) {
+			if (++index == words.length) {
+				return -1;
+			}
+			word = words[index];
+		}
+		return (index << 6) + Long.numberOfTrailingZeros(word);
+	}
+
+	public int[] toArray() {
+		int[] rows = new int[cardinality()];
+		int count = 0;
+		for (int row = nextSetBit(0); row >= 0; row = nextSetBit(row + 1)) {
+			rows[count++] = row;
+		}
+		return rows;
+	}
+
+	private void checkRow(int row) {
+		if (row < 0 || row >= rowCount) {
+			throw new IndexOutOfBoundsException("Row " + row + " out of " + rowCount);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(toArray());
+	}
+}
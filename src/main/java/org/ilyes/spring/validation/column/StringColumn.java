@@ -0,0 +1,77 @@
+package org.ilyes.spring.validation.column;
+
+import org.springframework.util.Assert;
+
+/**
+ * Column of text values stored as regions of one shared {@code char[]}, described by an offset
+ * and a length per row; a negative length stands for a {@code null} value. Values are only
+ * turned into {@code String}s on request, for instance when a failing row is reported.
+ */
+public final class StringColumn {
+
+	private final char[] chars;
+	private final int[] offsets;
+	private final int[] lengths;
+
+	public StringColumn(char[] chars, int[] offsets, int[] lengths) {
+		Assert.notNull(chars, "chars must not be null");
+		Assert.notNull(offsets, "offsets must not be null");
+		Assert.notNull(lengths, "lengths must not be null");
+		Assert.isTrue(offsets.length == lengths.length, "offsets and lengths must have the same size");
+		this.chars = chars;
+		this.offsets = offsets;
+		this.lengths = lengths;
+	}
+
+	/**
+	 * @return a column of {@code rowCount} values of {@code width} chars laid out back to back
+	 */
+	public static StringColumn fixedWidth(char[] chars, int width, int rowCount) {
+		Assert.isTrue(width >= 0 && rowCount >= 0, "width and rowCount must not be negative");
+		Assert.isTrue((long) width * rowCount <= chars.length, "chars are shorter than rowCount * width");
+		int[] offsets = new int[rowCount];
+		int[] lengths = new int[rowCount];
+		for (int i = 0; i < rowCount; i++) {
+			offsets[i] = i * width;
+			lengths[i] = width;
+		}
+		return new StringColumn(chars, offsets, lengths);
+	}
+
+	public int size() {
+		return lengths.length;
+	}
+
+	public boolean isNull(int row) {
+		return lengths[row] < 0;
+	}
+
+	/**
+	 * @return the length of the value in chars, or {@code -1} for {@code null}
+	 */
+	public int length(int row) {
+		return (lengths[row] < 0) ? -1 : lengths[row];
+	}
+
+	public String get(int row) {
+		return (lengths[row] < 0) ? null : new String(chars, offsets[row], lengths[row]);
+	}
+
+	boolean contentEquals(int row, char[] value) {
+		int length = lengths[row];
+		if (length != value.length) {
+			return false;
+		}
+		int offset = offsets[row];
+		for (int i = 0; i < length; i++) {
+			if (chars[offset + i] != value[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	int[] lengths() {
+		return lengths;
+	}
+}
@@ -0,0 +1,158 @@
+package org.ilyes.spring.validation.config;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.ilyes.spring.validation.ValidationPlan;
+import org.springframework.util.Assert;
+import org.springframework.validation.Errors;
+
+/**
+ * {@link ValidationPlan} compiled by {@link RuleSets} from a properties file and recompiled
+ * whenever the file changes. After {@link #start()}, a daemon thread waits on a
+ * {@link WatchService} for changes of the file, compiles the new rule set and publishes it with
+ * a single write of an {@link AtomicReference}. Validations never wait for a compilation: each
+ * call reads the current plan once and runs entirely against it, so it sees either the old or
+ * the new rule set, never a mix. A file that fails to compile is logged and the previous plan
+ * stays in use.
+ */
+public class ReloadingValidationPlan<T> implements Closeable {
+
+	private static final Log LOG = LogFactory.getLog(ReloadingValidationPlan.class);
+
+	/** Changes arriving within this delay are compiled once, editors often write in steps. */
+	private static final long SETTLE_MILLIS = 50;
+
+	private final Class<T> type;
+	private final Path file;
+	private final AtomicReference<ValidationPlan<T>> plan = new AtomicReference<ValidationPlan<T>>();
+	private final AtomicLong reloadCount = new AtomicLong();
+	private volatile Exception lastFailure;
+	private WatchService watchService;
+	private Thread watcher;
+
+	/**
+	 * Compile the file once; fails if the initial rule set is invalid.
+	 */
+	public ReloadingValidationPlan(Class<T> type, Path file) throws IOException {
+		Assert.notNull(type, "type must not be null");
+		Assert.notNull(file, "file must not be null");
+		this.type = type;
+		this.file = file.toAbsolutePath();
+		this.plan.set(RuleSets.compile(type, this.file));
+	}
+
+	public ValidationPlan<T> getPlan() {
+		return plan.get();
+	}
+
+	public void validate(Errors errors) {
+		plan.get().validate(errors);
+	}
+
+	public void validate(T target, Errors errors) {
+		plan.get().validate(target, errors);
+	}
+
+	/**
+	 * Compile the file and publish the new plan.
+	 * @return whether the file compiled; otherwise the previous plan is kept
+	 */
+	public synchronized boolean reload() {
+		try {
+			publish(RuleSets.compile(type, file));
+			lastFailure = null;
+			return true;
+		} catch (IOException | RuntimeException ex) {
+			lastFailure = ex;
+			LOG.warn("Keeping the previous rule set, " + file + " could not be compiled", ex);
+			return false;
+		}
+	}
+
+	/**
+	 * Replace the current plan, for instance with one compiled from another source.
+	 */
+	public void publish(ValidationPlan<T> newPlan) {
+		Assert.notNull(newPlan, "plan must not be null");
+		Assert.isTrue(newPlan.getType() == type, "Plan must validate " + type.getName());
+		plan.set(newPlan);
+		reloadCount.incrementAndGet();
+	}
+
+	public long getReloadCount() {
+		return reloadCount.get();
+	}
+
+	/**
+	 * @return why the last reload failed, or {@code null} if it succeeded
+	 */
+	public Exception getLastFailure() {
+		return lastFailure;
+	}
+
+	/**
+	 * Start watching the file for changes.
+	 */
+	public synchronized void start() throws IOException {
+		Assert.state(watchService == null, "Already started");
+		watchService = file.getFileSystem().newWatchService();
+		file.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+		final WatchService service = watchService;
+		watcher = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				watch(service);
+			}
+		}, "rule-set-watcher-" + file.getFileName());
+		watcher.setDaemon(true);
+		watcher.start();
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		if (watchService != null) {
+			watchService.close();
+			watcher.interrupt();
+			watchService = null;
+			watcher = null;
+		}
+	}
+
+	private void watch(WatchService service) {
+		try {
+			while (true) {
+				boolean changed = poll(service.take());
+				WatchKey key;
+				while ((key = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+					changed |= poll(key);
+				}
+				if (changed) {
+					reload();
+				}
+			}
+		} catch (InterruptedException | ClosedWatchServiceException ex) {
+			// closed
+		}
+	}
+
+	private boolean poll(WatchKey key) {
+		boolean changed = false;
+		for (WatchEvent<?> event : key.pollEvents()) {
+			changed |= event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context());
+		}
+		key.reset();
+		return changed;
+	}
+}
@@ -0,0 +1,224 @@
+package org.ilyes.spring.validation.config;
+
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.ilyes.spring.validation.ValidationPlan;
+import org.ilyes.spring.validation.support.Conversions;
+import org.ilyes.spring.validation.validator.EqualsValidator;
+import org.ilyes.spring.validation.validator.FieldValidator;
+import org.ilyes.spring.validation.validator.LengthValidator;
+import org.ilyes.spring.validation.validator.MembershipValidator;
+import org.ilyes.spring.validation.validator.PatternValidator;
+import org.ilyes.spring.validation.validator.Rules;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Compiles rule sets written as properties into {@link ValidationPlan}s, so that constraint
+ * values can change without a redeploy. Every entry is {@code <field>.<constraint>=<value>},
+ * optionally followed by {@code <field>.<constraint>.code=<error code>}; fields and the
+ * constraints of a field keep the order of the file. Supported constraints:
+ * <pre>
+ * name.length=2..40        quantity.range=1..999    code.pattern=[A-Z]{3}
+ * name.maxLength=40        quantity.min=1           code.notPattern=\\d+
+ * currency.equals=EUR      quantity.max=999         currency.oneOf=EUR, USD, CHF
+ * currency.notEquals=XXX                            currency.noneOf=XXX, XTS
+ * </pre>
+ * Bounds and compared values are converted to the property type of the target class, falling
+ * back to {@code Long}, or {@code BigDecimal} if either bound of a range is not an integer, for
+ * bounds of unknown properties. Malformed
+ * entries fail the whole compilation with an {@link IllegalArgumentException}.
+ */
+public abstract class RuleSets {
+
+	private static final String CODE_SUFFIX = ".code";
+	private static final String RANGE_SEPARATOR = "..";
+
+	public static <T> ValidationPlan<T> compile(Class<T> type, Path file) throws IOException {
+		Assert.notNull(file, "file must not be null");
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.ISO_8859_1)) {
+			return compile(type, reader);
+		}
+	}
+
+	public static <T> ValidationPlan<T> compile(Class<T> type, Reader reader) throws IOException {
+		Assert.notNull(reader, "reader must not be null");
+		final Map<String, String> entries = new LinkedHashMap<String, String>();
+		Properties properties = new Properties() {
+			@Override
+			public synchronized Object put(Object key, Object value) {
+				entries.put((String) key, (String) value);
+				return super.put(key, value);
+			}
+		};
+		properties.load(reader);
+		return compile(type, entries);
+	}
+
+	/**
+	 * @param entries rule entries in the order fields and constraints should be validated
+	 */
+	public static <T> ValidationPlan<T> compile(Class<T> type, Map<String, String> entries) {
+		Assert.notNull(type, "type must not be null");
+		Assert.notNull(entries, "entries must not be null");
+		Map<String, List<String>> constraints = new LinkedHashMap<String, List<String>>();
+		for (String key : entries.keySet()) {
+			boolean errorCode = key.endsWith(CODE_SUFFIX);
+			String constraintKey = errorCode ? key.substring(0, key.length() - CODE_SUFFIX.length()) : key;
+			if (errorCode && !entries.containsKey(constraintKey)) {
+				throw new IllegalArgumentException("Error code '" + key + "' has no constraint");
+			}
+			int dot = constraintKey.lastIndexOf('.');
+			if (dot <= 0 || dot == constraintKey.length() - 1) {
+				throw new IllegalArgumentException("Key '" + key + "' is not of the form <field>.<constraint>");
+			}
+			String field = constraintKey.substring(0, dot);
+			List<String> fieldConstraints = constraints.get(field);
+			if (fieldConstraints == null) {
+				fieldConstraints = new ArrayList<String>();
+				constraints.put(field, fieldConstraints);
+			}
+			if (!fieldConstraints.contains(constraintKey)) {
+				fieldConstraints.add(constraintKey);
+			}
+		}
+		ValidationPlan.Builder<T> builder = ValidationPlan.forType(type);
+		for (Map.Entry<String, List<String>> field : constraints.entrySet()) {
+			builder.field(field.getKey());
+			Class<?> fieldType = propertyType(type, field.getKey());
+			for (String key : field.getValue()) {
+				String constraint = key.substring(field.getKey().length() + 1);
+				String errorCode = StringUtils.trimWhitespace(entries.get(key + CODE_SUFFIX));
+				builder.rule(validator(key, constraint, entries.get(key).trim(), fieldType), StringUtils.hasLength(errorCode) ? errorCode : null);
+			}
+		}
+		return builder.build();
+	}
+
+	private static FieldValidator validator(String key, String constraint, String value, Class<?> fieldType) {
+		if ("length".equals(constraint)) {
+			String[] bounds = bounds(key, value);
+			return new LengthValidator(toInt(key, bounds[0]), toInt(key, bounds[1]));
+		}
+		if ("maxLength".equals(constraint)) {
+			return new LengthValidator(0, toInt(key, value));
+		}
+		if ("range".equals(constraint)) {
+			String[] bounds = bounds(key, value);
+			Comparable<?> min = toBound(key, bounds[0], fieldType);
+			Comparable<?> max = toBound(key, bounds[1], fieldType);
+			if (min instanceof BigDecimal || max instanceof BigDecimal) {
+				min = toBigDecimal(key, bounds[0], min);
+				max = toBigDecimal(key, bounds[1], max);
+			}
+			return range(min, max);
+		}
+		if ("min".equals(constraint)) {
+			return range(toBound(key, value, fieldType), null);
+		}
+		if ("max".equals(constraint)) {
+			return range(null, toBound(key, value, fieldType));
+		}
+		if ("pattern".equals(constraint) || "notPattern".equals(constraint)) {
+			PatternValidator validator = new PatternValidator(value);
+			validator.setNegate("notPattern".equals(constraint));
+			try {
+				validator.compile();
+			} catch (RuntimeException ex) {
+				throw new IllegalArgumentException("Invalid pattern for '" + key + "': " + ex.getMessage(), ex);
+			}
+			return validator;
+		}
+		if ("equals".equals(constraint) || "notEquals".equals(constraint)) {
+			EqualsValidator<Object> validator = new EqualsValidator<Object>(toFieldType(key, value, fieldType));
+			validator.setNegate("notEquals".equals(constraint));
+			return validator;
+		}
+		if ("oneOf".equals(constraint) || "noneOf".equals(constraint)) {
+			List<Object> values = new ArrayList<Object>();
+			for (String item : StringUtils.commaDelimitedListToStringArray(value)) {
+				values.add(toFieldType(key, item.trim(), fieldType));
+			}
+			MembershipValidator validator = new MembershipValidator(values);
+			validator.setNegate("noneOf".equals(constraint));
+			return validator;
+		}
+		throw new IllegalArgumentException("Unknown constraint '" + constraint + "' in '" + key + "'");
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private static FieldValidator range(Comparable min, Comparable max) {
+		return Rules.range(min, max);
+	}
+
+	private static String[] bounds(String key, String value) {
+		int separator = value.indexOf(RANGE_SEPARATOR);
+		if (separator < 0) {
+			throw new IllegalArgumentException("'" + key + "' must be of the form <min>..<max>, was '" + value + "'");
+		}
+		return new String[] { value.substring(0, separator).trim(), value.substring(separator + RANGE_SEPARATOR.length()).trim() };
+	}
+
+	private static int toInt(String key, String value) {
+		try {
+			return Integer.parseInt(value);
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException("'" + key + "' requires an integer, was '" + value + "'", ex);
+		}
+	}
+
+	private static Comparable<?> toBound(String key, String value, Class<?> fieldType) {
+		if (fieldType != null && Comparable.class.isAssignableFrom(fieldType) && !CharSequence.class.isAssignableFrom(fieldType)) {
+			return (Comparable<?>) convert(key, value, fieldType);
+		}
+		try {
+			return Long.valueOf(value);
+		} catch (NumberFormatException ex) {
+			return (BigDecimal) convert(key, value, BigDecimal.class);
+		}
+	}
+
+	private static Comparable<?> toBigDecimal(String key, String value, Comparable<?> bound) {
+		return (bound instanceof BigDecimal) ? bound : (BigDecimal) convert(key, value, BigDecimal.class);
+	}
+
+	private static Object toFieldType(String key, String value, Class<?> fieldType) {
+		return (fieldType == null || fieldType == Object.class || CharSequence.class.isAssignableFrom(fieldType)) ? value : convert(key, value, fieldType);
+	}
+
+	private static Object convert(String key, String value, Class<?> type) {
+		Object converted = Conversions.convert(value, type);
+		if (Conversions.isFailed(converted) || converted == null) {
+			throw new IllegalArgumentException("Cannot convert '" + value + "' to " + type.getName() + " for '" + key + "'");
+		}
+		return converted;
+	}
+
+	/**
+	 * @return the boxed type of a simple or dotted property, or {@code null} if unknown
+	 */
+	private static Class<?> propertyType(Class<?> type, String path) {
+		Class<?> current = type;
+		for (String name : StringUtils.delimitedListToStringArray(path, ".")) {
+			PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(current, name);
+			if (descriptor == null || descriptor.getPropertyType() == null) {
+				return null;
+			}
+			current = descriptor.getPropertyType();
+		}
+		return ClassUtils.resolvePrimitiveIfNecessary(current);
+	}
+}
@@ -0,0 +1,57 @@
+package org.ilyes.spring.validation.metrics;
+
+import org.ilyes.spring.validation.validator.FieldValidator;
+import org.springframework.util.Assert;
+import org.springframework.validation.Errors;
+
+/**
+ * Global instrumentation switch. Call sites take a {@link #mark(Errors)} and a {@link #start(int)}
+ * before the check and {@link #record} after it; with the default {@link ValidationMetrics#NOOP}
+ * these reduce to a field read and a comparison.
+ */
+public abstract class Instrumentation {
+
+	private static volatile ValidationMetrics metrics = ValidationMetrics.NOOP;
+
+	public static ValidationMetrics getMetrics() {
+		return metrics;
+	}
+
+	public static void setMetrics(ValidationMetrics metrics) {
+		Instrumentation.metrics = (metrics != null) ? metrics : ValidationMetrics.NOOP;
+	}
+
+	public static boolean isEnabled() {
+		return metrics.isEnabled();
+	}
+
+	/**
+	 * @return the current error count, or {@code -1} when instrumentation is disabled
+	 */
+	public static int mark(Errors errors) {
+		return (errors != null && metrics.isEnabled()) ? errors.getErrorCount() : -1;
+	}
+
+	/**
+	 * @return the start time for a positive {@code mark}, otherwise {@code 0}
+	 */
+	public static long start(int mark) {
+		return (mark < 0) ? 0 : System.nanoTime();
+	}
+
+	public static void record(String validator, String fieldName, String errorCode, Errors errors, int mark, long start) {
+		if (mark < 0) {
+			return;
+		}
+		long nanos = System.nanoTime() - start;
+		metrics.record(validator, fieldName, errorCode, errors.getErrorCount() > mark, nanos);
+	}
+
+	/**
+	 * Wrap the validator so that each invocation is recorded under its simple class name.
+	 */
+	public static FieldValidator instrument(FieldValidator validator) {
+		Assert.notNull(validator, "validator must not be null");
+		return (validator instanceof InstrumentedFieldValidator) ? validator : new InstrumentedFieldValidator(validator);
+	}
+}
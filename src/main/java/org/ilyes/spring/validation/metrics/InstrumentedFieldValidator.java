@@ -0,0 +1,62 @@
+package org.ilyes.spring.validation.metrics;
+
+import org.ilyes.spring.validation.validator.FieldValidator;
+import org.ilyes.spring.validation.validator.Rules;
+import org.springframework.validation.Errors;
+
+/**
+ * {@link FieldValidator} decorator reporting every invocation to the installed
+ * {@link ValidationMetrics}; delegates directly while instrumentation is disabled.
+ */
+public class InstrumentedFieldValidator implements FieldValidator {
+
+	private final FieldValidator delegate;
+	private final String name;
+
+	public InstrumentedFieldValidator(FieldValidator delegate) {
+		this(delegate, delegate.getClass().getSimpleName());
+	}
+
+	public InstrumentedFieldValidator(FieldValidator delegate, String name) {
+		this.delegate = delegate;
+		this.name = name;
+	}
+
+	public FieldValidator getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public void validate(Errors errors, String fieldName) {
+		validate(errors, fieldName, null);
+	}
+
+	@Override
+	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+		ValidationMetrics metrics = Instrumentation.getMetrics();
+		if (!metrics.isEnabled()) {
+			delegate.validate(errors, fieldName, errorCode, errorArgs);
+			return;
+		}
+		long start = System.nanoTime();
+		boolean passed = Rules.check(delegate, errors, fieldName, errorCode, errorArgs);
+		metrics.record(name, fieldName, errorCode, !passed, System.nanoTime() - start);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		ValidationMetrics metrics = Instrumentation.getMetrics();
+		if (!metrics.isEnabled()) {
+			delegate.validateValue(errors, fieldName, fieldValue, errorCode, errorArgs);
+			return;
+		}
+		long start = System.nanoTime();
+		boolean passed = Rules.checkValue(delegate, errors, fieldName, fieldValue, errorCode, errorArgs);
+		metrics.record(name, fieldName, errorCode, !passed, System.nanoTime() - start);
+	}
+
+	@Override
+	public int getCost() {
+		return delegate.getCost();
+	}
+}
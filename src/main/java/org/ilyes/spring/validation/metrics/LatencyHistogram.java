@@ -0,0 +1,81 @@
+package org.ilyes.spring.validation.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with log-linear buckets in the style of HdrHistogram: every
+ * power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, bounding the relative
+ * error of recorded values to about 12.5%, up to {@value #MAX_VALUE_BITS} bits (about 68
+ * seconds). Counts are striped by thread, at most {@value #MAX_STRIPES} ways, so concurrent
+ * recorders rarely touch the same cache line.
+ */
+public final class LatencyHistogram {
+
+	static final int SUB_BUCKET_BITS = 3;
+	static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	static final int MAX_VALUE_BITS = 36;
+	static final int BUCKETS = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+	static final int MAX_STRIPES = 8;
+	private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+	private static final int PADDING = 16;
+
+	private final AtomicLongArray[] stripes;
+	private final int mask;
+
+	public LatencyHistogram() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	public LatencyHistogram(int concurrency) {
+		int size = Integer.highestOneBit(Math.max(1, Math.min(concurrency, MAX_STRIPES)) * 2 - 1);
+		this.stripes = new AtomicLongArray[size];
+		for (int i = 0; i < size; i++) {
+			stripes[i] = new AtomicLongArray(BUCKETS + PADDING);
+		}
+		this.mask = size - 1;
+	}
+
+	public void record(long nanos) {
+		int stripe = (int) Thread.currentThread().getId() & mask;
+		stripes[stripe].incrementAndGet(bucket(Math.max(0, Math.min(nanos, MAX_VALUE))));
+	}
+
+	public LatencySnapshot snapshot() {
+		long[] counts = new long[BUCKETS];
+		for (AtomicLongArray stripe : stripes) {
+			for (int i = 0; i < BUCKETS; i++) {
+				counts[i] += stripe.get(i);
+			}
+		}
+		return new LatencySnapshot(counts);
+	}
+
+	public void reset() {
+		for (AtomicLongArray stripe : stripes) {
+			for (int i = 0; i < BUCKETS; i++) {
+				stripe.set(i, 0);
+			}
+		}
+	}
+
+	static int bucket(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> exponent) & (SUB_BUCKETS - 1);
+		return (exponent + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	/**
+	 * @return the highest value falling into the bucket
+	 */
+	static long upperBound(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int exponent = bucket / SUB_BUCKETS - 1;
+		long lower = ((long) (SUB_BUCKETS + bucket % SUB_BUCKETS)) << exponent;
+		return lower + (1L << exponent) - 1;
+	}
+}
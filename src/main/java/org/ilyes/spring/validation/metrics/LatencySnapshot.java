@@ -0,0 +1,76 @@
+package org.ilyes.spring.validation.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point-in-time copy of a {@link LatencyHistogram}. Values are reported as the upper bound of
+ * their bucket, in nanoseconds.
+ */
+public final class LatencySnapshot {
+
+	private final long[] counts;
+	private final long count;
+
+	LatencySnapshot(long[] counts) {
+		this.counts = counts;
+		long total = 0;
+		for (long bucketCount : counts) {
+			total += bucketCount;
+		}
+		this.count = total;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @param percentile between 0 and 100
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		long threshold = Math.max(1, (long) Math.ceil(count * Math.min(100.0, Math.max(0.0, percentile)) / 100.0));
+		long seen = 0;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= threshold) {
+				return LatencyHistogram.upperBound(i);
+			}
+		}
+		return getMax();
+	}
+
+	public long getMax() {
+		for (int i = counts.length - 1; i >= 0; i--) {
+			if (counts[i] > 0) {
+				return LatencyHistogram.upperBound(i);
+			}
+		}
+		return 0;
+	}
+
+	public double getMean() {
+		if (count == 0) {
+			return 0;
+		}
+		double sum = 0;
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] > 0) {
+				sum += (double) counts[i] * LatencyHistogram.upperBound(i);
+			}
+		}
+		return sum / count;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("count=%d, mean=%.1fus, p50=%.1fus, p99=%.1fus, max=%.1fus", count, micros(getMean()),
+				micros(getValueAtPercentile(50)), micros(getValueAtPercentile(99)), micros(getMax()));
+	}
+
+	private static double micros(double nanos) {
+		return nanos / TimeUnit.MICROSECONDS.toNanos(1);
+	}
+}
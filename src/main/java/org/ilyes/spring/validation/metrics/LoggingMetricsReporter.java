@@ -0,0 +1,24 @@
+package org.ilyes.spring.validation.metrics;
+
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * {@link MetricsReporter} logging one line per key at info level.
+ */
+public class LoggingMetricsReporter implements MetricsReporter {
+
+	private static final Log LOG = LogFactory.getLog(LoggingMetricsReporter.class);
+
+	@Override
+	public void report(List<ValidatorStatistics> statistics) {
+		if (!LOG.isInfoEnabled()) {
+			return;
+		}
+		for (ValidatorStatistics statistic : statistics) {
+			LOG.info(statistic);
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package org.ilyes.spring.validation.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ValidationMetrics} collecting invocation and rejection counts and a
+ * {@link LatencyHistogram} per (validator, field, error code) key. Keys are looked up through
+ * nested maps so recording allocates nothing once a key exists; counters are {@link LongAdder}s.
+ */
+public class MetricsRegistry implements ValidationMetrics {
+
+	private static final String NONE = "";
+
+	private static final Comparator<ValidatorStatistics> BY_TOTAL_TIME = new Comparator<ValidatorStatistics>() {
+		@Override
+		public int compare(ValidatorStatistics s1, ValidatorStatistics s2) {
+			return Double.compare(s2.getLatency().getMean() * s2.getInvocations(), s1.getLatency().getMean() * s1.getInvocations());
+		}
+	};
+
+	private final ConcurrentMap<String, ConcurrentMap<String, ConcurrentMap<String, Stats>>> stats =
+			new ConcurrentHashMap<String, ConcurrentMap<String, ConcurrentMap<String, Stats>>>();
+	private volatile boolean enabled = true;
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void record(String validator, String fieldName, String errorCode, boolean rejected, long nanos) {
+		Stats entry = stats(validator, fieldName, errorCode);
+		entry.invocations.increment();
+		if (rejected) {
+			entry.rejections.increment();
+		}
+		entry.latency.record(nanos);
+	}
+
+	/**
+	 * @return a snapshot of every key, the most time-consuming first
+	 */
+	public List<ValidatorStatistics> getStatistics() {
+		List<ValidatorStatistics> result = new ArrayList<ValidatorStatistics>();
+		for (Map.Entry<String, ConcurrentMap<String, ConcurrentMap<String, Stats>>> byValidator : stats.entrySet()) {
+			for (Map.Entry<String, ConcurrentMap<String, Stats>> byField : byValidator.getValue().entrySet()) {
+				for (Map.Entry<String, Stats> byCode : byField.getValue().entrySet()) {
+					Stats entry = byCode.getValue();
+					result.add(new ValidatorStatistics(byValidator.getKey(), nullIfNone(byField.getKey()), nullIfNone(byCode.getKey()),
+							entry.invocations.sum(), entry.rejections.sum(), entry.latency.snapshot()));
+				}
+			}
+		}
+		Collections.sort(result, BY_TOTAL_TIME);
+		return result;
+	}
+
+	public void report(MetricsReporter reporter) {
+		Assert.notNull(reporter, "reporter must not be null");
+		reporter.report(getStatistics());
+	}
+
+	public void reset() {
+		stats.clear();
+	}
+
+	private Stats stats(String validator, String fieldName, String errorCode) {
+		ConcurrentMap<String, ConcurrentMap<String, Stats>> byField = stats.get(validator);
+		if (byField == null) {
+			byField = stats.computeIfAbsent(validator, key -> new ConcurrentHashMap<String, ConcurrentMap<String, Stats>>());
+		}
+		String field = (fieldName != null) ? fieldName : NONE;
+		ConcurrentMap<String, Stats> byCode = byField.get(field);
+		if (byCode == null) {
+			byCode = byField.computeIfAbsent(field, key -> new ConcurrentHashMap<String, Stats>());
+		}
+		String code = (errorCode != null) ? errorCode : NONE;
+		Stats entry = byCode.get(code);
+		if (entry == null) {
+			entry = byCode.computeIfAbsent(code, key -> new Stats());
+		}
+		return entry;
+	}
+
+	private static String nullIfNone(String value) {
+		return NONE.equals(value) ? null : value;
+	}
+
+	private static final class Stats {
+
+		final LongAdder invocations = new LongAdder();
+		final LongAdder rejections = new LongAdder();
+		final LatencyHistogram latency = new LatencyHistogram();
+	}
+}
@@ -0,0 +1,12 @@
+package org.ilyes.spring.validation.metrics;
+
+import java.util.List;
+
+/**
+ * Publishes the statistics collected by a {@link MetricsRegistry}, for instance to a log or a
+ * monitoring system.
+ */
+public interface MetricsReporter {
+
+	void report(List<ValidatorStatistics> statistics);
+}
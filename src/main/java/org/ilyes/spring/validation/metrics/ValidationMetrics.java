@@ -0,0 +1,31 @@
+package org.ilyes.spring.validation.metrics;
+
+/**
+ * Receives one measurement per validator or {@code ValidationUtils} invocation. Install an
+ * implementation with {@link Instrumentation#setMetrics(ValidationMetrics)}; the default
+ * {@link #NOOP} instance is disabled, so instrumented code skips timing altogether.
+ */
+public interface ValidationMetrics {
+
+	ValidationMetrics NOOP = new ValidationMetrics() {
+
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+		@Override
+		public void record(String validator, String fieldName, String errorCode, boolean rejected, long nanos) {
+		}
+	};
+
+	boolean isEnabled();
+
+	/**
+	 * @param validator the validator type or {@code ValidationUtils} method name
+	 * @param errorCode the error code passed by the caller, possibly {@code null}
+	 * @param rejected whether the invocation rejected the value
+	 * @param nanos elapsed time in nanoseconds
+	 */
+	void record(String validator, String fieldName, String errorCode, boolean rejected, long nanos);
+}
@@ -0,0 +1,57 @@
+package org.ilyes.spring.validation.metrics;
+
+/**
+ * Snapshot of the measurements recorded for one (validator, field, error code) key.
+ */
+public final class ValidatorStatistics {
+
+	private final String validator;
+	private final String fieldName;
+	private final String errorCode;
+	private final long invocations;
+	private final long rejections;
+	private final LatencySnapshot latency;
+
+	ValidatorStatistics(String validator, String fieldName, String errorCode, long invocations, long rejections, LatencySnapshot latency) {
+		this.validator = validator;
+		this.fieldName = fieldName;
+		this.errorCode = errorCode;
+		this.invocations = invocations;
+		this.rejections = rejections;
+		this.latency = latency;
+	}
+
+	public String getValidator() {
+		return validator;
+	}
+
+	public String getFieldName() {
+		return fieldName;
+	}
+
+	public String getErrorCode() {
+		return errorCode;
+	}
+
+	public long getInvocations() {
+		return invocations;
+	}
+
+	public long getRejections() {
+		return rejections;
+	}
+
+	public double getRejectionRate() {
+		return (invocations == 0) ? 0.0 : (double) rejections / invocations;
+	}
+
+	public LatencySnapshot getLatency() {
+		return latency;
+	}
+
+	@Override
+	public String toString() {
+		return validator + "[field=" + fieldName + ", code=" + errorCode + ", invocations=" + invocations
+				+ ", rejections=" + rejections + ", " + latency + "]";
+	}
+}
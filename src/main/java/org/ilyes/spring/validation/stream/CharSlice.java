@@ -0,0 +1,43 @@
+package org.ilyes.spring.validation.stream;
+
+/**
+ * Reusable {@link CharSequence} view over a region of a char array.
+ */
+final class CharSlice implements CharSequence {
+
+	private char[] chars;
+	private int offset;
+	private int length;
+
+	void set(char[] chars, int offset, int length) {
+		this.chars = chars;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of " + length);
+		}
+		return chars[offset + index];
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		if (start < 0 || end > length || start > end) {
+			throw new IndexOutOfBoundsException("Range [" + start + ", " + end + ") out of " + length);
+		}
+		return new String(chars, offset + start, end - start);
+	}
+
+	@Override
+	public String toString() {
+		return new String(chars, offset, length);
+	}
+}
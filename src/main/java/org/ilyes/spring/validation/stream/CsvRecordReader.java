@@ -0,0 +1,226 @@
+package org.ilyes.spring.validation.stream;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+import org.springframework.util.Assert;
+
+/**
+ * RFC 4180 style CSV {@link RecordReader}: quoted values may contain delimiters, line breaks and
+ * doubled quotes; lines end with LF, CRLF or CR and blank lines are skipped. Records are decoded
+ * into one reusable buffer, so reading allocates nothing per record once the buffers have grown
+ * to the longest record. Without a header, columns are addressed by their index as a name
+ * ({@code "0"}, {@code "1"}, ...).
+ */
+public class CsvRecordReader implements RecordReader {
+
+	public static final int DEFAULT_MAX_RECORD_LENGTH = 1024 * 1024;
+
+	private static final int EOF = -1;
+	private static final int NONE = -2;
+
+	private final Reader reader;
+	private final char delimiter;
+	private final char quote;
+	private final boolean header;
+	private final char[] buffer = new char[8192];
+	private int position;
+	private int limit;
+	private int pushback = NONE;
+	private int maxRecordLength = DEFAULT_MAX_RECORD_LENGTH;
+
+	private char[] record = new char[256];
+	private int recordLength;
+	private int[] columnStarts = new int[16];
+	private int[] columnEnds = new int[16];
+	private int columnCount;
+	private CharSlice[] columns = new CharSlice[0];
+	private String[] names;
+	private long recordNumber;
+
+	public CsvRecordReader(Reader reader) {
+		this(reader, ',', true);
+	}
+
+	public CsvRecordReader(Reader reader, char delimiter, boolean header) {
+		Assert.notNull(reader, "reader must not be null");
+		Assert.isTrue(delimiter != '"' && delimiter != '\n' && delimiter != '\r', "Invalid delimiter");
+		this.reader = reader;
+		this.delimiter = delimiter;
+		this.quote = '"';
+		this.header = header;
+	}
+
+	public void setMaxRecordLength(int maxRecordLength) {
+		Assert.isTrue(maxRecordLength > 0, "maxRecordLength must be positive");
+		this.maxRecordLength = maxRecordLength;
+	}
+
+	@Override
+	public boolean next() throws IOException {
+		readHeader();
+		while (readRecord()) {
+			if (columnCount > 1 || columnEnds[0] > columnStarts[0] || recordLength < 0) {
+				recordNumber++;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public long getRecordNumber() {
+		return recordNumber;
+	}
+
+	@Override
+	public int getColumnIndex(String name) throws IOException {
+		readHeader();
+		if (names != null) {
+			for (int i = 0; i < names.length; i++) {
+				if (names[i].equals(name)) {
+					return i;
+				}
+			}
+			return -1;
+		}
+		for (int i = 0; i < name.length(); i++) {
+			if (name.charAt(i) < '0' || name.charAt(i) > '9') {
+				return -1;
+			}
+		}
+		return (name.length() > 0 && name.length() < 10) ? Integer.parseInt(name) : -1;
+	}
+
+	@Override
+	public CharSequence getColumn(int index) {
+		if (index < 0 || index >= columnCount) {
+			return null;
+		}
+		CharSlice column = columns[index];
+		column.set(record, columnStarts[index], columnEnds[index] - columnStarts[index]);
+		return column;
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private void readHeader() throws IOException {
+		if (!header || names != null) {
+			return;
+		}
+		names = new String[0];
+		if (readRecord()) {
+			names = new String[columnCount];
+			for (int i = 0; i < columnCount; i++) {
+				names[i] = new String(record, columnStarts[i], columnEnds[i] - columnStarts[i]).trim();
+			}
+		}
+	}
+
+	/**
+	 * Decode the next physical record; a quoted empty line is marked with a negative length.
+	 */
+	private boolean readRecord() throws IOException {
+		int c = read();
+		if (c == EOF) {
+			return false;
+		}
+		recordLength = 0;
+		columnCount = 0;
+		boolean quotedValue = false;
+		startColumn();
+		while (true) {
+			if (c == quote && columnStarts[columnCount - 1] == recordLength && !quotedValue) {
+				quotedValue = true;
+				readQuoted();
+			} else if (c == delimiter) {
+				endColumn();
+				startColumn();
+				quotedValue = false;
+			} else if (c == '\n' || c == EOF) {
+				break;
+			} else if (c == '\r') {
+				int next = read();
+				if (next != '\n') {
+					pushback = next;
+				}
+				break;
+			} else {
+				append((char) c);
+			}
+			c = read();
+		}
+		endColumn();
+		if (quotedValue && columnCount == 1 && recordLength == 0) {
+			recordLength = -1;
+		}
+		return true;
+	}
+
+	private void readQuoted() throws IOException {
+		while (true) {
+			int c = read();
+			if (c == EOF) {
+				throw new IOException("Unterminated quoted value in record " + (recordNumber + 1));
+			}
+			if (c == quote) {
+				int next = read();
+				if (next != quote) {
+					pushback = next;
+					return;
+				}
+			}
+			append((char) c);
+		}
+	}
+
+	private void startColumn() {
+		if (columnCount == columnStarts.length) {
+			columnStarts = Arrays.copyOf(columnStarts, columnCount * 2);
+			columnEnds = Arrays.copyOf(columnEnds, columnCount * 2);
+		}
+		columnStarts[columnCount++] = recordLength;
+	}
+
+	private void endColumn() {
+		columnEnds[columnCount - 1] = recordLength;
+		if (columns.length < columnCount) {
+			int size = columns.length;
+			columns = Arrays.copyOf(columns, Math.max(columnCount, size * 2));
+			for (int i = size; i < columns.length; i++) {
+				columns[i] = new CharSlice();
+			}
+		}
+	}
+
+	private void append(char c) throws IOException {
+		if (recordLength == record.length) {
+			if (recordLength >= maxRecordLength) {
+				throw new IOException("Record " + (recordNumber + 1) + " exceeds " + maxRecordLength + " characters");
+			}
+			record = Arrays.copyOf(record, Math.min(maxRecordLength, recordLength * 2));
+		}
+		record[recordLength++] = c;
+	}
+
+	private int read() throws IOException {
+		if (pushback != NONE) {
+			int c = pushback;
+			pushback = NONE;
+			return c;
+		}
+		if (position == limit) {
+			limit = reader.read(buffer, 0, buffer.length);
+			position = 0;
+			if (limit <= 0) {
+				limit = 0;
+				return EOF;
+			}
+		}
+		return buffer[position++];
+	}
+}
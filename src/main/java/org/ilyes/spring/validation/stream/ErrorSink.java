@@ -0,0 +1,14 @@
+package org.ilyes.spring.validation.stream;
+
+import java.io.IOException;
+
+import org.springframework.validation.Errors;
+
+/**
+ * Receives the errors of every rejected record from a {@link RecordValidator}. The
+ * {@link Errors} instance is reused for the next record and must be copied to be kept.
+ */
+public interface ErrorSink {
+
+	void accept(long recordNumber, Errors errors) throws IOException;
+}
@@ -0,0 +1,309 @@
+package org.ilyes.spring.validation.stream;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link RecordReader} for JSON lines input, one flat JSON object per line. Only the members
+ * whose names were requested through {@link #getColumnIndex(String)} are decoded; strings are
+ * unescaped, numbers and literals are exposed as written, {@code null} as an absent value and
+ * nested objects or arrays as their raw JSON text. Blank lines are skipped.
+ */
+public class JsonLinesRecordReader implements RecordReader {
+
+	private static final int EOF = -1;
+
+	private final Reader reader;
+	private final char[] buffer = new char[8192];
+	private int position;
+	private int limit;
+	private int maxRecordLength = CsvRecordReader.DEFAULT_MAX_RECORD_LENGTH;
+
+	private char[] line = new char[256];
+	private int lineLength;
+	private int cursor;
+	private char[] values = new char[256];
+	private int valuesLength;
+	private final List<String> names = new ArrayList<String>();
+	private CharSlice[] columns = new CharSlice[0];
+	private boolean[] present = new boolean[0];
+	private long recordNumber;
+	private long lineNumber;
+
+	public JsonLinesRecordReader(Reader reader) {
+		Assert.notNull(reader, "reader must not be null");
+		this.reader = reader;
+	}
+
+	public void setMaxRecordLength(int maxRecordLength) {
+		Assert.isTrue(maxRecordLength > 0, "maxRecordLength must be positive");
+		this.maxRecordLength = maxRecordLength;
+	}
+
+	@Override
+	public boolean next() throws IOException {
+		while (readLine()) {
+			cursor = 0;
+			skipWhitespace();
+			if (cursor < lineLength) {
+				parseObject();
+				recordNumber++;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public long getRecordNumber() {
+		return recordNumber;
+	}
+
+	@Override
+	public int getColumnIndex(String name) {
+		int index = names.indexOf(name);
+		if (index < 0) {
+			index = names.size();
+			names.add(name);
+			columns = Arrays.copyOf(columns, index + 1);
+			columns[index] = new CharSlice();
+			present = Arrays.copyOf(present, index + 1);
+		}
+		return index;
+	}
+
+	@Override
+	public CharSequence getColumn(int index) {
+		return (index >= 0 && index < present.length && present[index]) ? columns[index] : null;
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private void parseObject() throws IOException {
+		Arrays.fill(present, false);
+		valuesLength = 0;
+		expect('{');
+		skipWhitespace();
+		if (peek() == '}') {
+			cursor++;
+		} else {
+			do {
+				skipWhitespace();
+				expect('"');
+				int keyStart = valuesLength;
+				readString();
+				int column = findColumn(keyStart, valuesLength - keyStart);
+				valuesLength = keyStart;
+				skipWhitespace();
+				expect(':');
+				skipWhitespace();
+				readValue(column);
+				skipWhitespace();
+			} while (consume(','));
+			expect('}');
+		}
+		skipWhitespace();
+		if (cursor < lineLength) {
+			throw malformed();
+		}
+	}
+
+	private void readValue(int column) throws IOException {
+		int start = valuesLength;
+		char c = peek();
+		if (c == '"') {
+			cursor++;
+			readString();
+		} else if (c == '{' || c == '[') {
+			int from = cursor;
+			skipNested();
+			appendRaw(from, cursor);
+		} else {
+			int from = cursor;
+			while (cursor < lineLength && line[cursor] != ',' && line[cursor] != '}' && !Character.isWhitespace(line[cursor])) {
+				cursor++;
+			}
+			if (cursor == from) {
+				throw malformed();
+			}
+			if (cursor - from == 4 && line[from] == 'n' && line[from + 1] == 'u' && line[from + 2] == 'l' && line[from + 3] == 'l') {
+				return;
+			}
+			appendRaw(from, cursor);
+		}
+		if (column >= 0) {
+			present[column] = true;
+			columns[column].set(values, start, valuesLength - start);
+		}
+	}
+
+	private void readString() throws IOException {
+		while (true) {
+			if (cursor >= lineLength) {
+				throw malformed();
+			}
+			char c = line[cursor++];
+			if (c == '"') {
+				return;
+			}
+			if (c != '\\') {
+				append(c);
+				continue;
+			}
+			if (cursor >= lineLength) {
+				throw malformed();
+			}
+			char escaped = line[cursor++];
+			switch (escaped) {
+				case 'b': append('\b'); break;
+				case 'f': append('\f'); break;
+				case 'n': append('\n'); break;
+				case 'r': append('\r'); break;
+				case 't': append('\t'); break;
+				case 'u':
+					if (cursor + 4 > lineLength) {
+						throw malformed();
+					}
+					int code = 0;
+					for (int i = 0; i < 4; i++) {
+						int digit = Character.digit(line[cursor++], 16);
+						if (digit < 0) {
+							throw malformed();
+						}
+						code = (code << 4) | digit;
+					}
+					append((char) code);
+					break;
+				default: append(escaped);
+			}
+		}
+	}
+
+	private void skipNested() throws IOException {
+		int depth = 0;
+		boolean inString = false;
+		while (cursor < lineLength) {
+			char c = line[cursor++];
+			if (inString) {
+				if (c == '\\') {
+					cursor++;
+				} else if (c == '"') {
+					inString = false;
+				}
+			} else if (c == '"') {
+				inString = true;
+			} else if (c == '{' || c == '[') {
+				depth++;
+			} else if ((c == '}' || c == ']') && --depth == 0) {
+				return;
+			}
+		}
+		throw malformed();
+	}
+
+	private int findColumn(int start, int length) {
+		for (int i = 0; i < names.size(); i++) {
+			String name = names.get(i);
+			if (name.length() == length && regionMatches(name, start)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private boolean regionMatches(String name, int start) {
+		for (int i = 0; i < name.length(); i++) {
+			if (values[start + i] != name.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void appendRaw(int from, int to) throws IOException {
+		for (int i = from; i < to; i++) {
+			append(line[i]);
+		}
+	}
+
+	private void append(char c) throws IOException {
+		if (valuesLength == values.length) {
+			values = Arrays.copyOf(values, valuesLength * 2);
+		}
+		values[valuesLength++] = c;
+	}
+
+	private char peek() throws IOException {
+		if (cursor >= lineLength) {
+			throw malformed();
+		}
+		return line[cursor];
+	}
+
+	private boolean consume(char c) {
+		if (cursor < lineLength && line[cursor] == c) {
+			cursor++;
+			return true;
+		}
+		return false;
+	}
+
+	private void expect(char c) throws IOException {
+		if (!consume(c)) {
+			throw malformed();
+		}
+	}
+
+	private void skipWhitespace() {
+		while (cursor < lineLength && Character.isWhitespace(line[cursor])) {
+			cursor++;
+		}
+	}
+
+	private IOException malformed() {
+		return new IOException("Malformed JSON at line " + lineNumber + ", column " + (cursor + 1));
+	}
+
+	private boolean readLine() throws IOException {
+		lineLength = 0;
+		int c = read();
+		if (c == EOF) {
+			return false;
+		}
+		lineNumber++;
+		while (c != EOF && c != '\n') {
+			if (lineLength == line.length) {
+				if (lineLength >= maxRecordLength) {
+					throw new IOException("Line " + lineNumber + " exceeds " + maxRecordLength + " characters");
+				}
+				line = Arrays.copyOf(line, Math.min(maxRecordLength, lineLength * 2));
+			}
+			line[lineLength++] = (char) c;
+			c = read();
+		}
+		if (lineLength > 0 && line[lineLength - 1] == '\r') {
+			lineLength--;
+		}
+		return true;
+	}
+
+	private int read() throws IOException {
+		if (position == limit) {
+			limit = reader.read(buffer, 0, buffer.length);
+			position = 0;
+			if (limit <= 0) {
+				limit = 0;
+				return EOF;
+			}
+		}
+		return buffer[position++];
+	}
+}
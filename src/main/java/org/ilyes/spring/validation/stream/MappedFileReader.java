@@ -0,0 +1,88 @@
+package org.ilyes.spring.validation.stream;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link Reader} decoding a file through read-only memory mapped regions, so large files are
+ * read without copying them through the heap. Regions are mapped one at a time; a character
+ * split between two regions is decoded from the start of the next mapping.
+ */
+public class MappedFileReader extends Reader {
+
+	public static final int DEFAULT_REGION_SIZE = 64 * 1024 * 1024;
+
+	private final FileChannel channel;
+	private final CharsetDecoder decoder;
+	private final long size;
+	private final int regionSize;
+	private long regionStart;
+	private ByteBuffer region;
+	private boolean flushed;
+
+	public MappedFileReader(Path file, Charset charset) throws IOException {
+		this(file, charset, DEFAULT_REGION_SIZE);
+	}
+
+	public MappedFileReader(Path file, Charset charset, int regionSize) throws IOException {
+		Assert.notNull(file, "file must not be null");
+		Assert.notNull(charset, "charset must not be null");
+		Assert.isTrue(regionSize >= 16, "regionSize must be at least 16 bytes");
+		this.channel = FileChannel.open(file, StandardOpenOption.READ);
+		this.decoder = charset.newDecoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+		this.size = channel.size();
+		this.regionSize = regionSize;
+		map(0);
+	}
+
+	@Override
+	public int read(char[] chars, int offset, int length) throws IOException {
+		if (length == 0) {
+			return 0;
+		}
+		CharBuffer target = CharBuffer.wrap(chars, offset, length);
+		while (target.position() == offset) {
+			boolean last = regionStart + region.limit() >= size;
+			CoderResult result = decoder.decode(region, target, last);
+			if (result.isError()) {
+				throw new CharacterCodingException();
+			}
+			if (result.isUnderflow() && target.position() == offset) {
+				if (!last) {
+					map(regionStart + region.position());
+				} else if (!flushed) {
+					flushed = true;
+					decoder.flush(target);
+					if (target.position() == offset) {
+						return -1;
+					}
+				} else {
+					return -1;
+				}
+			}
+		}
+		return target.position() - offset;
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	private void map(long start) throws IOException {
+		regionStart = start;
+		region = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(regionSize, size - start));
+	}
+}
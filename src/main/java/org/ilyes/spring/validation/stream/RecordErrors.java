@@ -0,0 +1,101 @@
+package org.ilyes.spring.validation.stream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+import org.springframework.validation.AbstractErrors;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+/**
+ * Lightweight {@link Errors} over the current record of a {@link RecordReader}. Field values are
+ * the record's columns; rejected values are copied to strings, and error codes are kept as
+ * given without message code resolution. The instance is reset and reused for every record.
+ */
+@SuppressWarnings("serial")
+public class RecordErrors extends AbstractErrors {
+
+	private final String objectName;
+	private final List<ObjectError> globalErrors = new ArrayList<ObjectError>();
+	private final List<FieldError> fieldErrors = new ArrayList<FieldError>();
+	private transient RecordReader reader;
+
+	public RecordErrors(String objectName) {
+		Assert.hasLength(objectName, "objectName must not be empty");
+		this.objectName = objectName;
+	}
+
+	public void reset(RecordReader reader) {
+		this.reader = reader;
+		globalErrors.clear();
+		fieldErrors.clear();
+	}
+
+	@Override
+	public String getObjectName() {
+		return objectName;
+	}
+
+	@Override
+	public void reject(String errorCode, Object[] errorArgs, String defaultMessage) {
+		globalErrors.add(new ObjectError(objectName, codes(errorCode), errorArgs, defaultMessage));
+	}
+
+	@Override
+	public void rejectValue(String field, String errorCode, Object[] errorArgs, String defaultMessage) {
+		if (field == null || field.isEmpty()) {
+			reject(errorCode, errorArgs, defaultMessage);
+			return;
+		}
+		Object value = getFieldValue(field);
+		String rejectedValue = (value != null) ? value.toString() : null;
+		fieldErrors.add(new FieldError(objectName, field, rejectedValue, false, codes(errorCode), errorArgs, defaultMessage));
+	}
+
+	@Override
+	public void addAllErrors(Errors errors) {
+		Assert.isTrue(objectName.equals(errors.getObjectName()), "Errors object needs to have same object name");
+		globalErrors.addAll(errors.getGlobalErrors());
+		fieldErrors.addAll(errors.getFieldErrors());
+	}
+
+	@Override
+	public boolean hasErrors() {
+		return !globalErrors.isEmpty() || !fieldErrors.isEmpty();
+	}
+
+	@Override
+	public int getErrorCount() {
+		return globalErrors.size() + fieldErrors.size();
+	}
+
+	@Override
+	public List<ObjectError> getGlobalErrors() {
+		return Collections.unmodifiableList(globalErrors);
+	}
+
+	@Override
+	public List<FieldError> getFieldErrors() {
+		return Collections.unmodifiableList(fieldErrors);
+	}
+
+	@Override
+	public Object getFieldValue(String field) {
+		if (reader == null) {
+			return null;
+		}
+		try {
+			return reader.getColumn(reader.getColumnIndex(fixedField(field)));
+		} catch (IOException ex) {
+			throw new IllegalStateException("Can not resolve column " + field, ex);
+		}
+	}
+
+	private static String[] codes(String errorCode) {
+		return (errorCode != null) ? new String[] {errorCode} : null;
+	}
+}
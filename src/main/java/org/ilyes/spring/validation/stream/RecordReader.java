@@ -0,0 +1,33 @@
+package org.ilyes.spring.validation.stream;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Incremental reader of flat records. Column values are exposed as {@link CharSequence} views
+ * over the reader's buffers, valid only until the next call to {@link #next()}; copy them with
+ * {@code toString()} to keep them.
+ */
+public interface RecordReader extends Closeable {
+
+	/**
+	 * Advance to the next record.
+	 * @return {@code false} at the end of the input
+	 */
+	boolean next() throws IOException;
+
+	/**
+	 * @return the 1-based number of the current record, not counting a header
+	 */
+	long getRecordNumber();
+
+	/**
+	 * @return the index of the named column, or {@code -1} if the input has no such column
+	 */
+	int getColumnIndex(String name) throws IOException;
+
+	/**
+	 * @return the value of the column in the current record, or {@code null} if it is absent
+	 */
+	CharSequence getColumn(int index);
+}
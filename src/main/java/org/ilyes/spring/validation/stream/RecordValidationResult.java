@@ -0,0 +1,34 @@
+package org.ilyes.spring.validation.stream;
+
+/**
+ * Counters of a {@link RecordValidator} run.
+ */
+public final class RecordValidationResult {
+
+	private final long recordCount;
+	private final long rejectedCount;
+	private final long errorCount;
+
+	RecordValidationResult(long recordCount, long rejectedCount, long errorCount) {
+		this.recordCount = recordCount;
+		this.rejectedCount = rejectedCount;
+		this.errorCount = errorCount;
+	}
+
+	public long getRecordCount() {
+		return recordCount;
+	}
+
+	public long getRejectedCount() {
+		return rejectedCount;
+	}
+
+	public long getErrorCount() {
+		return errorCount;
+	}
+
+	@Override
+	public String toString() {
+		return "RecordValidationResult[records=" + recordCount + ", rejected=" + rejectedCount + ", errors=" + errorCount + "]";
+	}
+}
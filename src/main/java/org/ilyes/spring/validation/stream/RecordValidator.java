@@ -0,0 +1,126 @@
+package org.ilyes.spring.validation.stream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.ilyes.spring.validation.validator.FieldValidator;
+import org.springframework.util.Assert;
+
+/**
+ * Streaming validation stage applying {@link FieldValidator} rules directly to the column values
+ * of a {@link RecordReader}, without binding records to beans. Records are read one at a time,
+ * validated against a single reused {@link RecordErrors} and passed to an {@link ErrorSink} when
+ * rejected, so memory stays bounded by the longest record whatever the size of the input.
+ * Validators receive the columns as {@link CharSequence} values and must not keep them.
+ */
+public final class RecordValidator {
+
+	private static final Object[] NO_ARGS = new Object[0];
+
+	private final String objectName;
+	private final String[] columnNames;
+	private final Rule[][] rules;
+
+	private RecordValidator(String objectName, String[] columnNames, Rule[][] rules) {
+		this.objectName = objectName;
+		this.columnNames = columnNames;
+		this.rules = rules;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public RecordValidationResult validate(RecordReader reader, ErrorSink sink) throws IOException {
+		Assert.notNull(reader, "reader must not be null");
+		Assert.notNull(sink, "sink must not be null");
+		int[] columns = new int[columnNames.length];
+		for (int i = 0; i < columnNames.length; i++) {
+			columns[i] = reader.getColumnIndex(columnNames[i]);
+		}
+		RecordErrors errors = new RecordErrors(objectName);
+		long records = 0;
+		long rejected = 0;
+		long errorCount = 0;
+		while (reader.next()) {
+			records++;
+			errors.reset(reader);
+			for (int i = 0; i < columns.length; i++) {
+				CharSequence value = reader.getColumn(columns[i]);
+				for (Rule rule : rules[i]) {
+					rule.validator.validateValue(errors, columnNames[i], value, rule.errorCode, rule.errorArgs);
+				}
+			}
+			if (errors.hasErrors()) {
+				rejected++;
+				errorCount += errors.getErrorCount();
+				sink.accept(reader.getRecordNumber(), errors);
+			}
+		}
+		return new RecordValidationResult(records, rejected, errorCount);
+	}
+
+	static final class Rule {
+
+		final FieldValidator validator;
+		final String errorCode;
+		final Object[] errorArgs;
+
+		Rule(FieldValidator validator, String errorCode, Object[] errorArgs) {
+			this.validator = validator;
+			this.errorCode = errorCode;
+			this.errorArgs = (errorArgs != null) ? errorArgs.clone() : NO_ARGS;
+		}
+	}
+
+	public static final class Builder {
+
+		private final Map<String, List<Rule>> rules = new LinkedHashMap<String, List<Rule>>();
+		private String objectName = "record";
+		private String columnName;
+
+		private Builder() {
+		}
+
+		public Builder objectName(String objectName) {
+			Assert.hasLength(objectName, "objectName must not be empty");
+			this.objectName = objectName;
+			return this;
+		}
+
+		public Builder column(String columnName) {
+			Assert.hasLength(columnName, "columnName must not be empty");
+			this.columnName = columnName;
+			return this;
+		}
+
+		public Builder rule(FieldValidator validator) {
+			return rule(validator, null);
+		}
+
+		public Builder rule(FieldValidator validator, String errorCode, Object... errorArgs) {
+			Assert.notNull(validator, "validator must not be null");
+			Assert.state(columnName != null, "column(String) must be called before adding rules");
+			List<Rule> columnRules = rules.get(columnName);
+			if (columnRules == null) {
+				columnRules = new ArrayList<Rule>();
+				rules.put(columnName, columnRules);
+			}
+			columnRules.add(new Rule(validator, errorCode, errorArgs));
+			return this;
+		}
+
+		public RecordValidator build() {
+			String[] columnNames = rules.keySet().toArray(new String[rules.size()]);
+			Rule[][] columnRules = new Rule[columnNames.length][];
+			for (int i = 0; i < columnNames.length; i++) {
+				List<Rule> list = rules.get(columnNames[i]);
+				columnRules[i] = list.toArray(new Rule[list.size()]);
+			}
+			return new RecordValidator(objectName, columnNames, columnRules);
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package org.ilyes.spring.validation.stream;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import org.springframework.util.Assert;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+/**
+ * {@link ErrorSink} writing one CSV line per error: record number, field (empty for global
+ * errors), error code and rejected value. The writer is neither flushed nor closed by the sink.
+ */
+public class WriterErrorSink implements ErrorSink {
+
+	private final Writer writer;
+
+	public WriterErrorSink(Writer writer) {
+		Assert.notNull(writer, "writer must not be null");
+		this.writer = writer;
+	}
+
+	@Override
+	public void accept(long recordNumber, Errors errors) throws IOException {
+		for (ObjectError error : errors.getGlobalErrors()) {
+			write(recordNumber, null, error.getCode(), null);
+		}
+		for (FieldError error : errors.getFieldErrors()) {
+			write(recordNumber, error.getField(), error.getCode(), error.getRejectedValue());
+		}
+	}
+
+	private void write(long recordNumber, String field, String code, Object rejectedValue) throws IOException {
+		writer.write(Long.toString(recordNumber));
+		writer.write(',');
+		writeValue(field);
+		writer.write(',');
+		writeValue(code);
+		writer.write(',');
+		writeValue(rejectedValue != null ? rejectedValue.toString() : null);
+		writer.write('\n');
+	}
+
+	private void writeValue(String value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		boolean quote = false;
+		for (int i = 0; i < value.length() && !quote; i++) {
+			char c = value.charAt(i);
+			quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+		}
+		if (!quote) {
+			writer.write(value);
+			return;
+		}
+		writer.write('"');
+		writer.write(value.replace("\"", "\"\""));
+		writer.write('"');
+	}
+}
@@ -0,0 +1,270 @@
+package org.ilyes.spring.validation.support;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+
+/**
+ * Concurrent cache with a size bound and sampled least-recently-used eviction, optionally
+ * expiring entries a fixed time after they were loaded. Hits are lock-free and only write the
+ * entry they read: the access stamp is a tick advanced by misses, so hits never contend on a
+ * shared counter. A value is computed at most once per key by
+ * {@link ConcurrentHashMap#computeIfAbsent}. Entries are also kept in a dense slot array, and
+ * when the cache overflows the least recently used of {@value #EVICTION_SAMPLES} random entries is
+ * evicted, so a miss costs the same whatever the size. Expired entries are dropped when they are
+ * next read and count as evictions.
+ */
+public class BoundedCache<K, V> {
+
+	private static final int EVICTION_SAMPLES = 8;
+
+	private final ConcurrentMap<K, Entry<K, V>> entries = new ConcurrentHashMap<K, Entry<K, V>>();
+	private final AtomicLong clock = new AtomicLong();
+	private volatile long tick;
+	private final ReentrantLock slotLock = new ReentrantLock();
+	private final int maxSize;
+	private final long expireAfterWriteNanos;
+
+	// guarded by slotLock
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private Entry<K, V>[] slots = new Entry[16];
+	private int slotCount;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	public BoundedCache(int maxSize) {
+		Assert.isTrue(maxSize > 0, "maxSize must be positive");
+		this.maxSize = maxSize;
+		this.expireAfterWriteNanos = 0;
+	}
+
+	public BoundedCache(int maxSize, long expireAfterWrite, TimeUnit unit) {
+		Assert.isTrue(maxSize > 0, "maxSize must be positive");
+		Assert.isTrue(expireAfterWrite > 0, "expireAfterWrite must be positive");
+		Assert.notNull(unit, "unit must not be null");
+		this.maxSize = maxSize;
+		this.expireAfterWriteNanos = unit.toNanos(expireAfterWrite);
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	public V get(K key, Function<? super K, ? extends V> loader) {
+		Entry<K, V> entry = entries.get(key);
+		if (entry != null) {
+			if (!isExpired(entry)) {
+				touch(entry);
+				hits.increment();
+				return entry.value;
+			}
+			if (entries.remove(key, entry)) {
+				unregister(entry);
+				evictions.increment();
+			}
+		}
+		long writtenAt = (expireAfterWriteNanos > 0) ? System.nanoTime() : 0L;
+		Loader<K, V> computation = new Loader<K, V>(loader, advance(), writtenAt);
+		entry = entries.computeIfAbsent(key, computation);
+		if (computation.loaded) {
+			misses.increment();
+			register(entry);
+		} else {
+			touch(entry);
+			hits.increment();
+		}
+		return entry.value;
+	}
+
+	/**
+	 * Look up a value without loading it; counts as a hit or a miss.
+	 */
+	public V getIfPresent(K key) {
+		Entry<K, V> entry = entries.get(key);
+		if (entry == null || isExpired(entry)) {
+			misses.increment();
+			return null;
+		}
+		touch(entry);
+		hits.increment();
+		return entry.value;
+	}
+
+	/**
+	 * Store a value loaded by the caller, replacing any previous one.
+	 */
+	public void put(K key, V value) {
+		long writtenAt = (expireAfterWriteNanos > 0) ? System.nanoTime() : 0L;
+		Entry<K, V> entry = new Entry<K, V>(key, value, advance(), writtenAt);
+		Entry<K, V> previous = entries.put(key, entry);
+		if (previous != null) {
+			unregister(previous);
+		}
+		register(entry);
+	}
+
+	public void remove(K key) {
+		Entry<K, V> entry = entries.remove(key);
+		if (entry != null) {
+			unregister(entry);
+		}
+	}
+
+	public void clear() {
+		slotLock.lock();
+		try {
+			entries.clear();
+			for (int i = 0; i < slotCount; i++) {
+				slots[i].slot = Entry.REMOVED;
+				slots[i] = null;
+			}
+			slotCount = 0;
+		} finally {
+			slotLock.unlock();
+		}
+	}
+
+	public CacheStatistics getStatistics() {
+		return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), entries.size(), maxSize);
+	}
+
+	private boolean isExpired(Entry<K, V> entry) {
+		return expireAfterWriteNanos > 0 && System.nanoTime() - entry.writtenAt >= expireAfterWriteNanos;
+	}
+
+	/**
+	 * @return the stamp of a new entry; hits from now on are stamped after it
+	 */
+	private long advance() {
+		long now = clock.addAndGet(2);
+		tick = now + 1;
+		return now;
+	}
+
+	private void touch(Entry<K, V> entry) {
+		long now = tick;
+		if (entry.lastAccess != now) {
+			entry.lastAccess = now;
+		}
+	}
+
+	/**
+	 * Add a new entry to the slots and evict sampled entries while the cache is over its bound.
+	 */
+	private void register(Entry<K, V> entry) {
+		slotLock.lock();
+		try {
+			// removed, or dropped by a concurrent clear() before it could be registered
+			if (entry.slot != Entry.UNREGISTERED || entries.get(entry.key) != entry) {
+				entry.slot = Entry.REMOVED;
+				return;
+			}
+			if (slotCount == slots.length) {
+				slots = Arrays.copyOf(slots, slotCount * 2);
+			}
+			entry.slot = slotCount;
+			slots[slotCount++] = entry;
+			while (slotCount > maxSize) {
+				Entry<K, V> victim = eldestSample();
+				removeSlot(victim);
+				if (entries.remove(victim.key, victim)) {
+					evictions.increment();
+				}
+			}
+		} finally {
+			slotLock.unlock();
+		}
+	}
+
+	/**
+	 * @return the least recently used of a few random entries, or of all of them in small caches
+	 */
+	private Entry<K, V> eldestSample() {
+		boolean scan = slotCount <= EVICTION_SAMPLES;
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		Entry<K, V> eldest = null;
+		for (int i = 0; i < (scan ? slotCount : EVICTION_SAMPLES); i++) {
+			Entry<K, V> candidate = slots[scan ? i : random.nextInt(slotCount)];
+			if (eldest == null || candidate.lastAccess < eldest.lastAccess) {
+				eldest = candidate;
+			}
+		}
+		return eldest;
+	}
+
+	private void unregister(Entry<K, V> entry) {
+		slotLock.lock();
+		try {
+			if (entry.slot >= 0) {
+				removeSlot(entry);
+			} else {
+				entry.slot = Entry.REMOVED;
+			}
+		} finally {
+			slotLock.unlock();
+		}
+	}
+
+	private void removeSlot(Entry<K, V> entry) {
+		int index = entry.slot;
+		Entry<K, V> last = slots[--slotCount];
+		slots[index] = last;
+		last.slot = index;
+		slots[slotCount] = null;
+		entry.slot = Entry.REMOVED;
+	}
+
+	private static final class Entry<K, V> {
+
+		static final int UNREGISTERED = -1;
+		static final int REMOVED = -2;
+
+		final K key;
+		final V value;
+		final long writtenAt;
+		volatile long lastAccess;
+		// guarded by slotLock
+		int slot = UNREGISTERED;
+
+		Entry(K key, V value, long lastAccess, long writtenAt) {
+			this.key = key;
+			this.value = value;
+			this.lastAccess = lastAccess;
+			this.writtenAt = writtenAt;
+		}
+	}
+
+	private static final class Loader<K, V> implements Function<K, Entry<K, V>> {
+
+		private final Function<? super K, ? extends V> loader;
+		private final long access;
+		private final long writtenAt;
+		boolean loaded;
+
+		Loader(Function<? super K, ? extends V> loader, long access, long writtenAt) {
+			this.loader = loader;
+			this.access = access;
+			this.writtenAt = writtenAt;
+		}
+
+		@Override
+		public Entry<K, V> apply(K key) {
+			loaded = true;
+			return new Entry<K, V>(key, loader.apply(key), access, writtenAt);
+		}
+	}
+}
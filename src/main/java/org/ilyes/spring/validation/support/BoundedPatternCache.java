@@ -0,0 +1,74 @@
+package org.ilyes.spring.validation.support;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * {@link PatternCache} backed by a {@link BoundedCache}. Compile failures are
+ * cached as well, so an invalid expression is compiled only once.
+ */
+public class BoundedPatternCache implements PatternCache {
+
+	public static final int DEFAULT_MAX_SIZE = 1000;
+
+	private final BoundedCache<String, CompiledPattern> cache;
+	private final LongAdder compileFailures = new LongAdder();
+	private final LongAdder compileNanos = new LongAdder();
+	private final Function<String, CompiledPattern> compiler = new Function<String, CompiledPattern>() {
+		@Override
+		public CompiledPattern apply(String regExp) {
+			return compile(regExp);
+		}
+	};
+
+	public BoundedPatternCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	public BoundedPatternCache(int maxSize) {
+		this.cache = new BoundedCache<String, CompiledPattern>(maxSize);
+	}
+
+	@Override
+	public Pattern getPattern(String regExp) {
+		CompiledPattern compiled = cache.get(regExp, compiler);
+		if (compiled.failure != null) {
+			throw compiled.failure;
+		}
+		return compiled.pattern;
+	}
+
+	@Override
+	public PatternCacheStatistics getStatistics() {
+		return new PatternCacheStatistics(cache.getStatistics(), compileFailures.sum(), compileNanos.sum());
+	}
+
+	public void clear() {
+		cache.clear();
+	}
+
+	private CompiledPattern compile(String regExp) {
+		long start = System.nanoTime();
+		try {
+			return new CompiledPattern(Pattern.compile(regExp), null);
+		} catch (PatternSyntaxException ex) {
+			compileFailures.increment();
+			return new CompiledPattern(null, ex);
+		} finally {
+			compileNanos.add(System.nanoTime() - start);
+		}
+	}
+
+	private static final class CompiledPattern {
+
+		final Pattern pattern;
+		final PatternSyntaxException failure;
+
+		CompiledPattern(Pattern pattern, PatternSyntaxException failure) {
+			this.pattern = pattern;
+			this.failure = failure;
+		}
+	}
+}
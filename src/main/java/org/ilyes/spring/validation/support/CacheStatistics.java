@@ -0,0 +1,55 @@
+package org.ilyes.spring.validation.support;
+
+/**
+ * Immutable snapshot of the counters of a {@link BoundedCache}.
+ */
+public class CacheStatistics {
+
+	private final long hitCount;
+	private final long missCount;
+	private final long evictionCount;
+	private final int size;
+	private final int maxSize;
+
+	public CacheStatistics(long hitCount, long missCount, long evictionCount, int size, int maxSize) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.evictionCount = evictionCount;
+		this.size = size;
+		this.maxSize = maxSize;
+	}
+
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	public long getMissCount() {
+		return missCount;
+	}
+
+	public long getRequestCount() {
+		return hitCount + missCount;
+	}
+
+	public double getHitRate() {
+		long requests = getRequestCount();
+		return (requests == 0) ? 1.0d : (double) hitCount / requests;
+	}
+
+	public long getEvictionCount() {
+		return evictionCount;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	@Override
+	public String toString() {
+		return "hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount + ", size=" + size + "/" + maxSize;
+	}
+}
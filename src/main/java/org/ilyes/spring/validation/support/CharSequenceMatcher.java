@@ -0,0 +1,10 @@
+package org.ilyes.spring.validation.support;
+
+/**
+ * Whole-input match test against a {@link CharSequence}, equivalent to
+ * {@code pattern.matcher(input).matches()} for the expression it was built from.
+ */
+public interface CharSequenceMatcher {
+
+	boolean matches(CharSequence input);
+}
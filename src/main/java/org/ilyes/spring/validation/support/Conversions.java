@@ -0,0 +1,301 @@
+package org.ilyes.spring.validation.support;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Type conversion for field values that reports failures with the {@link #FAILED}
+ * sentinel instead of an exception.
+ * <p>The converter for every (source type, target type) pair is looked up once. Text to
+ * number, boolean and enum conversions and integral number conversions are done here without
+ * exceptions, following the rules of Spring's default converters; other pairs go through the
+ * shared {@link DefaultConversionService}.
+ */
+public abstract class Conversions {
+
+	public static final Object FAILED = new Object() {
+		@Override
+		public String toString() {
+			return "FAILED";
+		}
+	};
+
+	private static final ConversionService CONVERSION_SERVICE = new DefaultConversionService();
+
+	private static final ClassValue<ConcurrentMap<Class<?>, TypeConverter>> CONVERTERS = new ClassValue<ConcurrentMap<Class<?>, TypeConverter>>() {
+		@Override
+		protected ConcurrentMap<Class<?>, TypeConverter> computeValue(Class<?> targetType) {
+			return new ConcurrentHashMap<Class<?>, TypeConverter>();
+		}
+	};
+
+	public static ConversionService getConversionService() {
+		return CONVERSION_SERVICE;
+	}
+
+	/**
+	 * @return the converted value, {@code null} for a {@code null} value, or {@link #FAILED}
+	 */
+	public static Object convert(Object value, Class<?> type) {
+		if (value == null || type.isInstance(value)) {
+			return value;
+		}
+		Class<?> targetType = ClassUtils.resolvePrimitiveIfNecessary(type);
+		if (targetType.isInstance(value)) {
+			return value;
+		}
+		return converter(value.getClass(), targetType).convert(value);
+	}
+
+	public static boolean isFailed(Object value) {
+		return value == FAILED;
+	}
+
+	private static TypeConverter converter(Class<?> sourceType, Class<?> targetType) {
+		ConcurrentMap<Class<?>, TypeConverter> converters = CONVERTERS.get(targetType);
+		TypeConverter converter = converters.get(sourceType);
+		if (converter == null) {
+			converter = createConverter(sourceType, targetType);
+			converters.putIfAbsent(sourceType, converter);
+		}
+		return converter;
+	}
+
+	private static TypeConverter createConverter(Class<?> sourceType, Class<?> targetType) {
+		if (CharSequence.class.isAssignableFrom(sourceType)) {
+			if (targetType == String.class) {
+				return TEXT_TO_STRING;
+			}
+			if (targetType == Integer.class || targetType == Long.class || targetType == Short.class || targetType == Byte.class) {
+				return new TextToIntegralConverter(targetType);
+			}
+			if (targetType == Double.class || targetType == Float.class || targetType == BigDecimal.class) {
+				return new TextToDecimalConverter(targetType);
+			}
+			if (targetType == BigInteger.class) {
+				return new TextToBigIntegerConverter();
+			}
+			if (targetType == Boolean.class) {
+				return TEXT_TO_BOOLEAN;
+			}
+			if (targetType.isEnum()) {
+				return new TextToEnumConverter(targetType);
+			}
+		}
+		if (isIntegral(sourceType) && isIntegral(targetType)) {
+			return new IntegralConverter(targetType);
+		}
+		if (!CONVERSION_SERVICE.canConvert(sourceType, targetType)) {
+			return NOT_CONVERTIBLE;
+		}
+		return new ServiceConverter(targetType);
+	}
+
+	private static boolean isIntegral(Class<?> type) {
+		return type == Integer.class || type == Long.class || type == Short.class || type == Byte.class;
+	}
+
+	private static Object integral(long value, Class<?> targetType) {
+		if (targetType == Long.class) {
+			return value;
+		}
+		if (targetType == Integer.class) {
+			return (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) ? Integer.valueOf((int) value) : FAILED;
+		}
+		if (targetType == Short.class) {
+			return (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) ? Short.valueOf((short) value) : FAILED;
+		}
+		return (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) ? Byte.valueOf((byte) value) : FAILED;
+	}
+
+	private abstract static class TypeConverter {
+
+		abstract Object convert(Object value);
+	}
+
+	private static final TypeConverter NOT_CONVERTIBLE = new TypeConverter() {
+		@Override
+		Object convert(Object value) {
+			return FAILED;
+		}
+	};
+
+	private static final TypeConverter TEXT_TO_STRING = new TypeConverter() {
+		@Override
+		Object convert(Object value) {
+			return value.toString();
+		}
+	};
+
+	private static final TypeConverter TEXT_TO_BOOLEAN = new TypeConverter() {
+		@Override
+		Object convert(Object value) {
+			String text = value.toString().trim();
+			if (text.isEmpty()) {
+				return null;
+			}
+			if ("true".equalsIgnoreCase(text) || "on".equalsIgnoreCase(text) || "yes".equalsIgnoreCase(text) || "1".equals(text)) {
+				return Boolean.TRUE;
+			}
+			if ("false".equalsIgnoreCase(text) || "off".equalsIgnoreCase(text) || "no".equalsIgnoreCase(text) || "0".equals(text)) {
+				return Boolean.FALSE;
+			}
+			return FAILED;
+		}
+	};
+
+	private static final class ServiceConverter extends TypeConverter {
+
+		private final Class<?> targetType;
+
+		ServiceConverter(Class<?> targetType) {
+			this.targetType = targetType;
+		}
+
+		@Override
+		Object convert(Object value) {
+			try {
+				return CONVERSION_SERVICE.convert(value, targetType);
+			} catch (RuntimeException ex) {
+				return FAILED;
+			}
+		}
+	}
+
+	private static final class TextToIntegralConverter extends TypeConverter {
+
+		private final Class<?> targetType;
+		private final ServiceConverter hexConverter;
+
+		TextToIntegralConverter(Class<?> targetType) {
+			this.targetType = targetType;
+			this.hexConverter = new ServiceConverter(targetType);
+		}
+
+		@Override
+		Object convert(Object value) {
+			CharSequence text = (CharSequence) value;
+			if (text.length() == 0) {
+				return null;
+			}
+			if (NumberParsing.isLong(text)) {
+				return integral(NumberParsing.parseLong(text), targetType);
+			}
+			return NumberParsing.hasHexPrefix(text) ? hexConverter.convert(text.toString()) : FAILED;
+		}
+	}
+
+	private static final class TextToDecimalConverter extends TypeConverter {
+
+		private final Class<?> targetType;
+		private final ServiceConverter fallback;
+
+		TextToDecimalConverter(Class<?> targetType) {
+			this.targetType = targetType;
+			this.fallback = new ServiceConverter(targetType);
+		}
+
+		@Override
+		Object convert(Object value) {
+			CharSequence text = (CharSequence) value;
+			if (text.length() == 0) {
+				return null;
+			}
+			if (!NumberParsing.isDecimal(text)) {
+				return (targetType != BigDecimal.class && mayBeSpecialFloat(text)) ? fallback.convert(text.toString()) : FAILED;
+			}
+			String number = NumberParsing.compact(text);
+			if (targetType == BigDecimal.class) {
+				return new BigDecimal(number);
+			}
+			return (targetType == Double.class) ? (Object) Double.valueOf(number) : (Object) Float.valueOf(number);
+		}
+
+		private static boolean mayBeSpecialFloat(CharSequence text) {
+			for (int i = 0; i < text.length(); i++) {
+				char c = text.charAt(i);
+				if (c == 'N' || c == 'I' || c == 'x' || c == 'X' || c == 'd' || c == 'D' || c == 'f' || c == 'F') {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	private static final class TextToBigIntegerConverter extends TypeConverter {
+
+		private final ServiceConverter hexConverter = new ServiceConverter(BigInteger.class);
+
+		@Override
+		Object convert(Object value) {
+			CharSequence text = (CharSequence) value;
+			if (text.length() == 0) {
+				return null;
+			}
+			if (NumberParsing.isLong(text)) {
+				return BigInteger.valueOf(NumberParsing.parseLong(text));
+			}
+			if (NumberParsing.hasHexPrefix(text)) {
+				return hexConverter.convert(text.toString());
+			}
+			String number = NumberParsing.compact(text);
+			return isInteger(number) ? new BigInteger(number) : FAILED;
+		}
+
+		private static boolean isInteger(String number) {
+			int start = (number.startsWith("-") || number.startsWith("+")) ? 1 : 0;
+			if (start == number.length()) {
+				return false;
+			}
+			for (int i = start; i < number.length(); i++) {
+				if (number.charAt(i) < '0' || number.charAt(i) > '9') {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private static final class TextToEnumConverter extends TypeConverter {
+
+		private final Map<String, Object> constants = new HashMap<String, Object>();
+
+		TextToEnumConverter(Class<?> enumType) {
+			for (Object constant : enumType.getEnumConstants()) {
+				constants.put(((Enum<?>) constant).name(), constant);
+			}
+		}
+
+		@Override
+		Object convert(Object value) {
+			String text = value.toString();
+			if (text.isEmpty()) {
+				return null;
+			}
+			Object constant = constants.get(text.trim());
+			return (constant != null) ? constant : FAILED;
+		}
+	}
+
+	private static final class IntegralConverter extends TypeConverter {
+
+		private final Class<?> targetType;
+
+		IntegralConverter(Class<?> targetType) {
+			this.targetType = targetType;
+		}
+
+		@Override
+		Object convert(Object value) {
+			return integral(((Number) value).longValue(), targetType);
+		}
+	}
+}
@@ -0,0 +1,307 @@
+package org.ilyes.spring.validation.support;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalQueries;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+
+/**
+ * Exception-free date parsing on top of cached, thread-safe {@link DateTimeFormatter}s keyed by
+ * pattern and locale. Patterns made of day, month, year, hour, minute, second and fraction fields
+ * are parsed with {@link DateTimeFormatter#parseUnresolved} and resolved here, so invalid input
+ * costs no exception; other patterns fall back to {@link DateTimeFormatter#parse}.
+ * <p>Patterns use the {@link java.text.SimpleDateFormat} letters of the former implementation;
+ * {@code y} and {@code Y} both denote the calendar year and dates are resolved strictly.
+ */
+public abstract class DateParsing {
+
+	private static final String SIMPLE_PATTERN_LETTERS = "yYudMHmsS";
+
+	private static final BoundedCache<FormatterKey, DatePattern> FORMATTERS = new BoundedCache<FormatterKey, DatePattern>(256);
+
+	private static final Function<FormatterKey, DatePattern> FORMATTER_FACTORY = new Function<FormatterKey, DatePattern>() {
+		@Override
+		public DatePattern apply(FormatterKey key) {
+			return new DatePattern(key.pattern, key.locale);
+		}
+	};
+
+	/**
+	 * Return a formatter that prints with the field widths of the given pattern. Text is parsed
+	 * with {@link #parse(CharSequence, String, Locale)}, which also accepts other widths.
+	 */
+	public static DateTimeFormatter getFormatter(String pattern, Locale locale) {
+		return datePattern(pattern, locale).formatter;
+	}
+
+	public static LocalDateTime parse(CharSequence text, String pattern) {
+		return parse(text, pattern, Locale.getDefault());
+	}
+
+	/**
+	 * @return the parsed date (at start of day if the pattern has no time fields),
+	 * or {@code null} if the text does not match the pattern or is not a valid date
+	 */
+	public static LocalDateTime parse(CharSequence text, String pattern, Locale locale) {
+		if (text == null) {
+			return null;
+		}
+		return datePattern(pattern, locale).parse(text);
+	}
+
+	/**
+	 * Convert a {@link Date}, {@link Calendar} or {@code java.time} value to a local date-time in the given zone.
+	 * @return the converted value, or {@code null} for unsupported types
+	 */
+	public static LocalDateTime toLocalDateTime(Object value, ZoneId zone) {
+		if (value instanceof LocalDateTime) {
+			return (LocalDateTime) value;
+		}
+		if (value instanceof LocalDate) {
+			return ((LocalDate) value).atStartOfDay();
+		}
+		if (value instanceof Date) {
+			return LocalDateTime.ofInstant(Instant.ofEpochMilli(((Date) value).getTime()), zone);
+		}
+		if (value instanceof Calendar) {
+			return LocalDateTime.ofInstant(Instant.ofEpochMilli(((Calendar) value).getTimeInMillis()), zone);
+		}
+		if (value instanceof Instant) {
+			return LocalDateTime.ofInstant((Instant) value, zone);
+		}
+		if (value instanceof ZonedDateTime) {
+			return ((ZonedDateTime) value).withZoneSameInstant(zone).toLocalDateTime();
+		}
+		if (value instanceof TemporalAccessor) {
+			TemporalAccessor temporal = (TemporalAccessor) value;
+			if (temporal.isSupported(ChronoField.INSTANT_SECONDS)) {
+				return LocalDateTime.ofInstant(Instant.from(temporal), zone);
+			}
+			LocalDate date = temporal.query(TemporalQueries.localDate());
+			if (date != null) {
+				LocalTime time = temporal.query(TemporalQueries.localTime());
+				return (time != null) ? date.atTime(time) : date.atStartOfDay();
+			}
+		}
+		return null;
+	}
+
+	private static DatePattern datePattern(String pattern, Locale locale) {
+		Assert.hasLength(pattern, "date pattern must not be empty");
+		return FORMATTERS.get(new FormatterKey(pattern, (locale != null) ? locale : Locale.getDefault()), FORMATTER_FACTORY);
+	}
+
+	/**
+	 * Translate a {@link java.text.SimpleDateFormat} pattern. As there, a numeric field that is not
+	 * adjacent to another field is parsed with any number of digits, so {@code dd.MM.yyyy} parses
+	 * {@code 1.2.2016}, and a two-digit {@code yy} year lies within 80 years before and 20 years
+	 * after today. Adjacent numeric fields such as {@code yyyyMMdd} keep their fixed widths, and no
+	 * numeric field accepts a sign. Unless {@code parsing}, every field keeps the width of the pattern.
+	 */
+	static DateTimeFormatterBuilder appendPattern(DateTimeFormatterBuilder builder, String pattern, boolean parsing) {
+		StringBuilder pending = new StringBuilder(pattern.length());
+		boolean quoted = false;
+		boolean afterField = false;
+		int i = 0;
+		while (i < pattern.length()) {
+			char c = pattern.charAt(i);
+			if (quoted || !isLetter(c)) {
+				if (c == '\'') {
+					quoted = !quoted;
+				}
+				pending.append(c);
+				afterField = false;
+				i++;
+				continue;
+			}
+			int end = i;
+			while (end < pattern.length() && pattern.charAt(end) == c) {
+				end++;
+			}
+			int count = end - i;
+			boolean year = (c == 'y' || c == 'Y' || c == 'u');
+			TemporalField field = numericField(c, count);
+			if (parsing && field != null && !afterField && (end == pattern.length() || !isLetter(pattern.charAt(end)))) {
+				builder.appendPattern(pending.toString());
+				pending.setLength(0);
+				if (year && count == 2) {
+					builder.appendValueReduced(field, 2, 10, LocalDate.now().minusYears(80));
+				} else {
+					builder.appendValue(field, 1, 19, SignStyle.NOT_NEGATIVE);
+				}
+			} else {
+				for (int j = 0; j < count; j++) {
+					pending.append(year ? 'u' : c);
+				}
+			}
+			afterField = true;
+			i = end;
+		}
+		return builder.appendPattern(pending.toString());
+	}
+
+	private static TemporalField numericField(char letter, int count) {
+		switch (letter) {
+		case 'y':
+		case 'Y':
+		case 'u':
+			return ChronoField.YEAR;
+		case 'M':
+			return (count <= 2) ? ChronoField.MONTH_OF_YEAR : null;
+		case 'd':
+			return ChronoField.DAY_OF_MONTH;
+		case 'H':
+			return ChronoField.HOUR_OF_DAY;
+		case 'm':
+			return ChronoField.MINUTE_OF_HOUR;
+		case 's':
+			return ChronoField.SECOND_OF_MINUTE;
+		default:
+			return null;
+		}
+	}
+
+	private static boolean isLetter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	static boolean isSimplePattern(String pattern) {
+		boolean quoted = false;
+		boolean hasYear = false;
+		boolean hasMonth = false;
+		boolean hasDay = false;
+		for (int i = 0; i < pattern.length(); i++) {
+			char c = pattern.charAt(i);
+			if (c == '\'') {
+				quoted = !quoted;
+			} else if (!quoted && isLetter(c)) {
+				if (SIMPLE_PATTERN_LETTERS.indexOf(c) < 0) {
+					return false;
+				}
+				hasYear |= (c == 'y' || c == 'Y' || c == 'u');
+				hasMonth |= (c == 'M');
+				hasDay |= (c == 'd');
+			}
+		}
+		return hasYear && hasMonth && hasDay;
+	}
+
+	private static final class DatePattern {
+
+		final DateTimeFormatter formatter;
+		final DateTimeFormatter parser;
+		final boolean simple;
+
+		DatePattern(String pattern, Locale locale) {
+			this.formatter = toFormatter(pattern, locale, false);
+			this.parser = toFormatter(pattern, locale, true);
+			this.simple = isSimplePattern(pattern);
+		}
+
+		LocalDateTime parse(CharSequence text) {
+			ParsePosition position = new ParsePosition(0);
+			TemporalAccessor parsed = parser.parseUnresolved(text, position);
+			if (parsed == null || position.getErrorIndex() >= 0 || position.getIndex() != text.length()) {
+				return null;
+			}
+			return simple ? resolve(parsed) : resolveWithFormatter(text);
+		}
+
+		private LocalDateTime resolveWithFormatter(CharSequence text) {
+			try {
+				TemporalAccessor resolved = parser.parse(text);
+				return toLocalDateTime(resolved, ZoneId.systemDefault());
+			} catch (DateTimeException ex) {
+				return null;
+			}
+		}
+
+		private static DateTimeFormatter toFormatter(String pattern, Locale locale, boolean parsing) {
+			return appendPattern(new DateTimeFormatterBuilder(), pattern, parsing).toFormatter(locale).withResolverStyle(ResolverStyle.STRICT);
+		}
+
+		private static LocalDateTime resolve(TemporalAccessor parsed) {
+			long year = field(parsed, ChronoField.YEAR, Long.MIN_VALUE);
+			long month = field(parsed, ChronoField.MONTH_OF_YEAR, -1);
+			long day = field(parsed, ChronoField.DAY_OF_MONTH, -1);
+			long hour = field(parsed, ChronoField.HOUR_OF_DAY, 0);
+			long minute = field(parsed, ChronoField.MINUTE_OF_HOUR, 0);
+			long second = field(parsed, ChronoField.SECOND_OF_MINUTE, 0);
+			long nano = field(parsed, ChronoField.NANO_OF_SECOND, 0);
+			if (year < Year.MIN_VALUE || year > Year.MAX_VALUE || month < 1 || month > 12 || day < 1
+					|| hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59
+					|| nano < 0 || nano > 999999999L) {
+				return null;
+			}
+			if (day > lengthOfMonth((int) year, (int) month)) {
+				return null;
+			}
+			return LocalDateTime.of((int) year, (int) month, (int) day, (int) hour, (int) minute, (int) second, (int) nano);
+		}
+
+		private static long field(TemporalAccessor parsed, TemporalField field, long defaultValue) {
+			return parsed.isSupported(field) ? parsed.getLong(field) : defaultValue;
+		}
+
+		private static int lengthOfMonth(int year, int month) {
+			switch (month) {
+			case 2:
+				return Year.isLeap(year) ? 29 : 28;
+			case 4:
+			case 6:
+			case 9:
+			case 11:
+				return 30;
+			default:
+				return 31;
+			}
+		}
+	}
+
+	private static final class FormatterKey {
+
+		final String pattern;
+		final Locale locale;
+
+		FormatterKey(String pattern, Locale locale) {
+			this.pattern = pattern;
+			this.locale = locale;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof FormatterKey)) {
+				return false;
+			}
+			FormatterKey key = (FormatterKey) other;
+			return pattern.equals(key.pattern) && locale.equals(key.locale);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * pattern.hashCode() + locale.hashCode();
+		}
+	}
+}
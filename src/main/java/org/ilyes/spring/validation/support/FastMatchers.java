@@ -0,0 +1,272 @@
+package org.ilyes.spring.validation.support;
+
+/**
+ * Detects simple regular expressions that can be matched without {@link java.util.regex.Pattern}:
+ * a single character class with a quantifier ({@code \d+}, {@code [A-Za-z0-9]{8}}, ...),
+ * plain literals, and literal prefixes or suffixes ({@code ABC.*}, {@code .*\.pdf}).
+ * Anything else yields {@code null} and is left to the regex engine.
+ */
+public abstract class FastMatchers {
+
+	private static final String LITERAL_CHARS = " _-,:;/@%=";
+	private static final String ESCAPABLE_CHARS = ".$^*+?()[]{}|\\/-";
+	private static final String ANY = ".*";
+
+	public static CharSequenceMatcher forRegExp(String regExp) {
+		if (regExp == null) {
+			return null;
+		}
+		String expression = stripAnchors(regExp);
+		CharSequenceMatcher matcher = classRepeat(expression);
+		if (matcher != null) {
+			return matcher;
+		}
+		String literal = literal(expression);
+		if (literal != null) {
+			return new LiteralMatcher(literal);
+		}
+		if (expression.endsWith(ANY)) {
+			literal = literal(expression.substring(0, expression.length() - ANY.length()));
+			if (literal != null && literal.length() > 0) {
+				return new PrefixMatcher(literal);
+			}
+		}
+		if (expression.startsWith(ANY)) {
+			literal = literal(expression.substring(ANY.length()));
+			if (literal != null && literal.length() > 0) {
+				return new SuffixMatcher(literal);
+			}
+		}
+		return null;
+	}
+
+	private static String stripAnchors(String regExp) {
+		String expression = regExp;
+		if (expression.startsWith("^")) {
+			expression = expression.substring(1);
+		}
+		if (expression.endsWith("$")) {
+			int backslashes = 0;
+			for (int i = expression.length() - 2; i >= 0 && expression.charAt(i) == '\\'; i--) {
+				backslashes++;
+			}
+			if (backslashes % 2 == 0) {
+				expression = expression.substring(0, expression.length() - 1);
+			}
+		}
+		return expression;
+	}
+
+	private static String literal(String expression) {
+		StringBuilder literal = new StringBuilder(expression.length());
+		for (int i = 0; i < expression.length(); i++) {
+			char c = expression.charAt(i);
+			if (c == '\\') {
+				if (i + 1 >= expression.length() || ESCAPABLE_CHARS.indexOf(expression.charAt(i + 1)) < 0) {
+					return null;
+				}
+				literal.append(expression.charAt(++i));
+			} else if (isAsciiLetterOrDigit(c) || LITERAL_CHARS.indexOf(c) >= 0) {
+				literal.append(c);
+			} else {
+				return null;
+			}
+		}
+		return literal.toString();
+	}
+
+	private static CharSequenceMatcher classRepeat(String expression) {
+		long[] mask = new long[2];
+		int quantifierStart;
+		if (expression.startsWith("\\d")) {
+			addRange(mask, '0', '9');
+			quantifierStart = 2;
+		} else if (expression.startsWith("\\w")) {
+			addRange(mask, '0', '9');
+			addRange(mask, 'a', 'z');
+			addRange(mask, 'A', 'Z');
+			addRange(mask, '_', '_');
+			quantifierStart = 2;
+		} else if (expression.startsWith("[")) {
+			int end = expression.indexOf(']');
+			if (end < 2 || !parseClass(expression.substring(1, end), mask)) {
+				return null;
+			}
+			quantifierStart = end + 1;
+		} else {
+			return null;
+		}
+		String quantifier = expression.substring(quantifierStart);
+		int min;
+		int max;
+		if ("+".equals(quantifier)) {
+			min = 1;
+			max = Integer.MAX_VALUE;
+		} else if ("*".equals(quantifier)) {
+			min = 0;
+			max = Integer.MAX_VALUE;
+		} else if (quantifier.length() > 2 && quantifier.charAt(0) == '{' && quantifier.charAt(quantifier.length() - 1) == '}') {
+			String bounds = quantifier.substring(1, quantifier.length() - 1);
+			int comma = bounds.indexOf(',');
+			if (comma < 0) {
+				min = parseBound(bounds);
+				max = min;
+			} else {
+				min = parseBound(bounds.substring(0, comma));
+				max = (comma == bounds.length() - 1) ? Integer.MAX_VALUE : parseBound(bounds.substring(comma + 1));
+			}
+			if (min < 0 || max < min) {
+				return null;
+			}
+		} else {
+			return null;
+		}
+		return new ClassRepeatMatcher(mask[0], mask[1], min, max);
+	}
+
+	private static boolean parseClass(String content, long[] mask) {
+		int i = 0;
+		while (i < content.length()) {
+			char c = content.charAt(i);
+			if (c == '\\' && i + 1 < content.length() && (content.charAt(i + 1) == 'd')) {
+				addRange(mask, '0', '9');
+				i += 2;
+			} else if (!isAsciiLetterOrDigit(c) && c != '_') {
+				return false;
+			} else if (i + 2 < content.length() && content.charAt(i + 1) == '-') {
+				char to = content.charAt(i + 2);
+				if (!isAsciiLetterOrDigit(to) || to < c) {
+					return false;
+				}
+				addRange(mask, c, to);
+				i += 3;
+			} else {
+				addRange(mask, c, c);
+				i++;
+			}
+		}
+		return true;
+	}
+
+	private static int parseBound(String bound) {
+		if (bound.isEmpty() || bound.length() > 9) {
+			return -1;
+		}
+		for (int i = 0; i < bound.length(); i++) {
+			if (bound.charAt(i) < '0' || bound.charAt(i) > '9') {
+				return -1;
+			}
+		}
+		return Integer.parseInt(bound);
+	}
+
+	private static void addRange(long[] mask, char from, char to) {
+		for (char c = from; c <= to; c++) {
+			mask[c >> 6] |= 1L << (c & 63);
+		}
+	}
+
+	private static boolean isAsciiLetterOrDigit(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+	}
+
+	static boolean isLineTerminator(char c) {
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+
+	static boolean hasLineTerminator(CharSequence input, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (isLineTerminator(input.charAt(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean regionEquals(CharSequence input, int offset, String literal) {
+		for (int i = 0; i < literal.length(); i++) {
+			if (input.charAt(offset + i) != literal.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static final class ClassRepeatMatcher implements CharSequenceMatcher {
+
+		private final long low;
+		private final long high;
+		private final int min;
+		private final int max;
+
+		ClassRepeatMatcher(long low, long high, int min, int max) {
+			this.low = low;
+			this.high = high;
+			this.min = min;
+			this.max = max;
+		}
+
+		@Override
+		public boolean matches(CharSequence input) {
+			int length = input.length();
+			if (length < min || length > max) {
+				return false;
+			}
+			for (int i = 0; i < length; i++) {
+				char c = input.charAt(i);
+				if (c >= 128) {
+					return false;
+				}
+				long word = (c < 64) ? low : high;
+				if ((word & (1L << (c & 63))) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	static final class LiteralMatcher implements CharSequenceMatcher {
+
+		private final String literal;
+
+		LiteralMatcher(String literal) {
+			this.literal = literal;
+		}
+
+		@Override
+		public boolean matches(CharSequence input) {
+			return input.length() == literal.length() && regionEquals(input, 0, literal);
+		}
+	}
+
+	static final class PrefixMatcher implements CharSequenceMatcher {
+
+		private final String prefix;
+
+		PrefixMatcher(String prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		public boolean matches(CharSequence input) {
+			return input.length() >= prefix.length() && regionEquals(input, 0, prefix)
+					&& !hasLineTerminator(input, prefix.length(), input.length());
+		}
+	}
+
+	static final class SuffixMatcher implements CharSequenceMatcher {
+
+		private final String suffix;
+
+		SuffixMatcher(String suffix) {
+			this.suffix = suffix;
+		}
+
+		@Override
+		public boolean matches(CharSequence input) {
+			int offset = input.length() - suffix.length();
+			return offset >= 0 && regionEquals(input, offset, suffix) && !hasLineTerminator(input, 0, offset);
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package org.ilyes.spring.validation.support;
+
+/**
+ * Reads a (possibly nested) bean property from a target object.
+ * Instances are obtained from {@link FieldAccessors} and are thread-safe.
+ */
+public interface FieldAccessor {
+
+	String getPropertyPath();
+
+	Class<?> getPropertyType();
+
+	Object getValue(Object target);
+}
@@ -0,0 +1,263 @@
+package org.ilyes.spring.validation.support;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+
+/**
+ * Cache of generated property getters keyed by (class, property path).
+ * Simple and dotted paths are resolved once to a {@link LambdaMetafactory} function or a
+ * {@link MethodHandle}; indexed or mapped paths fall back to a {@code BeanWrapper}.
+ */
+public abstract class FieldAccessors {
+
+	private static final ConcurrentMap<AccessorKey, FieldAccessor> ACCESSORS = new ConcurrentHashMap<AccessorKey, FieldAccessor>();
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	public static FieldAccessor forProperty(Class<?> type, String propertyPath) {
+		Assert.notNull(type, "type must not be null");
+		Assert.hasLength(propertyPath, "propertyPath must not be empty");
+		AccessorKey key = new AccessorKey(type, propertyPath);
+		FieldAccessor accessor = ACCESSORS.get(key);
+		if (accessor == null) {
+			accessor = createAccessor(type, propertyPath);
+			FieldAccessor existing = ACCESSORS.putIfAbsent(key, accessor);
+			if (existing != null) {
+				accessor = existing;
+			}
+		}
+		return accessor;
+	}
+
+	/**
+	 * Read a field value before formatting. A {@link BindingResult} bound to a bean is read with the
+	 * cached accessor for the field; indexed paths and map targets keep going through the binding
+	 * result's {@code BeanWrapper}.
+	 */
+	public static Object getRawFieldValue(Errors errors, String fieldName) {
+		if (errors instanceof BindingResult) {
+			BindingResult bindingResult = (BindingResult) errors;
+			Object target = bindingResult.getTarget();
+			if (target != null && !(target instanceof Map) && StringUtils.hasLength(fieldName)) {
+				String propertyPath = bindingResult.getNestedPath() + fieldName;
+				if (propertyPath.indexOf('[') < 0) {
+					return forProperty(target.getClass(), propertyPath).getValue(target);
+				}
+			}
+			return bindingResult.getRawFieldValue(fieldName);
+		}
+		return (errors instanceof RawFieldValueSource) ? ((RawFieldValueSource) errors).getRawFieldValue(fieldName) : errors.getFieldValue(fieldName);
+	}
+
+	private static FieldAccessor createAccessor(Class<?> type, String propertyPath) {
+		if (propertyPath.indexOf('[') >= 0) {
+			return new BeanWrapperAccessor(propertyPath);
+		}
+		String[] names = propertyPath.split("\\.");
+		FieldAccessor[] segments = new FieldAccessor[names.length];
+		Class<?> currentType = type;
+		for (int i = 0; i < names.length; i++) {
+			FieldAccessor segment = createPropertyAccessor(currentType, names[i]);
+			if (segment == null) {
+				return new BeanWrapperAccessor(propertyPath);
+			}
+			segments[i] = segment;
+			currentType = segment.getPropertyType();
+		}
+		return (segments.length == 1) ? segments[0] : new NestedAccessor(propertyPath, segments);
+	}
+
+	private static FieldAccessor createPropertyAccessor(Class<?> type, String propertyName) {
+		PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, propertyName);
+		if (descriptor != null && descriptor.getReadMethod() != null) {
+			return getterAccessor(propertyName, descriptor.getReadMethod());
+		}
+		Field field = ReflectionUtils.findField(type, propertyName);
+		if (field != null && !Modifier.isStatic(field.getModifiers())) {
+			return fieldAccessor(propertyName, field);
+		}
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static FieldAccessor getterAccessor(String propertyName, Method getter) {
+		Class<?> declaringClass = getter.getDeclaringClass();
+		if (Modifier.isPublic(declaringClass.getModifiers()) && Modifier.isPublic(getter.getModifiers()) && isVisible(declaringClass)) {
+			try {
+				MethodHandles.Lookup lookup = MethodHandles.lookup();
+				MethodHandle handle = lookup.unreflect(getter);
+				CallSite site = LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+						GETTER_TYPE.erase(), handle, handle.type().wrap());
+				Function<Object, Object> function = (Function<Object, Object>) site.getTarget().invokeExact();
+				return new FunctionAccessor(propertyName, getter.getReturnType(), function);
+			} catch (Throwable ex) {
+				// fall through to a plain method handle
+			}
+		}
+		try {
+			ReflectionUtils.makeAccessible(getter);
+			MethodHandle handle = MethodHandles.lookup().unreflect(getter).asType(GETTER_TYPE);
+			return new MethodHandleAccessor(propertyName, getter.getReturnType(), handle);
+		} catch (IllegalAccessException ex) {
+			return null;
+		}
+	}
+
+	private static FieldAccessor fieldAccessor(String propertyName, Field field) {
+		try {
+			ReflectionUtils.makeAccessible(field);
+			MethodHandle handle = MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+			return new MethodHandleAccessor(propertyName, field.getType(), handle);
+		} catch (IllegalAccessException ex) {
+			return null;
+		}
+	}
+
+	private static boolean isVisible(Class<?> type) {
+		try {
+			return Class.forName(type.getName(), false, FieldAccessors.class.getClassLoader()) == type;
+		} catch (Throwable ex) {
+			return false;
+		}
+	}
+
+	private static final class AccessorKey {
+
+		private final Class<?> type;
+		private final String propertyPath;
+
+		AccessorKey(Class<?> type, String propertyPath) {
+			this.type = type;
+			this.propertyPath = propertyPath;
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (this == other) {
+				return true;
+			}
+			if (!(other instanceof AccessorKey)) {
+				return false;
+			}
+			AccessorKey key = (AccessorKey) other;
+			return type == key.type && propertyPath.equals(key.propertyPath);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * type.hashCode() + propertyPath.hashCode();
+		}
+	}
+
+	private abstract static class AbstractAccessor implements FieldAccessor {
+
+		private final String propertyPath;
+		private final Class<?> propertyType;
+
+		AbstractAccessor(String propertyPath, Class<?> propertyType) {
+			this.propertyPath = propertyPath;
+			this.propertyType = propertyType;
+		}
+
+		@Override
+		public String getPropertyPath() {
+			return propertyPath;
+		}
+
+		@Override
+		public Class<?> getPropertyType() {
+			return propertyType;
+		}
+	}
+
+	private static final class FunctionAccessor extends AbstractAccessor {
+
+		private final Function<Object, Object> function;
+
+		FunctionAccessor(String propertyPath, Class<?> propertyType, Function<Object, Object> function) {
+			super(propertyPath, propertyType);
+			this.function = function;
+		}
+
+		@Override
+		public Object getValue(Object target) {
+			return (target != null) ? function.apply(target) : null;
+		}
+	}
+
+	private static final class MethodHandleAccessor extends AbstractAccessor {
+
+		private final MethodHandle handle;
+
+		MethodHandleAccessor(String propertyPath, Class<?> propertyType, MethodHandle handle) {
+			super(propertyPath, propertyType);
+			this.handle = handle;
+		}
+
+		@Override
+		public Object getValue(Object target) {
+			if (target == null) {
+				return null;
+			}
+			try {
+				return (Object) handle.invokeExact(target);
+			} catch (RuntimeException ex) {
+				throw ex;
+			} catch (Error ex) {
+				throw ex;
+			} catch (Throwable ex) {
+				throw new IllegalStateException("Could not read property '" + getPropertyPath() + "'", ex);
+			}
+		}
+	}
+
+	private static final class NestedAccessor extends AbstractAccessor {
+
+		private final FieldAccessor[] segments;
+
+		NestedAccessor(String propertyPath, FieldAccessor[] segments) {
+			super(propertyPath, segments[segments.length - 1].getPropertyType());
+			this.segments = segments;
+		}
+
+		@Override
+		public Object getValue(Object target) {
+			Object value = target;
+			for (int i = 0; i < segments.length && value != null; i++) {
+				value = segments[i].getValue(value);
+			}
+			return value;
+		}
+	}
+
+	private static final class BeanWrapperAccessor extends AbstractAccessor {
+
+		BeanWrapperAccessor(String propertyPath) {
+			super(propertyPath, Object.class);
+		}
+
+		@Override
+		public Object getValue(Object target) {
+			return (target != null) ? PropertyAccessorFactory.forBeanPropertyAccess(target).getPropertyValue(getPropertyPath()) : null;
+		}
+	}
+}
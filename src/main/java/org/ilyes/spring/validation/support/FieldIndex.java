@@ -0,0 +1,60 @@
+package org.ilyes.spring.validation.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * Interns field names to dense {@code int} ids, in registration order, so that sets of fields can
+ * be represented as {@link FieldMask bitmasks}. Ids are never reused or removed; the index is
+ * meant to be filled once with the fields of a form. Thread-safe.
+ */
+public final class FieldIndex {
+
+	private final ConcurrentMap<String, Integer> ids = new ConcurrentHashMap<String, Integer>();
+	private final List<String> names = new ArrayList<String>();
+
+	/**
+	 * @return the id of the field, registering it if needed
+	 */
+	public int intern(String fieldName) {
+		Assert.hasLength(fieldName, "fieldName must not be empty");
+		Integer id = ids.get(fieldName);
+		if (id != null) {
+			return id;
+		}
+		synchronized (names) {
+			id = ids.get(fieldName);
+			if (id == null) {
+				id = names.size();
+				names.add(fieldName);
+				ids.put(fieldName, id);
+			}
+			return id;
+		}
+	}
+
+	/**
+	 * @return the id of the field, or {@code -1} if it was never registered
+	 */
+	public int idOf(String fieldName) {
+		if (fieldName == null) {
+			return -1;
+		}
+		Integer id = ids.get(fieldName);
+		return (id != null) ? id : -1;
+	}
+
+	public String nameOf(int id) {
+		synchronized (names) {
+			return names.get(id);
+		}
+	}
+
+	public int size() {
+		return ids.size();
+	}
+}
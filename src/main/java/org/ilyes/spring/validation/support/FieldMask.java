@@ -0,0 +1,132 @@
+package org.ilyes.spring.validation.support;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.LongBinaryOperator;
+
+import org.springframework.util.Assert;
+
+/**
+ * Immutable set of fields of a {@link FieldIndex}, stored as a bitmask over the field ids, so
+ * that membership is a single bit test. A mask may be inverted, holding every field except the
+ * listed ones, including fields registered in the index after the mask was built.
+ */
+public final class FieldMask {
+
+	private static final long[] NO_WORDS = new long[0];
+
+	private final FieldIndex index;
+	private final long[] words;
+	private final boolean inverted;
+
+	private FieldMask(FieldIndex index, long[] words, boolean inverted) {
+		this.index = index;
+		this.words = words;
+		this.inverted = inverted;
+	}
+
+	/**
+	 * @return a mask holding the given fields, registering them in the index if needed
+	 */
+	public static FieldMask of(FieldIndex index, String... fieldNames) {
+		Assert.notNull(fieldNames, "fieldNames must not be null");
+		return of(index, Arrays.asList(fieldNames));
+	}
+
+	public static FieldMask of(FieldIndex index, Collection<String> fieldNames) {
+		Assert.notNull(index, "index must not be null");
+		Assert.notNull(fieldNames, "fieldNames must not be null");
+		long[] words = NO_WORDS;
+		for (String fieldName : fieldNames) {
+			int id = index.intern(fieldName);
+			if ((id >>> 6) >= words.length) {
+				words = Arrays.copyOf(words, (id >>> 6) + 1);
+			}
+			words[id >>> 6] |= 1L << id;
+		}
+		return new FieldMask(index, words, false);
+	}
+
+	public static FieldMask none(FieldIndex index) {
+		Assert.notNull(index, "index must not be null");
+		return new FieldMask(index, NO_WORDS, false);
+	}
+
+	public static FieldMask all(FieldIndex index) {
+		Assert.notNull(index, "index must not be null");
+		return new FieldMask(index, NO_WORDS, true);
+	}
+
+	public FieldIndex getIndex() {
+		return index;
+	}
+
+	public boolean contains(int fieldId) {
+		if (fieldId < 0) {
+			return inverted;
+		}
+		int word = fieldId >>> 6;
+		boolean set = word < words.length && (words[word] & (1L << fieldId)) != 0;
+		return set != inverted;
+	}
+
+	/**
+	 * @return whether the mask holds the field; unknown fields are held by inverted masks only
+	 */
+	public boolean contains(String fieldName) {
+		return contains(index.idOf(fieldName));
+	}
+
+	public FieldMask not() {
+		return new FieldMask(index, words, !inverted);
+	}
+
+	public FieldMask or(FieldMask other) {
+		return combine(other, (a, b) -> a | b);
+	}
+
+	public FieldMask and(FieldMask other) {
+		return combine(other, (a, b) -> a & b);
+	}
+
+	public FieldMask andNot(FieldMask other) {
+		return combine(other, (a, b) -> a & ~b);
+	}
+
+	private FieldMask combine(FieldMask other, LongBinaryOperator operator) {
+		Assert.notNull(other, "other mask must not be null");
+		Assert.isTrue(other.index == index, "Masks must belong to the same FieldIndex");
+		boolean resultInverted = operator.applyAsLong(fill(inverted), fill(other.inverted)) != 0;
+		long[] result = new long[Math.max(words.length, other.words.length)];
+		for (int i = 0; i < result.length; i++) {
+			long a = word(i) ^ fill(inverted);
+			long b = other.word(i) ^ fill(other.inverted);
+			result[i] = operator.applyAsLong(a, b) ^ fill(resultInverted);
+		}
+		return new FieldMask(index, result, resultInverted);
+	}
+
+	private long word(int i) {
+		return (i < words.length) ? words[i] : 0L;
+	}
+
+	private static long fill(boolean set) {
+		return set ? -1L : 0L;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder(inverted ? "all except {" : "{");
+		boolean first = true;
+		for (int i = 0; i < words.length; i++) {
+			long word = words[i];
+			while (word != 0) {
+				int id = (i << 6) + Long.numberOfTrailingZeros(word);
+				word &= word - 1;
+				builder.append(first ? "" : ", ").append(index.nameOf(id));
+				first = false;
+			}
+		}
+		return builder.append('}').toString();
+	}
+}
@@ -0,0 +1,170 @@
+package org.ilyes.spring.validation.support;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.springframework.validation.Errors;
+
+/**
+ * Field values of one validation pass. Each field is read once, through a generated accessor when
+ * the target is known or from the {@link Errors} otherwise, and each conversion of a field is
+ * done once, so that several rules comparing the same fields share the work. Lookups are linear:
+ * a pass typically touches a handful of fields. Not thread-safe.
+ */
+public final class FieldValues {
+
+	private static final int INITIAL_CAPACITY = 4;
+
+	private Object target;
+	private Errors errors;
+	private String[] fields = new String[INITIAL_CAPACITY];
+	private Object[] values = new Object[INITIAL_CAPACITY];
+	private int size;
+	private String[] convertedFields;
+	private Object[] conversionKeys;
+	private Object[] convertedValues;
+	private int convertedSize;
+
+	public FieldValues(Object target, Errors errors) {
+		this.target = target;
+		this.errors = errors;
+	}
+
+	/**
+	 * Clear all values and bind the instance to a new pass.
+	 */
+	public void reset(Object target, Errors errors) {
+		this.target = target;
+		this.errors = errors;
+		Arrays.fill(values, 0, size, null);
+		size = 0;
+		if (convertedSize > 0) {
+			Arrays.fill(convertedValues, 0, convertedSize, null);
+			convertedSize = 0;
+		}
+	}
+
+	/**
+	 * Record a value already read by the caller.
+	 */
+	public void put(String fieldName, Object value) {
+		int index = indexOf(fieldName);
+		if (index < 0) {
+			add(fieldName, value);
+		} else {
+			values[index] = value;
+		}
+	}
+
+	public Object get(String fieldName) {
+		int index = indexOf(fieldName);
+		if (index >= 0) {
+			return values[index];
+		}
+		Object value = read(fieldName);
+		add(fieldName, value);
+		return value;
+	}
+
+	/**
+	 * @return the value converted to the given type, {@code null} for a {@code null} value, or
+	 * {@link Conversions#FAILED}
+	 */
+	public Object getConverted(String fieldName, Class<?> type) {
+		int index = indexOfConverted(fieldName, type);
+		if (index >= 0) {
+			return convertedValues[index];
+		}
+		Object value = get(fieldName);
+		Object converted = Conversions.convert(value, type);
+		if (converted == Conversions.FAILED && errors != null) {
+			Object formattedValue = errors.getFieldValue(fieldName);
+			if (formattedValue != value && formattedValue != null) {
+				converted = Conversions.convert(formattedValue, type);
+			}
+		}
+		addConverted(fieldName, type, converted);
+		return converted;
+	}
+
+	/**
+	 * Text is parsed with the given pattern in the default locale; date and time objects are
+	 * converted in the default time zone.
+	 * @return the value as a local date-time, {@code null} for a {@code null} or blank value, or
+	 * {@link Conversions#FAILED}
+	 */
+	public Object getDateTime(String fieldName, String datePattern) {
+		return getDateTime(fieldName, datePattern, Locale.getDefault(), ZoneId.systemDefault());
+	}
+
+	public Object getDateTime(String fieldName, String datePattern, Locale locale, ZoneId zone) {
+		boolean defaults = locale.equals(Locale.getDefault()) && zone.equals(ZoneId.systemDefault());
+		Object key = defaults ? datePattern : Arrays.asList(datePattern, locale, zone);
+		int index = indexOfConverted(fieldName, key);
+		if (index >= 0) {
+			return convertedValues[index];
+		}
+		Object value = get(fieldName);
+		Object converted = null;
+		if (value != null && !(value instanceof CharSequence && NumberParsing.isBlank((CharSequence) value))) {
+			LocalDateTime dateTime = (value instanceof CharSequence) ? DateParsing.parse((CharSequence) value, datePattern, locale)
+					: DateParsing.toLocalDateTime(value, zone);
+			converted = (dateTime != null) ? dateTime : Conversions.FAILED;
+		}
+		addConverted(fieldName, key, converted);
+		return converted;
+	}
+
+	private Object read(String fieldName) {
+		if (target != null) {
+			return FieldAccessors.forProperty(target.getClass(), fieldName).getValue(target);
+		}
+		return (errors != null) ? FieldAccessors.getRawFieldValue(errors, fieldName) : null;
+	}
+
+	private int indexOf(String fieldName) {
+		for (int i = 0; i < size; i++) {
+			if (fields[i] == fieldName || fields[i].equals(fieldName)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void add(String fieldName, Object value) {
+		if (size == fields.length) {
+			fields = Arrays.copyOf(fields, size * 2);
+			values = Arrays.copyOf(values, size * 2);
+		}
+		fields[size] = fieldName;
+		values[size] = value;
+		size++;
+	}
+
+	private int indexOfConverted(String fieldName, Object key) {
+		for (int i = 0; i < convertedSize; i++) {
+			if (conversionKeys[i].equals(key) && convertedFields[i].equals(fieldName)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void addConverted(String fieldName, Object key, Object value) {
+		if (convertedFields == null) {
+			convertedFields = new String[INITIAL_CAPACITY];
+			conversionKeys = new Object[INITIAL_CAPACITY];
+			convertedValues = new Object[INITIAL_CAPACITY];
+		} else if (convertedSize == convertedFields.length) {
+			convertedFields = Arrays.copyOf(convertedFields, convertedSize * 2);
+			conversionKeys = Arrays.copyOf(conversionKeys, convertedSize * 2);
+			convertedValues = Arrays.copyOf(convertedValues, convertedSize * 2);
+		}
+		convertedFields[convertedSize] = fieldName;
+		conversionKeys[convertedSize] = key;
+		convertedValues[convertedSize] = value;
+		convertedSize++;
+	}
+}
@@ -0,0 +1,64 @@
+package org.ilyes.spring.validation.support;
+
+/**
+ * Immutable open-addressing set of {@code long} values; lookups neither box nor allocate.
+ */
+public final class LongHashSet {
+
+	private final long[] slots;
+	private final int mask;
+	private final boolean containsZero;
+	private final int size;
+
+	public LongHashSet(long... values) {
+		int capacity = Integer.highestOneBit(Math.max(4, values.length * 2 - 1)) << 1;
+		long[] table = new long[capacity];
+		boolean zero = false;
+		int count = 0;
+		for (long value : values) {
+			if (value == 0) {
+				if (!zero) {
+					zero = true;
+					count++;
+				}
+				continue;
+			}
+			int index = hash(value) & (capacity - 1);
+			while (table[index] != 0 && table[index] != value) {
+				index = (index + 1) & (capacity - 1);
+			}
+			if (table[index] == 0) {
+				table[index] = value;
+				count++;
+			}
+		}
+		this.slots = table;
+		this.mask = capacity - 1;
+		this.containsZero = zero;
+		this.size = count;
+	}
+
+	public boolean contains(long value) {
+		if (value == 0) {
+			return containsZero;
+		}
+		int index = hash(value) & mask;
+		long slot;
+		while ((slot = slots[index]) != 0) {
+			if (slot == value) {
+				return true;
+			}
+			index = (index + 1) & mask;
+		}
+		return false;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	private static int hash(long value) {
+		long h = value * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+}
@@ -0,0 +1,169 @@
+package org.ilyes.spring.validation.support;
+
+/**
+ * Exception-free number parsing from a {@link CharSequence}. Like Spring's {@code NumberUtils},
+ * whitespace anywhere in the text is ignored; integers are decimal with an optional sign.
+ * The integer methods allocate nothing.
+ */
+public abstract class NumberParsing {
+
+	private static final long INVALID = Long.MIN_VALUE + 1;
+
+	public static boolean isLong(CharSequence text) {
+		return scanLong(text, false) != INVALID;
+	}
+
+	public static boolean isInt(CharSequence text) {
+		if (!isLong(text)) {
+			return false;
+		}
+		long value = parseLong(text);
+		return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Parse a value previously checked with {@link #isLong(CharSequence)}.
+	 */
+	public static long parseLong(CharSequence text) {
+		return scanLong(text, true);
+	}
+
+	/**
+	 * Whether the text is a plain decimal number such as {@code -12}, {@code 3.5} or
+	 * {@code 1.2e-3}, accepted as is by {@link Double#parseDouble} and {@link java.math.BigDecimal}.
+	 */
+	public static boolean isDecimal(CharSequence text) {
+		if (text == null) {
+			return false;
+		}
+		int length = text.length();
+		int i = skipWhitespace(text, 0);
+		if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+			i = skipWhitespace(text, i + 1);
+		}
+		int digits = 0;
+		while (i < length && isDigit(text.charAt(i))) {
+			digits++;
+			i = skipWhitespace(text, i + 1);
+		}
+		if (i < length && text.charAt(i) == '.') {
+			i = skipWhitespace(text, i + 1);
+			while (i < length && isDigit(text.charAt(i))) {
+				digits++;
+				i = skipWhitespace(text, i + 1);
+			}
+		}
+		if (digits == 0) {
+			return false;
+		}
+		if (i < length && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+			i = skipWhitespace(text, i + 1);
+			if (i < length && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+				i = skipWhitespace(text, i + 1);
+			}
+			int exponentDigits = 0;
+			while (i < length && isDigit(text.charAt(i))) {
+				exponentDigits++;
+				i = skipWhitespace(text, i + 1);
+			}
+			if (exponentDigits == 0) {
+				return false;
+			}
+		}
+		return i == length;
+	}
+
+	/**
+	 * Whether the text, ignoring whitespace and sign, starts with a hexadecimal prefix
+	 * ({@code 0x}, {@code 0X} or {@code #}) as understood by {@link Long#decode}.
+	 */
+	public static boolean hasHexPrefix(CharSequence text) {
+		int i = skipWhitespace(text, 0);
+		if (i < text.length() && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+			i = skipWhitespace(text, i + 1);
+		}
+		if (i < text.length() && text.charAt(i) == '#') {
+			return true;
+		}
+		if (i < text.length() && text.charAt(i) == '0') {
+			i = skipWhitespace(text, i + 1);
+			return i < text.length() && (text.charAt(i) == 'x' || text.charAt(i) == 'X');
+		}
+		return false;
+	}
+
+	/**
+	 * @return the text without whitespace; the same {@code String} if it contains none
+	 */
+	public static String compact(CharSequence text) {
+		int length = text.length();
+		for (int i = 0; i < length; i++) {
+			if (Character.isWhitespace(text.charAt(i))) {
+				StringBuilder compacted = new StringBuilder(length);
+				for (int j = 0; j < length; j++) {
+					char c = text.charAt(j);
+					if (!Character.isWhitespace(c)) {
+						compacted.append(c);
+					}
+				}
+				return compacted.toString();
+			}
+		}
+		return text.toString();
+	}
+
+	public static boolean isBlank(CharSequence text) {
+		return skipWhitespace(text, 0) == text.length();
+	}
+
+	private static long scanLong(CharSequence text, boolean parse) {
+		if (text == null) {
+			return INVALID;
+		}
+		int length = text.length();
+		int i = skipWhitespace(text, 0);
+		if (i == length) {
+			return INVALID;
+		}
+		boolean negative = false;
+		char first = text.charAt(i);
+		if (first == '-' || first == '+') {
+			negative = first == '-';
+			i = skipWhitespace(text, i + 1);
+			if (i == length) {
+				return INVALID;
+			}
+		}
+		long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		long multiplyLimit = limit / 10;
+		long result = 0;
+		while (i < length) {
+			int digit = text.charAt(i) - '0';
+			if (digit < 0 || digit > 9 || result < multiplyLimit) {
+				return INVALID;
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				return INVALID;
+			}
+			result -= digit;
+			i = skipWhitespace(text, i + 1);
+		}
+		if (!parse) {
+			return 0;
+		}
+		return negative ? result : -result;
+	}
+
+	private static int skipWhitespace(CharSequence text, int from) {
+		int i = from;
+		while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+			i++;
+		}
+		return i;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+}
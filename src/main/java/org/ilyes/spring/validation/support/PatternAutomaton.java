@@ -0,0 +1,845 @@
+package org.ilyes.spring.validation.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.springframework.util.Assert;
+
+/**
+ * A set of regular expressions compiled into one automaton that tests all of them in a single
+ * scan of the input. Matching takes time linear in the length of the input whatever the
+ * expressions are, so crafted values can not trigger the catastrophic backtracking of
+ * {@link java.util.regex.Pattern}. The expressions are combined into a Thompson NFA whose DFA
+ * states are built lazily, as inputs reach them, and cached up to {@link #MAX_CACHED_STATES};
+ * beyond that the remaining steps are computed without caching.
+ * <p>Supported syntax: literals, escapes and {@code \Q...\E} quotes, character classes with
+ * ranges and negation, {@code .}, {@code \d \w \s} and their negations, groups, alternation,
+ * greedy or reluctant {@code * + ? {n,m}}, and {@code ^} or {@code $} anchoring a whole
+ * expression; in {@link Mode#FIND}, {@code $} also matches before a final line terminator, as
+ * with {@code Pattern}. Back-references, look-around, boundaries, flags, class intersections and Unicode
+ * properties are rejected with an {@link IllegalArgumentException}. Input is read by code point,
+ * like {@code Pattern} does. Instances are thread-safe.
+ */
+public final class PatternAutomaton {
+
+	public enum Mode {
+		/** The whole input must match, like {@link java.util.regex.Matcher#matches()}. */
+		MATCH,
+		/** Some part of the input must match, like {@link java.util.regex.Matcher#find()}. */
+		FIND
+	}
+
+	public static final int MAX_CACHED_STATES = 4096;
+
+	private static final int MAX_NFA_STATES = 100000;
+	private static final int MAX_REPETITION = 1000;
+	private static final int MAX_CODE_POINT = Character.MAX_CODE_POINT;
+
+	private static final int CHAR = 0;
+	private static final int SPLIT = 1;
+	private static final int MATCH = 2;
+
+	private final Mode mode;
+	private final int patternCount;
+	private final int[] kinds;
+	private final int[] outs;
+	private final int[] alternativeOuts;
+	private final int[] matchedPatterns;
+	private final long[][] classMembers;
+	private final int[] boundaries;
+	private final int[] asciiClasses = new int[128];
+	private final int classCount;
+	private final long[] endAnchored;
+	private final int[] restartStates;
+	private final DfaState initial;
+	private final Map<DfaState, DfaState> states = new HashMap<DfaState, DfaState>();
+
+	private PatternAutomaton(Mode mode, List<String> regExps) {
+		this.mode = mode;
+		this.patternCount = regExps.size();
+		this.endAnchored = new long[(patternCount + 63) >>> 6];
+		Builder builder = new Builder();
+		int[] starts = new int[patternCount];
+		boolean[] startAnchored = new boolean[patternCount];
+		for (int i = 0; i < patternCount; i++) {
+			Parser parser = new Parser(regExps.get(i));
+			Node node = parser.parse();
+			starts[i] = builder.build(node, builder.add(MATCH, i, -1, -1, null));
+			startAnchored[i] = parser.anchoredStart;
+			if (parser.anchoredEnd) {
+				endAnchored[i >>> 6] |= 1L << i;
+			}
+		}
+		this.kinds = Arrays.copyOf(builder.kinds, builder.size);
+		this.outs = Arrays.copyOf(builder.outs, builder.size);
+		this.alternativeOuts = Arrays.copyOf(builder.alternativeOuts, builder.size);
+		this.matchedPatterns = Arrays.copyOf(builder.values, builder.size);
+		this.boundaries = builder.boundaries();
+		this.classCount = boundaries.length + 1;
+		for (int c = 0; c < asciiClasses.length; c++) {
+			asciiClasses[c] = classOf(c);
+		}
+		this.classMembers = new long[builder.size][];
+		for (int state = 0; state < builder.size; state++) {
+			if (kinds[state] == CHAR) {
+				classMembers[state] = classMembers(builder.ranges.get(state));
+			}
+		}
+		List<Integer> restart = new ArrayList<Integer>();
+		for (int i = 0; i < patternCount; i++) {
+			if (mode == Mode.FIND && !startAnchored[i]) {
+				restart.add(starts[i]);
+			}
+		}
+		this.restartStates = new int[restart.size()];
+		for (int i = 0; i < restartStates.length; i++) {
+			restartStates[i] = restart.get(i);
+		}
+		this.initial = intern(closure(starts, starts.length));
+	}
+
+	public static PatternAutomaton compile(Collection<String> regExps, Mode mode) {
+		Assert.notNull(regExps, "regExps must not be null");
+		Assert.notNull(mode, "mode must not be null");
+		return new PatternAutomaton(mode, new ArrayList<String>(regExps));
+	}
+
+	public Mode getMode() {
+		return mode;
+	}
+
+	public int getPatternCount() {
+		return patternCount;
+	}
+
+	/**
+	 * @return the indexes of the expressions matching the input
+	 */
+	public BitSet match(CharSequence input) {
+		long[] matched = new long[endAnchored.length];
+		match(input, matched);
+		return BitSet.valueOf(matched);
+	}
+
+	/**
+	 * Set the bits of the expressions matching the input, indexed like {@link BitSet#valueOf(long[])}.
+	 * @param matched at least {@code (getPatternCount() + 63) / 64} words, cleared first
+	 * @return whether any expression matched
+	 */
+	public boolean match(CharSequence input, long[] matched) {
+		Arrays.fill(matched, 0, endAnchored.length, 0L);
+		DfaState state = initial;
+		int length = input.length();
+		int lineEnd = finalLineEnd(input);
+		int i = 0;
+		while (i < length) {
+			if (mode == Mode.FIND) {
+				orAccepts(matched, state.accepts, i != lineEnd);
+			}
+			if (state.dead) {
+				return any(matched);
+			}
+			int codePoint = Character.codePointAt(input, i);
+			i += Character.charCount(codePoint);
+			state = next(state, (codePoint < 128) ? asciiClasses[codePoint] : classOf(codePoint));
+		}
+		orAccepts(matched, state.accepts, false);
+		return any(matched);
+	}
+
+	/**
+	 * @return whether any expression matches the input; in {@link Mode#FIND} the scan stops at the
+	 * first match
+	 */
+	public boolean matchesAny(CharSequence input) {
+		DfaState state = initial;
+		int length = input.length();
+		int lineEnd = finalLineEnd(input);
+		int i = 0;
+		while (i < length) {
+			if (mode == Mode.FIND && (state.acceptsBeforeEnd || (i == lineEnd && state.accepting))) {
+				return true;
+			}
+			if (state.dead) {
+				return false;
+			}
+			int codePoint = Character.codePointAt(input, i);
+			i += Character.charCount(codePoint);
+			state = next(state, (codePoint < 128) ? asciiClasses[codePoint] : classOf(codePoint));
+		}
+		return state.accepting;
+	}
+
+	/**
+	 * @return the index of the line terminator ending the input, where {@code $} also matches, or
+	 * {@code -1} if there is none or the automaton does not find
+	 */
+	private int finalLineEnd(CharSequence input) {
+		int length = input.length();
+		if (mode != Mode.FIND || length == 0) {
+			return -1;
+		}
+		char last = input.charAt(length - 1);
+		if (last == '\n') {
+			return (length > 1 && input.charAt(length - 2) == '\r') ? length - 2 : length - 1;
+		}
+		return (last == '\r' || last == '\u0085' || last == '\u2028' || last == '\u2029') ? length - 1 : -1;
+	}
+
+	private DfaState next(DfaState state, int inputClass) {
+		DfaState next = state.next[inputClass];
+		if (next != null) {
+			return next;
+		}
+		int[] seeds = new int[state.states.length + restartStates.length];
+		int seedCount = 0;
+		for (int nfaState : state.states) {
+			if (kinds[nfaState] == CHAR && (classMembers[nfaState][inputClass >>> 6] & (1L << inputClass)) != 0) {
+				seeds[seedCount++] = outs[nfaState];
+			}
+		}
+		System.arraycopy(restartStates, 0, seeds, seedCount, restartStates.length);
+		seedCount += restartStates.length;
+		next = intern(closure(seeds, seedCount));
+		if (next.cached) {
+			state.next[inputClass] = next;
+		}
+		return next;
+	}
+
+	private DfaState intern(DfaState candidate) {
+		synchronized (states) {
+			DfaState existing = states.get(candidate);
+			if (existing != null) {
+				return existing;
+			}
+			if (states.size() < MAX_CACHED_STATES) {
+				candidate.cached = true;
+				states.put(candidate, candidate);
+			}
+			return candidate;
+		}
+	}
+
+	private DfaState closure(int[] seeds, int seedCount) {
+		boolean[] visited = new boolean[kinds.length];
+		int[] stack = new int[kinds.length];
+		int[] found = new int[kinds.length];
+		int foundCount = 0;
+		int top = 0;
+		for (int i = 0; i < seedCount; i++) {
+			if (!visited[seeds[i]]) {
+				visited[seeds[i]] = true;
+				stack[top++] = seeds[i];
+			}
+		}
+		while (top > 0) {
+			int state = stack[--top];
+			if (kinds[state] != SPLIT) {
+				found[foundCount++] = state;
+				continue;
+			}
+			if (!visited[alternativeOuts[state]]) {
+				visited[alternativeOuts[state]] = true;
+				stack[top++] = alternativeOuts[state];
+			}
+			if (!visited[outs[state]]) {
+				visited[outs[state]] = true;
+				stack[top++] = outs[state];
+			}
+		}
+		int[] sorted = Arrays.copyOf(found, foundCount);
+		Arrays.sort(sorted);
+		return new DfaState(sorted);
+	}
+
+	private void orAccepts(long[] matched, long[] accepts, boolean beforeEnd) {
+		for (int i = 0; i < accepts.length; i++) {
+			matched[i] |= beforeEnd ? (accepts[i] & ~endAnchored[i]) : accepts[i];
+		}
+	}
+
+	private static boolean any(long[] matched) {
+		for (long word : matched) {
+			if (word != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private int classOf(int codePoint) {
+		int index = Arrays.binarySearch(boundaries, codePoint);
+		return (index >= 0) ? index + 1 : -index - 1;
+	}
+
+	private long[] classMembers(int[] ranges) {
+		long[] members = new long[(classCount + 63) >>> 6];
+		for (int inputClass = 0; inputClass < classCount; inputClass++) {
+			int representative = (inputClass == 0) ? 0 : boundaries[inputClass - 1];
+			if (contains(ranges, representative)) {
+				members[inputClass >>> 6] |= 1L << inputClass;
+			}
+		}
+		return members;
+	}
+
+	private static boolean contains(int[] ranges, int codePoint) {
+		for (int i = 0; i < ranges.length; i += 2) {
+			if (codePoint >= ranges[i] && codePoint <= ranges[i + 1]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private final class DfaState {
+
+		final int[] states;
+		final long[] accepts = new long[endAnchored.length];
+		final boolean accepting;
+		final boolean acceptsBeforeEnd;
+		final boolean dead;
+		final DfaState[] next = new DfaState[classCount];
+		final int hash;
+		volatile boolean cached;
+
+		DfaState(int[] states) {
+			this.states = states;
+			boolean hasCharStates = false;
+			boolean beforeEnd = false;
+			for (int state : states) {
+				if (kinds[state] == MATCH) {
+					int pattern = matchedPatterns[state];
+					accepts[pattern >>> 6] |= 1L << pattern;
+					beforeEnd |= (endAnchored[pattern >>> 6] & (1L << pattern)) == 0;
+				} else {
+					hasCharStates = true;
+				}
+			}
+			this.accepting = any(accepts);
+			this.acceptsBeforeEnd = beforeEnd;
+			this.dead = !hasCharStates && restartStates.length == 0;
+			this.hash = Arrays.hashCode(states);
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof DfaState && Arrays.equals(states, ((DfaState) other).states);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	/**
+	 * Thompson construction, built backwards from the state that follows each node.
+	 */
+	private static final class Builder {
+
+		int[] kinds = new int[64];
+		int[] outs = new int[64];
+		int[] alternativeOuts = new int[64];
+		int[] values = new int[64];
+		final List<int[]> ranges = new ArrayList<int[]>();
+		int size;
+
+		int add(int kind, int value, int out, int alternativeOut, int[] charRanges) {
+			if (size == MAX_NFA_STATES) {
+				throw new IllegalArgumentException("Expressions are too large, more than " + MAX_NFA_STATES + " states");
+			}
+			if (size == kinds.length) {
+				kinds = Arrays.copyOf(kinds, size * 2);
+				outs = Arrays.copyOf(outs, size * 2);
+				alternativeOuts = Arrays.copyOf(alternativeOuts, size * 2);
+				values = Arrays.copyOf(values, size * 2);
+			}
+			kinds[size] = kind;
+			values[size] = value;
+			outs[size] = out;
+			alternativeOuts[size] = alternativeOut;
+			ranges.add(charRanges);
+			return size++;
+		}
+
+		int build(Node node, int next) {
+			switch (node.type) {
+			case Node.SET:
+				return add(CHAR, 0, next, -1, node.ranges);
+			case Node.CONCAT:
+				int start = next;
+				for (int i = node.children.size() - 1; i >= 0; i--) {
+					start = build(node.children.get(i), start);
+				}
+				return start;
+			case Node.ALTERNATE:
+				int alternative = build(node.children.get(node.children.size() - 1), next);
+				for (int i = node.children.size() - 2; i >= 0; i--) {
+					alternative = add(SPLIT, 0, build(node.children.get(i), next), alternative, null);
+				}
+				return alternative;
+			case Node.REPEAT:
+				int result = next;
+				if (node.max < 0) {
+					result = add(SPLIT, 0, -1, next, null);
+					int body = build(node.children.get(0), result);
+					outs[result] = body;
+				} else {
+					for (int i = node.min; i < node.max; i++) {
+						result = add(SPLIT, 0, build(node.children.get(0), result), next, null);
+					}
+				}
+				for (int i = 0; i < node.min; i++) {
+					result = build(node.children.get(0), result);
+				}
+				return result;
+			default:
+				return next;
+			}
+		}
+
+		int[] boundaries() {
+			TreeSet<Integer> bounds = new TreeSet<Integer>();
+			for (int[] charRanges : ranges) {
+				if (charRanges != null) {
+					for (int i = 0; i < charRanges.length; i += 2) {
+						bounds.add(charRanges[i]);
+						if (charRanges[i + 1] < MAX_CODE_POINT) {
+							bounds.add(charRanges[i + 1] + 1);
+						}
+					}
+				}
+			}
+			bounds.remove(0);
+			int[] sorted = new int[bounds.size()];
+			int i = 0;
+			for (Integer bound : bounds) {
+				sorted[i++] = bound;
+			}
+			return sorted;
+		}
+	}
+
+	private static final class Node {
+
+		static final int EMPTY = 0;
+		static final int SET = 1;
+		static final int CONCAT = 2;
+		static final int ALTERNATE = 3;
+		static final int REPEAT = 4;
+
+		final int type;
+		final int[] ranges;
+		final List<Node> children;
+		final int min;
+		final int max;
+
+		Node(int type, int[] ranges, List<Node> children, int min, int max) {
+			this.type = type;
+			this.ranges = ranges;
+			this.children = children;
+			this.min = min;
+			this.max = max;
+		}
+
+		static Node set(int[] ranges) {
+			return new Node(SET, ranges, null, 0, 0);
+		}
+	}
+
+	private static final class Parser {
+
+		private static final int[] DIGITS = { '0', '9' };
+		private static final int[] WORD_CHARS = { '0', '9', 'A', 'Z', '_', '_', 'a', 'z' };
+		private static final int[] SPACES = { '\t', '\r', ' ', ' ' };
+		private static final int[] LINE_TERMINATORS = { '\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029 };
+
+		private final String regExp;
+		private int pos;
+		private int depth;
+		boolean anchoredStart;
+		boolean anchoredEnd;
+
+		Parser(String regExp) {
+			Assert.notNull(regExp, "regExp must not be null");
+			this.regExp = regExp;
+		}
+
+		Node parse() {
+			if (regExp.startsWith("^")) {
+				anchoredStart = true;
+				pos = 1;
+			}
+			Node node = parseAlternation();
+			if (pos < regExp.length()) {
+				throw error("Unmatched closing ')'");
+			}
+			if (node.type == Node.ALTERNATE && (anchoredStart || anchoredEnd)) {
+				throw error("Anchors must apply to the whole expression");
+			}
+			return node;
+		}
+
+		private Node parseAlternation() {
+			List<Node> branches = new ArrayList<Node>();
+			branches.add(parseConcat());
+			while (pos < regExp.length() && regExp.charAt(pos) == '|') {
+				pos++;
+				branches.add(parseConcat());
+			}
+			return (branches.size() == 1) ? branches.get(0) : new Node(Node.ALTERNATE, null, branches, 0, 0);
+		}
+
+		private Node parseConcat() {
+			List<Node> items = new ArrayList<Node>();
+			while (pos < regExp.length() && regExp.charAt(pos) != '|' && regExp.charAt(pos) != ')') {
+				items.add(parseRepeat());
+			}
+			if (items.isEmpty()) {
+				return new Node(Node.EMPTY, null, null, 0, 0);
+			}
+			return (items.size() == 1) ? items.get(0) : new Node(Node.CONCAT, null, items, 0, 0);
+		}
+
+		private Node parseRepeat() {
+			Node atom = parseAtom();
+			if (pos == regExp.length()) {
+				return atom;
+			}
+			int min;
+			int max;
+			switch (regExp.charAt(pos)) {
+			case '*':
+				min = 0;
+				max = -1;
+				pos++;
+				break;
+			case '+':
+				min = 1;
+				max = -1;
+				pos++;
+				break;
+			case '?':
+				min = 0;
+				max = 1;
+				pos++;
+				break;
+			case '{':
+				pos++;
+				min = parseNumber();
+				max = min;
+				if (pos < regExp.length() && regExp.charAt(pos) == ',') {
+					pos++;
+					max = (pos < regExp.length() && regExp.charAt(pos) == '}') ? -1 : parseNumber();
+				}
+				expect('}');
+				if (max >= 0 && max < min) {
+					throw error("Illegal repetition range");
+				}
+				break;
+			default:
+				return atom;
+			}
+			if (pos < regExp.length() && regExp.charAt(pos) == '?') {
+				pos++;
+			} else if (pos < regExp.length() && regExp.charAt(pos) == '+') {
+				throw error("Possessive quantifiers are not supported");
+			}
+			List<Node> children = new ArrayList<Node>(1);
+			children.add(atom);
+			return new Node(Node.REPEAT, null, children, min, max);
+		}
+
+		private int parseNumber() {
+			int start = pos;
+			while (pos < regExp.length() && Character.isDigit(regExp.charAt(pos)) && pos - start < 5) {
+				pos++;
+			}
+			if (pos == start) {
+				throw error("Illegal repetition");
+			}
+			int value = Integer.parseInt(regExp.substring(start, pos));
+			if (value > MAX_REPETITION) {
+				throw error("Repetitions are limited to " + MAX_REPETITION);
+			}
+			return value;
+		}
+
+		private Node parseAtom() {
+			int c = regExp.codePointAt(pos);
+			switch (c) {
+			case '(':
+				pos++;
+				if (pos < regExp.length() && regExp.charAt(pos) == '?') {
+					if (pos + 1 < regExp.length() && regExp.charAt(pos + 1) == ':') {
+						pos += 2;
+					} else {
+						throw error("Only non-capturing groups (?:...) are supported");
+					}
+				}
+				depth++;
+				Node group = parseAlternation();
+				depth--;
+				expect(')');
+				return group;
+			case '[':
+				pos++;
+				return Node.set(parseClass());
+			case '.':
+				pos++;
+				return Node.set(complement(LINE_TERMINATORS));
+			case '\\':
+				pos++;
+				if (pos < regExp.length() && regExp.charAt(pos) == 'Q') {
+					return parseQuote();
+				}
+				return Node.set(parseEscape());
+			case '$':
+				if (pos != regExp.length() - 1 || depth > 0) {
+					throw error("'$' is only supported at the end of the expression");
+				}
+				pos++;
+				anchoredEnd = true;
+				return new Node(Node.EMPTY, null, null, 0, 0);
+			case '^':
+				throw error("'^' is only supported at the start of the expression");
+			case '*':
+			case '+':
+			case '?':
+			case '{':
+				throw error("Dangling meta character '" + (char) c + "'");
+			default:
+				pos += Character.charCount(c);
+				return Node.set(new int[] { c, c });
+			}
+		}
+
+		private Node parseQuote() {
+			pos++;
+			int end = regExp.indexOf("\\E", pos);
+			String quoted = regExp.substring(pos, (end < 0) ? regExp.length() : end);
+			pos = (end < 0) ? regExp.length() : end + 2;
+			List<Node> literals = new ArrayList<Node>();
+			for (int i = 0; i < quoted.length(); ) {
+				int c = quoted.codePointAt(i);
+				literals.add(Node.set(new int[] { c, c }));
+				i += Character.charCount(c);
+			}
+			return new Node(Node.CONCAT, null, literals, 0, 0);
+		}
+
+		private int[] parseClass() {
+			boolean negate = false;
+			if (pos < regExp.length() && regExp.charAt(pos) == '^') {
+				negate = true;
+				pos++;
+			}
+			List<int[]> parts = new ArrayList<int[]>();
+			boolean first = true;
+			while (true) {
+				if (pos >= regExp.length()) {
+					throw error("Unclosed character class");
+				}
+				char c = regExp.charAt(pos);
+				if (c == ']' && !first) {
+					pos++;
+					break;
+				}
+				if (c == '[' || (c == '&' && regExp.startsWith("&&", pos))) {
+					throw error("Nested classes and intersections are not supported");
+				}
+				int[] item = parseClassItem();
+				if (item.length == 2 && item[0] == item[1] && pos + 1 < regExp.length()
+						&& regExp.charAt(pos) == '-' && regExp.charAt(pos + 1) != ']') {
+					pos++;
+					int[] end = parseClassItem();
+					if (end.length != 2 || end[0] != end[1] || end[0] < item[0]) {
+						throw error("Illegal character range");
+					}
+					item = new int[] { item[0], end[0] };
+				}
+				parts.add(item);
+				first = false;
+			}
+			int[] ranges = union(parts);
+			return negate ? complement(ranges) : ranges;
+		}
+
+		private int[] parseClassItem() {
+			int c = regExp.codePointAt(pos);
+			if (c == '\\') {
+				pos++;
+				return parseEscape();
+			}
+			pos += Character.charCount(c);
+			return new int[] { c, c };
+		}
+
+		private int[] parseEscape() {
+			if (pos >= regExp.length()) {
+				throw error("Unexpected end of expression");
+			}
+			char c = regExp.charAt(pos++);
+			switch (c) {
+			case 'd':
+				return DIGITS;
+			case 'D':
+				return complement(DIGITS);
+			case 'w':
+				return WORD_CHARS;
+			case 'W':
+				return complement(WORD_CHARS);
+			case 's':
+				return SPACES;
+			case 'S':
+				return complement(SPACES);
+			case 't':
+				return single('\t');
+			case 'n':
+				return single('\n');
+			case 'r':
+				return single('\r');
+			case 'f':
+				return single('\f');
+			case 'a':
+				return single(0x07);
+			case 'e':
+				return single(0x1B);
+			case '0':
+				return single(parseOctal());
+			case 'x':
+				return single(parseHex());
+			case 'u':
+				return single(parseHex(4));
+			case 'c':
+				if (pos >= regExp.length()) {
+					throw error("Illegal control escape");
+				}
+				return single(regExp.charAt(pos++) ^ 64);
+			default:
+				if (Character.isLetterOrDigit(c)) {
+					throw error("Unsupported escape '\\" + c + "'");
+				}
+				return single(c);
+			}
+		}
+
+		private int parseOctal() {
+			int value = 0;
+			int digits = 0;
+			while (pos < regExp.length() && digits < 3 && regExp.charAt(pos) >= '0' && regExp.charAt(pos) <= '7'
+					&& value * 8 + regExp.charAt(pos) - '0' <= 0377) {
+				value = value * 8 + regExp.charAt(pos++) - '0';
+				digits++;
+			}
+			if (digits == 0) {
+				throw error("Illegal octal escape");
+			}
+			return value;
+		}
+
+		private int parseHex() {
+			if (pos < regExp.length() && regExp.charAt(pos) == '{') {
+				int end = regExp.indexOf('}', pos);
+				if (end < 0) {
+					throw error("Unclosed hexadecimal escape");
+				}
+				int value = parseHex(regExp.substring(pos + 1, end));
+				pos = end + 1;
+				if (value > MAX_CODE_POINT) {
+					throw error("Hexadecimal code point out of range");
+				}
+				return value;
+			}
+			return parseHex(2);
+		}
+
+		private int parseHex(int digits) {
+			if (pos + digits > regExp.length()) {
+				throw error("Illegal hexadecimal escape");
+			}
+			int value = parseHex(regExp.substring(pos, pos + digits));
+			pos += digits;
+			return value;
+		}
+
+		private int parseHex(String digits) {
+			if (digits.isEmpty() || digits.length() > 6) {
+				throw error("Illegal hexadecimal escape");
+			}
+			try {
+				return Integer.parseInt(digits, 16);
+			} catch (NumberFormatException ex) {
+				throw error("Illegal hexadecimal escape");
+			}
+		}
+
+		private void expect(char c) {
+			if (pos >= regExp.length() || regExp.charAt(pos) != c) {
+				throw error("Expected '" + c + "'");
+			}
+			pos++;
+		}
+
+		private IllegalArgumentException error(String message) {
+			return new IllegalArgumentException(message + " near index " + pos + " of '" + regExp + "'");
+		}
+
+		private static int[] single(int c) {
+			return new int[] { c, c };
+		}
+
+		/**
+		 * @return the sorted, merged union of the given ranges
+		 */
+		private static int[] union(List<int[]> parts) {
+			List<int[]> pairs = new ArrayList<int[]>();
+			for (int[] part : parts) {
+				for (int i = 0; i < part.length; i += 2) {
+					pairs.add(new int[] { part[i], part[i + 1] });
+				}
+			}
+			pairs.sort((a, b) -> Integer.compare(a[0], b[0]));
+			int[] merged = new int[pairs.size() * 2];
+			int size = 0;
+			for (int[] pair : pairs) {
+				if (size > 0 && pair[0] <= merged[size - 1] + 1) {
+					merged[size - 1] = Math.max(merged[size - 1], pair[1]);
+				} else {
+					merged[size++] = pair[0];
+					merged[size++] = pair[1];
+				}
+			}
+			return Arrays.copyOf(merged, size);
+		}
+
+		/**
+		 * @param ranges sorted and merged
+		 */
+		private static int[] complement(int[] ranges) {
+			int[] result = new int[ranges.length + 2];
+			int size = 0;
+			int next = 0;
+			for (int i = 0; i < ranges.length; i += 2) {
+				if (ranges[i] > next) {
+					result[size++] = next;
+					result[size++] = ranges[i] - 1;
+				}
+				next = ranges[i + 1] + 1;
+			}
+			if (next <= MAX_CODE_POINT) {
+				result[size++] = next;
+				result[size++] = MAX_CODE_POINT;
+			}
+			return Arrays.copyOf(result, size);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package org.ilyes.spring.validation.support;
+
+import java.util.Collection;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Source of compiled regular expressions used by the pattern validators.
+ */
+public interface PatternCache {
+
+	/**
+	 * Return the compiled pattern for the given expression.
+	 * @throws PatternSyntaxException if the expression is invalid; implementations may
+	 * remember the failure and rethrow it without compiling again
+	 */
+	Pattern getPattern(String regExp);
+
+	PatternCacheStatistics getStatistics();
+
+	/**
+	 * Compile the given expressions ahead of use. Invalid expressions are cached
+	 * as failures and do not abort the warm-up.
+	 */
+	default void prewarm(Collection<String> regExps) {
+		for (String regExp : regExps) {
+			try {
+				getPattern(regExp);
+			} catch (PatternSyntaxException ex) {
+				// remembered by the cache, reported again on use
+			}
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package org.ilyes.spring.validation.support;
+
+/**
+ * Cache counters plus the compile-specific counters of a {@link PatternCache}.
+ */
+public class PatternCacheStatistics extends CacheStatistics {
+
+	private final long compileFailureCount;
+	private final long totalCompileTimeNanos;
+
+	public PatternCacheStatistics(CacheStatistics statistics, long compileFailureCount, long totalCompileTimeNanos) {
+		super(statistics.getHitCount(), statistics.getMissCount(), statistics.getEvictionCount(), statistics.getSize(), statistics.getMaxSize());
+		this.compileFailureCount = compileFailureCount;
+		this.totalCompileTimeNanos = totalCompileTimeNanos;
+	}
+
+	public long getCompileFailureCount() {
+		return compileFailureCount;
+	}
+
+	public long getTotalCompileTimeNanos() {
+		return totalCompileTimeNanos;
+	}
+
+	public double getAverageCompileTimeNanos() {
+		long compiles = getMissCount();
+		return (compiles == 0) ? 0.0d : (double) totalCompileTimeNanos / compiles;
+	}
+
+	@Override
+	public String toString() {
+		return super.toString() + ", compileFailures=" + compileFailureCount + ", compileTimeNanos=" + totalCompileTimeNanos;
+	}
+}
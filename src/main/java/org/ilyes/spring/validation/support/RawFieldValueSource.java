@@ -0,0 +1,11 @@
+package org.ilyes.spring.validation.support;
+
+/**
+ * Implemented by {@link org.springframework.validation.Errors} wrappers that are not a
+ * {@link org.springframework.validation.BindingResult} but can still expose the unformatted
+ * field values of the object they wrap, see {@link FieldAccessors#getRawFieldValue}.
+ */
+public interface RawFieldValueSource {
+
+	Object getRawFieldValue(String fieldName);
+}
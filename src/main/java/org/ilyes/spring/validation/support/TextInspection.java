@@ -0,0 +1,273 @@
+package org.ilyes.spring.validation.support;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Emptiness, whitespace and length checks working on any {@link CharSequence} in place, without
+ * copying or trimming it.
+ */
+public final class TextInspection {
+
+	/**
+	 * How the length of a text is measured.
+	 */
+	public enum LengthMode {
+
+		/** UTF-16 code units, like {@link String#length()}. */
+		CHARS {
+			@Override
+			public int length(CharSequence text) {
+				return text.length();
+			}
+		},
+		/** Unicode code points; a supplementary character counts once. */
+		CODE_POINTS {
+			@Override
+			public int length(CharSequence text) {
+				return Character.codePointCount(text, 0, text.length());
+			}
+		},
+		/** User-perceived characters, see {@link TextInspection#graphemeCount(CharSequence)}. */
+		GRAPHEMES {
+			@Override
+			public int length(CharSequence text) {
+				return graphemeCount(text);
+			}
+		},
+		/** Bytes of the UTF-8 encoding, e.g. for database columns sized in bytes. */
+		UTF8_BYTES {
+			@Override
+			public int length(CharSequence text) {
+				return utf8Length(text);
+			}
+		};
+
+		public abstract int length(CharSequence text);
+	}
+
+	private static final int ZERO_WIDTH_JOINER = 0x200D;
+
+	/** Start and end of the Extended_Pictographic ranges of Unicode 13. */
+	private static final int[] EXTENDED_PICTOGRAPHIC = {
+			0x00A9, 0x00A9, 0x00AE, 0x00AE, 0x203C, 0x203C, 0x2049, 0x2049, 0x2122, 0x2122, 0x2139, 0x2139,
+			0x2194, 0x2199, 0x21A9, 0x21AA, 0x231A, 0x231B, 0x2328, 0x2328, 0x2388, 0x2388, 0x23CF, 0x23CF,
+			0x23E9, 0x23F3, 0x23F8, 0x23FA, 0x24C2, 0x24C2, 0x25AA, 0x25AB, 0x25B6, 0x25B6, 0x25C0, 0x25C0,
+			0x25FB, 0x25FE, 0x2600, 0x2605, 0x2607, 0x2612, 0x2614, 0x2685, 0x2690, 0x2705, 0x2708, 0x2712,
+			0x2714, 0x2714, 0x2716, 0x2716, 0x271D, 0x271D, 0x2721, 0x2721, 0x2728, 0x2728, 0x2733, 0x2734,
+			0x2744, 0x2744, 0x2747, 0x2747, 0x274C, 0x274C, 0x274E, 0x274E, 0x2753, 0x2755, 0x2757, 0x2757,
+			0x2763, 0x2767, 0x2795, 0x2797, 0x27A1, 0x27A1, 0x27B0, 0x27B0, 0x27BF, 0x27BF, 0x2934, 0x2935,
+			0x2B05, 0x2B07, 0x2B1B, 0x2B1C, 0x2B50, 0x2B50, 0x2B55, 0x2B55, 0x3030, 0x3030, 0x303D, 0x303D,
+			0x3297, 0x3297, 0x3299, 0x3299, 0x1F000, 0x1F0FF, 0x1F10D, 0x1F10F, 0x1F12F, 0x1F12F, 0x1F16C, 0x1F171,
+			0x1F17E, 0x1F17F, 0x1F18E, 0x1F18E, 0x1F191, 0x1F19A, 0x1F1AD, 0x1F1E5, 0x1F201, 0x1F20F,
+			0x1F21A, 0x1F21A, 0x1F22F, 0x1F22F, 0x1F232, 0x1F23A, 0x1F23C, 0x1F23F, 0x1F249, 0x1F3FA,
+			0x1F400, 0x1F53D, 0x1F546, 0x1F64F, 0x1F680, 0x1F6FF, 0x1F774, 0x1F77F, 0x1F7D5, 0x1F7FF,
+			0x1F80C, 0x1F80F, 0x1F848, 0x1F84F, 0x1F85A, 0x1F85F, 0x1F888, 0x1F88F, 0x1F8AE, 0x1F8FF,
+			0x1F90C, 0x1F93A, 0x1F93C, 0x1F945, 0x1F947, 0x1FAFF, 0x1FC00, 0x1FFFD };
+
+	private TextInspection() {
+	}
+
+	/**
+	 * @return the value itself when it is a {@code CharSequence}, its {@code toString()} otherwise
+	 */
+	public static CharSequence asText(Object value) {
+		return (value instanceof CharSequence) ? (CharSequence) value : value.toString();
+	}
+
+	/**
+	 * @return whether the text only contains characters up to {@code U+0020}, the characters
+	 * removed by {@link String#trim()}
+	 */
+	public static boolean isBlank(CharSequence text) {
+		for (int i = 0; i < text.length(); i++) {
+			if (text.charAt(i) > ' ') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Like {@link #isBlank(CharSequence)}, also treating Unicode white space and space separators,
+	 * such as the no-break space or the ideographic space, as blank.
+	 */
+	public static boolean isUnicodeBlank(CharSequence text) {
+		int length = text.length();
+		for (int i = 0; i < length; ) {
+			int codePoint = Character.codePointAt(text, i);
+			if (codePoint > ' ' && !Character.isWhitespace(codePoint) && !Character.isSpaceChar(codePoint)) {
+				return false;
+			}
+			i += Character.charCount(codePoint);
+		}
+		return true;
+	}
+
+	/**
+	 * @return whether the text has the same characters as one of the values
+	 */
+	public static boolean equalsAny(CharSequence text, Collection<String> values) {
+		if (text instanceof String && values instanceof Set) {
+			return values.contains(text);
+		}
+		for (String value : values) {
+			if (value != null && value.contentEquals(text)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return the number of bytes of the UTF-8 encoding; unpaired surrogates count as one byte,
+	 * the replacement {@link String#getBytes(java.nio.charset.Charset)} writes for them
+	 */
+	public static int utf8Length(CharSequence text) {
+		int length = text.length();
+		int bytes = length;
+		for (int i = 0; i < length; i++) {
+			char c = text.charAt(i);
+			if (c < 0x80) {
+				continue;
+			}
+			if (c < 0x800) {
+				bytes++;
+			} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+				bytes += 2;
+				i++;
+			} else if (!Character.isSurrogate(c)) {
+				bytes += 2;
+			}
+		}
+		return bytes;
+	}
+
+	/**
+	 * Count grapheme clusters following the main rules of Unicode text segmentation: CR LF,
+	 * combining marks, variation selectors, emoji modifiers and tags stay with their base,
+	 * pictographs joined by a zero width joiner form one cluster, regional indicators pair into
+	 * flags, and Hangul jamo combine into syllables. Prepended concatenation marks and
+	 * script-specific spacing rules are not handled.
+	 */
+	public static int graphemeCount(CharSequence text) {
+		int length = text.length();
+		int count = 0;
+		int previous = -1;
+		int regionalIndicators = 0;
+		boolean pictographic = false;
+		for (int i = 0; i < length; ) {
+			int codePoint = Character.codePointAt(text, i);
+			i += Character.charCount(codePoint);
+			if (!continuesCluster(previous, codePoint, regionalIndicators, pictographic)) {
+				count++;
+			}
+			regionalIndicators = isRegionalIndicator(codePoint) ? regionalIndicators + 1 : 0;
+			// a pictograph followed only by extending characters, which a joiner may link to the next one
+			pictographic = isExtendedPictographic(codePoint) || (pictographic && isExtend(codePoint));
+			previous = codePoint;
+		}
+		return count;
+	}
+
+	private static boolean continuesCluster(int previous, int codePoint, int regionalIndicators, boolean pictographic) {
+		if (previous < 0) {
+			return false;
+		}
+		if (previous == '\r') {
+			return codePoint == '\n';
+		}
+		if (isControl(previous) || isControl(codePoint)) {
+			return false;
+		}
+		if (isExtend(codePoint)) {
+			return true;
+		}
+		if (previous == ZERO_WIDTH_JOINER && pictographic) {
+			return isExtendedPictographic(codePoint);
+		}
+		if (isRegionalIndicator(codePoint)) {
+			return regionalIndicators % 2 == 1;
+		}
+		return continuesHangulSyllable(previous, codePoint);
+	}
+
+	private static boolean isControl(int codePoint) {
+		return codePoint < 0x20 || (codePoint >= 0x7F && codePoint <= 0x9F) || codePoint == 0x2028 || codePoint == 0x2029;
+	}
+
+	private static boolean isExtend(int codePoint) {
+		switch (Character.getType(codePoint)) {
+		case Character.NON_SPACING_MARK:
+		case Character.ENCLOSING_MARK:
+		case Character.COMBINING_SPACING_MARK:
+			return true;
+		default:
+			return codePoint == ZERO_WIDTH_JOINER
+					|| (codePoint >= 0xFE00 && codePoint <= 0xFE0F)
+					|| (codePoint >= 0x1F3FB && codePoint <= 0x1F3FF)
+					|| (codePoint >= 0xE0020 && codePoint <= 0xE007F)
+					|| (codePoint >= 0xE0100 && codePoint <= 0xE01EF);
+		}
+	}
+
+	private static boolean isExtendedPictographic(int codePoint) {
+		if (codePoint < EXTENDED_PICTOGRAPHIC[0]) {
+			return false;
+		}
+		int low = 0;
+		int high = EXTENDED_PICTOGRAPHIC.length / 2 - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			if (codePoint < EXTENDED_PICTOGRAPHIC[2 * middle]) {
+				high = middle - 1;
+			} else if (codePoint > EXTENDED_PICTOGRAPHIC[2 * middle + 1]) {
+				low = middle + 1;
+			} else {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isRegionalIndicator(int codePoint) {
+		return codePoint >= 0x1F1E6 && codePoint <= 0x1F1FF;
+	}
+
+	private static boolean continuesHangulSyllable(int previous, int codePoint) {
+		char before = hangulType(previous);
+		char after = hangulType(codePoint);
+		switch (before) {
+		case 'L':
+			return after != 0 && after != 'T';
+		case 'V':
+		case 'v':
+			return after == 'V' || after == 'T';
+		case 'T':
+		case 't':
+			return after == 'T';
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * @return {@code L}, {@code V} or {@code T} for leading, vowel and trailing jamo, {@code v}
+	 * for LV and {@code t} for LVT syllables, {@code 0} otherwise
+	 */
+	private static char hangulType(int codePoint) {
+		if ((codePoint >= 0x1100 && codePoint <= 0x115F) || (codePoint >= 0xA960 && codePoint <= 0xA97C)) {
+			return 'L';
+		}
+		if ((codePoint >= 0x1160 && codePoint <= 0x11A7) || (codePoint >= 0xD7B0 && codePoint <= 0xD7C6)) {
+			return 'V';
+		}
+		if ((codePoint >= 0x11A8 && codePoint <= 0x11FF) || (codePoint >= 0xD7CB && codePoint <= 0xD7FB)) {
+			return 'T';
+		}
+		if (codePoint >= 0xAC00 && codePoint <= 0xD7A3) {
+			return ((codePoint - 0xAC00) % 28 == 0) ? 'v' : 't';
+		}
+		return 0;
+	}
+}
@@ -3,8 +3,12 @@
  */
 package org.ilyes.spring.validation.validator;
 
+import org.ilyes.spring.validation.support.Conversions;
+import org.ilyes.spring.validation.support.FieldAccessors;
+import org.ilyes.spring.validation.support.FieldValues;
+import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConversionService;
-import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.validation.Errors;
 
 
@@ -12,26 +16,49 @@ public abstract class AbstractFieldValidator implements FieldValidator {
 
 	protected static final String EMPTY_STRING = "";
 	protected static final String TYPE_MISMATCH = "typeMismatch";
-	protected static final ConversionService CONVERSIONSTATE = new DefaultConversionService();
+	protected static final ConversionService CONVERSIONSTATE = Conversions.getConversionService();
 
 	@Override
     public void validate(Errors errors, String fieldName) {
 		validate(errors, fieldName, null);
 	}
 
+	/**
+	 * Validate the field with the values of the current pass of a
+	 * {@link org.ilyes.spring.validation.ValidationPlan}. Validators that convert the value
+	 * override this to share the conversion with the other rules of the pass.
+	 */
+	public void validateValues(Errors errors, String fieldName, FieldValues values, String errorCode, Object... errorArgs) {
+		validateValue(errors, fieldName, values.get(fieldName), errorCode, errorArgs);
+	}
+
+	protected Object getRawFieldValue(Errors errors, String fieldName) {
+		return FieldAccessors.getRawFieldValue(errors, fieldName);
+	}
+
 	@SuppressWarnings("unchecked")
 	protected <V> V convert(Errors errors, String fieldName, Class<V> type, Object objValue) {
-		V value = null;
-		if (objValue != null){
-			if (type.isInstance(objValue)){
-				value = (V)objValue;
-			}
-			else {
-				try {
-					value = CONVERSIONSTATE.convert(objValue, type);
-				} catch (Exception e) {
-					value = CONVERSIONSTATE.convert(errors.getFieldValue(fieldName), type);
-				}
+		Object value = convertValue(errors, fieldName, type, objValue);
+		if (value == Conversions.FAILED) {
+			throw new ConversionFailedException(TypeDescriptor.forObject(objValue), TypeDescriptor.valueOf(type), objValue, null);
+		}
+		return (V) value;
+	}
+
+	/**
+	 * Convert the field value to the given type, retrying with the formatted field value if the
+	 * raw value can not be converted.
+	 * @return the converted value, {@code null} for a {@code null} value, or {@link Conversions#FAILED}
+	 */
+	protected Object convertValue(Errors errors, String fieldName, Class<?> type, Object objValue) {
+		if (objValue == null || type.isInstance(objValue)) {
+			return objValue;
+		}
+		Object value = Conversions.convert(objValue, type);
+		if (value == Conversions.FAILED && errors != null) {
+			Object formattedValue = errors.getFieldValue(fieldName);
+			if (formattedValue != objValue && formattedValue != null) {
+				value = Conversions.convert(formattedValue, type);
 			}
 		}
 		return value;
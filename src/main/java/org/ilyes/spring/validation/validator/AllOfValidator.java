@@ -0,0 +1,64 @@
+package org.ilyes.spring.validation.validator;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.springframework.util.Assert;
+import org.springframework.validation.Errors;
+
+/**
+ * Passes when every validator passes. Validators run from the cheapest to the most expensive
+ * according to {@link FieldValidator#getCost()}, and evaluation stops at the first failure, which
+ * is the only one reported. An error code given to this validator is handed to the failing one.
+ */
+public class AllOfValidator extends AbstractFieldValidator {
+
+	static final Comparator<FieldValidator> BY_COST = new Comparator<FieldValidator>() {
+		@Override
+		public int compare(FieldValidator v1, FieldValidator v2) {
+			return Integer.compare(v1.getCost(), v2.getCost());
+		}
+	};
+
+	private final FieldValidator[] validators;
+	private final int cost;
+
+	public AllOfValidator(FieldValidator... validators) {
+		this.validators = sortByCost(validators);
+		this.cost = totalCost(this.validators);
+	}
+
+	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+		validateValue(errors, fieldName, getRawFieldValue(errors, fieldName), errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		for (FieldValidator validator : validators) {
+			if (!ProbeErrors.validate(validator, errors, fieldName, fieldValue, errorCode, errorArgs)) {
+				return;
+			}
+		}
+	}
+
+	@Override
+	public int getCost() {
+		return cost;
+	}
+
+	static FieldValidator[] sortByCost(FieldValidator[] validators) {
+		Assert.notEmpty(validators, "validators must not be empty");
+		Assert.noNullElements(validators, "validators must not contain null");
+		FieldValidator[] sorted = validators.clone();
+		Arrays.sort(sorted, BY_COST);
+		return sorted;
+	}
+
+	static int totalCost(FieldValidator[] validators) {
+		long total = 0;
+		for (FieldValidator validator : validators) {
+			total += validator.getCost();
+		}
+		return (int) Math.min(Integer.MAX_VALUE, total);
+	}
+}
@@ -0,0 +1,41 @@
+package org.ilyes.spring.validation.validator;
+
+import org.springframework.validation.Errors;
+
+/**
+ * Passes when at least one validator passes, trying the cheapest first. When all fail, the
+ * value is rejected with the given error code, or else by the cheapest validator itself.
+ */
+public class AnyOfValidator extends AbstractFieldValidator {
+
+	private final FieldValidator[] validators;
+	private final int cost;
+
+	public AnyOfValidator(FieldValidator... validators) {
+		this.validators = AllOfValidator.sortByCost(validators);
+		this.cost = AllOfValidator.totalCost(this.validators);
+	}
+
+	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+		validateValue(errors, fieldName, getRawFieldValue(errors, fieldName), errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		for (FieldValidator validator : validators) {
+			if (ProbeErrors.passes(validator, errors, fieldName, fieldValue)) {
+				return;
+			}
+		}
+		if (errorCode != null && errorCode.length() > 0) {
+			errors.rejectValue(fieldName, errorCode, errorArgs, EMPTY_STRING);
+		} else {
+			validators[0].validateValue(errors, fieldName, fieldValue, errorCode, errorArgs);
+		}
+	}
+
+	@Override
+	public int getCost() {
+		return cost;
+	}
+}
@@ -0,0 +1,80 @@
+package org.ilyes.spring.validation.validator;
+
+import java.math.BigDecimal;
+
+import org.ilyes.spring.validation.support.Conversions;
+import org.ilyes.spring.validation.support.NumberParsing;
+import org.springframework.validation.Errors;
+
+/**
+ * {@link RangeValidator} equivalent for {@code BigDecimal} bounds. Integral field values and
+ * plain decimal text are converted directly instead of through the conversion service.
+ */
+public class BigDecimalRangeValidator extends AbstractFieldValidator {
+
+	private BigDecimal min;
+	private BigDecimal max;
+
+	public BigDecimalRangeValidator() {}
+
+	public BigDecimalRangeValidator(BigDecimal min, BigDecimal max) {
+		setMin(min);
+		setMax(max);
+	}
+
+	public void setMin(BigDecimal min) {
+		if (min != null && max != null && max.compareTo(min) < 0) {
+			throw new IllegalArgumentException("Max " + max + " must be greater than min " + min);
+		}
+		this.min = min;
+	}
+
+	public void setMax(BigDecimal max) {
+		if (min != null && max != null && max.compareTo(min) < 0) {
+			throw new IllegalArgumentException("Max " + max + " must be greater than min " + min);
+		}
+		this.max = max;
+	}
+
+	@Override
+	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+		validateValue(errors, fieldName, getRawFieldValue(errors, fieldName), errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		Object converted;
+		if (fieldValue instanceof BigDecimal) {
+			converted = fieldValue;
+		} else if (fieldValue instanceof Integer || fieldValue instanceof Long || fieldValue instanceof Short || fieldValue instanceof Byte) {
+			converted = BigDecimal.valueOf(((Number) fieldValue).longValue());
+		} else if (fieldValue instanceof CharSequence && NumberParsing.isDecimal((CharSequence) fieldValue)) {
+			converted = new BigDecimal(NumberParsing.compact((CharSequence) fieldValue));
+		} else {
+			converted = convertValue(errors, fieldName, BigDecimal.class, fieldValue);
+		}
+		if (converted == Conversions.FAILED) {
+			String errCode = (errorCode != null && errorCode.length() > 0) ? errorCode : TYPE_MISMATCH;
+			errors.rejectValue(fieldName, errCode, errorArgs, EMPTY_STRING);
+			return;
+		}
+		BigDecimal value = (BigDecimal) converted;
+		if (min != null && (value == null || value.compareTo(min) < 0)) {
+			errors.rejectValue(fieldName, rangeErrorCode(errorCode, RangeValidator.ERROR_RANGE_UNDER_MIN), errorArgs, EMPTY_STRING);
+		} else if (max != null && value != null && value.compareTo(max) > 0) {
+			errors.rejectValue(fieldName, rangeErrorCode(errorCode, RangeValidator.ERROR_RANGE_OVER_MAX), errorArgs, EMPTY_STRING);
+		}
+	}
+
+	private String rangeErrorCode(String errorCode, String boundErrorCode) {
+		if (errorCode != null && errorCode.length() > 0) {
+			return errorCode;
+		}
+		return (min != null && max != null) ? RangeValidator.ERROR_RANGE : boundErrorCode;
+	}
+
+	@Override
+	public int getCost() {
+		return 2 * COST_CHEAP;
+	}
+}
@@ -0,0 +1,51 @@
+package org.ilyes.spring.validation.validator;
+
+import java.util.function.Predicate;
+
+import org.springframework.util.Assert;
+import org.springframework.validation.Errors;
+
+/**
+ * Applies a validator only when the field value satisfies a condition, given either as a
+ * predicate or as a validator the value must pass.
+ */
+public class ConditionalValidator extends AbstractFieldValidator {
+
+	private final Predicate<Object> condition;
+	private final FieldValidator conditionValidator;
+	private final FieldValidator validator;
+
+	public ConditionalValidator(Predicate<Object> condition, FieldValidator validator) {
+		Assert.notNull(condition, "condition must not be null");
+		Assert.notNull(validator, "validator must not be null");
+		this.condition = condition;
+		this.conditionValidator = null;
+		this.validator = validator;
+	}
+
+	public ConditionalValidator(FieldValidator condition, FieldValidator validator) {
+		Assert.notNull(condition, "condition must not be null");
+		Assert.notNull(validator, "validator must not be null");
+		this.condition = null;
+		this.conditionValidator = condition;
+		this.validator = validator;
+	}
+
+	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+		validateValue(errors, fieldName, getRawFieldValue(errors, fieldName), errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		boolean applies = (condition != null) ? condition.test(fieldValue) : ProbeErrors.passes(conditionValidator, errors, fieldName, fieldValue);
+		if (applies) {
+			validator.validateValue(errors, fieldName, fieldValue, errorCode, errorArgs);
+		}
+	}
+
+	@Override
+	public int getCost() {
+		int conditionCost = (conditionValidator != null) ? conditionValidator.getCost() : COST_TRIVIAL;
+		return conditionCost + validator.getCost();
+	}
+}
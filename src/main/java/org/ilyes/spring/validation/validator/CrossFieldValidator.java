@@ -0,0 +1,44 @@
+package org.ilyes.spring.validation.validator;
+
+import org.ilyes.spring.validation.support.FieldValues;
+import org.springframework.util.Assert;
+import org.springframework.validation.Errors;
+
+/**
+ * Validator of a field that also reads another field of the same object. Inside a
+ * {@link org.ilyes.spring.validation.ValidationPlan} both values come from the {@link FieldValues}
+ * of the pass, so every participating field is read and converted once; used on its own the
+ * values are read from the {@link Errors}.
+ */
+public abstract class CrossFieldValidator extends AbstractFieldValidator {
+
+	private final String otherField;
+
+	protected CrossFieldValidator(String otherField) {
+		Assert.hasLength(otherField, "otherField must not be empty");
+		this.otherField = otherField;
+	}
+
+	public String getOtherField() {
+		return otherField;
+	}
+
+	@Override
+	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+		validate(errors, fieldName, new FieldValues(null, errors), errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		FieldValues values = new FieldValues(null, errors);
+		values.put(fieldName, fieldValue);
+		validate(errors, fieldName, values, errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValues(Errors errors, String fieldName, FieldValues values, String errorCode, Object... errorArgs) {
+		validate(errors, fieldName, values, errorCode, errorArgs);
+	}
+
+	public abstract void validate(Errors errors, String fieldName, FieldValues values, String errorCode, Object... errorArgs);
+}
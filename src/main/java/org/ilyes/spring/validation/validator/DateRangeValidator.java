@@ -0,0 +1,151 @@
+package org.ilyes.spring.validation.validator;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Locale;
+
+import org.ilyes.spring.validation.support.Conversions;
+import org.ilyes.spring.validation.support.DateParsing;
+import org.ilyes.spring.validation.support.FieldValues;
+import org.springframework.util.Assert;
+import org.springframework.validation.Errors;
+
+public class DateRangeValidator extends AbstractFieldValidator {
+
+	public static final String ERROR_DATE_INVALID = "error.date.invalid";
+	public static final String ERROR_DATE_BEFORE_MIN = "error.date.beforeMin";
+	public static final String ERROR_DATE_AFTER_MAX = "error.date.afterMax";
+
+	private String datePattern;
+	private Locale locale = Locale.getDefault();
+	private ZoneId zone = ZoneId.systemDefault();
+
+	private Object min;
+	private Object max;
+	private boolean minInclusive = true;
+	private boolean maxInclusive = true;
+	private LocalDateTime minValue;
+	private LocalDateTime maxValue;
+
+	public DateRangeValidator(String datePattern) {
+		setDatePattern(datePattern);
+	}
+
+	public DateRangeValidator(String datePattern, Object min, Object max) {
+		this(datePattern);
+		setMin(min, true);
+		setMax(max, true);
+		if (minValue != null && maxValue != null && maxValue.isBefore(minValue)) {
+			throw new IllegalArgumentException("Max " + max + " must be greater than min " + min);
+		}
+	}
+
+	public void setDatePattern(String datePattern) {
+		Assert.hasLength(datePattern, "datePattern must not be empty");
+		this.datePattern = datePattern;
+		DateParsing.getFormatter(datePattern, locale);
+	}
+
+	public void setLocale(Locale locale) {
+		Assert.notNull(locale, "locale must not be null");
+		this.locale = locale;
+	}
+
+	/**
+	 * Zone used to compare {@link java.util.Date}, {@link java.time.Instant} and zoned bounds
+	 * and values with the local date-time parsed from the field.
+	 */
+	public void setZone(ZoneId zone) {
+		Assert.notNull(zone, "zone must not be null");
+		this.zone = zone;
+		this.minValue = toBound(min);
+		this.maxValue = toBound(max);
+	}
+
+	/**
+	 * @param min a {@code Date}, {@code Calendar}, {@code LocalDate}, {@code LocalDateTime},
+	 * {@code Instant} or zoned date-time, or {@code null} for no lower bound
+	 */
+	public void setMin(Object min, boolean inclusive) {
+		this.minValue = toBound(min);
+		this.min = min;
+		this.minInclusive = inclusive;
+	}
+
+	public void setMax(Object max, boolean inclusive) {
+		this.maxValue = toBound(max);
+		this.max = max;
+		this.maxInclusive = inclusive;
+	}
+
+	public void setNotBefore(Object min) {
+		setMin(min, true);
+	}
+
+	public void setBefore(Object max) {
+		setMax(max, false);
+	}
+
+	public void setNotAfter(Object max) {
+		setMax(max, true);
+	}
+
+	@Override
+	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+		validateValue(errors, fieldName, errors.getFieldValue(fieldName), errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		check(errors, fieldName, toDateTime(fieldValue), errorCode, errorArgs);
+	}
+
+	/**
+	 * Reuse the date parsed for the field by other rules of the pass, such as date comparisons.
+	 */
+	@Override
+	public void validateValues(Errors errors, String fieldName, FieldValues values, String errorCode, Object... errorArgs) {
+		Object value = values.getDateTime(fieldName, datePattern, locale, zone);
+		check(errors, fieldName, (value != Conversions.FAILED) ? (LocalDateTime) value : null, errorCode, errorArgs);
+	}
+
+	private void check(Errors errors, String fieldName, LocalDateTime value, String errorCode, Object[] errorArgs) {
+		if (value == null) {
+			errors.rejectValue(fieldName, errorCode(errorCode, ERROR_DATE_INVALID), errorArgs, EMPTY_STRING);
+		} else if (minValue != null && (minInclusive ? value.isBefore(minValue) : !value.isAfter(minValue))) {
+			errors.rejectValue(fieldName, errorCode(errorCode, ERROR_DATE_BEFORE_MIN), errorArgs, EMPTY_STRING);
+		} else if (maxValue != null && (maxInclusive ? value.isAfter(maxValue) : !value.isBefore(maxValue))) {
+			errors.rejectValue(fieldName, errorCode(errorCode, ERROR_DATE_AFTER_MAX), errorArgs, EMPTY_STRING);
+		}
+	}
+
+	public LocalDateTime toDateTime(Object fieldValue) {
+		if (fieldValue == null) {
+			return null;
+		}
+		if (fieldValue instanceof CharSequence) {
+			return DateParsing.parse((CharSequence) fieldValue, datePattern, locale);
+		}
+		return DateParsing.toLocalDateTime(fieldValue, zone);
+	}
+
+	private LocalDateTime toBound(Object bound) {
+		if (bound == null) {
+			return null;
+		}
+		LocalDateTime value = DateParsing.toLocalDateTime(bound, zone);
+		if (value == null) {
+			throw new IllegalArgumentException("Unsupported date bound type " + bound.getClass().getName());
+		}
+		return value;
+	}
+
+	private static String errorCode(String errorCode, String defaultCode) {
+		return (errorCode != null && errorCode.length() > 0) ? errorCode : defaultCode;
+	}
+
+	@Override
+	public int getCost() {
+		return COST_EXPENSIVE;
+	}
+}
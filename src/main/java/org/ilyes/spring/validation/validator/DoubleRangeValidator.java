@@ -0,0 +1,94 @@
+package org.ilyes.spring.validation.validator;
+
+import org.ilyes.spring.validation.support.Conversions;
+import org.ilyes.spring.validation.support.NumberParsing;
+import org.springframework.validation.Errors;
+
+/**
+ * {@link RangeValidator} equivalent for {@code Double} bounds working on primitive {@code double}
+ * values. Values are ordered like {@link Double#compare(double, double)}.
+ */
+public class DoubleRangeValidator extends AbstractFieldValidator {
+
+	private double min = Double.NEGATIVE_INFINITY;
+	private double max = Double.POSITIVE_INFINITY;
+	private boolean hasMin;
+	private boolean hasMax;
+
+	public DoubleRangeValidator() {}
+
+	public DoubleRangeValidator(double min, double max) {
+		setMin(min);
+		setMax(max);
+	}
+
+	public void setMin(double min) {
+		if (hasMax && Double.compare(max, min) < 0) {
+			throw new IllegalArgumentException("Max " + max + " must be greater than min " + min);
+		}
+		this.min = min;
+		this.hasMin = true;
+	}
+
+	public void setMax(double max) {
+		if (hasMin && Double.compare(max, min) < 0) {
+			throw new IllegalArgumentException("Max " + max + " must be greater than min " + min);
+		}
+		this.max = max;
+		this.hasMax = true;
+	}
+
+	@Override
+	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+		validateValue(errors, fieldName, getRawFieldValue(errors, fieldName), errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		if (fieldValue instanceof Double || fieldValue instanceof Float || fieldValue instanceof Integer || fieldValue instanceof Long) {
+			check(errors, fieldName, ((Number) fieldValue).doubleValue(), errorCode, errorArgs);
+			return;
+		}
+		if (fieldValue instanceof CharSequence) {
+			CharSequence text = (CharSequence) fieldValue;
+			if (NumberParsing.isDecimal(text)) {
+				check(errors, fieldName, Double.parseDouble(NumberParsing.compact(text)), errorCode, errorArgs);
+				return;
+			}
+			if (text.length() == 0) {
+				fieldValue = null;
+			}
+		}
+		Object converted = (fieldValue != null) ? convertValue(errors, fieldName, Double.class, fieldValue) : null;
+		if (converted == Conversions.FAILED) {
+			String errCode = (errorCode != null && errorCode.length() > 0) ? errorCode : TYPE_MISMATCH;
+			errors.rejectValue(fieldName, errCode, errorArgs, EMPTY_STRING);
+		} else if (converted == null) {
+			if (hasMin) {
+				errors.rejectValue(fieldName, rangeErrorCode(errorCode, RangeValidator.ERROR_RANGE_UNDER_MIN), errorArgs, EMPTY_STRING);
+			}
+		} else {
+			check(errors, fieldName, ((Double) converted).doubleValue(), errorCode, errorArgs);
+		}
+	}
+
+	private void check(Errors errors, String fieldName, double value, String errorCode, Object[] errorArgs) {
+		if (hasMin && Double.compare(value, min) < 0) {
+			errors.rejectValue(fieldName, rangeErrorCode(errorCode, RangeValidator.ERROR_RANGE_UNDER_MIN), errorArgs, EMPTY_STRING);
+		} else if (hasMax && Double.compare(value, max) > 0) {
+			errors.rejectValue(fieldName, rangeErrorCode(errorCode, RangeValidator.ERROR_RANGE_OVER_MAX), errorArgs, EMPTY_STRING);
+		}
+	}
+
+	private String rangeErrorCode(String errorCode, String boundErrorCode) {
+		if (errorCode != null && errorCode.length() > 0) {
+			return errorCode;
+		}
+		return (hasMin && hasMax) ? RangeValidator.ERROR_RANGE : boundErrorCode;
+	}
+
+	@Override
+	public int getCost() {
+		return COST_CHEAP;
+	}
+}
@@ -1,14 +1,17 @@
 package org.ilyes.spring.validation.validator;
 
-import org.springframework.validation.BindingResult;
+import org.ilyes.spring.validation.support.Conversions;
 import org.springframework.validation.Errors;
 
 public class EqualsValidator<T> extends AbstractFieldValidator {
 
 	private T compareToObject;
+	private Class<T> type;
 
+	@SuppressWarnings("unchecked")
 	public EqualsValidator(T otherObject) {
 		this.compareToObject = otherObject;
+		this.type = (otherObject != null)? (Class<T>)otherObject.getClass() : null;
 	}
 
 	private boolean negate;
@@ -22,20 +25,21 @@ public class EqualsValidator<T> extends AbstractFieldValidator {
 		this.ignoreCase = ignoreCase;
 	}
 
-	@SuppressWarnings("unchecked")
 	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
-		Class<T> type = (compareToObject != null)? (Class<T>)compareToObject.getClass() : null;
+		validateValue(errors, fieldName, getRawFieldValue(errors, fieldName), errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object objValue, String errorCode, Object... errorArgs) {
 		if (type == null){
 			errors.rejectValue(fieldName, TYPE_MISMATCH);
 			return;
 		}
-		Object objValue = BindingResult.class.isInstance(errors)? ((BindingResult)errors).getRawFieldValue(fieldName) : errors.getFieldValue(fieldName);
-		T fieldValue = convert(errors, fieldName, type, objValue);
 		boolean valid;
-		if (fieldValue == null){
-			valid =  compareToObject == null;
+		if (type == String.class && objValue instanceof CharSequence) {
+			valid = textEquals((CharSequence) objValue);
 		} else {
-			valid = (ignoreCase && String.class.isInstance(fieldValue))? fieldValue.toString().equalsIgnoreCase(compareToObject != null? compareToObject.toString() : null) : fieldValue.equals(compareToObject);
+			valid = valueEquals(convertValue(errors, fieldName, type, objValue));
 		}
 		if (negate) {
         	valid = !valid;
@@ -45,4 +49,40 @@ public class EqualsValidator<T> extends AbstractFieldValidator {
 		}
 	}
 
+	private boolean valueEquals(Object converted) {
+		boolean valid;
+		if (converted == Conversions.FAILED) {
+			valid = false;
+		} else if (converted == null){
+			valid =  compareToObject == null;
+		} else {
+			T fieldValue = type.cast(converted);
+			valid = (ignoreCase && String.class.isInstance(fieldValue))? fieldValue.toString().equalsIgnoreCase(compareToObject != null? compareToObject.toString() : null) : fieldValue.equals(compareToObject);
+		}
+		return valid;
+	}
+
+	private boolean textEquals(CharSequence value) {
+		String expected = (String) compareToObject;
+		if (!ignoreCase) {
+			return expected.contentEquals(value);
+		}
+		if (expected.length() != value.length()) {
+			return false;
+		}
+		for (int i = 0; i < expected.length(); i++) {
+			char c1 = expected.charAt(i);
+			char c2 = value.charAt(i);
+			if (c1 != c2 && Character.toUpperCase(c1) != Character.toUpperCase(c2)
+					&& Character.toLowerCase(c1) != Character.toLowerCase(c2)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int getCost() {
+		return COST_CHEAP;
+	}
 }
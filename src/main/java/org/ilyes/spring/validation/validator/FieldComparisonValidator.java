@@ -0,0 +1,96 @@
+package org.ilyes.spring.validation.validator;
+
+import org.ilyes.spring.validation.support.Conversions;
+import org.ilyes.spring.validation.support.FieldValues;
+import org.springframework.util.Assert;
+import org.springframework.validation.Errors;
+
+/**
+ * Compares a field with another field of the same object, for instance an end date with a start
+ * date. Both values are converted to a common {@link Comparable} type, or parsed as dates with
+ * {@link #forDates(Comparison, String, String)}. Nothing is compared while either value is
+ * missing; a field that can not be converted is rejected as a type mismatch, while an
+ * unconvertible other field is left to its own rules.
+ */
+public class FieldComparisonValidator extends CrossFieldValidator {
+
+	public static final String ERROR_COMPARISON = "error.field.comparison";
+
+	public enum Comparison {
+		EQUAL, NOT_EQUAL, LESS, LESS_OR_EQUAL, GREATER, GREATER_OR_EQUAL;
+
+		boolean matches(int comparison) {
+			switch (this) {
+			case EQUAL:
+				return comparison == 0;
+			case NOT_EQUAL:
+				return comparison != 0;
+			case LESS:
+				return comparison < 0;
+			case LESS_OR_EQUAL:
+				return comparison <= 0;
+			case GREATER:
+				return comparison > 0;
+			default:
+				return comparison >= 0;
+			}
+		}
+	}
+
+	private final Comparison comparison;
+	private final Class<?> type;
+	private final String datePattern;
+
+	public FieldComparisonValidator(Comparison comparison, String otherField, Class<? extends Comparable<?>> type) {
+		this(comparison, otherField, type, null);
+		Assert.notNull(type, "type must not be null");
+	}
+
+	private FieldComparisonValidator(Comparison comparison, String otherField, Class<?> type, String datePattern) {
+		super(otherField);
+		Assert.notNull(comparison, "comparison must not be null");
+		this.comparison = comparison;
+		this.type = type;
+		this.datePattern = datePattern;
+	}
+
+	/**
+	 * Compare two date fields; text is parsed with the given pattern.
+	 */
+	public static FieldComparisonValidator forDates(Comparison comparison, String otherField, String datePattern) {
+		Assert.hasLength(datePattern, "datePattern must not be empty");
+		return new FieldComparisonValidator(comparison, otherField, null, datePattern);
+	}
+
+	public Comparison getComparison() {
+		return comparison;
+	}
+
+	@Override
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public void validate(Errors errors, String fieldName, FieldValues values, String errorCode, Object... errorArgs) {
+		Object value = convert(values, fieldName);
+		if (value == Conversions.FAILED) {
+			String errCode = (errorCode != null && errorCode.length() > 0) ? errorCode : TYPE_MISMATCH;
+			errors.rejectValue(fieldName, errCode, errorArgs, EMPTY_STRING);
+			return;
+		}
+		Object otherValue = convert(values, getOtherField());
+		if (value == null || otherValue == null || otherValue == Conversions.FAILED) {
+			return;
+		}
+		if (!comparison.matches(((Comparable) value).compareTo(otherValue))) {
+			String errCode = (errorCode != null && errorCode.length() > 0) ? errorCode : ERROR_COMPARISON;
+			errors.rejectValue(fieldName, errCode, errorArgs, EMPTY_STRING);
+		}
+	}
+
+	private Object convert(FieldValues values, String fieldName) {
+		return (datePattern != null) ? values.getDateTime(fieldName, datePattern) : values.getConverted(fieldName, type);
+	}
+
+	@Override
+	public int getCost() {
+		return (datePattern != null) ? COST_EXPENSIVE : 2 * COST_CHEAP;
+	}
+}
@@ -0,0 +1,67 @@
+package org.ilyes.spring.validation.validator;
+
+import org.ilyes.spring.validation.support.Conversions;
+import org.ilyes.spring.validation.support.FieldValues;
+import org.springframework.validation.Errors;
+
+/**
+ * Rejects a field whose value differs from another field of the same object, for instance a
+ * password confirmation. Text is compared without copying; other values are compared after
+ * converting the other value to the type of the field.
+ */
+public class FieldEqualsValidator extends CrossFieldValidator {
+
+	public static final String ERROR_FIELD_MISMATCH = "error.field.mismatch";
+
+	private boolean ignoreCase;
+
+	public FieldEqualsValidator(String otherField) {
+		super(otherField);
+	}
+
+	public void setIgnoreCase(boolean ignoreCase) {
+		this.ignoreCase = ignoreCase;
+	}
+
+	@Override
+	public void validate(Errors errors, String fieldName, FieldValues values, String errorCode, Object... errorArgs) {
+		Object value = values.get(fieldName);
+		if (!matches(value, values)) {
+			String errCode = (errorCode != null && errorCode.length() > 0) ? errorCode : ERROR_FIELD_MISMATCH;
+			errors.rejectValue(fieldName, errCode, errorArgs, EMPTY_STRING);
+		}
+	}
+
+	private boolean matches(Object value, FieldValues values) {
+		Object otherValue = values.get(getOtherField());
+		if (value == null || otherValue == null) {
+			return value == otherValue;
+		}
+		if (value instanceof CharSequence && otherValue instanceof CharSequence) {
+			return textEquals((CharSequence) value, (CharSequence) otherValue);
+		}
+		Object converted = values.getConverted(getOtherField(), value.getClass());
+		return converted != Conversions.FAILED && value.equals(converted);
+	}
+
+	private boolean textEquals(CharSequence text, CharSequence other) {
+		int length = text.length();
+		if (length != other.length()) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			char c1 = text.charAt(i);
+			char c2 = other.charAt(i);
+			if (c1 != c2 && (!ignoreCase || (Character.toUpperCase(c1) != Character.toUpperCase(c2)
+					&& Character.toLowerCase(c1) != Character.toLowerCase(c2)))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int getCost() {
+		return COST_CHEAP;
+	}
+}
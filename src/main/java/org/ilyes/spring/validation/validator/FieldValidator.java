@@ -7,6 +7,31 @@ import org.springframework.validation.Errors;
 
 
 public interface FieldValidator {
+
+	int COST_TRIVIAL = 1;
+	int COST_CHEAP = 10;
+	int COST_MODERATE = 100;
+	int COST_EXPENSIVE = 1000;
+
 	void validate(Errors errors, String fieldName);
 	void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs);
+
+	default void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		validate(errors, fieldName, errorCode, errorArgs);
+	}
+
+	/**
+	 * Relative cost of one validation, used to run cheap checks before expensive ones.
+	 */
+	default int getCost() {
+		return COST_MODERATE;
+	}
+
+	default FieldValidator and(FieldValidator other) {
+		return Rules.allOf(this, other);
+	}
+
+	default FieldValidator or(FieldValidator other) {
+		return Rules.anyOf(this, other);
+	}
 }
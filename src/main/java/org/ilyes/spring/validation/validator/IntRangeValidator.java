@@ -0,0 +1,25 @@
+package org.ilyes.spring.validation.validator;
+
+/**
+ * {@link RangeValidator} equivalent for {@code Integer} bounds working on primitive {@code int} values.
+ */
+public class IntRangeValidator extends IntegralRangeValidator {
+
+	public IntRangeValidator() {
+		super(Integer.class, Integer.MIN_VALUE, Integer.MAX_VALUE);
+	}
+
+	public IntRangeValidator(int min, int max) {
+		this();
+		setMin(min);
+		setMax(max);
+	}
+
+	public void setMin(int min) {
+		setMinBound(min);
+	}
+
+	public void setMax(int max) {
+		setMaxBound(max);
+	}
+}
@@ -0,0 +1,106 @@
+package org.ilyes.spring.validation.validator;
+
+import org.ilyes.spring.validation.support.Conversions;
+import org.ilyes.spring.validation.support.NumberParsing;
+import org.springframework.validation.Errors;
+
+/**
+ * Range check on a {@code long} read directly from integral field values or parsed from text,
+ * without boxing or exceptions. Values outside the range of the target type, or that can not be
+ * converted to it, are rejected as a type mismatch like {@link RangeValidator} does. Without any
+ * bound only the conversion is checked.
+ */
+public abstract class IntegralRangeValidator extends AbstractFieldValidator {
+
+	private final long typeMin;
+	private final long typeMax;
+	private final Class<? extends Number> type;
+	private long min;
+	private long max;
+	private boolean hasMin;
+	private boolean hasMax;
+
+	protected IntegralRangeValidator(Class<? extends Number> type, long typeMin, long typeMax) {
+		this.type = type;
+		this.typeMin = typeMin;
+		this.typeMax = typeMax;
+		this.min = typeMin;
+		this.max = typeMax;
+	}
+
+	protected void setMinBound(long min) {
+		if (hasMax && max < min) {
+			throw new IllegalArgumentException("Max " + max + " must be greater than min " + min);
+		}
+		this.min = min;
+		this.hasMin = true;
+	}
+
+	protected void setMaxBound(long max) {
+		if (hasMin && max < min) {
+			throw new IllegalArgumentException("Max " + max + " must be greater than min " + min);
+		}
+		this.max = max;
+		this.hasMax = true;
+	}
+
+	@Override
+	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+		validateValue(errors, fieldName, getRawFieldValue(errors, fieldName), errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		if (fieldValue instanceof Integer || fieldValue instanceof Long || fieldValue instanceof Short || fieldValue instanceof Byte) {
+			check(errors, fieldName, ((Number) fieldValue).longValue(), errorCode, errorArgs);
+			return;
+		}
+		if (fieldValue instanceof CharSequence) {
+			CharSequence text = (CharSequence) fieldValue;
+			if (NumberParsing.isLong(text)) {
+				check(errors, fieldName, NumberParsing.parseLong(text), errorCode, errorArgs);
+				return;
+			}
+			if (text.length() == 0) {
+				fieldValue = null;
+			}
+		}
+		Object converted = (fieldValue != null) ? convertValue(errors, fieldName, type, fieldValue) : null;
+		if (converted == Conversions.FAILED) {
+			rejectTypeMismatch(errors, fieldName, errorCode, errorArgs);
+		} else if (converted == null) {
+			if (hasMin) {
+				errors.rejectValue(fieldName, rangeErrorCode(errorCode, RangeValidator.ERROR_RANGE_UNDER_MIN), errorArgs, EMPTY_STRING);
+			}
+		} else {
+			check(errors, fieldName, ((Number) converted).longValue(), errorCode, errorArgs);
+		}
+	}
+
+	private void check(Errors errors, String fieldName, long value, String errorCode, Object[] errorArgs) {
+		if (value < typeMin || value > typeMax) {
+			rejectTypeMismatch(errors, fieldName, errorCode, errorArgs);
+		} else if (value < min) {
+			errors.rejectValue(fieldName, rangeErrorCode(errorCode, RangeValidator.ERROR_RANGE_UNDER_MIN), errorArgs, EMPTY_STRING);
+		} else if (value > max) {
+			errors.rejectValue(fieldName, rangeErrorCode(errorCode, RangeValidator.ERROR_RANGE_OVER_MAX), errorArgs, EMPTY_STRING);
+		}
+	}
+
+	private void rejectTypeMismatch(Errors errors, String fieldName, String errorCode, Object[] errorArgs) {
+		String errCode = (errorCode != null && errorCode.length() > 0) ? errorCode : TYPE_MISMATCH;
+		errors.rejectValue(fieldName, errCode, errorArgs, EMPTY_STRING);
+	}
+
+	private String rangeErrorCode(String errorCode, String boundErrorCode) {
+		if (errorCode != null && errorCode.length() > 0) {
+			return errorCode;
+		}
+		return (hasMin && hasMax) ? RangeValidator.ERROR_RANGE : boundErrorCode;
+	}
+
+	@Override
+	public int getCost() {
+		return COST_CHEAP;
+	}
+}
@@ -1,7 +1,14 @@
 package org.ilyes.spring.validation.validator;
 
+import org.ilyes.spring.validation.support.TextInspection;
+import org.ilyes.spring.validation.support.TextInspection.LengthMode;
+import org.springframework.util.Assert;
 import org.springframework.validation.Errors;
 
+/**
+ * Checks the length of a field in UTF-16 code units by default, or in code points, grapheme
+ * clusters or UTF-8 bytes with {@link #setLengthMode(LengthMode)}. Text is measured in place.
+ */
 public class LengthValidator extends AbstractFieldValidator {
 
 	public static final String ERROR_LENGTH_OVER_MAX = "error.length.overMax";
@@ -9,6 +16,7 @@ public class LengthValidator extends AbstractFieldValidator {
 
 	private int min = 0;
     private int max = Integer.MAX_VALUE;
+    private LengthMode lengthMode = LengthMode.CHARS;
 
     public LengthValidator() {}
 
@@ -17,6 +25,11 @@ public class LengthValidator extends AbstractFieldValidator {
 		setMax(maxValue);
 	}
 
+    public LengthValidator(int minValue, int maxValue, LengthMode lengthMode) {
+    	this(minValue, maxValue);
+    	setLengthMode(lengthMode);
+    }
+
     public void setMax(int max) {
     	if (max < min){
 			throw new IllegalArgumentException("Max " + max + " must be greater than min " + min);
@@ -31,19 +44,33 @@ public class LengthValidator extends AbstractFieldValidator {
         this.min = min;
     }
 
+    public void setLengthMode(LengthMode lengthMode) {
+    	Assert.notNull(lengthMode, "lengthMode must not be null");
+        this.lengthMode = lengthMode;
+    }
+
 	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
-		Object fieldValue = errors.getFieldValue(fieldName);
+		validateValue(errors, fieldName, errors.getFieldValue(fieldName), errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
 		String errCode = (errorCode != null && errorCode.length() > 0) ? errorCode : ERROR_LENGTH_UNDER_MIN;
 		if (fieldValue == null) {
 			errors.rejectValue(fieldName, errCode, errorArgs, EMPTY_STRING);
         	return ;
         }
-        String value = fieldValue.toString();
-        if (value.length() < min){
+        int length = lengthMode.length(TextInspection.asText(fieldValue));
+        if (length < min){
 			errors.rejectValue(fieldName, errCode, errorArgs, EMPTY_STRING);
-		} else if (value.length() > max) {
+		} else if (length > max) {
 			errCode = (errorCode != null && errorCode.length() > 0) ? errorCode : ERROR_LENGTH_OVER_MAX;
 			errors.rejectValue(fieldName, errCode, errorArgs, EMPTY_STRING);
 		}
 	}
+
+	@Override
+	public int getCost() {
+		return COST_CHEAP;
+	}
 }
@@ -0,0 +1,25 @@
+package org.ilyes.spring.validation.validator;
+
+/**
+ * {@link RangeValidator} equivalent for {@code Long} bounds working on primitive {@code long} values.
+ */
+public class LongRangeValidator extends IntegralRangeValidator {
+
+	public LongRangeValidator() {
+		super(Long.class, Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+
+	public LongRangeValidator(long min, long max) {
+		this();
+		setMin(min);
+		setMax(max);
+	}
+
+	public void setMin(long min) {
+		setMinBound(min);
+	}
+
+	public void setMax(long max) {
+		setMaxBound(max);
+	}
+}
@@ -0,0 +1,253 @@
+package org.ilyes.spring.validation.validator;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.ilyes.spring.validation.support.Conversions;
+import org.ilyes.spring.validation.support.IntHashSet;
+import org.ilyes.spring.validation.support.LongHashSet;
+import org.ilyes.spring.validation.support.NumberParsing;
+import org.springframework.util.Assert;
+import org.springframework.validation.Errors;
+
+/**
+ * Checks a field against a prebuilt hash index of allowed (or, negated, forbidden) values.
+ * The field is converted once to the element type of the index; collections of
+ * {@code Integer} or {@code Long} values are stored as primitive sets. The index can be
+ * replaced at any time with {@link #reload(Collection)}; validations in progress keep using
+ * the index they started with.
+ */
+public class MembershipValidator extends AbstractFieldValidator {
+
+	public static final String ERROR_VALUE_NOT_ALLOWED = "error.value.notAllowed";
+	public static final String ERROR_VALUE_FORBIDDEN = "error.value.forbidden";
+
+	private final boolean ignoreCase;
+	private volatile Index index;
+	private boolean negate;
+
+	public MembershipValidator(Collection<?> values) {
+		this(values, false);
+	}
+
+	public MembershipValidator(Collection<?> values, boolean ignoreCase) {
+		this.ignoreCase = ignoreCase;
+		reload(values);
+	}
+
+	private MembershipValidator(Index index) {
+		this.ignoreCase = false;
+		this.index = index;
+	}
+
+	public static MembershipValidator ofInts(int... values) {
+		return new MembershipValidator(new IntIndex(new IntHashSet(values)));
+	}
+
+	public static MembershipValidator ofLongs(long... values) {
+		return new MembershipValidator(new LongIndex(new LongHashSet(values)));
+	}
+
+	public void setNegate(boolean negate) {
+		this.negate = negate;
+	}
+
+	public boolean isIgnoreCase() {
+		return ignoreCase;
+	}
+
+	public int size() {
+		return index.size();
+	}
+
+	public void reload(Collection<?> values) {
+		Assert.notNull(values, "values must not be null");
+		this.index = ignoreCase ? new IgnoreCaseIndex(values) : createIndex(values);
+	}
+
+	public void reload(int... values) {
+		this.index = new IntIndex(new IntHashSet(values));
+	}
+
+	public void reload(long... values) {
+		this.index = new LongIndex(new LongHashSet(values));
+	}
+
+	public boolean contains(Object fieldValue) {
+		return index.contains(fieldValue);
+	}
+
+	@Override
+	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+		validateValue(errors, fieldName, getRawFieldValue(errors, fieldName), errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		boolean member = index.contains(fieldValue);
+		if (member == negate) {
+			String defaultCode = negate ? ERROR_VALUE_FORBIDDEN : ERROR_VALUE_NOT_ALLOWED;
+			String errCode = (errorCode != null && errorCode.length() > 0) ? errorCode : defaultCode;
+			errors.rejectValue(fieldName, errCode, errorArgs, EMPTY_STRING);
+		}
+	}
+
+	private static Index createIndex(Collection<?> values) {
+		boolean ints = !values.isEmpty();
+		boolean longs = !values.isEmpty();
+		for (Object value : values) {
+			ints &= (value instanceof Integer || value instanceof Short || value instanceof Byte);
+			longs &= (value instanceof Long);
+		}
+		if (ints) {
+			int[] primitives = new int[values.size()];
+			int i = 0;
+			for (Object value : values) {
+				primitives[i++] = ((Number) value).intValue();
+			}
+			return new IntIndex(new IntHashSet(primitives));
+		}
+		if (longs) {
+			long[] primitives = new long[values.size()];
+			int i = 0;
+			for (Object value : values) {
+				primitives[i++] = (Long) value;
+			}
+			return new LongIndex(new LongHashSet(primitives));
+		}
+		return new ObjectIndex(values);
+	}
+
+	private abstract static class Index {
+
+		abstract boolean contains(Object value);
+
+		abstract int size();
+	}
+
+	private static final class ObjectIndex extends Index {
+
+		private final Set<Object> values;
+		private final Class<?> type;
+
+		ObjectIndex(Collection<?> values) {
+			this.values = new HashSet<Object>(values);
+			Class<?> commonType = null;
+			for (Object value : values) {
+				if (value != null) {
+					if (commonType == null) {
+						commonType = value.getClass();
+					} else if (commonType != value.getClass()) {
+						commonType = Object.class;
+					}
+				}
+			}
+			this.type = (commonType != null) ? commonType : Object.class;
+		}
+
+		@Override
+		boolean contains(Object value) {
+			if (value == null || type.isInstance(value)) {
+				return values.contains(value);
+			}
+			Object converted = Conversions.convert(value, type);
+			return converted != Conversions.FAILED && values.contains(converted);
+		}
+
+		@Override
+		int size() {
+			return values.size();
+		}
+	}
+
+	private static final class IgnoreCaseIndex extends Index {
+
+		private final Set<String> values = new HashSet<String>();
+
+		IgnoreCaseIndex(Collection<?> values) {
+			for (Object value : values) {
+				if (value != null) {
+					this.values.add(fold(value.toString()));
+				}
+			}
+		}
+
+		@Override
+		boolean contains(Object value) {
+			return value != null && values.contains(fold(value instanceof CharSequence ? (CharSequence) value : value.toString()));
+		}
+
+		@Override
+		int size() {
+			return values.size();
+		}
+
+		private static String fold(CharSequence value) {
+			char[] folded = new char[value.length()];
+			for (int i = 0; i < folded.length; i++) {
+				folded[i] = Character.toLowerCase(Character.toUpperCase(value.charAt(i)));
+			}
+			return new String(folded);
+		}
+	}
+
+	private static final class IntIndex extends Index {
+
+		private final IntHashSet values;
+
+		IntIndex(IntHashSet values) {
+			this.values = values;
+		}
+
+		@Override
+		boolean contains(Object value) {
+			if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+				return values.contains(((Number) value).intValue());
+			}
+			if (value instanceof Long) {
+				long longValue = (Long) value;
+				return longValue == (int) longValue && values.contains((int) longValue);
+			}
+			if (value instanceof CharSequence && NumberParsing.isInt((CharSequence) value)) {
+				return values.contains((int) NumberParsing.parseLong((CharSequence) value));
+			}
+			return false;
+		}
+
+		@Override
+		int size() {
+			return values.size();
+		}
+	}
+
+	private static final class LongIndex extends Index {
+
+		private final LongHashSet values;
+
+		LongIndex(LongHashSet values) {
+			this.values = values;
+		}
+
+		@Override
+		boolean contains(Object value) {
+			if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+				return values.contains(((Number) value).longValue());
+			}
+			if (value instanceof CharSequence && NumberParsing.isLong((CharSequence) value)) {
+				return values.contains(NumberParsing.parseLong((CharSequence) value));
+			}
+			return false;
+		}
+
+		@Override
+		int size() {
+			return values.size();
+		}
+	}
+
+	@Override
+	public int getCost() {
+		return 3 * COST_CHEAP;
+	}
+}
@@ -0,0 +1,278 @@
+package org.ilyes.spring.validation.validator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.ilyes.spring.validation.support.BoundedCache;
+import org.ilyes.spring.validation.support.CacheStatistics;
+import org.ilyes.spring.validation.support.FieldAccessors;
+import org.ilyes.spring.validation.support.RawFieldValueSource;
+import org.springframework.util.Assert;
+import org.springframework.validation.AbstractErrors;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+/**
+ * {@link FieldValidator} decorator remembering the outcome of the wrapped validator per value,
+ * error code and arguments in a {@link BoundedCache}. A hit replays the recorded rejections, with
+ * the same codes, arguments and default messages, into the caller's {@link Errors}. Only
+ * immutable values are cached (text, numbers, booleans, enums, {@code java.time} values, UUIDs);
+ * others always reach the wrapped validator. The wrapped validator must depend on the value
+ * alone: cross-field validators, or validators consulting the {@link Errors}, can not be
+ * memoized. Memoization can be switched off at runtime with {@link #setEnabled(boolean)}.
+ */
+public class MemoizingFieldValidator implements FieldValidator {
+
+	private static final Object NULL_VALUE = new Object();
+
+	private final FieldValidator delegate;
+	private final BoundedCache<Key, Outcome> cache;
+	private volatile boolean enabled = true;
+
+	public MemoizingFieldValidator(FieldValidator delegate, int maxSize) {
+		this(delegate, new BoundedCache<Key, Outcome>(maxSize));
+	}
+
+	public MemoizingFieldValidator(FieldValidator delegate, int maxSize, long expireAfterWrite, TimeUnit unit) {
+		this(delegate, new BoundedCache<Key, Outcome>(maxSize, expireAfterWrite, unit));
+	}
+
+	private MemoizingFieldValidator(FieldValidator delegate, BoundedCache<Key, Outcome> cache) {
+		Assert.notNull(delegate, "delegate must not be null");
+		Assert.isTrue(!(delegate instanceof CrossFieldValidator), "Cross-field validators can not be memoized");
+		this.delegate = delegate;
+		this.cache = cache;
+	}
+
+	public FieldValidator getDelegate() {
+		return delegate;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public CacheStatistics getStatistics() {
+		return cache.getStatistics();
+	}
+
+	public void clear() {
+		cache.clear();
+	}
+
+	@Override
+	public void validate(Errors errors, String fieldName) {
+		validate(errors, fieldName, null);
+	}
+
+	@Override
+	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+		Object fieldValue = FieldAccessors.getRawFieldValue(errors, fieldName);
+		if (!enabled || !isCacheable(fieldValue)) {
+			delegate.validate(errors, fieldName, errorCode, errorArgs);
+			return;
+		}
+		Outcome outcome = cache.getIfPresent(new Key(fieldValue, errorCode, errorArgs));
+		if (outcome != null) {
+			outcome.replay(errors, fieldName);
+			return;
+		}
+		Recorder recorder = new Recorder(errors, fieldName);
+		delegate.validate(recorder, fieldName, errorCode, errorArgs);
+		store(fieldValue, errorCode, errorArgs, recorder);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		if (!enabled || !isCacheable(fieldValue)) {
+			delegate.validateValue(errors, fieldName, fieldValue, errorCode, errorArgs);
+			return;
+		}
+		Outcome outcome = cache.getIfPresent(new Key(fieldValue, errorCode, errorArgs));
+		if (outcome != null) {
+			outcome.replay(errors, fieldName);
+			return;
+		}
+		Recorder recorder = new Recorder(errors, fieldName);
+		delegate.validateValue(recorder, fieldName, fieldValue, errorCode, errorArgs);
+		store(fieldValue, errorCode, errorArgs, recorder);
+	}
+
+	@Override
+	public int getCost() {
+		return delegate.getCost();
+	}
+
+	private void store(Object fieldValue, String errorCode, Object[] errorArgs, Recorder recorder) {
+		if (recorder.cacheable) {
+			cache.put(new Key(fieldValue, errorCode, errorArgs), recorder.toOutcome());
+		}
+	}
+
+	private static boolean isCacheable(Object value) {
+		return value == null || value instanceof String || value instanceof CharSequence || value instanceof Integer
+				|| value instanceof Long || value instanceof Short || value instanceof Byte || value instanceof Double
+				|| value instanceof Float || value instanceof BigDecimal || value instanceof BigInteger
+				|| value instanceof Boolean || value instanceof Character || value instanceof Enum
+				|| value instanceof UUID || (value instanceof TemporalAccessor && value.getClass().getName().startsWith("java.time."));
+	}
+
+	private static final class Key {
+
+		final Object value;
+		final String errorCode;
+		final Object[] errorArgs;
+		final int hash;
+
+		Key(Object value, String errorCode, Object[] errorArgs) {
+			this.value = (value == null) ? NULL_VALUE : (value instanceof CharSequence) ? value.toString() : value;
+			this.errorCode = errorCode;
+			this.errorArgs = errorArgs;
+			int h = this.value.hashCode();
+			h = 31 * h + ((errorCode != null) ? errorCode.hashCode() : 0);
+			this.hash = 31 * h + Arrays.hashCode(errorArgs);
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) other;
+			return hash == key.hash && value.getClass() == key.value.getClass() && value.equals(key.value)
+					&& (errorCode == null ? key.errorCode == null : errorCode.equals(key.errorCode))
+					&& Arrays.equals(errorArgs, key.errorArgs);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+
+	private static final class Rejection {
+
+		final boolean global;
+		final String field;
+		final String code;
+		final Object[] args;
+		final String defaultMessage;
+
+		Rejection(boolean global, String field, String code, Object[] args, String defaultMessage) {
+			this.global = global;
+			this.field = field;
+			this.code = code;
+			this.args = args;
+			this.defaultMessage = defaultMessage;
+		}
+	}
+
+	/**
+	 * Rejections of one validation; a {@code null} field stands for the validated field.
+	 */
+	private static final class Outcome {
+
+		static final Outcome PASSED = new Outcome(new Rejection[0]);
+
+		final Rejection[] rejections;
+
+		Outcome(Rejection[] rejections) {
+			this.rejections = rejections;
+		}
+
+		void replay(Errors errors, String fieldName) {
+			for (Rejection rejection : rejections) {
+				if (rejection.global) {
+					errors.reject(rejection.code, rejection.args, rejection.defaultMessage);
+				} else {
+					String field = (rejection.field != null) ? rejection.field : fieldName;
+					errors.rejectValue(field, rejection.code, rejection.args, rejection.defaultMessage);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Forwards everything to the caller's {@link Errors} while recording the rejections. Reading
+	 * other fields or existing errors makes the outcome uncacheable.
+	 */
+	@SuppressWarnings("serial")
+	private static final class Recorder extends AbstractErrors implements RawFieldValueSource {
+
+		private final transient Errors delegate;
+		private final String fieldName;
+		private final List<Rejection> rejections = new ArrayList<Rejection>(2);
+		boolean cacheable = true;
+
+		Recorder(Errors delegate, String fieldName) {
+			this.delegate = delegate;
+			this.fieldName = fieldName;
+		}
+
+		Outcome toOutcome() {
+			return rejections.isEmpty() ? Outcome.PASSED : new Outcome(rejections.toArray(new Rejection[rejections.size()]));
+		}
+
+		@Override
+		public String getObjectName() {
+			return delegate.getObjectName();
+		}
+
+		@Override
+		public void reject(String errorCode, Object[] errorArgs, String defaultMessage) {
+			rejections.add(new Rejection(true, null, errorCode, errorArgs, defaultMessage));
+			delegate.reject(errorCode, errorArgs, defaultMessage);
+		}
+
+		@Override
+		public void rejectValue(String field, String errorCode, Object[] errorArgs, String defaultMessage) {
+			rejections.add(new Rejection(false, fieldName.equals(field) ? null : field, errorCode, errorArgs, defaultMessage));
+			delegate.rejectValue(field, errorCode, errorArgs, defaultMessage);
+		}
+
+		@Override
+		public void addAllErrors(Errors errors) {
+			cacheable = false;
+			delegate.addAllErrors(errors);
+		}
+
+		@Override
+		public List<ObjectError> getGlobalErrors() {
+			cacheable = false;
+			return delegate.getGlobalErrors();
+		}
+
+		@Override
+		public List<FieldError> getFieldErrors() {
+			cacheable = false;
+			return delegate.getFieldErrors();
+		}
+
+		@Override
+		public Object getFieldValue(String field) {
+			if (!fieldName.equals(field)) {
+				cacheable = false;
+			}
+			return delegate.getFieldValue(field);
+		}
+
+		@Override
+		public Object getRawFieldValue(String field) {
+			if (!fieldName.equals(field)) {
+				cacheable = false;
+			}
+			return FieldAccessors.getRawFieldValue(delegate, field);
+		}
+	}
+}
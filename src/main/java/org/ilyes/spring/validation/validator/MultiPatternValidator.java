@@ -0,0 +1,116 @@
+package org.ilyes.spring.validation.validator;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import org.ilyes.spring.validation.support.PatternAutomaton;
+import org.ilyes.spring.validation.support.PatternAutomaton.Mode;
+import org.ilyes.spring.validation.support.TextInspection;
+import org.springframework.util.Assert;
+import org.springframework.validation.Errors;
+
+/**
+ * Checks a field against many regular expressions with a single scan of a
+ * {@link PatternAutomaton}, in time linear in the length of the value. Every expression is
+ * either required or forbidden and has its own error code, so that a series of
+ * {@code rejectIfPatternNotValid} and {@code rejectIfPatternValid} calls on one field becomes one
+ * validator. A {@code null} value is rejected once, with the code of the first expression.
+ * Expressions are compiled on first use and must not be added afterwards.
+ */
+public class MultiPatternValidator extends AbstractFieldValidator {
+
+	public static final String ERROR_PATTERN_INVALID = "error.pattern.invalid";
+
+	private final Mode mode;
+	private final List<String> regExps = new ArrayList<String>();
+	private final List<String> errorCodes = new ArrayList<String>();
+	private final BitSet forbidden = new BitSet();
+	private volatile PatternAutomaton automaton;
+
+	public MultiPatternValidator() {
+		this(Mode.MATCH);
+	}
+
+	public MultiPatternValidator(Mode mode) {
+		Assert.notNull(mode, "mode must not be null");
+		this.mode = mode;
+	}
+
+	/**
+	 * Reject values not matching the expression.
+	 */
+	public MultiPatternValidator require(String regExp, String errorCode) {
+		return add(regExp, errorCode, false);
+	}
+
+	/**
+	 * Reject values matching the expression.
+	 */
+	public MultiPatternValidator forbid(String regExp, String errorCode) {
+		return add(regExp, errorCode, true);
+	}
+
+	public PatternAutomaton compile() {
+		PatternAutomaton compiled = this.automaton;
+		if (compiled == null) {
+			compiled = PatternAutomaton.compile(regExps, mode);
+			this.automaton = compiled;
+		}
+		return compiled;
+	}
+
+	/**
+	 * @return the indexes, in declaration order, of the expressions matching the input
+	 */
+	public BitSet matchedPatterns(CharSequence input) {
+		return compile().match(input);
+	}
+
+	@Override
+	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+		validateValue(errors, fieldName, errors.getFieldValue(fieldName), errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		PatternAutomaton compiled = compile();
+		int count = compiled.getPatternCount();
+		if (fieldValue == null) {
+			if (count > 0) {
+				errors.rejectValue(fieldName, errorCode(0, errorCode), errorArgs, EMPTY_STRING);
+			}
+			return;
+		}
+		long[] matched = new long[(count + 63) >>> 6];
+		compiled.match(TextInspection.asText(fieldValue), matched);
+		for (int i = 0; i < count; i++) {
+			boolean found = (matched[i >>> 6] & (1L << i)) != 0;
+			if (found == forbidden.get(i)) {
+				errors.rejectValue(fieldName, errorCode(i, errorCode), errorArgs, EMPTY_STRING);
+			}
+		}
+	}
+
+	@Override
+	public int getCost() {
+		return COST_MODERATE;
+	}
+
+	private MultiPatternValidator add(String regExp, String errorCode, boolean forbid) {
+		Assert.notNull(regExp, "regExp must not be null");
+		Assert.state(automaton == null, "Expressions can not be added once compiled");
+		forbidden.set(regExps.size(), forbid);
+		regExps.add(regExp);
+		errorCodes.add(errorCode);
+		return this;
+	}
+
+	private String errorCode(int index, String errorCode) {
+		String patternErrorCode = errorCodes.get(index);
+		if (patternErrorCode != null && patternErrorCode.length() > 0) {
+			return patternErrorCode;
+		}
+		return (errorCode != null && errorCode.length() > 0) ? errorCode : ERROR_PATTERN_INVALID;
+	}
+}
@@ -0,0 +1,43 @@
+package org.ilyes.spring.validation.validator;
+
+import org.springframework.validation.Errors;
+
+public class NotNullValidator extends AbstractFieldValidator {
+
+	public static final String ERROR_REQUIRED = "error.required";
+
+	private boolean rejectBlank;
+
+	/**
+	 * Also reject empty and whitespace-only text.
+	 */
+	public void setRejectBlank(boolean rejectBlank) {
+		this.rejectBlank = rejectBlank;
+	}
+
+	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+		validateValue(errors, fieldName, getRawFieldValue(errors, fieldName), errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		if (fieldValue == null || (rejectBlank && fieldValue instanceof CharSequence && isBlank((CharSequence) fieldValue))) {
+			String errCode = (errorCode != null && errorCode.length() > 0) ? errorCode : ERROR_REQUIRED;
+			errors.rejectValue(fieldName, errCode, errorArgs, EMPTY_STRING);
+		}
+	}
+
+	@Override
+	public int getCost() {
+		return COST_TRIVIAL;
+	}
+
+	private static boolean isBlank(CharSequence value) {
+		for (int i = 0; i < value.length(); i++) {
+			if (!Character.isWhitespace(value.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,36 @@
+package org.ilyes.spring.validation.validator;
+
+import org.springframework.util.Assert;
+import org.springframework.validation.Errors;
+
+/**
+ * Passes when the wrapped validator fails.
+ */
+public class NotValidator extends AbstractFieldValidator {
+
+	public static final String ERROR_NOT = "error.not";
+
+	private final FieldValidator validator;
+
+	public NotValidator(FieldValidator validator) {
+		Assert.notNull(validator, "validator must not be null");
+		this.validator = validator;
+	}
+
+	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+		validateValue(errors, fieldName, getRawFieldValue(errors, fieldName), errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		if (ProbeErrors.passes(validator, errors, fieldName, fieldValue)) {
+			String errCode = (errorCode != null && errorCode.length() > 0) ? errorCode : ERROR_NOT;
+			errors.rejectValue(fieldName, errCode, errorArgs, EMPTY_STRING);
+		}
+	}
+
+	@Override
+	public int getCost() {
+		return validator.getCost();
+	}
+}
@@ -1,19 +1,28 @@
 package org.ilyes.spring.validation.validator;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.ilyes.spring.validation.support.BoundedPatternCache;
+import org.ilyes.spring.validation.support.CharSequenceMatcher;
+import org.ilyes.spring.validation.support.FastMatchers;
+import org.ilyes.spring.validation.support.PatternCache;
+import org.springframework.util.Assert;
 import org.springframework.validation.Errors;
 
 public class PatternValidator extends AbstractFieldValidator {
 
 	private static final String ERROR_PATTERN_INVALID = "error.pattern.invalid";
 
-	private static final Map<String, Pattern> COMPILED_REG_EXP_CACHE = new ConcurrentHashMap<String, Pattern>();
+	private static volatile PatternCache defaultPatternCache = new BoundedPatternCache();
 
+	private PatternCache patternCache;
 	private String 	regExp;
+	private Pattern pattern;
+	private CharSequenceMatcher fastMatcher;
+	private ThreadLocal<Matcher> threadMatcher;
     private boolean negate;
+    private boolean reuseMatcher;
 
     public PatternValidator(){}
 
@@ -22,14 +31,18 @@ public class PatternValidator extends AbstractFieldValidator {
     }
 
 	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
-		Object fieldValue = errors.getFieldValue(fieldName);
+		validateValue(errors, fieldName, errors.getFieldValue(fieldName), errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
 		String errCode = (errorCode != null && errorCode.length() > 0) ? errorCode : ERROR_PATTERN_INVALID;
 		if (fieldValue == null) {
 			errors.rejectValue(fieldName, errCode, errorArgs, EMPTY_STRING);
         	return;
         }
-        Pattern pattern = compileRegExp();
-        boolean valid = pattern != null && pattern.matcher(fieldValue.toString()).matches();
+        CharSequence input = (fieldValue instanceof CharSequence) ? (CharSequence) fieldValue : fieldValue.toString();
+        boolean valid = matches(input);
         if (negate) {
         	valid = !valid;
         }
@@ -38,6 +51,26 @@ public class PatternValidator extends AbstractFieldValidator {
         }
 	}
 
+	public boolean matches(CharSequence input) {
+		Pattern pattern = compile();
+		CharSequenceMatcher fast = this.fastMatcher;
+		if (fast != null) {
+			return fast.matches(input);
+		}
+		if (!reuseMatcher) {
+			return pattern.matcher(input).matches();
+		}
+		ThreadLocal<Matcher> matchers = this.threadMatcher;
+		Matcher matcher = matchers.get();
+		if (matcher == null || matcher.pattern() != pattern) {
+			matcher = pattern.matcher(EMPTY_STRING);
+			matchers.set(matcher);
+		}
+		boolean matches = matcher.reset(input).matches();
+		matcher.reset(EMPTY_STRING);
+		return matches;
+	}
+
 	public boolean isNegate() {
 		return negate;
 	}
@@ -46,20 +79,59 @@ public class PatternValidator extends AbstractFieldValidator {
 		this.negate = negate;
 	}
 
+	public boolean isReuseMatcher() {
+		return reuseMatcher;
+	}
+
+	/**
+	 * Keep one {@link Matcher} per thread and {@link Matcher#reset(CharSequence) reset} it for every
+	 * value instead of allocating a new one. Intended for long-lived validators on hot fields.
+	 */
+	public void setReuseMatcher(boolean reuseMatcher) {
+		this.reuseMatcher = reuseMatcher;
+		this.threadMatcher = reuseMatcher ? new ThreadLocal<Matcher>() : null;
+	}
+
+	public static PatternCache getDefaultPatternCache() {
+		return defaultPatternCache;
+	}
+
+	public static void setDefaultPatternCache(PatternCache patternCache) {
+		Assert.notNull(patternCache, "patternCache must not be null");
+		defaultPatternCache = patternCache;
+	}
+
+	public void setPatternCache(PatternCache patternCache) {
+		this.patternCache = patternCache;
+		this.pattern = null;
+		this.fastMatcher = null;
+	}
+
 	public String getRegExp() {
 		return regExp;
 	}
 
 	public void setRegExp(String regExp) {
 		this.regExp = regExp;
+		this.pattern = null;
+		this.fastMatcher = null;
 	}
 
-	private Pattern compileRegExp() {
-		Pattern pattern = COMPILED_REG_EXP_CACHE.get(regExp);
-	    if (pattern == null) {
-	        pattern = Pattern.compile(regExp);
-	        COMPILED_REG_EXP_CACHE.put(getRegExp(), pattern);
-	    }
-	    return pattern;
+	public Pattern compile() {
+		Pattern compiled = this.pattern;
+		if (compiled != null) {
+			return compiled;
+		}
+		PatternCache cache = (patternCache != null) ? patternCache : defaultPatternCache;
+		compiled = cache.getPattern(regExp);
+		this.fastMatcher = FastMatchers.forRegExp(regExp);
+	    this.pattern = compiled;
+	    return compiled;
     }
+
+	@Override
+	public int getCost() {
+		compile();
+		return (fastMatcher != null) ? 4 * COST_CHEAP : COST_EXPENSIVE;
+	}
 }
@@ -0,0 +1,188 @@
+package org.ilyes.spring.validation.validator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.ilyes.spring.validation.support.FieldAccessors;
+import org.ilyes.spring.validation.support.FieldValues;
+import org.ilyes.spring.validation.support.RawFieldValueSource;
+import org.springframework.validation.AbstractErrors;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+/**
+ * {@link Errors} wrapper recording whether a validator rejected anything. In forwarding mode
+ * the rejections also reach the wrapped instance; otherwise the check is silent. Instances are
+ * pooled per thread by nesting depth, so composite validators can nest without allocating.
+ */
+@SuppressWarnings("serial")
+final class ProbeErrors extends AbstractErrors implements RawFieldValueSource {
+
+	private static final Object[] NO_ARGS = new Object[0];
+
+	private static final ThreadLocal<Pool> POOL = new ThreadLocal<Pool>() {
+		@Override
+		protected Pool initialValue() {
+			return new Pool();
+		}
+	};
+
+	private transient Errors delegate;
+	private transient Pool pool;
+	private boolean forward;
+	private boolean rejected;
+
+	static ProbeErrors acquire(Errors delegate, boolean forward) {
+		Pool pool = POOL.get();
+		ProbeErrors probe = pool.acquire();
+		probe.delegate = delegate;
+		probe.forward = forward;
+		probe.rejected = false;
+		return probe;
+	}
+
+	/**
+	 * Run the validator against a silent probe.
+	 * @return whether the value passed
+	 */
+	static boolean passes(FieldValidator validator, Errors errors, String fieldName, Object fieldValue) {
+		ProbeErrors probe = acquire(errors, false);
+		try {
+			validator.validateValue(probe, fieldName, fieldValue, null, NO_ARGS);
+			return !probe.rejected;
+		} finally {
+			probe.release();
+		}
+	}
+
+	/**
+	 * Run the validator against the given errors.
+	 * @return whether the value passed
+	 */
+	static boolean validate(FieldValidator validator, Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		ProbeErrors probe = acquire(errors, true);
+		try {
+			validator.validateValue(probe, fieldName, fieldValue, errorCode, errorArgs);
+			return !probe.rejected;
+		} finally {
+			probe.release();
+		}
+	}
+
+	/**
+	 * Run the validator against the given errors, letting it read the field itself.
+	 * @return whether the value passed
+	 */
+	static boolean validateField(FieldValidator validator, Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+		ProbeErrors probe = acquire(errors, true);
+		try {
+			validator.validate(probe, fieldName, errorCode, errorArgs);
+			return !probe.rejected;
+		} finally {
+			probe.release();
+		}
+	}
+
+	/**
+	 * Run the validator against the given errors with the values of the current pass.
+	 * @return whether the value passed
+	 */
+	static boolean validate(AbstractFieldValidator validator, Errors errors, String fieldName, FieldValues values, String errorCode, Object... errorArgs) {
+		ProbeErrors probe = acquire(errors, true);
+		try {
+			validator.validateValues(probe, fieldName, values, errorCode, errorArgs);
+			return !probe.rejected;
+		} finally {
+			probe.release();
+		}
+	}
+
+	boolean isRejected() {
+		return rejected;
+	}
+
+	void release() {
+		delegate = null;
+		pool.release();
+	}
+
+	@Override
+	public String getObjectName() {
+		return delegate.getObjectName();
+	}
+
+	@Override
+	public void reject(String errorCode, Object[] errorArgs, String defaultMessage) {
+		rejected = true;
+		if (forward) {
+			delegate.reject(errorCode, errorArgs, defaultMessage);
+		}
+	}
+
+	@Override
+	public void rejectValue(String field, String errorCode, Object[] errorArgs, String defaultMessage) {
+		rejected = true;
+		if (forward) {
+			delegate.rejectValue(field, errorCode, errorArgs, defaultMessage);
+		}
+	}
+
+	@Override
+	public void addAllErrors(Errors errors) {
+		rejected |= errors.hasErrors();
+		if (forward) {
+			delegate.addAllErrors(errors);
+		}
+	}
+
+	@Override
+	public boolean hasErrors() {
+		return rejected;
+	}
+
+	@Override
+	public List<ObjectError> getGlobalErrors() {
+		return forward ? delegate.getGlobalErrors() : Collections.<ObjectError>emptyList();
+	}
+
+	@Override
+	public List<FieldError> getFieldErrors() {
+		return forward ? delegate.getFieldErrors() : Collections.<FieldError>emptyList();
+	}
+
+	@Override
+	public Object getFieldValue(String field) {
+		return delegate.getFieldValue(field);
+	}
+
+	@Override
+	public Object getRawFieldValue(String field) {
+		return FieldAccessors.getRawFieldValue(delegate, field);
+	}
+
+	private static final class Pool {
+
+		private ProbeErrors[] probes = new ProbeErrors[4];
+		private int depth;
+
+		ProbeErrors acquire() {
+			if (depth == probes.length) {
+				probes = Arrays.copyOf(probes, depth * 2);
+			}
+			ProbeErrors probe = probes[depth];
+			if (probe == null) {
+				probe = new ProbeErrors();
+				probe.pool = this;
+				probes[depth] = probe;
+			}
+			depth++;
+			return probe;
+		}
+
+		void release() {
+			depth--;
+		}
+	}
+}
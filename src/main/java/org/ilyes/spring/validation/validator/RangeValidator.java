@@ -1,6 +1,7 @@
 package org.ilyes.spring.validation.validator;
 
-import org.springframework.validation.BindingResult;
+import org.ilyes.spring.validation.support.Conversions;
+import org.ilyes.spring.validation.support.FieldValues;
 import org.springframework.validation.Errors;
 
 public class RangeValidator<T extends Comparable<T>> extends AbstractFieldValidator {
@@ -11,6 +12,7 @@ public class RangeValidator<T extends Comparable<T>> extends AbstractFieldValida
 
 	private T minValue;
 	private T maxValue;
+	private Class<T> type;
 
 	public RangeValidator(){}
 
@@ -27,21 +29,51 @@ public class RangeValidator<T extends Comparable<T>> extends AbstractFieldValida
 
 	public void setMinValue(T realMin) {
 		this.minValue = realMin;
+		this.type = resolveType();
 	}
 
 	public void setMaxValue(T realMax) {
 		this.maxValue = realMax;
+		this.type = resolveType();
 	}
 
 	@SuppressWarnings("unchecked")
+	private Class<T> resolveType() {
+		return (minValue != null)?  (Class<T>)minValue.getClass() : maxValue != null? (Class<T>)maxValue.getClass() : null;
+	}
+
 	public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
-		Class<T> type = (minValue != null)?  (Class<T>)minValue.getClass() : maxValue != null? (Class<T>)maxValue.getClass() : null;
+		validateValue(errors, fieldName, getRawFieldValue(errors, fieldName), errorCode, errorArgs);
+	}
+
+	@Override
+	public void validateValue(Errors errors, String fieldName, Object objValue, String errorCode, Object... errorArgs) {
 		if (type == null){
 			errors.rejectValue(fieldName, TYPE_MISMATCH);
 			return;
 		}
-		Object objValue =  BindingResult.class.isInstance(errors)? ((BindingResult)errors).getRawFieldValue(fieldName) : errors.getFieldValue(fieldName);
-		T value = convert(errors, fieldName, type, objValue);
+		check(errors, fieldName, convertValue(errors, fieldName, type, objValue), errorCode, errorArgs);
+	}
+
+	/**
+	 * Reuse the conversion of the field done by other rules of the pass, such as field comparisons.
+	 */
+	@Override
+	public void validateValues(Errors errors, String fieldName, FieldValues values, String errorCode, Object... errorArgs) {
+		if (type == null){
+			errors.rejectValue(fieldName, TYPE_MISMATCH);
+			return;
+		}
+		check(errors, fieldName, values.getConverted(fieldName, type), errorCode, errorArgs);
+	}
+
+	private void check(Errors errors, String fieldName, Object converted, String errorCode, Object[] errorArgs) {
+		if (converted == Conversions.FAILED) {
+			String errCode = (errorCode != null && errorCode.length() > 0) ? errorCode : TYPE_MISMATCH;
+			errors.rejectValue(fieldName, errCode, errorArgs, EMPTY_STRING);
+			return;
+		}
+		T value = type.cast(converted);
 		if (minValue != null && maxValue != null && (!isValueGreaterThanMin(value) || !isValueLessThanMax(value))) {
 			String errCode = (errorCode != null && errorCode.length() > 0) ? errorCode : ERROR_RANGE;
 			errors.rejectValue(fieldName, errCode, errorArgs, EMPTY_STRING);
@@ -73,4 +105,9 @@ public class RangeValidator<T extends Comparable<T>> extends AbstractFieldValida
 		}
 		return value.compareTo(maxValue) <= 0;
 	}
+
+	@Override
+	public int getCost() {
+		return 2 * COST_CHEAP;
+	}
 }
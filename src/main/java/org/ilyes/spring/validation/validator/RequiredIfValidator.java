@@ -0,0 +1,43 @@
+package org.ilyes.spring.validation.validator;
+
+import java.util.Arrays;
+
+import org.ilyes.spring.validation.support.FieldValues;
+import org.ilyes.spring.validation.support.NumberParsing;
+import org.springframework.validation.Errors;
+
+/**
+ * Requires a value, not {@code null} and not blank, when another field of the same object has
+ * one of the given values, or any non-blank value when none are given. The other value is
+ * converted to the type of the given values as {@link MembershipValidator} does.
+ */
+public class RequiredIfValidator extends CrossFieldValidator {
+
+	private final MembershipValidator trigger;
+
+	public RequiredIfValidator(String otherField, Object... values) {
+		super(otherField);
+		this.trigger = (values != null && values.length > 0) ? new MembershipValidator(Arrays.asList(values)) : null;
+	}
+
+	@Override
+	public void validate(Errors errors, String fieldName, FieldValues values, String errorCode, Object... errorArgs) {
+		if (isBlank(values.get(fieldName)) && isTriggered(values.get(getOtherField()))) {
+			String errCode = (errorCode != null && errorCode.length() > 0) ? errorCode : NotNullValidator.ERROR_REQUIRED;
+			errors.rejectValue(fieldName, errCode, errorArgs, EMPTY_STRING);
+		}
+	}
+
+	private boolean isTriggered(Object otherValue) {
+		return (trigger != null) ? trigger.contains(otherValue) : !isBlank(otherValue);
+	}
+
+	private static boolean isBlank(Object value) {
+		return value == null || (value instanceof CharSequence && NumberParsing.isBlank((CharSequence) value));
+	}
+
+	@Override
+	public int getCost() {
+		return 3 * COST_CHEAP;
+	}
+}
@@ -0,0 +1,166 @@
+package org.ilyes.spring.validation.validator;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.ilyes.spring.validation.support.FieldValues;
+import org.ilyes.spring.validation.support.TextInspection.LengthMode;
+import org.ilyes.spring.validation.validator.FieldComparisonValidator.Comparison;
+import org.springframework.validation.Errors;
+
+/**
+ * Factory methods composing {@link FieldValidator}s, for instance
+ * {@code allOf(notNull(), maxLength(3), pattern("[A-Z]+"))}. Composites order their validators
+ * by {@link FieldValidator#getCost()} and stop as soon as the outcome is known.
+ */
+public abstract class Rules {
+
+	public static FieldValidator notNull() {
+		return new NotNullValidator();
+	}
+
+	public static FieldValidator notBlank() {
+		NotNullValidator validator = new NotNullValidator();
+		validator.setRejectBlank(true);
+		return validator;
+	}
+
+	public static FieldValidator length(int minLength, int maxLength) {
+		return new LengthValidator(minLength, maxLength);
+	}
+
+	public static FieldValidator length(int minLength, int maxLength, LengthMode lengthMode) {
+		return new LengthValidator(minLength, maxLength, lengthMode);
+	}
+
+	public static FieldValidator maxLength(int maxLength) {
+		return new LengthValidator(0, maxLength);
+	}
+
+	public static FieldValidator pattern(String regExp) {
+		PatternValidator validator = new PatternValidator(regExp);
+		validator.compile();
+		return validator;
+	}
+
+	/**
+	 * Either bound may be {@code null}. {@code Integer}, {@code Long}, {@code Double} and
+	 * {@code BigDecimal} bounds get a validator specialised for that type.
+	 */
+	public static <T extends Comparable<T>> FieldValidator range(T minValue, T maxValue) {
+		Object bound = (minValue != null) ? minValue : maxValue;
+		if (bound instanceof Integer) {
+			IntRangeValidator validator = new IntRangeValidator();
+			if (minValue != null) {
+				validator.setMin((Integer) minValue);
+			}
+			if (maxValue != null) {
+				validator.setMax((Integer) maxValue);
+			}
+			return validator;
+		}
+		if (bound instanceof Long) {
+			LongRangeValidator validator = new LongRangeValidator();
+			if (minValue != null) {
+				validator.setMin((Long) minValue);
+			}
+			if (maxValue != null) {
+				validator.setMax((Long) maxValue);
+			}
+			return validator;
+		}
+		if (bound instanceof Double) {
+			DoubleRangeValidator validator = new DoubleRangeValidator();
+			if (minValue != null) {
+				validator.setMin((Double) minValue);
+			}
+			if (maxValue != null) {
+				validator.setMax((Double) maxValue);
+			}
+			return validator;
+		}
+		if (bound instanceof BigDecimal) {
+			return new BigDecimalRangeValidator((BigDecimal) minValue, (BigDecimal) maxValue);
+		}
+		return new RangeValidator<T>(minValue, maxValue);
+	}
+
+	public static <T> FieldValidator equalTo(T value) {
+		return new EqualsValidator<T>(value);
+	}
+
+	public static FieldValidator oneOf(Collection<?> values) {
+		return new MembershipValidator(values);
+	}
+
+	public static FieldValidator allOf(FieldValidator... validators) {
+		return new AllOfValidator(validators);
+	}
+
+	public static FieldValidator anyOf(FieldValidator... validators) {
+		return new AnyOfValidator(validators);
+	}
+
+	public static FieldValidator not(FieldValidator validator) {
+		return new NotValidator(validator);
+	}
+
+	/**
+	 * Remember the outcome of the validator for up to {@code maxSize} distinct values.
+	 */
+	public static MemoizingFieldValidator memoize(FieldValidator validator, int maxSize) {
+		return new MemoizingFieldValidator(validator, maxSize);
+	}
+
+	public static MemoizingFieldValidator memoize(FieldValidator validator, int maxSize, long expireAfterWrite, TimeUnit unit) {
+		return new MemoizingFieldValidator(validator, maxSize, expireAfterWrite, unit);
+	}
+
+	public static FieldValidator when(FieldValidator condition, FieldValidator validator) {
+		return new ConditionalValidator(condition, validator);
+	}
+
+	public static FieldValidator when(Predicate<Object> condition, FieldValidator validator) {
+		return new ConditionalValidator(condition, validator);
+	}
+
+	public static FieldValidator sameAs(String otherField) {
+		return new FieldEqualsValidator(otherField);
+	}
+
+	public static FieldValidator compareTo(Comparison comparison, String otherField, Class<? extends Comparable<?>> type) {
+		return new FieldComparisonValidator(comparison, otherField, type);
+	}
+
+	public static FieldValidator compareDateTo(Comparison comparison, String otherField, String datePattern) {
+		return FieldComparisonValidator.forDates(comparison, otherField, datePattern);
+	}
+
+	public static FieldValidator requiredIf(String otherField, Object... values) {
+		return new RequiredIfValidator(otherField, values);
+	}
+
+	/**
+	 * Validate the field, reporting whether it passed without inspecting {@code errors}.
+	 */
+	public static boolean check(FieldValidator validator, Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+		return ProbeErrors.validateField(validator, errors, fieldName, errorCode, errorArgs);
+	}
+
+	/**
+	 * Validate the given field value, reporting whether it passed without inspecting {@code errors}.
+	 */
+	public static boolean checkValue(FieldValidator validator, Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+		return ProbeErrors.validate(validator, errors, fieldName, fieldValue, errorCode, errorArgs);
+	}
+
+	/**
+	 * Validate the field with the values of the current pass, reporting whether it passed
+	 * without inspecting {@code errors}.
+	 */
+	public static boolean checkValues(AbstractFieldValidator validator, Errors errors, String fieldName, FieldValues values, String errorCode, Object... errorArgs) {
+		return ProbeErrors.validate(validator, errors, fieldName, values, errorCode, errorArgs);
+	}
+}
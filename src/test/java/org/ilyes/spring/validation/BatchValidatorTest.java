@@ -0,0 +1,69 @@
+package org.ilyes.spring.validation;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.ilyes.spring.validation.ValidationPlanTest.Order;
+import org.junit.Test;
+
+public class BatchValidatorTest {
+
+	private static final ValidationPlan<Order> PLAN = ValidationPlan.forType(Order.class)
+			.field("quantity").range(1, 999, "error.quantity")
+			.field("code").pattern("[A-Z]{3}", "error.code")
+			.build();
+
+	@Test
+	public void reportsFailingRowsInOrderOnForkJoinPool() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			BatchValidator<Order> validator = new BatchValidator<Order>(PLAN);
+			validator.setExecutor(pool);
+			validator.setChunkSize(16);
+			BatchValidationResult result = validator.validate(orders(10000));
+			assertTrue(result.isComplete());
+			assertEquals(1000, result.getFailedRows().length);
+			assertEquals(1000, result.getErrorCount());
+			assertEquals(7, result.getFailedRows()[0]);
+			assertEquals("error.quantity", result.getErrors(7).getFieldError("quantity").getCode());
+			assertEquals("target[7]", result.getErrors(7).getObjectName());
+			assertNull(result.getErrors(8));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void stopsAfterMaxErrorsWithOrderedPrefix() {
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			BatchValidator<Order> validator = new BatchValidator<Order>(PLAN);
+			validator.setExecutor(executor);
+			validator.setChunkSize(8);
+			validator.setMaxErrors(5);
+			BatchValidationResult result = validator.validate(orders(10000));
+			assertFalse(result.isComplete());
+			assertArrayEquals(new int[] {7, 17, 27, 37, 47}, result.getFailedRows());
+			assertEquals(5, result.getErrorCount());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static List<Order> orders(int count) {
+		List<Order> orders = new ArrayList<Order>(count);
+		for (int i = 0; i < count; i++) {
+			orders.add(new Order((i % 10 == 7) ? 0 : 5, "ABC"));
+		}
+		return orders;
+	}
+}
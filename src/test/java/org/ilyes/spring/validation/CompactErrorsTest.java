@@ -0,0 +1,120 @@
+package org.ilyes.spring.validation;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+
+import org.ilyes.spring.validation.ValidationPlanTest.Order;
+import org.junit.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+public class CompactErrorsTest {
+
+	private static final ValidationPlan<Order> PLAN = ValidationPlan.forType(Order.class)
+			.field("quantity").range(1, 999, "error.quantity")
+			.field("code").pattern("[A-Z]{3}", "error.code").maxLength(3, "error.length")
+			.build();
+
+	@Test
+	public void fieldErrorsMatchBindingResult() {
+		Order order = new Order(0, "abcd");
+		Errors expected = new BeanPropertyBindingResult(order, "order");
+		CompactErrors errors = new CompactErrors(order, "order");
+		PLAN.validate(expected);
+		PLAN.validate(errors);
+		ValidationUtils.rejectIfNotValidInteger(errors, "quantity", "error.integer");
+		ValidationUtils.rejectIfNotValidInteger(expected, "quantity", "error.integer");
+		expected.reject("error.global");
+		errors.reject("error.global");
+
+		assertEquals(expected.getErrorCount(), errors.getErrorCount());
+		assertEquals(expected.getFieldErrorCount("code"), errors.getFieldErrorCount("code"));
+		for (int i = 0; i < expected.getFieldErrorCount(); i++) {
+			FieldError expectedError = expected.getFieldErrors().get(i);
+			FieldError error = errors.getFieldErrors().get(i);
+			assertEquals(expectedError.getField(), error.getField());
+			assertEquals(expectedError.getRejectedValue(), error.getRejectedValue());
+			assertArrayEquals(expectedError.getCodes(), error.getCodes());
+		}
+		assertArrayEquals(expected.getGlobalError().getCodes(), errors.getGlobalError().getCodes());
+	}
+
+	@Test
+	public void firstErrorModeSkipsRemainingRules() {
+		CompactErrors errors = new CompactErrors(new Order(0, "abcd"), "order", CompactErrors.Mode.FIRST_ERROR);
+		PLAN.validate(errors);
+		assertTrue(errors.isSaturated());
+		assertEquals(1, errors.getErrorCount());
+		assertEquals("error.quantity", errors.getFieldError().getCode());
+		assertFalse(errors.hasFieldErrors("code"));
+	}
+
+	@Test
+	public void booleanModeOnlyRecordsFailure() {
+		CompactErrors errors = new CompactErrors(new Order(0, "abcd"), "order", CompactErrors.Mode.BOOLEAN);
+		PLAN.validate(new Order(0, "abcd"), errors);
+		assertTrue(errors.hasErrors());
+		assertEquals(1, errors.getErrorCount());
+		assertTrue(errors.getAllErrors().isEmpty());
+	}
+
+	@Test
+	public void tracksRejectedFieldsWhenErrorsAreNotKept() {
+		Date date = new GregorianCalendar(2016, Calendar.JANUARY, 1).getTime();
+		for (CompactErrors.Mode mode : new CompactErrors.Mode[] { CompactErrors.Mode.BOOLEAN, CompactErrors.Mode.FIRST_ERROR }) {
+			CompactErrors errors = new CompactErrors(new Order(null, null), "order", mode);
+			ValidationUtils.rejectIfNull(errors, "quantity", "error.quantity");
+			ValidationUtils.rejectIfNotValidDate(errors, "code", "error.date");
+			ValidationUtils.rejectIfDateAfter(date, errors, "code", "error.date");
+			assertEquals(1, errors.getErrorCount());
+			assertTrue(errors.hasFieldErrors("quantity"));
+			assertTrue(errors.hasFieldErrors("code"));
+			assertEquals(2, errors.getFieldErrorCount("code"));
+			assertEquals(3, errors.getFieldErrorCount("*"));
+			errors.reset(new Order(null, null));
+			assertFalse(errors.hasFieldErrors("code"));
+		}
+	}
+
+	@Test
+	public void globalFieldQueriesAgreeWithPerFieldQueries() {
+		for (CompactErrors.Mode mode : CompactErrors.Mode.values()) {
+			CompactErrors errors = new CompactErrors(new Order(null, null), "order", mode);
+			assertFalse(errors.hasFieldErrors());
+			ValidationUtils.rejectIfNull(errors, "quantity", "error.quantity");
+			ValidationUtils.rejectIfNull(errors, "code", "error.code");
+			errors.reject("error.order");
+			assertTrue(mode.name(), errors.hasFieldErrors());
+			assertEquals(mode.name(), errors.getFieldErrorCount("quantity") + errors.getFieldErrorCount("code"), errors.getFieldErrorCount());
+			assertEquals(mode.name(), 2, errors.getFieldErrorCount());
+			errors.reset(new Order(null, null));
+			assertFalse(errors.hasFieldErrors());
+			assertEquals(0, errors.getFieldErrorCount());
+		}
+	}
+
+	@Test
+	public void pooledInstancesAreResetForNextTarget() {
+		CompactErrorsPool pool = new CompactErrorsPool("order", CompactErrors.Mode.FULL, 2);
+		CompactErrors first = pool.acquire(new Order(0, "ABC"));
+		PLAN.validate(first);
+		assertTrue(first.hasErrors());
+		pool.release(first);
+
+		Order valid = new Order(5, "ABC");
+		CompactErrors second = pool.acquire(valid);
+		assertSame(first, second);
+		assertSame(valid, second.getTarget());
+		PLAN.validate(second);
+		assertFalse(second.hasErrors());
+		assertTrue(second.getFieldErrors().isEmpty());
+	}
+}
@@ -0,0 +1,118 @@
+package org.ilyes.spring.validation;
+
+import static org.junit.Assert.assertEquals;
+
+import org.ilyes.spring.validation.validator.AbstractFieldValidator;
+import org.junit.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+public class IncrementalValidatorTest {
+
+	private static final ValidationPlan<Booking> PLAN = ValidationPlan.forType(Booking.class)
+			.field("guests").range(1, 8, "error.guests")
+			.field("code").pattern("[A-Z]{3}", "error.code").maxLength(3, "error.length")
+			.field("from").range(1, 365, "error.from")
+			.field("to").rule(new NotBeforeValidator("from"), "error.to").requireValid("from")
+			.build();
+
+	@Test
+	public void revalidatesOnlyChangedFieldsAndTheirDependents() {
+		IncrementalValidator<Booking> validator = new IncrementalValidator<Booking>(PLAN).dependsOn("to", "from");
+		Booking booking = new Booking(2, "abcd", 10, 12);
+		assertSameErrors(booking, validator);
+		assertEquals(4, validator.getRevalidatedFieldCount());
+
+		assertSameErrors(booking, validator);
+		assertEquals(0, validator.getRevalidatedFieldCount());
+
+		booking.code = "ABC";
+		assertSameErrors(booking, validator);
+		assertEquals(1, validator.getRevalidatedFieldCount());
+
+		booking.from = 20;
+		assertSameErrors(booking, validator);
+		assertEquals(2, validator.getRevalidatedFieldCount());
+
+		booking.from = 400;
+		assertSameErrors(booking, validator);
+		assertEquals(1, validator.getRevalidatedFieldCount());
+
+		booking.from = 11;
+		assertSameErrors(booking, validator);
+		assertEquals(2, validator.getRevalidatedFieldCount());
+
+		validator.invalidate("from");
+		assertSameErrors(booking, validator);
+		assertEquals(2, validator.getRevalidatedFieldCount());
+	}
+
+	private static void assertSameErrors(Booking booking, IncrementalValidator<Booking> validator) {
+		Errors expected = new BeanPropertyBindingResult(booking, "booking");
+		PLAN.validate(booking, expected);
+		Errors errors = new BeanPropertyBindingResult(booking, "booking");
+		validator.validate(booking, errors);
+		assertEquals(expected.getErrorCount(), errors.getErrorCount());
+		for (int i = 0; i < expected.getErrorCount(); i++) {
+			FieldError expectedError = expected.getFieldErrors().get(i);
+			FieldError error = errors.getFieldErrors().get(i);
+			assertEquals(expectedError.getField(), error.getField());
+			assertEquals(expectedError.getCode(), error.getCode());
+			assertEquals(expectedError.getRejectedValue(), error.getRejectedValue());
+		}
+	}
+
+	private static class NotBeforeValidator extends AbstractFieldValidator {
+
+		private final String otherField;
+
+		NotBeforeValidator(String otherField) {
+			this.otherField = otherField;
+		}
+
+		@Override
+		public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+			validateValue(errors, fieldName, errors.getFieldValue(fieldName), errorCode, errorArgs);
+		}
+
+		@Override
+		public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+			Integer other = (Integer) errors.getFieldValue(otherField);
+			if (fieldValue == null || other == null || (Integer) fieldValue < other) {
+				errors.rejectValue(fieldName, errorCode, errorArgs, EMPTY_STRING);
+			}
+		}
+	}
+
+	public static class Booking {
+
+		Integer guests;
+		String code;
+		Integer from;
+		Integer to;
+
+		Booking(Integer guests, String code, Integer from, Integer to) {
+			this.guests = guests;
+			this.code = code;
+			this.from = from;
+			this.to = to;
+		}
+
+		public Integer getGuests() {
+			return guests;
+		}
+
+		public String getCode() {
+			return code;
+		}
+
+		public Integer getFrom() {
+			return from;
+		}
+
+		public Integer getTo() {
+			return to;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package org.ilyes.spring.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.ilyes.spring.validation.ValidationPlanTest.Order;
+import org.ilyes.spring.validation.support.FieldIndex;
+import org.ilyes.spring.validation.support.FieldMask;
+import org.junit.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+public class ValidationGroupsTest {
+
+	private static final ValidationGroups GROUPS = ValidationGroups.builder()
+			.group("draft", "code")
+			.extend("submit", "draft").group("submit", "quantity")
+			.group("admin-edit", "quantity")
+			.build();
+
+	private static final ValidationPlan<Order> PLAN = ValidationPlan.forType(Order.class)
+			.groups(GROUPS)
+			.field("quantity").range(1, 999, "error.quantity")
+			.field("code").pattern("[A-Z]{3}", "error.code")
+			.build();
+
+	@Test
+	public void validatesOnlyTheFieldsOfTheSelectedGroup() {
+		Order order = new Order(0, "abc");
+		assertEquals("[error.code]", codes(order, "draft"));
+		assertEquals("[error.quantity, error.code]", codes(order, "submit"));
+		assertEquals("[error.quantity]", codes(order, "admin-edit"));
+
+		Errors errors = new BeanPropertyBindingResult(order, "order");
+		PLAN.validate(errors, "draft");
+		assertEquals(1, errors.getErrorCount());
+	}
+
+	@Test
+	public void skipMasksReplaceSkippedFieldArrays() {
+		FieldMask skipped = GROUPS.getSkipMask("draft");
+		for (String field : new String[] { "code", "quantity", "unknown", "" }) {
+			boolean expected = !field.isEmpty() && !field.equals("code");
+			assertEquals(field, expected, ValidationUtils.skipFieldValidation(field, skipped));
+		}
+		assertEquals(ValidationUtils.skipFieldValidation("code", new String[] { "code" }),
+				ValidationUtils.skipFieldValidation("code", FieldMask.of(GROUPS.getFieldIndex(), "code")));
+		assertEquals("{code, quantity}", GROUPS.getMask("submit").toString());
+	}
+
+	@Test
+	public void masksCombineAcrossWordBoundaries() {
+		FieldIndex index = new FieldIndex();
+		for (int i = 0; i < 130; i++) {
+			index.intern("f" + i);
+		}
+		FieldMask low = FieldMask.of(index, "f1", "f64");
+		FieldMask high = FieldMask.of(index, "f64", "f129");
+		assertTrue(low.or(high).contains("f129"));
+		assertEquals("{f64}", low.and(high).toString());
+		assertEquals("{f1}", low.andNot(high).toString());
+		assertTrue(high.not().and(low.not()).contains("f2"));
+		assertFalse(high.not().and(low.not()).contains("f64"));
+		assertEquals("all except {f1, f64, f129}", high.not().and(low.not()).toString());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsUnknownGroups() {
+		PLAN.validate(new BeanPropertyBindingResult(new Order(1, "ABC"), "order"), "archive");
+	}
+
+	private static String codes(Order order, String group) {
+		Errors errors = new BeanPropertyBindingResult(order, "order");
+		PLAN.validate(order, errors, group);
+		StringBuilder codes = new StringBuilder("[");
+		for (int i = 0; i < errors.getFieldErrorCount(); i++) {
+			codes.append(i > 0 ? ", " : "").append(errors.getFieldErrors().get(i).getCode());
+		}
+		return codes.append(']').toString();
+	}
+}
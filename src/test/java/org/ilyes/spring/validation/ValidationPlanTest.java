@@ -0,0 +1,127 @@
+package org.ilyes.spring.validation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+import org.ilyes.spring.validation.validator.AbstractFieldValidator;
+import org.junit.Test;
+import org.springframework.beans.propertyeditors.CustomNumberEditor;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+public class ValidationPlanTest {
+
+	private static final ValidationPlan<Order> PLAN = ValidationPlan.forType(Order.class)
+			.field("quantity").range(1, 999, "error.quantity")
+			.field("code").pattern("[A-Z]{3}", "error.code").maxLength(3)
+			.build();
+
+	@Test
+	public void validOrderHasNoErrors() {
+		Errors errors = new BeanPropertyBindingResult(new Order(5, "ABC"), "order");
+		PLAN.validate(errors);
+		assertFalse(errors.hasErrors());
+	}
+
+	@Test
+	public void planIsReusableAcrossErrors() {
+		Errors first = new BeanPropertyBindingResult(new Order(0, "ABC"), "order");
+		Errors second = new BeanPropertyBindingResult(new Order(5, "abcd"), "order");
+		PLAN.validate(first);
+		PLAN.validate(second);
+		assertEquals("error.quantity", first.getFieldError("quantity").getCode());
+		assertEquals(2, second.getFieldErrorCount("code"));
+		assertEquals("error.code", second.getFieldErrors("code").get(0).getCode());
+	}
+
+	@Test
+	public void targetValidationReadsFieldsThroughAccessors() {
+		Order order = new Order(1000, "AB");
+		Errors errors = new BeanPropertyBindingResult(order, "order");
+		PLAN.validate(order, errors);
+		assertEquals("error.quantity", errors.getFieldError("quantity").getCode());
+		assertEquals("error.code", errors.getFieldError("code").getCode());
+		assertEquals(1, errors.getFieldErrorCount("code"));
+	}
+
+	@Test
+	public void shortCircuitStopsAtFirstFailureAndSkipsDependentFields() {
+		ValidationPlan<Order> plan = ValidationPlan.forType(Order.class)
+				.shortCircuit()
+				.field("code").pattern("[A-Z]{3}", "error.code").maxLength(3, "error.length")
+				.field("quantity").requireValid("code").range(1, 999, "error.quantity")
+				.build();
+		Order order = new Order(0, "abcd");
+		Errors errors = new BeanPropertyBindingResult(order, "order");
+		plan.validate(order, errors);
+		assertEquals(1, errors.getErrorCount());
+		assertEquals("error.length", errors.getFieldError("code").getCode());
+
+		errors = new BeanPropertyBindingResult(new Order(0, "ABC"), "order");
+		plan.validate(errors);
+		assertEquals("error.quantity", errors.getFieldError("quantity").getCode());
+	}
+
+	@Test
+	public void shortCircuitPlansValidateRawValuesOfFormattedFields() {
+		ValidationPlan<Order> plan = ValidationPlan.forType(Order.class)
+				.shortCircuit()
+				.field("quantity").range(1, 9999, "error.quantity")
+				.build();
+		BeanPropertyBindingResult errors = formatted(new Order(1000, "ABC"));
+		assertEquals("1,000", errors.getFieldValue("quantity"));
+		plan.validate(errors);
+		assertFalse(errors.hasErrors());
+	}
+
+	/**
+	 * @return a binding result formatting the quantity with grouping separators
+	 */
+	public static BeanPropertyBindingResult formatted(Order order) {
+		BeanPropertyBindingResult errors = new BeanPropertyBindingResult(order, "order");
+		errors.getPropertyEditorRegistry().registerCustomEditor(Integer.class, "quantity",
+				new CustomNumberEditor(Integer.class, new DecimalFormat("#,##0", DecimalFormatSymbols.getInstance(Locale.US)), true));
+		return errors;
+	}
+
+	@Test
+	public void validatorsImplementingOnlyValidateRunInPlans() {
+		ValidationPlan<Order> plan = ValidationPlan.forType(Order.class)
+				.field("code").rule(new AbstractFieldValidator() {
+					@Override
+					public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+						if (!"ABC".equals(errors.getFieldValue(fieldName))) {
+							errors.rejectValue(fieldName, errorCode);
+						}
+					}
+				}, "error.legacy")
+				.build();
+		Order order = new Order(5, "XYZ");
+		Errors errors = new BeanPropertyBindingResult(order, "order");
+		plan.validate(order, errors);
+		assertEquals("error.legacy", errors.getFieldError("code").getCode());
+	}
+
+	public static class Order {
+
+		private Integer quantity;
+		private String code;
+
+		public Order(Integer quantity, String code) {
+			this.quantity = quantity;
+			this.code = code;
+		}
+
+		public Integer getQuantity() {
+			return quantity;
+		}
+
+		public String getCode() {
+			return code;
+		}
+	}
+}
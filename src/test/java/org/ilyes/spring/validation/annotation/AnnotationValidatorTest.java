@@ -0,0 +1,152 @@
+package org.ilyes.spring.validation.annotation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import org.ilyes.spring.validation.ValidationUtils;
+import org.junit.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+
+public class AnnotationValidatorTest {
+
+	private final AnnotationValidator validator = new AnnotationValidator(Invoice.class);
+
+	@Test
+	public void matchesHandWrittenValidation() {
+		Invoice[] invoices = {new Invoice("INV", 5, "10.00", "DE", "15.06.2016", "12"),
+				new Invoice("inv", 0, "-1", "XX", "31.13.2016", "1234"),
+				new Invoice("INVOICE", 1000, "0", "de", "", "x")};
+		for (Invoice invoice : invoices) {
+			Errors expected = new BeanPropertyBindingResult(invoice, "invoice");
+			ValidationUtils.rejectIfLengthNotInRange(3, 3, expected, "code", "error.code.length");
+			ValidationUtils.rejectIfPatternNotValid("[A-Z]+", expected, "code", "error.code");
+			ValidationUtils.rejectIfNotEqualsValue("INV", expected, "code", "error.code.value");
+			ValidationUtils.rejectIfNotInRange(1, 999, expected, "quantity", "error.quantity");
+			ValidationUtils.rejectIfLessThan(BigDecimal.ZERO, expected, "amount", "error.amount");
+			ValidationUtils.rejectIfNotInValues(Arrays.asList("DE", "FR"), expected, "country", "error.country");
+			ValidationUtils.rejectIfNotValidDate(expected, "dd.MM.yyyy", "date", "error.date");
+			ValidationUtils.rejectIfNotInRange(0, 99, expected, "count", "error.count");
+			Errors errors = new BeanPropertyBindingResult(invoice, "invoice");
+			validator.validate(invoice, errors);
+
+			assertEquals(expected.getErrorCount(), errors.getErrorCount());
+			for (int i = 0; i < expected.getFieldErrorCount(); i++) {
+				FieldError expectedError = expected.getFieldErrors().get(i);
+				FieldError error = errors.getFieldErrors().get(i);
+				assertEquals(expectedError.getField(), error.getField());
+				assertEquals(expectedError.getCode(), error.getCode());
+			}
+		}
+	}
+
+	@Test
+	public void plansAreBuiltOncePerType() {
+		assertTrue(validator.supports(Invoice.class));
+		assertFalse(validator.supports(Object.class));
+		assertFalse(validator.supports(String.class));
+		assertSame(AnnotationPlans.forType(Invoice.class), AnnotationPlans.forType(Invoice.class));
+		assertFalse(AnnotationPlans.isAnnotated(String.class));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void invalidBoundsFailWhenThePlanIsBuilt() {
+		new AnnotationValidator(BadBounds.class);
+	}
+
+	@Test
+	public void emptyBoundsOfTextRangesAreOpen() {
+		AnnotationValidator validator = new AnnotationValidator(Name.class);
+		Name name = new Name("a");
+		Errors errors = new BeanPropertyBindingResult(name, "name");
+		validator.validate(name, errors);
+		assertEquals("error.range.underMin", errors.getFieldError("value").getCode());
+
+		name = new Name("zz");
+		errors = new BeanPropertyBindingResult(name, "name");
+		validator.validate(name, errors);
+		assertFalse(errors.hasErrors());
+	}
+
+	public static class Invoice {
+
+		@Length(min = 3, max = 3, errorCode = "error.code.length")
+		@Pattern(value = "[A-Z]+", errorCode = "error.code")
+		@EqualsValue(value = "INV", errorCode = "error.code.value")
+		private final String code;
+
+		@Range(min = "1", max = "999", errorCode = "error.quantity")
+		private final int quantity;
+
+		@Range(min = "0", errorCode = "error.amount")
+		private final BigDecimal amount;
+
+		@InValues(value = {"DE", "FR"}, errorCode = "error.country")
+		private final String country;
+
+		@ValidDate(errorCode = "error.date")
+		private final String date;
+
+		@Range(min = "0", max = "99", type = Integer.class, errorCode = "error.count")
+		private final String count;
+
+		public Invoice(String code, int quantity, String amount, String country, String date, String count) {
+			this.code = code;
+			this.quantity = quantity;
+			this.amount = new BigDecimal(amount);
+			this.country = country;
+			this.date = date;
+			this.count = count;
+		}
+
+		public String getCode() {
+			return code;
+		}
+
+		public int getQuantity() {
+			return quantity;
+		}
+
+		public BigDecimal getAmount() {
+			return amount;
+		}
+
+		public String getCountry() {
+			return country;
+		}
+
+		public String getDate() {
+			return date;
+		}
+
+		public String getCount() {
+			return count;
+		}
+	}
+
+	public static class BadBounds {
+
+		@Range(min = "one")
+		private Integer quantity;
+	}
+
+	public static class Name {
+
+		@Range(min = "b")
+		private final String value;
+
+		public Name(String value) {
+			this.value = value;
+		}
+
+		public String getValue() {
+			return value;
+		}
+	}
+}
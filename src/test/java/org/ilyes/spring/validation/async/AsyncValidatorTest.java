@@ -0,0 +1,107 @@
+package org.ilyes.spring.validation.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.ilyes.spring.validation.ValidationPlan;
+import org.junit.Test;
+import org.springframework.validation.Errors;
+
+public class AsyncValidatorTest {
+
+	private static final ValidationPlan<Order> PLAN = ValidationPlan.forType(Order.class)
+			.field("currency").pattern("[A-Z]{3}", "error.currency.format")
+			.build();
+
+	@Test
+	public void runsLookupsAfterInlineRules() throws Exception {
+		CodeService service = new CodeService("EUR", "CHF");
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			AsyncValidator<Order> validator = new AsyncValidator<Order>(PLAN)
+					.rule("currency", new AsyncMembershipValidator(service::contains, executor));
+			assertFalse(validator.validate(new Order("CHF")).get(5, TimeUnit.SECONDS).hasErrors());
+
+			Errors errors = validator.validate(new Order("USD")).get(5, TimeUnit.SECONDS);
+			assertEquals("error.value.notAllowed", errors.getFieldError("currency").getCode());
+
+			errors = validator.validate(new Order("eur")).get(5, TimeUnit.SECONDS);
+			assertEquals("error.currency.format", errors.getFieldError("currency").getCode());
+			assertEquals(2, service.calls.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void sharesConcurrentLookupsOfTheSameValue() throws Exception {
+		CompletableFuture<Boolean> pending = new CompletableFuture<Boolean>();
+		AtomicInteger calls = new AtomicInteger();
+		AsyncMembershipValidator membership = new AsyncMembershipValidator(value -> {
+			calls.incrementAndGet();
+			return pending;
+		});
+		AsyncValidator<Order> validator = new AsyncValidator<Order>(PLAN).rule("currency", membership, "error.currency");
+		CompletableFuture<Errors> first = validator.validate(new Order("EUR"));
+		CompletableFuture<Errors> second = validator.validate(new Order("EUR"));
+		assertEquals(1, calls.get());
+		assertEquals(1, membership.getInFlightCount());
+
+		pending.complete(Boolean.FALSE);
+		assertEquals("error.currency", first.get().getFieldError("currency").getCode());
+		assertEquals("error.currency", second.get().getFieldError("currency").getCode());
+		assertEquals(0, membership.getInFlightCount());
+	}
+
+	@Test
+	public void rejectsFieldsWhoseLookupTimedOut() throws Exception {
+		AsyncValidator<Order> validator = new AsyncValidator<Order>(PLAN)
+				.rule("currency", new AsyncMembershipValidator(value -> new CompletableFuture<Boolean>()));
+		validator.setTimeout(20, TimeUnit.MILLISECONDS);
+		Errors errors = validator.validate(new Order("EUR")).get(5, TimeUnit.SECONDS);
+		assertEquals(AsyncValidator.ERROR_TIMEOUT, errors.getFieldError("currency").getCode());
+
+		CompletableFuture<Boolean> failing = new CompletableFuture<Boolean>();
+		failing.completeExceptionally(new IllegalStateException("unavailable"));
+		validator = new AsyncValidator<Order>(PLAN).rule("currency", new AsyncMembershipValidator(value -> failing));
+		assertTrue(validator.validate(new Order("EUR")).isCompletedExceptionally());
+	}
+
+	private static final class CodeService {
+
+		final Set<String> codes;
+		final AtomicInteger calls = new AtomicInteger();
+
+		CodeService(String... codes) {
+			this.codes = new HashSet<String>(Arrays.asList(codes));
+		}
+
+		boolean contains(Object code) {
+			calls.incrementAndGet();
+			return codes.contains(code);
+		}
+	}
+
+	public static class Order {
+
+		String currency;
+
+		Order(String currency) {
+			this.currency = currency;
+		}
+
+		public String getCurrency() {
+			return currency;
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package org.ilyes.spring.validation.column;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.ilyes.spring.validation.validator.EqualsValidator;
+import org.ilyes.spring.validation.validator.LengthValidator;
+import org.ilyes.spring.validation.validator.Rules;
+import org.junit.Test;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MapBindingResult;
+
+public class ColumnValidatorTest {
+
+	private static final int ROWS = 150;
+	private static final String[] CODES = { "EUR", "USD", "E", "EURO", null, "" };
+
+	@Test
+	public void reportsTheSameErrorsAsRowByRowValidation() {
+		Random random = new Random(7);
+		int[] quantities = new int[ROWS];
+		long[] ids = new long[ROWS];
+		double[] rates = new double[ROWS];
+		String[] codes = new String[ROWS];
+		for (int i = 0; i < ROWS; i++) {
+			quantities[i] = (i % 7 == 0) ? Integer.MIN_VALUE + i : random.nextInt(1200) - 100;
+			ids[i] = (i % 11 == 0) ? Long.MAX_VALUE - i : random.nextInt(2000);
+			rates[i] = (i % 13 == 0) ? Double.NaN : random.nextDouble() * 1.2;
+			codes[i] = CODES[random.nextInt(CODES.length)];
+		}
+		ColumnBatch batch = new ColumnBatch(ROWS).add("quantity", quantities).add("id", ids)
+				.add("rate", rates).add("currency", stringColumn(codes));
+		ColumnValidationResult result = new ColumnValidator()
+				.range("quantity", 0, 999, null)
+				.range("id", 1L, 1500L, "error.id")
+				.range("rate", 0.0, 1.0, null)
+				.length("currency", 2, 3, null)
+				.equalTo("currency", "EUR", "error.currency")
+				.validate(batch);
+
+		int failed = 0;
+		for (int i = 0; i < ROWS; i++) {
+			Map<String, Object> row = new HashMap<String, Object>();
+			row.put("quantity", quantities[i]);
+			row.put("id", ids[i]);
+			row.put("rate", rates[i]);
+			row.put("currency", codes[i]);
+			Errors expected = new MapBindingResult(row, "row");
+			Rules.range(0, 999).validate(expected, "quantity", null);
+			Rules.range(1L, 1500L).validate(expected, "id", "error.id");
+			Rules.range(0.0, 1.0).validate(expected, "rate", null);
+			new LengthValidator(2, 3).validate(expected, "currency", null);
+			if (codes[i] != null) {
+				new EqualsValidator<String>("EUR").validate(expected, "currency", "error.currency");
+			} else {
+				expected.rejectValue("currency", "error.currency");
+			}
+			Errors errors = new MapBindingResult(row, "row");
+			result.rejectRow(i, errors);
+			assertEquals("row " + i, codes(expected), codes(errors));
+			assertEquals(expected.hasErrors(), !result.isValid(i));
+			failed += expected.hasErrors() ? 1 : 0;
+		}
+		assertEquals(failed, result.getFailedRows().cardinality());
+	}
+
+	@Test
+	public void iteratesFailingRowsAcrossWords() {
+		int[] values = new int[ROWS];
+		values[3] = -1;
+		values[64] = -1;
+		values[149] = -1;
+		ColumnValidationResult result = new ColumnValidator().range("value", 0, 10, null)
+				.validate(new ColumnBatch(ROWS).add("value", values));
+		assertEquals("[3, 64, 149]", result.getFailedRows().toString());
+		assertEquals(64, result.getFailedRows().nextSetBit(4));
+		assertTrue(result.hasFailures());
+
+		result = new ColumnValidator().range("value", 1L << 40, 1L << 41, null).equalTo("value", 1L << 33, null)
+				.validate(new ColumnBatch(70).add("value", values));
+		assertEquals(70, result.getRuleFailures(0).cardinality());
+		assertEquals(70, result.getRuleFailures(1).cardinality());
+		assertFalse(new ColumnValidator().validate(new ColumnBatch(0)).hasFailures());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsColumnsOfTheWrongType() {
+		new ColumnValidator().length("value", 0, 3, null).validate(new ColumnBatch(1).add("value", new int[1]));
+	}
+
+	private static StringColumn stringColumn(String[] values) {
+		StringBuilder chars = new StringBuilder();
+		int[] offsets = new int[values.length];
+		int[] lengths = new int[values.length];
+		for (int i = 0; i < values.length; i++) {
+			offsets[i] = chars.length();
+			lengths[i] = (values[i] != null) ? values[i].length() : -1;
+			chars.append(values[i] != null ? values[i] : "");
+		}
+		return new StringColumn(chars.toString().toCharArray(), offsets, lengths);
+	}
+
+	private static List<String> codes(Errors errors) {
+		List<String> codes = new ArrayList<String>();
+		for (FieldError error : errors.getFieldErrors()) {
+			codes.add(error.getField() + ":" + error.getCode());
+		}
+		return codes;
+	}
+}
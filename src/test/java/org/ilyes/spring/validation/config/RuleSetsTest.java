@@ -0,0 +1,107 @@
+package org.ilyes.spring.validation.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.ilyes.spring.validation.ValidationPlan;
+import org.ilyes.spring.validation.ValidationPlanTest.Order;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MapBindingResult;
+
+public class RuleSetsTest {
+
+	private static final String RULES = "code.pattern=[A-Z]{3}\n"
+			+ "code.pattern.code=error.code\n"
+			+ "code.noneOf=XXX, XTS\n"
+			+ "quantity.range=1..999\n"
+			+ "quantity.notEquals=13\n"
+			+ "quantity.notEquals.code=error.unlucky\n";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void compilesRulesInFileOrder() throws IOException {
+		ValidationPlan<Order> plan = RuleSets.compile(Order.class, new StringReader(RULES));
+		assertEquals("[]", codes(plan, new Order(5, "ABC")));
+		assertEquals("[code:error.code, quantity:error.range]", codes(plan, new Order(1000, "ab")));
+		assertEquals("[code:error.value.forbidden, quantity:error.unlucky]", codes(plan, new Order(13, "XXX")));
+	}
+
+	@Test
+	public void comparesMixedBoundsOfUnknownPropertiesAsDecimals() throws IOException {
+		ValidationPlan<Object> plan = RuleSets.compile(Object.class, new StringReader("unknown.range=1..2.5\n"));
+		Errors errors = new MapBindingResult(Collections.singletonMap("unknown", new BigDecimal("2.6")), "order");
+		plan.validate(errors);
+		assertEquals("error.range", errors.getFieldError("unknown").getCode());
+		errors = new MapBindingResult(Collections.singletonMap("unknown", new BigDecimal("2.5")), "order");
+		plan.validate(errors);
+		assertFalse(errors.hasErrors());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsMalformedRules() throws IOException {
+		RuleSets.compile(Order.class, new StringReader("quantity.range=1-999\n"));
+	}
+
+	@Test
+	public void keepsThePreviousPlanWhenTheFileIsBroken() throws IOException {
+		Path file = write(folder.newFile("rules.properties").toPath(), "quantity.max=10\n");
+		try (ReloadingValidationPlan<Order> plan = new ReloadingValidationPlan<Order>(Order.class, file)) {
+			assertEquals("[quantity:error.range.overMax]", codes(plan.getPlan(), new Order(50, "ABC")));
+			write(file, "quantity.max=100\n");
+			assertTrue(plan.reload());
+			assertEquals("[]", codes(plan.getPlan(), new Order(50, "ABC")));
+			write(file, "quantity.max=lots\n");
+			assertFalse(plan.reload());
+			assertNotNull(plan.getLastFailure());
+			assertEquals("[quantity:error.range.overMax]", codes(plan.getPlan(), new Order(500, "ABC")));
+			assertEquals(1, plan.getReloadCount());
+		}
+	}
+
+	@Test
+	public void reloadsWhenTheWatchedFileChanges() throws Exception {
+		Path file = write(folder.newFile("tenant.properties").toPath(), "code.length=3..3\n");
+		try (ReloadingValidationPlan<Order> plan = new ReloadingValidationPlan<Order>(Order.class, file)) {
+			ValidationPlan<Order> initial = plan.getPlan();
+			plan.start();
+			write(file, "code.length=2..4\n");
+			for (int i = 0; i < 200 && plan.getPlan() == initial; i++) {
+				Thread.sleep(50);
+			}
+			assertEquals("[]", codes(plan.getPlan(), new Order(5, "ABCD")));
+		}
+	}
+
+	private static Path write(Path file, String content) throws IOException {
+		return Files.write(file, content.getBytes(StandardCharsets.ISO_8859_1));
+	}
+
+	private static String codes(ValidationPlan<Order> plan, Order order) {
+		Errors errors = new BeanPropertyBindingResult(order, "order");
+		plan.validate(order, errors);
+		List<String> codes = new ArrayList<String>();
+		for (FieldError error : errors.getFieldErrors()) {
+			codes.add(error.getField() + ":" + error.getCode());
+		}
+		return codes.toString();
+	}
+}
@@ -0,0 +1,103 @@
+package org.ilyes.spring.validation.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.ilyes.spring.validation.ValidationUtils;
+import org.ilyes.spring.validation.ValidationPlanTest;
+import org.ilyes.spring.validation.ValidationPlanTest.Order;
+import org.ilyes.spring.validation.validator.FieldValidator;
+import org.ilyes.spring.validation.validator.IntRangeValidator;
+import org.ilyes.spring.validation.validator.LengthValidator;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+public class MetricsRegistryTest {
+
+	@After
+	public void uninstall() {
+		Instrumentation.setMetrics(null);
+	}
+
+	@Test
+	public void countsInvocationsAndRejectionsPerValidatorFieldAndCode() {
+		MetricsRegistry registry = new MetricsRegistry();
+		Instrumentation.setMetrics(registry);
+		FieldValidator length = Instrumentation.instrument(new LengthValidator(0, 3));
+
+		for (int i = 0; i < 10; i++) {
+			Errors errors = new BeanPropertyBindingResult(new Order(i, i % 2 == 0 ? "abc" : "abcd"), "order");
+			ValidationUtils.rejectIfNotInRange(1, 5, errors, "quantity", "error.range");
+			length.validate(errors, "code", "error.length");
+		}
+
+		List<ValidatorStatistics> statistics = registry.getStatistics();
+		assertEquals(2, statistics.size());
+		for (ValidatorStatistics stats : statistics) {
+			assertEquals(10, stats.getInvocations());
+			assertEquals(10, stats.getLatency().getCount());
+			if ("rejectIfNotInRange".equals(stats.getValidator())) {
+				assertEquals("quantity", stats.getFieldName());
+				assertEquals("error.range", stats.getErrorCode());
+				assertEquals(5, stats.getRejections());
+			} else {
+				assertEquals("LengthValidator", stats.getValidator());
+				assertEquals("code", stats.getFieldName());
+				assertEquals(0.5, stats.getRejectionRate(), 0.0);
+			}
+		}
+
+		registry.reset();
+		assertTrue(registry.getStatistics().isEmpty());
+	}
+
+	@Test
+	public void disabledMetricsRecordNothing() {
+		MetricsRegistry registry = new MetricsRegistry();
+		registry.setEnabled(false);
+		Instrumentation.setMetrics(registry);
+		Errors errors = new BeanPropertyBindingResult(new Order(null, ""), "order");
+		ValidationUtils.rejectIfNull(errors, "quantity", "error.required");
+		Instrumentation.instrument(new LengthValidator(1, 3)).validate(errors, "code");
+
+		assertEquals(2, errors.getErrorCount());
+		assertTrue(registry.getStatistics().isEmpty());
+		Instrumentation.setMetrics(null);
+		assertFalse(Instrumentation.isEnabled());
+	}
+
+	@Test
+	public void instrumentationDoesNotChangeResults() {
+		FieldValidator range = Instrumentation.instrument(new IntRangeValidator(1, 9999));
+		Errors withoutMetrics = ValidationPlanTest.formatted(new Order(1000, "ABC"));
+		range.validate(withoutMetrics, "quantity", "error.range");
+
+		MetricsRegistry registry = new MetricsRegistry();
+		Instrumentation.setMetrics(registry);
+		Errors withMetrics = ValidationPlanTest.formatted(new Order(1000, "ABC"));
+		range.validate(withMetrics, "quantity", "error.range");
+
+		assertFalse(withoutMetrics.hasErrors());
+		assertFalse(withMetrics.hasErrors());
+		assertEquals(0, registry.getStatistics().get(0).getRejections());
+	}
+
+	@Test
+	public void histogramPercentilesStayWithinBucketPrecision() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long nanos = 1; nanos <= 100000; nanos++) {
+			histogram.record(nanos);
+		}
+		LatencySnapshot snapshot = histogram.snapshot();
+		assertEquals(100000, snapshot.getCount());
+		assertEquals(50000, snapshot.getValueAtPercentile(50), 50000 / 8);
+		assertEquals(99000, snapshot.getValueAtPercentile(99), 99000 / 8);
+		assertEquals(100000, snapshot.getMax(), 100000 / 8);
+		assertEquals(50000.5, snapshot.getMean(), 50000 / 8);
+	}
+}
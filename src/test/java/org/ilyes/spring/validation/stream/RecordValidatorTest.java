@@ -0,0 +1,103 @@
+package org.ilyes.spring.validation.stream;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.ilyes.spring.validation.validator.EqualsValidator;
+import org.ilyes.spring.validation.validator.LengthValidator;
+import org.ilyes.spring.validation.validator.PatternValidator;
+import org.ilyes.spring.validation.validator.RangeValidator;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.validation.Errors;
+
+public class RecordValidatorTest {
+
+	private static final int LARGE_FILE_RECORDS = 500000;
+
+	private static final RecordValidator VALIDATOR = RecordValidator.builder()
+			.column("code").rule(new PatternValidator("[A-Z]{3}"), "error.code")
+			.column("quantity").rule(new RangeValidator<Integer>(1, 999), "error.quantity")
+			.column("name").rule(new LengthValidator(1, 20), "error.name")
+			.column("status").rule(new EqualsValidator<String>("OPEN"), "error.status")
+			.build();
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void validatesCsvColumnsAndWritesErrorRecords() throws IOException {
+		String csv = "code,quantity,name,status\r\n"
+				+ "ABC,5,\"Doe, Jane\",OPEN\r\n"
+				+ "\n"
+				+ "ab,0,\"multi\nline \"\"name\"\"\",OPEN\n"
+				+ "XYZ,12x,,CLOSED\n";
+		StringWriter out = new StringWriter();
+		RecordValidationResult result = VALIDATOR.validate(new CsvRecordReader(new StringReader(csv)), new WriterErrorSink(out));
+		assertEquals(3, result.getRecordCount());
+		assertEquals(2, result.getRejectedCount());
+		assertEquals(5, result.getErrorCount());
+		assertEquals("2,code,error.code,ab\n"
+				+ "2,quantity,error.quantity,0\n"
+				+ "3,quantity,error.quantity,12x\n"
+				+ "3,name,error.name,\n"
+				+ "3,status,error.status,CLOSED\n", out.toString());
+	}
+
+	@Test
+	public void validatesJsonLinesMembers() throws IOException {
+		String jsonl = "{\"code\": \"ABC\", \"quantity\": 5, \"name\": \"J\\u00e9r\\u00f4me\", \"status\": \"OPEN\", \"tags\": [1, {\"a\": \"}\"}]}\n"
+				+ "\r\n"
+				+ "{\"quantity\": 1000, \"code\": \"A\\\"C\", \"name\": null, \"status\": \"OPEN\"}\r\n";
+		StringWriter out = new StringWriter();
+		RecordValidationResult result = VALIDATOR.validate(new JsonLinesRecordReader(new StringReader(jsonl)), new WriterErrorSink(out));
+		assertEquals(2, result.getRecordCount());
+		assertEquals(1, result.getRejectedCount());
+		assertEquals("2,code,error.code,\"A\"\"C\"\n"
+				+ "2,quantity,error.quantity,1000\n"
+				+ "2,name,error.name,\n", out.toString());
+	}
+
+	@Test
+	public void streamsLargeMappedFile() throws Exception {
+		File file = folder.newFile("orders.csv");
+		try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			writer.write("code,quantity,name,status\n");
+			for (int i = 0; i < LARGE_FILE_RECORDS; i++) {
+				writer.write((i % 100 == 0) ? "abc," : "ABC,");
+				writer.write(Integer.toString(i % 999 + 1));
+				writer.write(",\"Customer ");
+				writer.write(Integer.toString(i));
+				writer.write("\",OPEN\n");
+			}
+		}
+		CountingSink sink = new CountingSink();
+		RecordValidationResult result;
+		try (RecordReader reader = new CsvRecordReader(new MappedFileReader(file.toPath(), StandardCharsets.UTF_8, 1 << 20))) {
+			result = VALIDATOR.validate(reader, sink);
+		}
+
+		assertEquals(LARGE_FILE_RECORDS, result.getRecordCount());
+		assertEquals(LARGE_FILE_RECORDS / 100, result.getRejectedCount());
+		assertEquals(LARGE_FILE_RECORDS / 100, result.getErrorCount());
+		assertEquals(LARGE_FILE_RECORDS / 100, sink.errors);
+	}
+
+	private static class CountingSink implements ErrorSink {
+
+		long errors;
+
+		@Override
+		public void accept(long recordNumber, Errors errors) {
+			this.errors += errors.getErrorCount();
+		}
+	}
+}
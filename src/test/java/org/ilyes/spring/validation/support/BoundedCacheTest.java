@@ -0,0 +1,49 @@
+package org.ilyes.spring.validation.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.function.Function;
+
+import org.junit.Test;
+
+public class BoundedCacheTest {
+
+	private static final Function<Integer, String> LOADER = new Function<Integer, String>() {
+		@Override
+		public String apply(Integer key) {
+			return key.toString();
+		}
+	};
+
+	@Test
+	public void staysWithinItsBoundAndKeepsRecentlyUsedEntries() {
+		BoundedCache<Integer, String> cache = new BoundedCache<Integer, String>(100);
+		for (int i = 0; i < 10000; i++) {
+			cache.get(i, LOADER);
+			cache.get(-1, LOADER);
+			assertTrue(cache.size() <= 100);
+		}
+		assertEquals("-1", cache.getIfPresent(-1));
+		assertEquals("9999", cache.getIfPresent(9999));
+		assertEquals(10001 - 100, cache.getStatistics().getEvictionCount());
+	}
+
+	@Test
+	public void removedAndClearedEntriesFreeTheirSlots() {
+		BoundedCache<Integer, String> cache = new BoundedCache<Integer, String>(2);
+		cache.put(1, "a");
+		cache.put(1, "b");
+		cache.remove(1);
+		cache.put(2, "c");
+		cache.put(3, "d");
+		assertEquals(0, cache.getStatistics().getEvictionCount());
+		cache.clear();
+		assertNull(cache.getIfPresent(2));
+		cache.put(4, "e");
+		cache.put(5, "f");
+		assertEquals(2, cache.size());
+		assertEquals(0, cache.getStatistics().getEvictionCount());
+	}
+}
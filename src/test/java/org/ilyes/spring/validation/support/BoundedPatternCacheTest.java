@@ -0,0 +1,57 @@
+package org.ilyes.spring.validation.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+public class BoundedPatternCacheTest {
+
+	@Test
+	public void evictsLeastRecentlyUsedPattern() {
+		BoundedPatternCache cache = new BoundedPatternCache(2);
+		cache.getPattern("a+");
+		cache.getPattern("b+");
+		cache.getPattern("a+");
+		cache.getPattern("c+");
+		PatternCacheStatistics statistics = cache.getStatistics();
+		assertEquals(2, statistics.getSize());
+		assertEquals(1, statistics.getEvictionCount());
+		assertEquals(1, statistics.getHitCount());
+		cache.getPattern("a+");
+		assertEquals(2, cache.getStatistics().getHitCount());
+	}
+
+	@Test
+	public void compileFailureIsCached() {
+		BoundedPatternCache cache = new BoundedPatternCache();
+		PatternSyntaxException first = compileInvalid(cache);
+		PatternSyntaxException second = compileInvalid(cache);
+		assertSame(first, second);
+		assertEquals(1, cache.getStatistics().getCompileFailureCount());
+		assertEquals(1, cache.getStatistics().getMissCount());
+	}
+
+	@Test
+	public void prewarmCompilesAheadOfUse() {
+		BoundedPatternCache cache = new BoundedPatternCache();
+		cache.prewarm(Arrays.asList("[0-9]+", "(", "[a-z]+"));
+		assertEquals(3, cache.getStatistics().getMissCount());
+		cache.getPattern("[0-9]+");
+		assertEquals(1, cache.getStatistics().getHitCount());
+	}
+
+	private static PatternSyntaxException compileInvalid(PatternCache cache) {
+		try {
+			cache.getPattern("(");
+			fail("expected PatternSyntaxException");
+			return null;
+		} catch (PatternSyntaxException ex) {
+			return ex;
+		}
+	}
+}
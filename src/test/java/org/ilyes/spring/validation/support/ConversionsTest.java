@@ -0,0 +1,56 @@
+package org.ilyes.spring.validation.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+public class ConversionsTest {
+
+	private static final String[] INPUTS = {"", " ", "0", "42", "-42", "+7", " 1 2 ", "2147483648", "-2147483648",
+			"9223372036854775808", "127", "128", "1.5", ".5", "5.", "-1e3", "1e", "e3", "0x1F", "-#10", "NaN",
+			"Infinity", "1.5f", "abc", "true", "ON", "no", "1", "SECONDS", " MINUTES ", "seconds"};
+
+	private static final Class<?>[] TYPES = {Integer.class, Long.class, Short.class, Byte.class, Double.class,
+			Float.class, BigDecimal.class, BigInteger.class, Boolean.class, TimeUnit.class};
+
+	private final ConversionService conversionService = new DefaultConversionService();
+
+	@Test
+	public void textConversionsAgreeWithConversionService() {
+		for (Class<?> type : TYPES) {
+			for (String input : INPUTS) {
+				assertEquals(type.getSimpleName() + " / '" + input + "'", expected(input, type), Conversions.convert(input, type));
+			}
+		}
+	}
+
+	@Test
+	public void integralConversionsCheckRange() {
+		assertEquals(Integer.valueOf(5), Conversions.convert(5L, Integer.class));
+		assertEquals(Integer.valueOf(5), Conversions.convert(5L, int.class));
+		assertSame(Conversions.FAILED, Conversions.convert(Long.MAX_VALUE, Integer.class));
+		assertSame(Conversions.FAILED, Conversions.convert(300, Byte.class));
+		assertEquals(Long.valueOf(-3), Conversions.convert((short) -3, Long.class));
+	}
+
+	@Test
+	public void unsupportedPairsFail() {
+		assertSame(Conversions.FAILED, Conversions.convert(new Object(), Integer.class));
+		assertSame(Conversions.FAILED, Conversions.convert(new StringBuilder("x"), TimeUnit.class));
+	}
+
+	private Object expected(String input, Class<?> type) {
+		try {
+			return conversionService.convert(input, type);
+		} catch (RuntimeException ex) {
+			return Conversions.FAILED;
+		}
+	}
+}
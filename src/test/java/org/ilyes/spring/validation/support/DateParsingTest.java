@@ -0,0 +1,49 @@
+package org.ilyes.spring.validation.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Locale;
+
+import org.apache.commons.lang3.time.DateUtils;
+import org.junit.Test;
+
+public class DateParsingTest {
+
+	@Test
+	public void acceptsTheFieldWidthsOfTheFormerDateUtilsParsing() throws ParseException {
+		assertParsedLikeDateUtils("1.2.2016", "dd.MM.yyyy");
+		assertParsedLikeDateUtils("01.02.16", "dd.MM.yyyy");
+		assertParsedLikeDateUtils("01.02.16", "dd.MM.yy");
+		assertParsedLikeDateUtils("1.2.16", "dd.MM.yy");
+		assertParsedLikeDateUtils("01.02.2016", "dd.MM.yy");
+		assertParsedLikeDateUtils("20160201", "yyyyMMdd");
+		assertParsedLikeDateUtils("2016-2-1 3:4", "yyyy-MM-dd HH:mm");
+		assertNull(DateParsing.parse("201621", "yyyyMMdd", Locale.ROOT));
+		assertNull(DateParsing.parse("1.2.", "dd.MM.yyyy", Locale.ROOT));
+	}
+
+	@Test
+	public void rejectsSignedFields() {
+		assertNull(DateParsing.parse("1.2.+2024", "dd.MM.yyyy", Locale.ROOT));
+		assertNull(DateParsing.parse("01.02.-2016", "dd.MM.yyyy", Locale.ROOT));
+		assertNull(DateParsing.parse("1.2.+16", "dd.MM.yy", Locale.ROOT));
+		assertNull(DateParsing.parse("+1.2.2016", "dd.MM.yyyy", Locale.ROOT));
+		assertNull(DateParsing.parse("2016-+2-1 3:4", "yyyy-MM-dd HH:mm", Locale.ROOT));
+	}
+
+	@Test
+	public void printsWithThePatternWidths() {
+		assertEquals("01.02.0016", DateParsing.getFormatter("dd.MM.yyyy", Locale.ROOT).format(LocalDateTime.of(16, 2, 1, 0, 0)));
+	}
+
+	private static void assertParsedLikeDateUtils(String text, String pattern) throws ParseException {
+		Calendar expected = Calendar.getInstance();
+		expected.setTime(DateUtils.parseDate(text, Locale.ROOT, pattern));
+		assertEquals(text, LocalDateTime.of(expected.get(Calendar.YEAR), expected.get(Calendar.MONTH) + 1, expected.get(Calendar.DAY_OF_MONTH),
+				expected.get(Calendar.HOUR_OF_DAY), expected.get(Calendar.MINUTE)), DateParsing.parse(text, pattern, Locale.ROOT));
+	}
+}
@@ -0,0 +1,39 @@
+package org.ilyes.spring.validation.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+public class FastMatchersTest {
+
+	private static final String[] INPUTS = {"", "0", "123", "12345678", "abc", "ABC", "aB3_", "A1b2C3d4",
+			"INV-2016", "INV-", "report.pdf", "pdf", ".pdf", "INV-\n1", "x\u2028.pdf", "12a", "\u0661\u0662", "_"};
+
+	@Test
+	public void detectedMatchersAgreeWithRegex() {
+		String[] regExps = {"\\d+", "^[0-9]*$", "\\d{4}", "[0-9]{2,5}", "[A-Za-z0-9]{8}", "\\w+", "[A-Z]{3}",
+				"[a-zA-Z0-9_]{1,}", "abc", "INV-.*", ".*\\.pdf", "^ABC$", "[_-z]+"};
+		for (String regExp : regExps) {
+			CharSequenceMatcher matcher = FastMatchers.forRegExp(regExp);
+			assertNotNull(regExp, matcher);
+			Pattern pattern = Pattern.compile(regExp);
+			for (String input : INPUTS) {
+				assertEquals(regExp + " / " + input, pattern.matcher(input).matches(), matcher.matches(input));
+			}
+		}
+	}
+
+	@Test
+	public void complexExpressionsAreLeftToTheRegexEngine() {
+		assertNull(FastMatchers.forRegExp("[^0-9]+"));
+		assertNull(FastMatchers.forRegExp("\\d+?"));
+		assertNull(FastMatchers.forRegExp("(ab)+"));
+		assertNull(FastMatchers.forRegExp("a|b"));
+		assertNull(FastMatchers.forRegExp(".*"));
+		assertNull(FastMatchers.forRegExp("[a-z]{3,1}"));
+	}
+}
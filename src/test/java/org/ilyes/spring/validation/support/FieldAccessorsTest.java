@@ -0,0 +1,78 @@
+package org.ilyes.spring.validation.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.MapBindingResult;
+
+public class FieldAccessorsTest {
+
+	@Test
+	public void readsBindingResultTargetsWithoutTheirBeanWrapper() {
+		Customer customer = new Customer("Ann", null, Arrays.asList("a", "b"));
+		BindingResult errors = new BeanPropertyBindingResult(customer, "customer");
+		assertEquals("Ann", FieldAccessors.getRawFieldValue(errors, "name"));
+		assertNull(FieldAccessors.getRawFieldValue(errors, "address.city"));
+		assertNull("the target is left as it is", customer.getAddress());
+		assertEquals("b", FieldAccessors.getRawFieldValue(errors, "tags[1]"));
+	}
+
+	@Test
+	public void appliesTheNestedPath() {
+		Customer customer = new Customer("Ann", new Address("Bern"), Collections.<String>emptyList());
+		BindingResult errors = new BeanPropertyBindingResult(customer, "customer");
+		errors.pushNestedPath("address");
+		assertEquals("Bern", FieldAccessors.getRawFieldValue(errors, "city"));
+	}
+
+	@Test
+	public void readsMapTargetsThroughTheBindingResult() {
+		BindingResult errors = new MapBindingResult(Collections.singletonMap("name", "Ann"), "customer");
+		assertEquals("Ann", FieldAccessors.getRawFieldValue(errors, "name"));
+	}
+
+	public static class Customer {
+
+		private final String name;
+		private final Address address;
+		private final List<String> tags;
+
+		Customer(String name, Address address, List<String> tags) {
+			this.name = name;
+			this.address = address;
+			this.tags = tags;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Address getAddress() {
+			return address;
+		}
+
+		public List<String> getTags() {
+			return tags;
+		}
+	}
+
+	public static class Address {
+
+		private final String city;
+
+		Address(String city) {
+			this.city = city;
+		}
+
+		public String getCity() {
+			return city;
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package org.ilyes.spring.validation.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.ilyes.spring.validation.support.PatternAutomaton.Mode;
+import org.junit.Test;
+
+public class PatternAutomatonTest {
+
+	private static final List<String> REG_EXPS = Arrays.asList("\\d+", "[A-Z]{2}\\d{2}[A-Z0-9]{4,30}", "INV-.*",
+			"(?:ab|cd)*e?", "^x[^a-c\\s]+y$", "a.c", "(a|b)+?c{1,3}", "\\w+@\\w+\\.(com|ch)", "[\\-+]?\\d*\\.\\d+",
+			"\\Q1+1\\E=2", "\\x41\\u0042\\t?", "", "colou?r", "[]x]+", "\\s*", "\\D\\W\\S", "^a+$", "\\d{1,2}$",
+			"[ab]+$", "x\\n?$");
+
+	private static final String[] INPUTS = { "", "0", "123", "DE44500105175407324931", "INV-2016", "abcde", "ababe",
+			"xddy", "xdd\ny", "xaay", "abc", "a\nc", "abbcc", "bbbcccc", "john@example.ch", "-.5", "+1.25", "1+1=2",
+			"AB\t", "AB", "color", "colour", "]]x", " \t", "a!b", "a b", "x\u00E9\uD83D\uDE00y", "\uD83D\uDE00", "zzz",
+			"x\n", "x\r", "x\r\n", "x\n\n", "x\n\r", "x\r\r", "x\u0085", "x\u2028", "x\u2029", "x\t", "xdy\r\n", "a\r", "1\r",
+			"1\nbab\r", "aa\r\n\n" };
+
+	@Test
+	public void agreesWithRegexEngine() {
+		PatternAutomaton matcher = PatternAutomaton.compile(REG_EXPS, Mode.MATCH);
+		PatternAutomaton finder = PatternAutomaton.compile(REG_EXPS, Mode.FIND);
+		for (String input : INPUTS) {
+			BitSet matched = matcher.match(input);
+			BitSet found = finder.match(new StringBuilder(input));
+			for (int i = 0; i < REG_EXPS.size(); i++) {
+				Pattern pattern = Pattern.compile(REG_EXPS.get(i));
+				assertEquals(REG_EXPS.get(i) + " / " + input, pattern.matcher(input).matches(), matched.get(i));
+				assertEquals(REG_EXPS.get(i) + " / " + input, pattern.matcher(input).find(), found.get(i));
+			}
+			assertEquals(!matched.isEmpty(), matcher.matchesAny(input));
+			assertEquals(!found.isEmpty(), finder.matchesAny(input));
+		}
+	}
+
+	@Test
+	public void runsInLinearTime() {
+		char[] chars = new char[100000];
+		Arrays.fill(chars, 'a');
+		String input = new String(chars) + "!";
+		PatternAutomaton automaton = PatternAutomaton.compile(Arrays.asList("(a+)+b", "(a|aa)*c", "(.*a){20}"), Mode.FIND);
+		long start = System.nanoTime();
+		BitSet found = automaton.match(input);
+		assertTrue(System.nanoTime() - start < 2000000000L);
+		assertEquals(BitSet.valueOf(new long[] { 4 }), found);
+		assertFalse(PatternAutomaton.compile(Collections.singletonList("(a+)+b"), Mode.MATCH).matchesAny(input));
+	}
+
+	@Test
+	public void rejectsUnsupportedSyntax() {
+		for (String regExp : Arrays.asList("(a)\\1", "(?=a)", "\\bword", "(?i)abc", "[a-z&&[^x]]", "\\p{L}", "a++", "a|^b", "a$b", "(a", "a)", "*a", "a{2,1}")) {
+			try {
+				PatternAutomaton.compile(Collections.singletonList(regExp), Mode.MATCH);
+				fail(regExp);
+			} catch (IllegalArgumentException ex) {
+				assertTrue(ex.getMessage(), ex.getMessage().contains(regExp));
+			}
+		}
+	}
+}
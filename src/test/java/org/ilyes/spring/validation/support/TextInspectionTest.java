@@ -0,0 +1,73 @@
+package org.ilyes.spring.validation.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.text.BreakIterator;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.ilyes.spring.validation.support.TextInspection.LengthMode;
+import org.junit.Test;
+
+public class TextInspectionTest {
+
+	@Test
+	public void detectsBlankTextInPlace() {
+		assertTrue(TextInspection.isBlank(new StringBuilder(" \t\r\n\0")));
+		assertFalse(TextInspection.isBlank(" x "));
+		assertFalse(TextInspection.isBlank("\u00A0"));
+		assertTrue(TextInspection.isUnicodeBlank(" \u00A0\u3000\u2007\t"));
+		assertFalse(TextInspection.isUnicodeBlank("\u00A0a"));
+
+		assertTrue(TextInspection.equalsAny(new StringBuilder("--"), Arrays.asList("PLEASE_SELECT", "--")));
+		assertTrue(TextInspection.equalsAny("PLEASE_SELECT", Collections.singleton("PLEASE_SELECT")));
+		assertFalse(TextInspection.equalsAny(" --", Arrays.asList("PLEASE_SELECT", "--")));
+	}
+
+	@Test
+	public void measuresLengthInEveryMode() {
+		String[] samples = { "", "abc", "Z\u00FCrich", "\u65E5\u672C\u8A9E", "a\uD83D\uDE00b", "\uD800x", "e\u0301",
+				"\uD83C\uDDE8\uD83C\uDDED\uD83C\uDDE9", "\uD83D\uDC4D\uD83C\uDFFD", "\uD83D\uDC69\u200D\uD83D\uDCBB", "\r\n",
+				"\u1100\u1161\u11A8", "\uAC01" };
+		int[] codePoints = { 0, 3, 6, 3, 3, 2, 2, 3, 2, 3, 2, 3, 1 };
+		int[] graphemes = { 0, 3, 6, 3, 3, 2, 1, 2, 1, 1, 1, 1, 1 };
+		for (int i = 0; i < samples.length; i++) {
+			String sample = samples[i];
+			assertEquals(sample, sample.length(), LengthMode.CHARS.length(sample));
+			assertEquals(sample, codePoints[i], LengthMode.CODE_POINTS.length(sample));
+			assertEquals(sample, graphemes[i], LengthMode.GRAPHEMES.length(new StringBuilder(sample)));
+			assertEquals(sample, sample.getBytes(StandardCharsets.UTF_8).length, LengthMode.UTF8_BYTES.length(sample));
+		}
+	}
+
+	@Test
+	public void countsGraphemesLikeBreakIterator() {
+		String[] samples = { "a\u200Db", "\u200D\uD83D\uDC69", "a\u200D\uD83D\uDC69", "\uD83D\uDC69\u200Da",
+				"\uD83D\uDC69\u200D\uD83D\uDC69", "\u2764\uFE0F\u200D\uD83D\uDD25", "\uD83D\uDC69\uD83C\uDFFD\u200D\uD83D\uDCBB",
+				"\u00A9\u200D\u00AE", "e\u0301\u200D", "\u200D\u200D", "\u1100\u11A8", "\u1100\u1161", "\u1100\uAC00",
+				"\u1100\uAC01", "\uAC01\u11A8" };
+		int[] graphemes = { 2, 2, 2, 2, 1, 1, 1, 1, 1, 1, 2, 1, 1, 1, 1 };
+		// older JDKs segment legacy clusters; compare with BreakIterator where it follows UAX #29
+		boolean extendedClusters = breakIteratorCount("\uD83D\uDC69\u200D\uD83D\uDC69") == 1;
+		for (int i = 0; i < samples.length; i++) {
+			if (extendedClusters) {
+				assertEquals(samples[i], graphemes[i], breakIteratorCount(samples[i]));
+			}
+			assertEquals(samples[i], graphemes[i], TextInspection.graphemeCount(samples[i]));
+		}
+	}
+
+	private static int breakIteratorCount(String text) {
+		BreakIterator iterator = BreakIterator.getCharacterInstance();
+		iterator.setText(text);
+		int count = 0;
+		iterator.first();
+		while (iterator.next() != BreakIterator.DONE) {
+			count++;
+		}
+		return count;
+	}
+}
@@ -0,0 +1,163 @@
+package org.ilyes.spring.validation.validator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import org.ilyes.spring.validation.IncrementalValidator;
+import org.ilyes.spring.validation.ValidationPlan;
+import org.ilyes.spring.validation.ValidationUtils;
+import org.ilyes.spring.validation.support.FieldValues;
+import org.ilyes.spring.validation.validator.FieldComparisonValidator.Comparison;
+import org.junit.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+public class CrossFieldValidatorTest {
+
+	private static final ValidationPlan<Leave> PLAN = ValidationPlan.forType(Leave.class)
+			.field("from").pattern("\\d\\d\\.\\d\\d\\.\\d{4}", "error.from")
+			.field("to").compareDateTo(Comparison.GREATER_OR_EQUAL, "from", "dd.MM.yyyy", "error.to")
+			.field("days").compareTo(Comparison.LESS_OR_EQUAL, "maxDays", Integer.class, "error.days")
+			.field("confirmation").sameAs("password", "error.confirmation")
+			.field("reason").requiredIf("status", Collections.singleton("REJECTED"), "error.reason")
+			.build();
+
+	@Test
+	public void comparesFieldsOfTheSameObject() {
+		Leave leave = new Leave("01.03.2016", "05.03.2016", "5", 20, "secret", "secret", "REJECTED", "budget");
+		assertNull(codes(leave));
+
+		leave = new Leave("01.03.2016", "28.02.2016", "25", 20, "secret", "Secret", "REJECTED", " ");
+		assertEquals("to=error.to days=error.days confirmation=error.confirmation reason=error.reason", codes(leave));
+
+		leave = new Leave("01.03.2016", "", "x", 20, null, null, "APPROVED", null);
+		assertEquals("days=error.days", codes(leave));
+	}
+
+	@Test
+	public void readsEveryFieldOncePerPass() {
+		ValidationPlan<Leave> plan = ValidationPlan.forType(Leave.class)
+				.field("to").compareDateTo(Comparison.GREATER_OR_EQUAL, "from", "dd.MM.yyyy", "error.to")
+				.field("until").compareDateTo(Comparison.GREATER_OR_EQUAL, "from", "dd.MM.yyyy", "error.until")
+				.field("from").length(10, 10, "error.from")
+				.build();
+		Leave leave = new Leave("01.03.2016", "05.03.2016", "5", 20, "a", "a", "OPEN", null);
+		plan.validate(leave, new BeanPropertyBindingResult(leave, "leave"));
+		assertEquals(1, leave.fromReads);
+	}
+
+	@Test
+	public void sharesConversionsWithSingleFieldRules() {
+		Leave leave = new Leave("01.03.2016", "05.03.2016", "5", 20, "a", "a", "OPEN", null);
+		Errors errors = new BeanPropertyBindingResult(leave, "leave");
+		FieldValues values = new FieldValues(leave, errors);
+		assertEquals(LocalDateTime.of(2016, 3, 5, 0, 0), values.getDateTime("to", "dd.MM.yyyy"));
+		assertEquals(5, values.getConverted("days", Integer.class));
+		values.put("to", "not a date");
+		values.put("days", "not a number");
+		new DateRangeValidator("dd.MM.yyyy", LocalDate.of(2016, 1, 1), null).validateValues(errors, "to", values, null);
+		new RangeValidator<Integer>(1, 10).validateValues(errors, "days", values, null);
+		assertFalse(errors.hasErrors());
+	}
+
+	@Test
+	public void validatesStandaloneAndIncrementally() {
+		Leave leave = new Leave("01.03.2016", "28.02.2016", "5", 20, "a", "b", "OPEN", null);
+		Errors errors = new BeanPropertyBindingResult(leave, "leave");
+		ValidationUtils.rejectIfDateBeforeField("from", "dd.MM.yyyy", errors, "to", "error.to");
+		ValidationUtils.rejectIfDateAfterField("to", "dd.MM.yyyy", errors, "from", "error.from");
+		ValidationUtils.rejectIfNotEqualsField("password", errors, "confirmation", "error.confirmation");
+		ValidationUtils.rejectIfEmptyAndFieldInValues("status", Collections.singleton("OPEN"), errors, "reason", "error.reason");
+		assertEquals(4, errors.getErrorCount());
+
+		IncrementalValidator<Leave> validator = new IncrementalValidator<Leave>(PLAN);
+		validator.validate(leave, new BeanPropertyBindingResult(leave, "leave"));
+		leave.from = "27.02.2016";
+		errors = new BeanPropertyBindingResult(leave, "leave");
+		validator.validate(leave, errors);
+		assertEquals(2, validator.getRevalidatedFieldCount());
+		assertFalse(errors.hasFieldErrors("to"));
+	}
+
+	private static String codes(Leave leave) {
+		Errors errors = new BeanPropertyBindingResult(leave, "leave");
+		PLAN.validate(leave, errors);
+		Errors viaErrors = new BeanPropertyBindingResult(leave, "leave");
+		PLAN.validate(viaErrors);
+		assertEquals(errors.getFieldErrors().toString(), viaErrors.getFieldErrors().toString());
+		if (!errors.hasErrors()) {
+			return null;
+		}
+		StringBuilder codes = new StringBuilder();
+		for (int i = 0; i < errors.getFieldErrorCount(); i++) {
+			codes.append(i > 0 ? " " : "").append(errors.getFieldErrors().get(i).getField()).append('=').append(errors.getFieldErrors().get(i).getCode());
+		}
+		return codes.toString();
+	}
+
+	public static class Leave {
+
+		String from;
+		String to;
+		String days;
+		Integer maxDays;
+		String password;
+		String confirmation;
+		String status;
+		String reason;
+		int fromReads;
+
+		Leave(String from, String to, String days, Integer maxDays, String password, String confirmation, String status, String reason) {
+			this.from = from;
+			this.to = to;
+			this.days = days;
+			this.maxDays = maxDays;
+			this.password = password;
+			this.confirmation = confirmation;
+			this.status = status;
+			this.reason = reason;
+		}
+
+		public String getFrom() {
+			fromReads++;
+			return from;
+		}
+
+		public String getTo() {
+			return to;
+		}
+
+		public String getUntil() {
+			return to;
+		}
+
+		public String getDays() {
+			return days;
+		}
+
+		public Integer getMaxDays() {
+			return maxDays;
+		}
+
+		public String getPassword() {
+			return password;
+		}
+
+		public String getConfirmation() {
+			return confirmation;
+		}
+
+		public String getStatus() {
+			return status;
+		}
+
+		public String getReason() {
+			return reason;
+		}
+	}
+}
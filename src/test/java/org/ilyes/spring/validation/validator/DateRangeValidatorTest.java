@@ -0,0 +1,70 @@
+package org.ilyes.spring.validation.validator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.ilyes.spring.validation.ValidationUtils;
+import org.junit.Test;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+
+public class DateRangeValidatorTest {
+
+	@Test
+	public void rejectsImpossibleDates() {
+		DateRangeValidator validator = new DateRangeValidator("dd.MM.yyyy");
+		assertEquals(LocalDateTime.of(2016, 2, 29, 0, 0), validator.toDateTime("29.02.2016"));
+		assertNull(validator.toDateTime("29.02.2017"));
+		assertNull(validator.toDateTime("31.13.2016"));
+		assertNull(validator.toDateTime("1.1.2016x"));
+		assertEquals(DateRangeValidator.ERROR_DATE_INVALID, rejectCode(validator, "31.04.2016"));
+	}
+
+	@Test
+	public void appliesBothBoundsWithOneParse() {
+		DateRangeValidator validator = new DateRangeValidator("dd.MM.yyyy HH:mm", LocalDate.of(2016, 1, 1), LocalDate.of(2016, 12, 31));
+		assertNull(rejectCode(validator, "01.01.2016 00:00"));
+		assertEquals(DateRangeValidator.ERROR_DATE_BEFORE_MIN, rejectCode(validator, "31.12.2015 23:59"));
+		assertEquals(DateRangeValidator.ERROR_DATE_AFTER_MAX, rejectCode(validator, "31.12.2016 00:01"));
+		validator.setBefore(LocalDate.of(2016, 12, 31));
+		assertEquals(DateRangeValidator.ERROR_DATE_AFTER_MAX, rejectCode(validator, "31.12.2016 00:00"));
+	}
+
+	@Test
+	public void parsesTextualPatterns() {
+		DateRangeValidator validator = new DateRangeValidator("EEE, dd MMM yyyy");
+		validator.setLocale(Locale.ENGLISH);
+		assertEquals(LocalDateTime.of(2016, 6, 15, 0, 0), validator.toDateTime("Wed, 15 Jun 2016"));
+		assertNull(validator.toDateTime("Thu, 15 Jun 2016"));
+	}
+
+	@Test
+	public void legacyDateChecksUseCalendarYear() {
+		Errors errors = errorsFor("15.06.2016");
+		ValidationUtils.rejectIfNotValidDate(errors, "date", "error.date");
+		assertFalse(errors.hasErrors());
+		ValidationUtils.rejectIfDateAfter(Date.from(LocalDate.of(2016, 6, 14).atStartOfDay(ZoneId.systemDefault()).toInstant()), errors, "date", "error.date");
+		assertEquals("error.date", errors.getFieldError("date").getCode());
+	}
+
+	private static String rejectCode(DateRangeValidator validator, String value) {
+		Errors errors = errorsFor(value);
+		validator.validate(errors, "date");
+		return errors.hasErrors() ? errors.getFieldError("date").getCode() : null;
+	}
+
+	private static Errors errorsFor(String value) {
+		Map<String, Object> target = new HashMap<String, Object>(Collections.singletonMap("date", value));
+		return new MapBindingResult(target, "form");
+	}
+}
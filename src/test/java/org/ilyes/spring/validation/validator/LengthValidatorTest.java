@@ -1,5 +1,29 @@
 package org.ilyes.spring.validation.validator;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.ilyes.spring.validation.support.TextInspection.LengthMode;
+import org.junit.Test;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+
 public class LengthValidatorTest {
 
+	@Test
+	public void measuresInConfiguredMode() {
+		Map<String, Object> form = new HashMap<String, Object>();
+		form.put("city", "Zu\u0308rich");
+		Errors errors = new MapBindingResult(form, "form");
+		new LengthValidator(0, 6, LengthMode.GRAPHEMES).validate(errors, "city", null);
+		assertFalse(errors.hasErrors());
+
+		new LengthValidator(0, 6).validate(errors, "city", null);
+		new LengthValidator(0, 7, LengthMode.UTF8_BYTES).validate(errors, "city", null);
+		assertEquals(2, errors.getFieldErrorCount("city"));
+		assertEquals(LengthValidator.ERROR_LENGTH_OVER_MAX, errors.getFieldError("city").getCode());
+	}
 }
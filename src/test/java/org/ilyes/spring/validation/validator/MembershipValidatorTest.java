@@ -0,0 +1,52 @@
+package org.ilyes.spring.validation.validator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+
+public class MembershipValidatorTest {
+
+	@Test
+	public void convertsFieldToElementType() {
+		MembershipValidator validator = new MembershipValidator(Arrays.asList(276, 40, 756));
+		assertTrue(validator.contains("276"));
+		assertTrue(validator.contains(40L));
+		assertFalse(validator.contains("27x"));
+		assertFalse(validator.contains(null));
+		assertTrue(MembershipValidator.ofLongs(9007199254740993L).contains(" 9007199254740993 "));
+	}
+
+	@Test
+	public void ignoresCaseWhenRequested() {
+		MembershipValidator validator = new MembershipValidator(Arrays.asList("EUR", "CHF"), true);
+		assertTrue(validator.contains("chf"));
+		assertFalse(validator.contains("usd"));
+	}
+
+	@Test
+	public void reloadSwapsIndex() {
+		MembershipValidator validator = new MembershipValidator(Arrays.asList("DE", "AT"));
+		validator.setNegate(true);
+		assertNull(rejectCode(validator, "CH"));
+		validator.reload(Arrays.asList("CH"));
+		assertEquals(MembershipValidator.ERROR_VALUE_FORBIDDEN, rejectCode(validator, "CH"));
+		assertNull(rejectCode(validator, "DE"));
+	}
+
+	private static String rejectCode(FieldValidator validator, Object value) {
+		Map<String, Object> target = new HashMap<String, Object>(Collections.singletonMap("code", value));
+		Errors errors = new MapBindingResult(target, "form");
+		validator.validate(errors, "code");
+		return errors.hasErrors() ? errors.getFieldError("code").getCode() : null;
+	}
+}
@@ -0,0 +1,104 @@
+package org.ilyes.spring.validation.validator;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MapBindingResult;
+
+public class MemoizingFieldValidatorTest {
+
+	@Test
+	public void replaysRecordedRejections() {
+		CountingValidator counting = new CountingValidator(new PatternValidator("\\d{4}"));
+		MemoizingFieldValidator validator = Rules.memoize(counting, 100);
+		Object[] args = { "zip" };
+		for (int i = 0; i < 3; i++) {
+			Errors errors = errors("80x1");
+			validator.validate(errors, "value", "error.zip", args);
+			FieldError error = errors.getFieldError("value");
+			assertEquals("error.zip", error.getCode());
+			assertSame(args, error.getArguments());
+			assertEquals("", error.getDefaultMessage());
+			validator.validateValue(errors, "value", "8001", "error.zip", args);
+			assertEquals(1, errors.getErrorCount());
+		}
+		assertEquals(2, counting.calls);
+		assertEquals(4, validator.getStatistics().getHitCount());
+		assertEquals(2, validator.getStatistics().getMissCount());
+
+		validator.validate(errors("80x1"), "value", "error.other");
+		assertEquals(3, counting.calls);
+	}
+
+	@Test
+	public void bypassesMutableValuesAndDisabledValidators() {
+		CountingValidator counting = new CountingValidator(Rules.notNull());
+		MemoizingFieldValidator validator = Rules.memoize(counting, 100);
+		Date date = new Date();
+		validator.validateValue(errors(date), "value", date, null);
+		validator.validateValue(errors(date), "value", date, null);
+		assertEquals(2, counting.calls);
+
+		validator.setEnabled(false);
+		validator.validateValue(errors("a"), "value", "a", null);
+		validator.validateValue(errors("a"), "value", "a", null);
+		assertEquals(4, counting.calls);
+		assertEquals(0, validator.getStatistics().getRequestCount());
+	}
+
+	@Test
+	public void expiresOutcomes() throws InterruptedException {
+		CountingValidator counting = new CountingValidator(Rules.notBlank());
+		MemoizingFieldValidator validator = Rules.memoize(counting, 100, 20, TimeUnit.MILLISECONDS);
+		validator.validateValue(errors(" "), "value", " ", null);
+		validator.validateValue(errors(" "), "value", " ", null);
+		assertEquals(1, counting.calls);
+		Thread.sleep(40);
+		Errors errors = errors(" ");
+		validator.validateValue(errors, "value", " ", null);
+		assertEquals(2, counting.calls);
+		assertArrayEquals(new Object[0], errors.getFieldError("value").getArguments());
+	}
+
+	private static Errors errors(Object value) {
+		Map<String, Object> form = new HashMap<String, Object>();
+		form.put("value", value);
+		return new MapBindingResult(form, "form");
+	}
+
+	private static final class CountingValidator implements FieldValidator {
+
+		private final FieldValidator delegate;
+		int calls;
+
+		CountingValidator(FieldValidator delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void validate(Errors errors, String fieldName) {
+			validate(errors, fieldName, null);
+		}
+
+		@Override
+		public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+			calls++;
+			delegate.validate(errors, fieldName, errorCode, errorArgs);
+		}
+
+		@Override
+		public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+			calls++;
+			delegate.validateValue(errors, fieldName, fieldValue, errorCode, errorArgs);
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package org.ilyes.spring.validation.validator;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.ilyes.spring.validation.ValidationUtils;
+import org.ilyes.spring.validation.support.PatternAutomaton.Mode;
+import org.junit.Test;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.MapBindingResult;
+
+public class MultiPatternValidatorTest {
+
+	@Test
+	public void reportsTheSameErrorsAsSeparatePatternChecks() {
+		MultiPatternValidator validator = new MultiPatternValidator()
+				.require("[A-Za-z0-9 ._-]{1,40}", "error.name.chars")
+				.forbid(".*(?:admin|root).*", "error.name.reserved")
+				.forbid("\\d+", "error.name.numeric")
+				.require("[A-Za-z].*", null);
+		for (String name : new String[] { "jane.doe", "admin_1", "12345", "x/y", "_root", null }) {
+			Errors expected = errors(name);
+			ValidationUtils.rejectIfPatternNotValid("[A-Za-z0-9 ._-]{1,40}", expected, "name", "error.name.chars");
+			ValidationUtils.rejectIfPatternValid(".*(?:admin|root).*", expected, "name", "error.name.reserved");
+			ValidationUtils.rejectIfPatternValid("\\d+", expected, "name", "error.name.numeric");
+			ValidationUtils.rejectIfPatternNotValid("[A-Za-z].*", expected, "name", "error.name.start");
+			Errors errors = errors(name);
+			validator.validate(errors, "name", "error.name.start");
+			if (name == null) {
+				assertEquals("[error.name.chars]", codes(errors).toString());
+			} else {
+				assertEquals(name, codes(expected), codes(errors));
+			}
+		}
+	}
+
+	@Test
+	public void findsPatternsAnywhereInTheValue() {
+		MultiPatternValidator validator = new MultiPatternValidator(Mode.FIND)
+				.forbid("<script", "error.markup")
+				.forbid("(?:--|;)\\s*drop\\s", "error.sql");
+		Errors errors = errors("hi <script>; drop table");
+		validator.validate(errors, "name", null);
+		assertEquals("[error.markup, error.sql]", codes(errors).toString());
+		assertEquals("{1}", validator.matchedPatterns("1; drop x").toString());
+	}
+
+	private static Errors errors(String name) {
+		Map<String, Object> form = new HashMap<String, Object>();
+		form.put("name", name);
+		return new MapBindingResult(form, "form");
+	}
+
+	private static List<String> codes(Errors errors) {
+		List<String> codes = new ArrayList<String>();
+		for (FieldError error : errors.getFieldErrors()) {
+			codes.add(error.getCode());
+		}
+		return codes;
+	}
+}
@@ -0,0 +1,72 @@
+package org.ilyes.spring.validation.validator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+
+public class NumericRangeValidatorTest {
+
+	private static final Object[] VALUES = {null, "", " ", "42", " 4 2 ", "-7", "0x1F", "12a", "3.5", "1e3", "NaN",
+			"99999999999", "-9223372036854775808", 42, -7, 0, 5000000000L, (short) 3, 2.5d, -0.0d, Float.NaN,
+			new BigDecimal("41.99"), new BigDecimal("1E+2"), BigInteger.TEN, new Object()};
+
+	@Test
+	public void specialisedValidatorsMatchGenericRangeValidator() {
+		assertSameOutcome(new RangeValidator<Integer>(-7, 42), Rules.range(-7, 42));
+		assertSameOutcome(new RangeValidator<Integer>(Integer.MIN_VALUE, Integer.MAX_VALUE), new IntRangeValidator(Integer.MIN_VALUE, Integer.MAX_VALUE));
+		assertSameOutcome(min(0), Rules.range(0, null));
+		assertSameOutcome(max(42), Rules.range(null, 42));
+		assertSameOutcome(new RangeValidator<Long>(-7L, 5000000000L), Rules.range(-7L, 5000000000L));
+		assertSameOutcome(new RangeValidator<Double>(-0.0d, 42.0d), Rules.range(-0.0d, 42.0d));
+		assertSameOutcome(new RangeValidator<Double>(null, 3.0d), Rules.range(null, 3.0d));
+		assertSameOutcome(new RangeValidator<BigDecimal>(BigDecimal.ZERO, new BigDecimal("42.00")), Rules.range(BigDecimal.ZERO, new BigDecimal("42.00")));
+		assertSameOutcome(new RangeValidator<BigDecimal>(null, BigDecimal.ONE), Rules.range(null, BigDecimal.ONE));
+	}
+
+	@Test
+	public void unboundedIntegralValidatorOnlyChecksConversion() {
+		IntRangeValidator validator = new IntRangeValidator();
+		assertEquals(null, validate(validator, "2147483647", null));
+		assertEquals(null, validate(validator, null, null));
+		assertEquals("typeMismatch", validate(validator, "2147483648", null));
+		assertEquals("error.integer", validate(validator, 1L << 40, "error.integer"));
+		assertTrue(Rules.range(1, 2) instanceof IntRangeValidator);
+		assertTrue(Rules.range("a", "b") instanceof RangeValidator);
+	}
+
+	private static void assertSameOutcome(FieldValidator expected, FieldValidator validator) {
+		for (Object value : VALUES) {
+			for (String errorCode : new String[] {null, "error.custom"}) {
+				assertEquals(value + " / " + errorCode, validate(expected, value, errorCode), validate(validator, value, errorCode));
+			}
+		}
+	}
+
+	private static String validate(FieldValidator validator, Object value, String errorCode) {
+		Map<String, Object> target = new HashMap<String, Object>();
+		target.put("value", value);
+		Errors errors = new MapBindingResult(target, "target");
+		validator.validate(errors, "value", errorCode);
+		return errors.hasErrors() ? errors.getFieldError().getCode() : null;
+	}
+
+	private static RangeValidator<Integer> min(Integer min) {
+		RangeValidator<Integer> validator = new RangeValidator<Integer>();
+		validator.setMinValue(min);
+		return validator;
+	}
+
+	private static RangeValidator<Integer> max(Integer max) {
+		RangeValidator<Integer> validator = new RangeValidator<Integer>();
+		validator.setMaxValue(max);
+		return validator;
+	}
+}
@@ -0,0 +1,96 @@
+package org.ilyes.spring.validation.validator;
+
+import static org.ilyes.spring.validation.validator.Rules.allOf;
+import static org.ilyes.spring.validation.validator.Rules.anyOf;
+import static org.ilyes.spring.validation.validator.Rules.equalTo;
+import static org.ilyes.spring.validation.validator.Rules.maxLength;
+import static org.ilyes.spring.validation.validator.Rules.not;
+import static org.ilyes.spring.validation.validator.Rules.notNull;
+import static org.ilyes.spring.validation.validator.Rules.pattern;
+import static org.ilyes.spring.validation.validator.Rules.when;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.validation.Errors;
+import org.springframework.validation.MapBindingResult;
+
+public class RulesTest {
+
+	@Test
+	public void allOfRunsCheapChecksFirstAndStopsAtFirstFailure() {
+		CountingValidator expensive = new CountingValidator();
+		FieldValidator rule = allOf(expensive, pattern("[A-Z]+"), maxLength(3), notNull());
+		Errors errors = errors(null);
+		rule.validate(errors, "code");
+		assertEquals(1, errors.getFieldErrorCount("code"));
+		assertEquals(NotNullValidator.ERROR_REQUIRED, errors.getFieldError("code").getCode());
+
+		errors = errors("ABCD");
+		rule.validate(errors, "code", "error.code");
+		assertEquals(1, errors.getErrorCount());
+		assertEquals("error.code", errors.getFieldError("code").getCode());
+		assertEquals(0, expensive.calls);
+
+		rule.validate(errors("ABC"), "code");
+		assertEquals(1, expensive.calls);
+	}
+
+	@Test
+	public void anyOfAndNotCombineSilentChecks() {
+		FieldValidator rule = anyOf(equalTo("N/A"), pattern("\\d{4}"));
+		assertFalse(errors("N/A", rule).hasErrors());
+		assertFalse(errors("2016", rule).hasErrors());
+		Errors errors = errors("20x6", rule);
+		assertEquals(1, errors.getErrorCount());
+
+		FieldValidator notAdmin = not(equalTo("admin"));
+		assertFalse(errors("jane", notAdmin).hasErrors());
+		assertEquals(NotValidator.ERROR_NOT, errors("admin", notAdmin).getFieldError("code").getCode());
+	}
+
+	@Test
+	public void whenAppliesValidatorOnlyIfConditionHolds() {
+		FieldValidator rule = when(pattern("INV-.*"), maxLength(8)).and(notNull());
+		assertFalse(errors("ABCDEFGHIJ", rule).hasErrors());
+		assertTrue(errors("INV-12345", rule).hasErrors());
+		assertTrue(errors(null, rule).hasErrors());
+		assertFalse(errors("", when(value -> value != null && value.toString().length() > 0, pattern("\\d+"))).hasErrors());
+	}
+
+	private static Errors errors(Object code, FieldValidator rule) {
+		Errors errors = errors(code);
+		rule.validate(errors, "code");
+		return errors;
+	}
+
+	private static Errors errors(Object code) {
+		Map<String, Object> target = new HashMap<String, Object>();
+		target.put("code", code);
+		return new MapBindingResult(target, "form");
+	}
+
+	private static class CountingValidator extends AbstractFieldValidator {
+
+		int calls;
+
+		@Override
+		public void validate(Errors errors, String fieldName, String errorCode, Object... errorArgs) {
+			validateValue(errors, fieldName, getRawFieldValue(errors, fieldName), errorCode, errorArgs);
+		}
+
+		@Override
+		public void validateValue(Errors errors, String fieldName, Object fieldValue, String errorCode, Object... errorArgs) {
+			calls++;
+		}
+
+		@Override
+		public int getCost() {
+			return COST_EXPENSIVE;
+		}
+	}
+}